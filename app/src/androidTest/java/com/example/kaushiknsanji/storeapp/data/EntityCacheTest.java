@@ -0,0 +1,148 @@
+/*
+ * Copyright 2018 Kaushik N. Sanji
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.example.kaushiknsanji.storeapp.data;
+
+import android.os.Bundle;
+import android.support.test.runner.AndroidJUnit4;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+
+/**
+ * Instrumented test of {@link EntityCache}, checking that the Entities are copied going in and out
+ * of the cache, and that the reads started before a removal cannot add their results.
+ */
+@RunWith(AndroidJUnit4.class)
+public class EntityCacheTest {
+
+    //Id of the Entity used by the tests
+    private static final int ENTITY_ID = 1;
+    //Key of the value held in the Entity used by the tests
+    private static final String KEY_NAME = "name";
+
+    /**
+     * Method that creates the {@link EntityCache} of {@link Bundle}s tested,
+     * which copies the Entities through a Parcel.
+     *
+     * @return A new {@link EntityCache}
+     */
+    private static EntityCache<Bundle> newCache() {
+        return new EntityCache<>(10, EntityCache.parcelableCopier(Bundle.CREATOR));
+    }
+
+    /**
+     * Method that creates an Entity holding the {@code name}.
+     *
+     * @param name The value to be held in the Entity
+     * @return A new {@link Bundle} Entity
+     */
+    private static Bundle newEntity(String name) {
+        Bundle bundle = new Bundle();
+        bundle.putString(KEY_NAME, name);
+        return bundle;
+    }
+
+    @Test
+    public void put_copiesTheEntityGoingIn() {
+        EntityCache<Bundle> cache = newCache();
+        Bundle entity = newEntity("original");
+        cache.put(ENTITY_ID, entity, cache.getGeneration());
+
+        //Modifying the Entity after it was added
+        entity.putString(KEY_NAME, "modified");
+
+        Bundle cachedEntity = cache.get(ENTITY_ID);
+        assertNotNull(cachedEntity);
+        assertNotSame(entity, cachedEntity);
+        assertEquals("original", cachedEntity.getString(KEY_NAME));
+    }
+
+    @Test
+    public void get_copiesTheEntityGoingOut() {
+        EntityCache<Bundle> cache = newCache();
+        cache.put(ENTITY_ID, newEntity("original"), cache.getGeneration());
+
+        //Modifying the Entity handed out
+        Bundle firstCopy = cache.get(ENTITY_ID);
+        assertNotNull(firstCopy);
+        firstCopy.putString(KEY_NAME, "modified");
+
+        Bundle secondCopy = cache.get(ENTITY_ID);
+        assertNotNull(secondCopy);
+        assertNotSame(firstCopy, secondCopy);
+        assertEquals("original", secondCopy.getString(KEY_NAME));
+    }
+
+    @Test
+    public void put_ignoresTheReadStartedBeforeRemove() {
+        EntityCache<Bundle> cache = newCache();
+        //Starting a read, and removing the Entity while the read is in progress
+        int generation = cache.getGeneration();
+        cache.remove(ENTITY_ID);
+        cache.put(ENTITY_ID, newEntity("stale"), generation);
+
+        assertNull(cache.get(ENTITY_ID));
+    }
+
+    @Test
+    public void put_ignoresTheReadStartedBeforeRemoveAll() {
+        EntityCache<Bundle> cache = newCache();
+        //Starting a read, and clearing the cache while the read is in progress
+        int generation = cache.getGeneration();
+        cache.removeAll();
+        cache.put(ENTITY_ID, newEntity("stale"), generation);
+
+        assertNull(cache.get(ENTITY_ID));
+    }
+
+    @Test
+    public void put_addsTheReadStartedAfterRemove() {
+        EntityCache<Bundle> cache = newCache();
+        cache.put(ENTITY_ID, newEntity("old"), cache.getGeneration());
+        cache.remove(ENTITY_ID);
+
+        //Starting a read after the removal
+        cache.put(ENTITY_ID, newEntity("fresh"), cache.getGeneration());
+
+        Bundle cachedEntity = cache.get(ENTITY_ID);
+        assertNotNull(cachedEntity);
+        assertEquals("fresh", cachedEntity.getString(KEY_NAME));
+    }
+
+    @Test
+    public void removeAll_removesTheEntities() {
+        EntityCache<Bundle> cache = newCache();
+        cache.put(ENTITY_ID, newEntity("original"), cache.getGeneration());
+        cache.removeAll();
+
+        assertNull(cache.get(ENTITY_ID));
+    }
+
+    @Test
+    public void put_ignoresNullEntity() {
+        EntityCache<Bundle> cache = newCache();
+        cache.put(ENTITY_ID, null, cache.getGeneration());
+
+        assertNull(cache.get(ENTITY_ID));
+        assertEquals(0, cache.getStats().getSize());
+    }
+}
@@ -0,0 +1,249 @@
+/*
+ * Copyright 2018 Kaushik N. Sanji
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.example.kaushiknsanji.storeapp.data.local;
+
+import android.content.ContentValues;
+import android.content.Context;
+import android.database.Cursor;
+import android.database.sqlite.SQLiteDatabase;
+import android.database.sqlite.SQLiteQueryBuilder;
+import android.database.sqlite.SQLiteStatement;
+import android.support.test.InstrumentationRegistry;
+import android.support.test.runner.AndroidJUnit4;
+
+import com.example.kaushiknsanji.storeapp.data.local.contracts.ProductContract.Product;
+import com.example.kaushiknsanji.storeapp.data.local.contracts.ProductContract.ProductCategory;
+import com.example.kaushiknsanji.storeapp.data.local.contracts.SalesContract.ProductSupplierInfo;
+import com.example.kaushiknsanji.storeapp.data.local.contracts.SalesContract.ProductSupplierInventory;
+import com.example.kaushiknsanji.storeapp.data.local.contracts.SupplierContract.Supplier;
+import com.example.kaushiknsanji.storeapp.data.local.utils.QueryArgsUtility;
+import com.example.kaushiknsanji.storeapp.utils.AppConstants;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
+
+/**
+ * Instrumented test of the database connections configured by {@link StoreDbHelper}, checking
+ * that the primary connection is tuned by the PRAGMAs, and that with Write-Ahead Logging
+ * the reads of the lists are not blocked by a write transaction in progress.
+ */
+@RunWith(AndroidJUnit4.class)
+public class StoreDbHelperConnectionTest {
+
+    //Name of the Database file used by the test
+    private static final String DATABASE_NAME = "connection_test.db";
+
+    //Number of Products, Suppliers and Categories seeded
+    private static final int NO_OF_PRODUCTS = 500;
+    private static final int NO_OF_SUPPLIERS = 10;
+    private static final int NO_OF_CATEGORIES = 5;
+    //Available Quantity seeded for every Product
+    private static final int SEEDED_QUANTITY = 100;
+    //Size of the page of the Sales list read
+    private static final int PAGE_SIZE = 50;
+    //Time allowed for the read while the write transaction is in progress
+    private static final long MAX_READ_SECONDS = 5L;
+
+    private Context mContext;
+    private StoreDbHelper mDbHelper;
+
+    @Before
+    public void setUp() {
+        mContext = InstrumentationRegistry.getTargetContext();
+        mContext.deleteDatabase(DATABASE_NAME);
+        mDbHelper = new StoreDbHelper(mContext, DATABASE_NAME);
+    }
+
+    @After
+    public void tearDown() {
+        mDbHelper.close();
+        mContext.deleteDatabase(DATABASE_NAME);
+    }
+
+    @Test
+    public void primaryConnectionHasTheTunedCacheSize() {
+        SQLiteDatabase db = mDbHelper.getWritableDatabase();
+        //Reading within a transaction, which always runs on the primary connection
+        db.beginTransaction();
+        try {
+            Cursor cursor = db.rawQuery("PRAGMA cache_size", null);
+            try {
+                assertTrue(cursor.moveToFirst());
+                assertEquals(-StoreDbHelper.DATABASE_CACHE_SIZE_KIB, cursor.getInt(0));
+            } finally {
+                cursor.close();
+            }
+        } finally {
+            db.endTransaction();
+        }
+    }
+
+    @Test(timeout = 60000L)
+    public void salesListReadIsNotBlockedByWriteTransaction() throws Exception {
+        //Running only when Write-Ahead Logging is enabled, as otherwise the framework
+        //serializes the reads with the writes on a single connection
+        assumeTrue(AppConstants.ENABLE_DB_WAL);
+
+        SQLiteDatabase db = mDbHelper.getWritableDatabase();
+        seedDatabase(db);
+
+        //Holding a write transaction open on another thread
+        CountDownLatch writeStarted = new CountDownLatch(1);
+        CountDownLatch releaseWrite = new CountDownLatch(1);
+        Thread writeThread = new Thread(() -> {
+            db.beginTransaction();
+            try {
+                db.execSQL("UPDATE " + ProductSupplierInventory.TABLE_NAME
+                        + " SET " + ProductSupplierInventory.COLUMN_ITEM_AVAIL_QUANTITY
+                        + " = " + ProductSupplierInventory.COLUMN_ITEM_AVAIL_QUANTITY + " + 1");
+                writeStarted.countDown();
+                releaseWrite.await();
+                db.setTransactionSuccessful();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                db.endTransaction();
+            }
+        });
+        writeThread.start();
+
+        ExecutorService readExecutor = Executors.newSingleThreadExecutor();
+        try {
+            assertTrue(writeStarted.await(MAX_READ_SECONDS, TimeUnit.SECONDS));
+
+            //Reading the first page of the Sales list while the write transaction is in progress.
+            //The read times out when it is blocked by the write transaction
+            Future<Integer> readFuture = readExecutor.submit(() -> {
+                Cursor cursor = querySalesPage(db);
+                try {
+                    return cursor.getCount();
+                } finally {
+                    cursor.close();
+                }
+            });
+            assertEquals(PAGE_SIZE, (int) readFuture.get(MAX_READ_SECONDS, TimeUnit.SECONDS));
+
+            //Checking that the read does not see the changes not yet committed
+            Future<Integer> quantityFuture = readExecutor.submit(() -> {
+                Cursor cursor = db.rawQuery("SELECT MAX(" + ProductSupplierInventory.COLUMN_ITEM_AVAIL_QUANTITY
+                        + ") FROM " + ProductSupplierInventory.TABLE_NAME, null);
+                try {
+                    return cursor.moveToFirst() ? cursor.getInt(0) : -1;
+                } finally {
+                    cursor.close();
+                }
+            });
+            assertEquals(SEEDED_QUANTITY, (int) quantityFuture.get(MAX_READ_SECONDS, TimeUnit.SECONDS));
+        } finally {
+            releaseWrite.countDown();
+            writeThread.join();
+            readExecutor.shutdownNow();
+        }
+    }
+
+    /**
+     * Method that seeds the Products with their Category, Supplier, Price and Inventory.
+     *
+     * @param db The database configured by {@link StoreDbHelper}
+     */
+    private void seedDatabase(SQLiteDatabase db) {
+        db.beginTransaction();
+        try {
+            //Categories are named apart from the predefined ones inserted by StoreDbHelper
+            long[] categoryIds = new long[NO_OF_CATEGORIES];
+            for (int index = 0; index < NO_OF_CATEGORIES; index++) {
+                ContentValues categoryValues = new ContentValues();
+                categoryValues.put(ProductCategory.COLUMN_ITEM_CATEGORY_NAME, "Test Category " + index);
+                categoryIds[index] = db.insertOrThrow(ProductCategory.TABLE_NAME, null, categoryValues);
+            }
+
+            long[] supplierIds = new long[NO_OF_SUPPLIERS];
+            for (int index = 0; index < NO_OF_SUPPLIERS; index++) {
+                ContentValues supplierValues = new ContentValues();
+                supplierValues.put(Supplier.COLUMN_SUPPLIER_NAME, "Supplier " + index);
+                supplierValues.put(Supplier.COLUMN_SUPPLIER_CODE, String.format("SUP%05d", index));
+                supplierIds[index] = db.insertOrThrow(Supplier.TABLE_NAME, null, supplierValues);
+            }
+
+            SQLiteStatement itemStatement = db.compileStatement("INSERT INTO " + Product.TABLE_NAME
+                    + " (" + Product.COLUMN_ITEM_NAME + ", " + Product.COLUMN_ITEM_SKU + ", "
+                    + Product.COLUMN_ITEM_DESCRIPTION + ", " + Product.COLUMN_ITEM_CATEGORY_ID + ") VALUES (?, ?, ?, ?)");
+            SQLiteStatement infoStatement = db.compileStatement("INSERT INTO " + ProductSupplierInfo.TABLE_NAME
+                    + " (" + ProductSupplierInfo.COLUMN_ITEM_ID + ", " + ProductSupplierInfo.COLUMN_SUPPLIER_ID + ", "
+                    + ProductSupplierInfo.COLUMN_ITEM_UNIT_PRICE + ") VALUES (?, ?, ?)");
+            SQLiteStatement inventoryStatement = db.compileStatement("INSERT INTO " + ProductSupplierInventory.TABLE_NAME
+                    + " (" + ProductSupplierInventory.COLUMN_ITEM_ID + ", " + ProductSupplierInventory.COLUMN_SUPPLIER_ID + ", "
+                    + ProductSupplierInventory.COLUMN_ITEM_AVAIL_QUANTITY + ") VALUES (?, ?, ?)");
+            for (int index = 0; index < NO_OF_PRODUCTS; index++) {
+                itemStatement.bindString(1, "Product " + index);
+                itemStatement.bindString(2, String.format("SKU%06d", index));
+                itemStatement.bindString(3, "Description of Product " + index);
+                itemStatement.bindLong(4, categoryIds[index % NO_OF_CATEGORIES]);
+                long itemId = itemStatement.executeInsert();
+
+                long supplierId = supplierIds[index % NO_OF_SUPPLIERS];
+                infoStatement.bindLong(1, itemId);
+                infoStatement.bindLong(2, supplierId);
+                infoStatement.bindDouble(3, 10.0 + index % 100);
+                infoStatement.executeInsert();
+
+                inventoryStatement.bindLong(1, itemId);
+                inventoryStatement.bindLong(2, supplierId);
+                inventoryStatement.bindLong(3, SEEDED_QUANTITY);
+                inventoryStatement.executeInsert();
+            }
+            db.setTransactionSuccessful();
+        } finally {
+            db.endTransaction();
+        }
+    }
+
+    /**
+     * Method that queries the first page of the Sales list, the same way as
+     * {@link StoreContentProvider} does for the Sales short info URI.
+     *
+     * @param db The database to query
+     * @return Cursor to the first page of the Sales list
+     */
+    private Cursor querySalesPage(SQLiteDatabase db) {
+        SQLiteQueryBuilder queryBuilder = new SQLiteQueryBuilder();
+        QueryArgsUtility.SalesShortInfoQuery.setTables(queryBuilder);
+        QueryArgsUtility.SalesShortInfoQuery.setProjectionMap(queryBuilder);
+        return queryBuilder.query(
+                db,
+                QueryArgsUtility.SalesShortInfoQuery.getProjection(),
+                QueryArgsUtility.SalesShortInfoQuery.getSelection(),
+                QueryArgsUtility.SalesShortInfoQuery.getSelectionArgs(),
+                null,
+                null,
+                Product.getQualifiedColumnName(Product.COLUMN_ITEM_SKU),
+                String.valueOf(PAGE_SIZE)
+        );
+    }
+}
@@ -0,0 +1,300 @@
+/*
+ * Copyright 2018 Kaushik N. Sanji
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.example.kaushiknsanji.storeapp.data.local;
+
+import android.content.Context;
+import android.database.DatabaseUtils;
+import android.database.sqlite.SQLiteDatabase;
+import android.database.sqlite.SQLiteStatement;
+import android.os.SystemClock;
+import android.support.test.InstrumentationRegistry;
+import android.support.test.runner.AndroidJUnit4;
+import android.util.Log;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Instrumented test that seeds a version 1 database with 100k rows and upgrades it
+ * through {@link StoreDbHelper} to the current version, checking that the existing data
+ * is retained, the tables derived from it are loaded, the schema is complete and that the
+ * upgrade finishes within {@link #MAX_MIGRATION_MILLIS}.
+ */
+@RunWith(AndroidJUnit4.class)
+public class StoreDbHelperMigrationTest {
+
+    //Constant used for logs
+    private static final String LOG_TAG = StoreDbHelperMigrationTest.class.getSimpleName();
+
+    //Name of the Database file used by the test
+    private static final String DATABASE_NAME = "migration_test.db";
+
+    //Number of rows seeded. Every Item has one row in each of the Image, Attribute,
+    //Supplier Info and Supplier Inventory tables, which with the Suppliers and their Contacts
+    //comes to over 100k rows
+    private static final int NO_OF_CATEGORIES = 10;
+    private static final int NO_OF_SUPPLIERS = 1000;
+    private static final int NO_OF_ITEMS = 20000;
+    //Number of distinct Image files shared by the Items
+    private static final int NO_OF_IMAGE_FILES = 10000;
+    //Time allowed for the upgrade of the seeded database
+    private static final long MAX_MIGRATION_MILLIS = 30000L;
+
+    //Schema of the database at version 1
+    private static final String[] SCHEMA_V1 = {
+            "CREATE TABLE item_category(_id INTEGER PRIMARY KEY AUTOINCREMENT, category_name TEXT NOT NULL,"
+                    + " CONSTRAINT unique_category_name UNIQUE (category_name) ON CONFLICT FAIL)",
+            "CREATE TABLE item(_id INTEGER PRIMARY KEY AUTOINCREMENT, item_name TEXT NOT NULL,"
+                    + " item_sku TEXT NOT NULL, item_description TEXT NOT NULL, category_id INTEGER,"
+                    + " CONSTRAINT unique_item_sku UNIQUE (item_sku) ON CONFLICT FAIL,"
+                    + " CONSTRAINT fk_category_id FOREIGN KEY (category_id) REFERENCES item_category(_id))",
+            "CREATE TABLE item_image(item_id INTEGER, image_uri TEXT, is_default INTEGER NOT NULL DEFAULT 0,"
+                    + " CONSTRAINT unique_image_uri UNIQUE (item_id, image_uri),"
+                    + " CONSTRAINT fk_item_id FOREIGN KEY (item_id) REFERENCES item(_id) ON DELETE CASCADE)",
+            "CREATE TABLE item_attr(item_id INTEGER, attr_name TEXT NOT NULL, attr_value TEXT NOT NULL,"
+                    + " CONSTRAINT unique_attr_name UNIQUE (item_id, attr_name),"
+                    + " CONSTRAINT fk_item_id FOREIGN KEY (item_id) REFERENCES item(_id) ON DELETE CASCADE)",
+            "CREATE TABLE supplier(_id INTEGER PRIMARY KEY AUTOINCREMENT, supplier_name TEXT NOT NULL,"
+                    + " supplier_code TEXT NOT NULL,"
+                    + " CONSTRAINT unique_supplier_code UNIQUE (supplier_code) ON CONFLICT FAIL)",
+            "CREATE TABLE contact_type(_id INTEGER PRIMARY KEY, type_name TEXT NOT NULL,"
+                    + " CONSTRAINT unique_type_name UNIQUE (type_name))",
+            "CREATE TABLE supplier_contact(contact_type_id INTEGER, contact_value TEXT NOT NULL,"
+                    + " is_default INTEGER NOT NULL DEFAULT 0, supplier_id INTEGER,"
+                    + " CONSTRAINT unique_record UNIQUE (supplier_id, contact_value) ON CONFLICT REPLACE,"
+                    + " CONSTRAINT fk_contact_type_id FOREIGN KEY (contact_type_id) REFERENCES contact_type(_id),"
+                    + " CONSTRAINT fk_supplier_id FOREIGN KEY (supplier_id) REFERENCES supplier(_id) ON DELETE CASCADE)",
+            "CREATE TABLE item_supplier_info(item_id INTEGER, supplier_id INTEGER,"
+                    + " unit_price REAL NOT NULL DEFAULT 0.0,"
+                    + " CONSTRAINT unique_record UNIQUE (item_id, supplier_id) ON CONFLICT REPLACE,"
+                    + " CONSTRAINT fk_item_id FOREIGN KEY (item_id) REFERENCES item(_id) ON DELETE CASCADE,"
+                    + " CONSTRAINT fk_supplier_id FOREIGN KEY (supplier_id) REFERENCES supplier(_id) ON DELETE CASCADE)",
+            "CREATE TABLE item_supplier_inventory(item_id INTEGER, supplier_id INTEGER,"
+                    + " available_quantity INTEGER NOT NULL DEFAULT 0,"
+                    + " CONSTRAINT unique_record UNIQUE (item_id, supplier_id) ON CONFLICT REPLACE,"
+                    + " CONSTRAINT fk_item_id FOREIGN KEY (item_id) REFERENCES item(_id) ON DELETE CASCADE,"
+                    + " CONSTRAINT fk_supplier_id FOREIGN KEY (supplier_id) REFERENCES supplier(_id) ON DELETE CASCADE)",
+            "CREATE INDEX quantity_idx ON item_supplier_inventory (available_quantity)"
+    };
+
+    //Tables, Indexes and Triggers expected in the database at the current version
+    private static final String[] EXPECTED_TABLES = {
+            "item_sales_summary", "supplier_summary", "item_search", "item_image_file"
+    };
+    private static final String[] EXPECTED_INDEXES = {
+            "quantity_idx", "item_category_idx", "contact_type_idx", "supplier_info_supplier_idx",
+            "supplier_inventory_supplier_idx", "item_image_uri_idx"
+    };
+    private static final String[] EXPECTED_TRIGGERS = {
+            "sales_summary_insert_trg", "sales_summary_update_trg", "sales_summary_delete_trg",
+            "supplier_summary_contact_insert_trg", "supplier_summary_contact_update_trg",
+            "supplier_summary_contact_delete_trg", "supplier_summary_item_insert_trg",
+            "supplier_summary_item_update_trg", "supplier_summary_item_delete_trg",
+            "supplier_summary_supplier_delete_trg", "item_search_insert_trg", "item_search_update_trg",
+            "item_search_delete_trg", "item_search_category_update_trg", "image_file_insert_trg",
+            "image_file_update_trg", "image_file_delete_trg"
+    };
+
+    private Context mContext;
+    private StoreDbHelper mDbHelper;
+
+    @Before
+    public void setUp() {
+        mContext = InstrumentationRegistry.getTargetContext();
+        mContext.deleteDatabase(DATABASE_NAME);
+    }
+
+    @After
+    public void tearDown() {
+        if (mDbHelper != null) {
+            mDbHelper.close();
+        }
+        mContext.deleteDatabase(DATABASE_NAME);
+    }
+
+    @Test
+    public void upgradeFromVersion1RetainsDataAndCompletesSchema() {
+        //Seeding the database at version 1
+        SQLiteDatabase seedDatabase = mContext.openOrCreateDatabase(DATABASE_NAME, Context.MODE_PRIVATE, null);
+        try {
+            seedVersion1(seedDatabase);
+        } finally {
+            seedDatabase.close();
+        }
+
+        //Upgrading the database to the current version, timing the upgrade
+        mDbHelper = new StoreDbHelper(mContext, DATABASE_NAME);
+        long startTimeMillis = SystemClock.elapsedRealtime();
+        SQLiteDatabase db = mDbHelper.getWritableDatabase();
+        long migrationMillis = SystemClock.elapsedRealtime() - startTimeMillis;
+        Log.i(LOG_TAG, "Upgraded from version 1 to " + StoreDbHelper.DATABASE_VERSION + " in " + migrationMillis + " ms");
+
+        assertEquals(StoreDbHelper.DATABASE_VERSION, db.getVersion());
+        assertTrue("Upgrade took " + migrationMillis + " ms", migrationMillis <= MAX_MIGRATION_MILLIS);
+
+        //Verifying that the data of version 1 is retained
+        assertEquals(NO_OF_CATEGORIES, count(db, "SELECT COUNT(*) FROM item_category"));
+        assertEquals(2, count(db, "SELECT COUNT(*) FROM contact_type"));
+        assertEquals(NO_OF_SUPPLIERS, count(db, "SELECT COUNT(*) FROM supplier"));
+        assertEquals(2 * NO_OF_SUPPLIERS, count(db, "SELECT COUNT(*) FROM supplier_contact"));
+        assertEquals(NO_OF_ITEMS, count(db, "SELECT COUNT(*) FROM item"));
+        assertEquals(NO_OF_ITEMS, count(db, "SELECT COUNT(*) FROM item_image"));
+        assertEquals(NO_OF_ITEMS, count(db, "SELECT COUNT(*) FROM item_attr"));
+        assertEquals(NO_OF_ITEMS, count(db, "SELECT COUNT(*) FROM item_supplier_info"));
+        assertEquals(NO_OF_ITEMS, count(db, "SELECT COUNT(*) FROM item_supplier_inventory"));
+
+        //Verifying that the tables derived from the data of version 1 are loaded
+        assertEquals(NO_OF_ITEMS, count(db, "SELECT COUNT(*) FROM item_sales_summary"));
+        assertEquals(0, count(db, "SELECT COUNT(*) FROM item_sales_summary JOIN item_supplier_inventory"
+                + " ON item_supplier_inventory.item_id = item_sales_summary.item_id"
+                + " WHERE item_sales_summary.total_available_quantity != item_supplier_inventory.available_quantity"
+                + " OR item_sales_summary.top_supplier_id != item_supplier_inventory.supplier_id"));
+        assertEquals(NO_OF_SUPPLIERS, count(db, "SELECT COUNT(*) FROM supplier_summary"
+                + " WHERE default_phone IS NOT NULL AND default_email IS NOT NULL"));
+        assertEquals(NO_OF_ITEMS, count(db, "SELECT SUM(item_count) FROM supplier_summary"));
+        assertEquals(NO_OF_ITEMS, count(db, "SELECT COUNT(*) FROM item_search"));
+        assertEquals(1, count(db, "SELECT COUNT(*) FROM item_search WHERE item_search MATCH 'SKU000042*'"));
+        assertEquals(NO_OF_IMAGE_FILES, count(db, "SELECT COUNT(*) FROM item_image_file"));
+        assertEquals(NO_OF_ITEMS, count(db, "SELECT SUM(ref_count) FROM item_image_file"));
+
+        //Verifying the schema of the current version
+        for (String tableName : EXPECTED_TABLES) {
+            assertSchemaObject(db, "table", tableName);
+        }
+        for (String indexName : EXPECTED_INDEXES) {
+            assertSchemaObject(db, "index", indexName);
+        }
+        for (String triggerName : EXPECTED_TRIGGERS) {
+            assertSchemaObject(db, "trigger", triggerName);
+        }
+    }
+
+    /**
+     * Method that creates the schema of version 1 and seeds it with the rows.
+     *
+     * @param db The database to seed
+     */
+    private void seedVersion1(SQLiteDatabase db) {
+        db.execSQL("PRAGMA foreign_keys = ON");
+        db.beginTransaction();
+        try {
+            for (String createStatement : SCHEMA_V1) {
+                db.execSQL(createStatement);
+            }
+
+            for (int index = 1; index <= NO_OF_CATEGORIES; index++) {
+                db.execSQL("INSERT INTO item_category (_id, category_name) VALUES (?, ?)",
+                        new Object[]{index, "Category " + index});
+            }
+            db.execSQL("INSERT INTO contact_type (_id, type_name) VALUES (0, 'Phone')");
+            db.execSQL("INSERT INTO contact_type (_id, type_name) VALUES (1, 'Email')");
+
+            SQLiteStatement supplierStatement = db.compileStatement(
+                    "INSERT INTO supplier (_id, supplier_name, supplier_code) VALUES (?, ?, ?)");
+            SQLiteStatement contactStatement = db.compileStatement(
+                    "INSERT INTO supplier_contact (contact_type_id, contact_value, is_default, supplier_id) VALUES (?, ?, 1, ?)");
+            for (int supplierId = 1; supplierId <= NO_OF_SUPPLIERS; supplierId++) {
+                supplierStatement.bindLong(1, supplierId);
+                supplierStatement.bindString(2, "Supplier " + supplierId);
+                supplierStatement.bindString(3, String.format("SUP%05d", supplierId));
+                supplierStatement.executeInsert();
+
+                contactStatement.bindLong(1, 0);
+                contactStatement.bindString(2, String.format("+1555%07d", supplierId));
+                contactStatement.bindLong(3, supplierId);
+                contactStatement.executeInsert();
+
+                contactStatement.bindLong(1, 1);
+                contactStatement.bindString(2, "supplier" + supplierId + "@example.com");
+                contactStatement.bindLong(3, supplierId);
+                contactStatement.executeInsert();
+            }
+
+            SQLiteStatement itemStatement = db.compileStatement(
+                    "INSERT INTO item (_id, item_name, item_sku, item_description, category_id) VALUES (?, ?, ?, ?, ?)");
+            SQLiteStatement imageStatement = db.compileStatement(
+                    "INSERT INTO item_image (item_id, image_uri, is_default) VALUES (?, ?, 1)");
+            SQLiteStatement attrStatement = db.compileStatement(
+                    "INSERT INTO item_attr (item_id, attr_name, attr_value) VALUES (?, 'Color', ?)");
+            SQLiteStatement infoStatement = db.compileStatement(
+                    "INSERT INTO item_supplier_info (item_id, supplier_id, unit_price) VALUES (?, ?, ?)");
+            SQLiteStatement inventoryStatement = db.compileStatement(
+                    "INSERT INTO item_supplier_inventory (item_id, supplier_id, available_quantity) VALUES (?, ?, ?)");
+            for (int itemId = 1; itemId <= NO_OF_ITEMS; itemId++) {
+                long supplierId = 1 + itemId % NO_OF_SUPPLIERS;
+
+                itemStatement.bindLong(1, itemId);
+                itemStatement.bindString(2, "Product " + itemId);
+                itemStatement.bindString(3, String.format("SKU%06d", itemId));
+                itemStatement.bindString(4, "Description of Product " + itemId);
+                itemStatement.bindLong(5, 1 + itemId % NO_OF_CATEGORIES);
+                itemStatement.executeInsert();
+
+                imageStatement.bindLong(1, itemId);
+                imageStatement.bindString(2, "content://images/IMG_" + (itemId % NO_OF_IMAGE_FILES) + ".jpg");
+                imageStatement.executeInsert();
+
+                attrStatement.bindLong(1, itemId);
+                attrStatement.bindString(2, "Color " + itemId % 16);
+                attrStatement.executeInsert();
+
+                infoStatement.bindLong(1, itemId);
+                infoStatement.bindLong(2, supplierId);
+                infoStatement.bindDouble(3, 10.0 + itemId % 100);
+                infoStatement.executeInsert();
+
+                inventoryStatement.bindLong(1, itemId);
+                inventoryStatement.bindLong(2, supplierId);
+                inventoryStatement.bindLong(3, itemId % 50);
+                inventoryStatement.executeInsert();
+            }
+
+            db.setVersion(1);
+            db.setTransactionSuccessful();
+        } finally {
+            db.endTransaction();
+        }
+    }
+
+    /**
+     * Method that returns the number in the first column of the first row of the {@code query}.
+     *
+     * @param db    The database to query
+     * @param query The query returning a number
+     * @return The number returned by the query
+     */
+    private long count(SQLiteDatabase db, String query) {
+        return DatabaseUtils.longForQuery(db, query, null);
+    }
+
+    /**
+     * Method that asserts the presence of a schema object of the {@code type} and {@code name}.
+     *
+     * @param db   The database to check
+     * @param type The type of the schema object, one of "table", "index" or "trigger"
+     * @param name The name of the schema object
+     */
+    private void assertSchemaObject(SQLiteDatabase db, String type, String name) {
+        assertEquals("Missing " + type + " " + name, 1, DatabaseUtils.longForQuery(db,
+                "SELECT COUNT(*) FROM sqlite_master WHERE type = ? AND name = ?", new String[]{type, name}));
+    }
+}
@@ -0,0 +1,398 @@
+/*
+ * Copyright 2018 Kaushik N. Sanji
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.example.kaushiknsanji.storeapp.data.local;
+
+import android.content.ContentUris;
+import android.content.ContentValues;
+import android.content.Context;
+import android.database.Cursor;
+import android.database.sqlite.SQLiteDatabase;
+import android.database.sqlite.SQLiteQueryBuilder;
+import android.database.sqlite.SQLiteStatement;
+import android.net.Uri;
+import android.support.test.InstrumentationRegistry;
+import android.support.test.runner.AndroidJUnit4;
+import android.support.v4.util.Pair;
+
+import com.example.kaushiknsanji.storeapp.data.local.contracts.ProductContract.Product;
+import com.example.kaushiknsanji.storeapp.data.local.contracts.ProductContract.ProductAttribute;
+import com.example.kaushiknsanji.storeapp.data.local.contracts.ProductContract.ProductCategory;
+import com.example.kaushiknsanji.storeapp.data.local.contracts.ProductContract.ProductImage;
+import com.example.kaushiknsanji.storeapp.data.local.contracts.SalesContract.ProductSupplierInfo;
+import com.example.kaushiknsanji.storeapp.data.local.contracts.SalesContract.ProductSupplierInventory;
+import com.example.kaushiknsanji.storeapp.data.local.contracts.SupplierContract.Supplier;
+import com.example.kaushiknsanji.storeapp.data.local.contracts.SupplierContract.SupplierContact;
+import com.example.kaushiknsanji.storeapp.data.local.contracts.SupplierContract.SupplierContactType;
+import com.example.kaushiknsanji.storeapp.data.local.utils.QueryArgsUtility;
+import com.example.kaushiknsanji.storeapp.data.local.utils.SqliteUtility;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Instrumented test that runs EXPLAIN QUERY PLAN on the queries of {@link QueryArgsUtility},
+ * built the same way as {@link StoreContentProvider} does, and fails when any of them
+ * scans a table without an index. The database is seeded and analyzed first, so that the plans
+ * are those chosen with the statistics of a populated database. The list queries are checked
+ * in their paged form as built by the ContentProvider itself, where the first page walks the
+ * Key's index and the following pages search it. Walking an index
+ * ("SCAN TABLE x USING INDEX") and matching the Full-Text Search Table are not counted as
+ * full table scans. The Categories lookup reads the whole small table by design and is not checked.
+ */
+@RunWith(AndroidJUnit4.class)
+public class StoreDbHelperQueryPlanTest {
+
+    //Name of the Database file used by the test
+    private static final String DATABASE_NAME = "query_plan_test.db";
+
+    //Size of the page used for the paged list queries
+    private static final int PAGE_SIZE = 50;
+
+    //Number of rows seeded, for the Query Planner to choose the indexes from the statistics
+    //of the tables gathered by ANALYZE
+    private static final int NO_OF_CATEGORIES = 20;
+    private static final int NO_OF_SUPPLIERS = 500;
+    private static final int NO_OF_ITEMS = 5000;
+    //Id of the Contact Type seeded, apart from those of the predefined Contact Types
+    private static final int CONTACT_TYPE_ID = 100;
+
+    //Pattern of the Query Plan detail of a full table scan, in the formats of the
+    //older ("SCAN TABLE item") and the newer ("SCAN item") SQLite versions. Scans that use
+    //an index, and scans of Subqueries, Constant rows and Virtual Tables do not match.
+    private static final Pattern FULL_TABLE_SCAN_PATTERN
+            = Pattern.compile("^SCAN (TABLE )?(?!SUBQUERY|CONSTANT|\\()\\S+( AS \\S+)?$");
+
+    private Context mContext;
+    private StoreDbHelper mDbHelper;
+    private SQLiteDatabase mDatabase;
+    //URI passed for the queries of a record identified by its Key
+    private final Uri mRecordUri = ContentUris.withAppendedId(Product.CONTENT_URI, 1);
+
+    @Before
+    public void setUp() {
+        mContext = InstrumentationRegistry.getTargetContext();
+        mContext.deleteDatabase(DATABASE_NAME);
+        mDbHelper = new StoreDbHelper(mContext, DATABASE_NAME);
+        mDatabase = mDbHelper.getWritableDatabase();
+
+        //Seeding the tables and gathering their statistics, so that the Query Plans are those
+        //chosen for a populated database
+        seedDatabase();
+        mDatabase.execSQL("ANALYZE");
+    }
+
+    @After
+    public void tearDown() {
+        mDbHelper.close();
+        mContext.deleteDatabase(DATABASE_NAME);
+    }
+
+    @Test
+    public void productListPagesUseIndexes() {
+        for (String afterKey : new String[]{null, formatSku(NO_OF_ITEMS / 2)}) {
+            assertListPageUsesIndexes("ItemsShortInfoQuery after " + afterKey,
+                    Product.buildShortInfoPageUri(afterKey, PAGE_SIZE),
+                    QueryArgsUtility.ItemsShortInfoQuery.getProjection());
+        }
+    }
+
+    @Test
+    public void supplierListPagesUseIndexes() {
+        for (String afterKey : new String[]{null, formatSupplierCode(NO_OF_SUPPLIERS / 2)}) {
+            assertListPageUsesIndexes("SuppliersShortInfoQuery after " + afterKey,
+                    Supplier.buildShortInfoPageUri(afterKey, PAGE_SIZE),
+                    QueryArgsUtility.SuppliersShortInfoQuery.getProjection());
+        }
+    }
+
+    @Test
+    public void salesListPagesUseIndexes() {
+        for (String afterKey : new String[]{null, formatSku(NO_OF_ITEMS / 2)}) {
+            assertListPageUsesIndexes("SalesShortInfoQuery after " + afterKey,
+                    ProductSupplierInventory.buildShortInfoPageUri(afterKey, PAGE_SIZE),
+                    QueryArgsUtility.SalesShortInfoQuery.getProjection());
+        }
+    }
+
+    @Test
+    public void productSearchUsesIndexes() {
+        SQLiteQueryBuilder queryBuilder = new SQLiteQueryBuilder();
+        QueryArgsUtility.ItemsSearchQuery.setTables(queryBuilder);
+        QueryArgsUtility.ItemsSearchQuery.setProjectionMap(queryBuilder);
+        assertNoFullTableScan("ItemsSearchQuery",
+                queryBuilder.buildQuery(
+                        QueryArgsUtility.ItemsSearchQuery.getProjection(),
+                        QueryArgsUtility.ItemsSearchQuery.getSelection(),
+                        null, null,
+                        QueryArgsUtility.ItemsSearchQuery.getSortOrder(),
+                        String.valueOf(PAGE_SIZE)),
+                QueryArgsUtility.ItemsSearchQuery.getSelectionArgs(
+                        SqliteUtility.makeFtsPrefixMatchQuery("red sh"),
+                        SqliteUtility.makeLikePrefixPattern("red sh")));
+    }
+
+    @Test
+    public void recordLookupsUseIndexes() {
+        //Queries built with the Query Builder
+        SQLiteQueryBuilder queryBuilder = new SQLiteQueryBuilder();
+        QueryArgsUtility.ItemByIdQuery.setTables(queryBuilder);
+        QueryArgsUtility.ItemByIdQuery.setProjectionMap(queryBuilder);
+        assertNoFullTableScan("ItemByIdQuery",
+                queryBuilder.buildQuery(QueryArgsUtility.ItemByIdQuery.getProjection(),
+                        QueryArgsUtility.ItemByIdQuery.getSelection(), null, null, null, null),
+                QueryArgsUtility.ItemByIdQuery.getSelectionArgs(mRecordUri));
+
+        queryBuilder = new SQLiteQueryBuilder();
+        QueryArgsUtility.ItemImagesQuery.setTables(queryBuilder);
+        QueryArgsUtility.ItemImagesQuery.setProjectionMap(queryBuilder);
+        assertNoFullTableScan("ItemImagesQuery",
+                queryBuilder.buildQuery(QueryArgsUtility.ItemImagesQuery.getProjection(),
+                        QueryArgsUtility.ItemImagesQuery.getSelection(), null, null, null, null),
+                QueryArgsUtility.ItemImagesQuery.getSelectionArgs(mRecordUri));
+
+        queryBuilder = new SQLiteQueryBuilder();
+        QueryArgsUtility.ItemAttributesQuery.setTables(queryBuilder);
+        QueryArgsUtility.ItemAttributesQuery.setProjectionMap(queryBuilder);
+        assertNoFullTableScan("ItemAttributesQuery",
+                queryBuilder.buildQuery(QueryArgsUtility.ItemAttributesQuery.getProjection(),
+                        QueryArgsUtility.ItemAttributesQuery.getSelection(), null, null, null, null),
+                QueryArgsUtility.ItemAttributesQuery.getSelectionArgs(mRecordUri));
+
+        queryBuilder = new SQLiteQueryBuilder();
+        QueryArgsUtility.SupplierContactsQuery.setTables(queryBuilder);
+        QueryArgsUtility.SupplierContactsQuery.setProjectionMap(queryBuilder);
+        assertNoFullTableScan("SupplierContactsQuery",
+                queryBuilder.buildQuery(QueryArgsUtility.SupplierContactsQuery.getProjection(),
+                        QueryArgsUtility.SupplierContactsQuery.getSelection(), null, null, null, null),
+                QueryArgsUtility.SupplierContactsQuery.getSelectionArgs(mRecordUri));
+
+        queryBuilder = new SQLiteQueryBuilder();
+        QueryArgsUtility.ItemSuppliersSalesQuery.setTables(queryBuilder);
+        QueryArgsUtility.ItemSuppliersSalesQuery.setProjectionMap(queryBuilder);
+        assertNoFullTableScan("ItemSuppliersSalesQuery",
+                queryBuilder.buildQuery(QueryArgsUtility.ItemSuppliersSalesQuery.getProjection(),
+                        QueryArgsUtility.ItemSuppliersSalesQuery.getSelection(), null, null, null, null),
+                QueryArgsUtility.ItemSuppliersSalesQuery.getSelectionArgs(mRecordUri));
+
+        //Compound query of the Item with its Attributes and Images
+        assertNoFullTableScan("ItemDetailQuery",
+                QueryArgsUtility.ItemDetailQuery.getQuery(),
+                QueryArgsUtility.ItemDetailQuery.getSelectionArgs(mRecordUri));
+
+        //Queries on a single table
+        assertNoFullTableScan("ItemBySkuQuery",
+                buildTableQuery(Product.TABLE_NAME, QueryArgsUtility.ItemBySkuQuery.getProjection(),
+                        QueryArgsUtility.ItemBySkuQuery.getSelection()),
+                QueryArgsUtility.ItemBySkuQuery.getSelectionArgs(mRecordUri));
+        assertNoFullTableScan("CategoryByIdQuery",
+                buildTableQuery(ProductCategory.TABLE_NAME, QueryArgsUtility.CategoryByIdQuery.getProjection(),
+                        QueryArgsUtility.CategoryByIdQuery.getSelection()),
+                QueryArgsUtility.CategoryByIdQuery.getSelectionArgs(mRecordUri));
+        assertNoFullTableScan("CategoryByNameQuery",
+                buildTableQuery(ProductCategory.TABLE_NAME, QueryArgsUtility.CategoryByNameQuery.getProjection(),
+                        QueryArgsUtility.CategoryByNameQuery.getSelection()),
+                QueryArgsUtility.CategoryByNameQuery.getSelectionArgs(mRecordUri));
+        assertNoFullTableScan("SupplierByIdQuery",
+                buildTableQuery(Supplier.TABLE_NAME, QueryArgsUtility.SupplierByIdQuery.getProjection(),
+                        QueryArgsUtility.SupplierByIdQuery.getSelection()),
+                QueryArgsUtility.SupplierByIdQuery.getSelectionArgs(mRecordUri));
+        assertNoFullTableScan("SupplierByCodeQuery",
+                buildTableQuery(Supplier.TABLE_NAME, QueryArgsUtility.SupplierByCodeQuery.getProjection(),
+                        QueryArgsUtility.SupplierByCodeQuery.getSelection()),
+                QueryArgsUtility.SupplierByCodeQuery.getSelectionArgs(mRecordUri));
+        assertNoFullTableScan("SupplierItemsQuery",
+                buildTableQuery(ProductSupplierInfo.TABLE_NAME, QueryArgsUtility.SupplierItemsQuery.getProjection(),
+                        QueryArgsUtility.SupplierItemsQuery.getSelection()),
+                QueryArgsUtility.SupplierItemsQuery.getSelectionArgs(mRecordUri));
+        assertNoFullTableScan("ItemSuppliersQuery",
+                buildTableQuery(ProductSupplierInfo.TABLE_NAME, QueryArgsUtility.ItemSuppliersQuery.getProjection(),
+                        QueryArgsUtility.ItemSuppliersQuery.getSelection()),
+                QueryArgsUtility.ItemSuppliersQuery.getSelectionArgs(mRecordUri));
+    }
+
+    /**
+     * Method that seeds the Categories, the Suppliers with their Contacts and the Items with their
+     * Attributes, Images, Suppliers and Inventory.
+     */
+    private void seedDatabase() {
+        mDatabase.beginTransaction();
+        try {
+            //Categories and Contact Type are named apart from the predefined ones inserted by StoreDbHelper
+            long[] categoryIds = new long[NO_OF_CATEGORIES];
+            for (int index = 0; index < NO_OF_CATEGORIES; index++) {
+                ContentValues categoryValues = new ContentValues();
+                categoryValues.put(ProductCategory.COLUMN_ITEM_CATEGORY_NAME, "Test Category " + index);
+                categoryIds[index] = mDatabase.insertOrThrow(ProductCategory.TABLE_NAME, null, categoryValues);
+            }
+            ContentValues contactTypeValues = new ContentValues();
+            contactTypeValues.put(SupplierContactType._ID, CONTACT_TYPE_ID);
+            contactTypeValues.put(SupplierContactType.COLUMN_CONTACT_TYPE_NAME, "Test Contact Type");
+            mDatabase.insertOrThrow(SupplierContactType.TABLE_NAME, null, contactTypeValues);
+
+            SQLiteStatement supplierStatement = mDatabase.compileStatement("INSERT INTO " + Supplier.TABLE_NAME
+                    + " (" + Supplier.COLUMN_SUPPLIER_NAME + ", " + Supplier.COLUMN_SUPPLIER_CODE + ") VALUES (?, ?)");
+            SQLiteStatement contactStatement = mDatabase.compileStatement("INSERT INTO " + SupplierContact.TABLE_NAME
+                    + " (" + SupplierContact.COLUMN_SUPPLIER_CONTACT_TYPE_ID + ", " + SupplierContact.COLUMN_SUPPLIER_CONTACT_VALUE + ", "
+                    + SupplierContact.COLUMN_SUPPLIER_CONTACT_DEFAULT + ", " + SupplierContact.COLUMN_SUPPLIER_ID + ") VALUES (?, ?, ?, ?)");
+            long[] supplierIds = new long[NO_OF_SUPPLIERS];
+            for (int index = 0; index < NO_OF_SUPPLIERS; index++) {
+                supplierStatement.bindString(1, "Supplier " + index);
+                supplierStatement.bindString(2, formatSupplierCode(index));
+                supplierIds[index] = supplierStatement.executeInsert();
+
+                contactStatement.bindLong(1, CONTACT_TYPE_ID);
+                contactStatement.bindString(2, "supplier" + index + "@example.com");
+                contactStatement.bindLong(3, SupplierContact.SUPPLIER_CONTACT_DEFAULT);
+                contactStatement.bindLong(4, supplierIds[index]);
+                contactStatement.executeInsert();
+            }
+
+            SQLiteStatement itemStatement = mDatabase.compileStatement("INSERT INTO " + Product.TABLE_NAME
+                    + " (" + Product.COLUMN_ITEM_NAME + ", " + Product.COLUMN_ITEM_SKU + ", "
+                    + Product.COLUMN_ITEM_DESCRIPTION + ", " + Product.COLUMN_ITEM_CATEGORY_ID + ") VALUES (?, ?, ?, ?)");
+            SQLiteStatement attrStatement = mDatabase.compileStatement("INSERT INTO " + ProductAttribute.TABLE_NAME
+                    + " (" + ProductAttribute.COLUMN_ITEM_ID + ", " + ProductAttribute.COLUMN_ITEM_ATTR_NAME + ", "
+                    + ProductAttribute.COLUMN_ITEM_ATTR_VALUE + ") VALUES (?, ?, ?)");
+            SQLiteStatement imageStatement = mDatabase.compileStatement("INSERT INTO " + ProductImage.TABLE_NAME
+                    + " (" + ProductImage.COLUMN_ITEM_ID + ", " + ProductImage.COLUMN_ITEM_IMAGE_URI + ", "
+                    + ProductImage.COLUMN_ITEM_IMAGE_DEFAULT + ") VALUES (?, ?, ?)");
+            SQLiteStatement infoStatement = mDatabase.compileStatement("INSERT INTO " + ProductSupplierInfo.TABLE_NAME
+                    + " (" + ProductSupplierInfo.COLUMN_ITEM_ID + ", " + ProductSupplierInfo.COLUMN_SUPPLIER_ID + ", "
+                    + ProductSupplierInfo.COLUMN_ITEM_UNIT_PRICE + ") VALUES (?, ?, ?)");
+            SQLiteStatement inventoryStatement = mDatabase.compileStatement("INSERT INTO " + ProductSupplierInventory.TABLE_NAME
+                    + " (" + ProductSupplierInventory.COLUMN_ITEM_ID + ", " + ProductSupplierInventory.COLUMN_SUPPLIER_ID + ", "
+                    + ProductSupplierInventory.COLUMN_ITEM_AVAIL_QUANTITY + ") VALUES (?, ?, ?)");
+            for (int index = 0; index < NO_OF_ITEMS; index++) {
+                itemStatement.bindString(1, "Product " + index);
+                itemStatement.bindString(2, formatSku(index));
+                itemStatement.bindString(3, "Description of Product " + index);
+                itemStatement.bindLong(4, categoryIds[index % NO_OF_CATEGORIES]);
+                long itemId = itemStatement.executeInsert();
+
+                attrStatement.bindLong(1, itemId);
+                attrStatement.bindString(2, "Colour");
+                attrStatement.bindString(3, "Colour " + index % 10);
+                attrStatement.executeInsert();
+
+                imageStatement.bindLong(1, itemId);
+                imageStatement.bindString(2, "content://test/images/" + index);
+                imageStatement.bindLong(3, ProductImage.ITEM_IMAGE_DEFAULT);
+                imageStatement.executeInsert();
+
+                long supplierId = supplierIds[index % NO_OF_SUPPLIERS];
+                infoStatement.bindLong(1, itemId);
+                infoStatement.bindLong(2, supplierId);
+                infoStatement.bindDouble(3, 10.0 + index % 100);
+                infoStatement.executeInsert();
+
+                inventoryStatement.bindLong(1, itemId);
+                inventoryStatement.bindLong(2, supplierId);
+                inventoryStatement.bindLong(3, 100);
+                inventoryStatement.executeInsert();
+            }
+            mDatabase.setTransactionSuccessful();
+        } finally {
+            mDatabase.endTransaction();
+        }
+    }
+
+    /**
+     * Method that returns the SKU of the Item seeded at the {@code index}.
+     *
+     * @param index The index of the Item seeded
+     * @return The SKU of the Item
+     */
+    private static String formatSku(int index) {
+        return String.format(Locale.US, "SKU%06d", index);
+    }
+
+    /**
+     * Method that returns the Code of the Supplier seeded at the {@code index}.
+     *
+     * @param index The index of the Supplier seeded
+     * @return The Code of the Supplier
+     */
+    private static String formatSupplierCode(int index) {
+        return String.format(Locale.US, "SUP%05d", index);
+    }
+
+    /**
+     * Method that builds the query on a single table, the same way as
+     * {@link SQLiteDatabase#query(String, String[], String, String[], String, String, String)} does.
+     *
+     * @param tableName  The table to query
+     * @param projection The columns to return
+     * @param selection  The Where clause
+     * @return The query built
+     */
+    private String buildTableQuery(String tableName, String[] projection, String selection) {
+        return SQLiteQueryBuilder.buildQueryString(false, tableName, projection, selection,
+                null, null, null, null);
+    }
+
+    /**
+     * Method that builds the Query of the page of the List requested by the {@code pageUri}
+     * with {@link StoreContentProvider#buildShortInfoListQuery(Uri, String[], String, String[], String)},
+     * which is the Query run by the ContentProvider for the page, and fails when the Query scans a full table.
+     *
+     * @param queryName  Name of the query, for the failure message
+     * @param pageUri    The Keyset Page URI of the List
+     * @param projection The columns to return
+     */
+    private void assertListPageUsesIndexes(String queryName, Uri pageUri, String[] projection) {
+        Pair<String, String[]> queryPairs = StoreContentProvider.buildShortInfoListQuery(pageUri, projection, null, null, null);
+        assertNoFullTableScan(queryName, queryPairs.first, queryPairs.second);
+    }
+
+    /**
+     * Method that runs EXPLAIN QUERY PLAN on the {@code query} and fails when
+     * any step of the plan is a full table scan.
+     *
+     * @param queryName     Name of the query, for the failure message
+     * @param query         The query to check
+     * @param selectionArgs The arguments of the query
+     */
+    private void assertNoFullTableScan(String queryName, String query, String[] selectionArgs) {
+        List<String> planDetails = new ArrayList<>();
+        Cursor cursor = mDatabase.rawQuery("EXPLAIN QUERY PLAN " + query, selectionArgs);
+        try {
+            int detailColumnIndex = cursor.getColumnIndexOrThrow("detail");
+            while (cursor.moveToNext()) {
+                planDetails.add(cursor.getString(detailColumnIndex));
+            }
+        } finally {
+            cursor.close();
+        }
+
+        assertTrue(queryName + " has no query plan", !planDetails.isEmpty());
+        for (String planDetail : planDetails) {
+            if (FULL_TABLE_SCAN_PATTERN.matcher(planDetail).matches()) {
+                fail(queryName + " scans a full table: " + planDetail + "\nQuery plan: " + planDetails);
+            }
+        }
+    }
+}
@@ -16,23 +16,65 @@
 
 package com.example.kaushiknsanji.storeapp.cache;
 
+import android.content.ComponentCallbacks2;
+import android.content.Context;
+import android.content.res.Configuration;
 import android.graphics.Bitmap;
+import android.os.SystemClock;
+import android.support.annotation.IntDef;
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+import android.support.annotation.WorkerThread;
 import android.support.v4.util.LruCache;
 
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLongArray;
+
 /**
- * Class that saves the Bitmaps downloaded, in a Memory Cache {@link LruCache}
+ * Class that saves the Bitmaps downloaded, in a Memory Cache {@link LruCache}, backed by
+ * a persistent Disk Cache {@link DiskThumbnailCache} of their Thumbnails that survives process restarts.
+ * The encoded bytes of the Thumbnails read from or written to the Disk Cache are also held in the
+ * memory-mapped {@link CompressedThumbnailCache}, which serves them without any file I/O.
+ * <p>
+ * <p>The Bitmaps evicted from the Memory Cache are neither pooled nor recycled, as these may still
+ * be displayed by the ImageViews bound to them. These are released to the garbage collector
+ * once no longer referenced.</p>
+ * <p>The Memory Cache shrinks in response to the {@link ComponentCallbacks2#onTrimMemory(int)} levels,
+ * and grows back to its original size once the memory pressure has passed. The statistics of the
+ * Cache and the decode latencies are available through {@link #getStats(Context)} for diagnostics.</p>
  *
  * @author Kaushik N Sanji
  */
 public class BitmapImageCache {
     //Constant for Cache size of the Memory Cache
     private static final int DEFAULT_CACHE_SIZE = 25 * 1024 * 1024; //25MB in bytes
+    //Constant for the time after the last trim, after which the Memory Cache is restored to its original size
+    private static final long RESTORE_SIZE_DELAY_MILLIS = 30 * 1000; //30 seconds
+
+    //Constants for the sources of the Bitmaps decoded, for the decode latency statistics
+    public static final int DECODE_SOURCE_DISK_CACHE = 0;
+    public static final int DECODE_SOURCE_DEFAULT_THUMBNAIL = 1;
+    public static final int DECODE_SOURCE_CONTENT_URI = 2;
+    //The number of sources of the Bitmaps decoded
+    private static final int DECODE_SOURCE_COUNT = 3;
 
     //For the Singleton instance of this
     private static volatile BitmapImageCache INSTANCE;
 
     //Memory Cache to save the Bitmaps downloaded
     private LruCache<String, Bitmap> mMemoryCache;
+    //The original size of the Memory Cache in bytes, before any trim
+    private final int mBaseCacheSize;
+    //The time of the last trim of the Memory Cache, in millis since boot
+    private volatile long mLastTrimMillis;
+    //Indicates whether the Memory Cache is registered for the trim memory callbacks
+    private final AtomicBoolean mMemoryCallbacksRegistered = new AtomicBoolean(false);
+    //Counters of the Bitmaps decoded and the total time taken to decode them in nanos, by their source
+    private final AtomicLongArray mDecodeCounts = new AtomicLongArray(DECODE_SOURCE_COUNT);
+    private final AtomicLongArray mDecodeNanos = new AtomicLongArray(DECODE_SOURCE_COUNT);
 
     /**
      * Private Constructor of {@link BitmapImageCache}
@@ -44,6 +86,7 @@ public class BitmapImageCache {
         final int maxMemoryThreshold = maxMemory / 8;
         //Selecting the cache size based on the current availability
         final int cacheSizeSelected = DEFAULT_CACHE_SIZE > maxMemoryThreshold ? maxMemoryThreshold : DEFAULT_CACHE_SIZE;
+        mBaseCacheSize = cacheSizeSelected;
 
         //Initializing the Memory Cache
         mMemoryCache = new LruCache<String, Bitmap>(cacheSizeSelected) {
@@ -80,32 +123,435 @@ public class BitmapImageCache {
     }
 
     /**
-     * Method that retrieves the Bitmap Image from Memory Cache for the given Image URL
+     * Method that builds the Key of the Bitmap Image in the Memory Cache, from the Image URL and the
+     * target size bucket the Image was decoded for, so that each size of an Image is cached separately.
      *
-     * @param imageURLStr String containing the Image URL whose Bitmap needs to be retrieved from Memory Cache
-     * @return Bitmap of the Image for the Image URL mentioned
+     * @param imageURLStr String containing the Image URL
+     * @param targetW     The target width bucket in pixels
+     * @param targetH     The target height bucket in pixels
+     * @return The Key of the Bitmap Image in the Memory Cache
      */
-    public static Bitmap getBitmapFromCache(String imageURLStr) {
-        return getInstance().mMemoryCache.get(imageURLStr);
+    public static String buildCacheKey(String imageURLStr, int targetW, int targetH) {
+        return imageURLStr + "#" + targetW + "x" + targetH;
     }
 
     /**
-     * Method that adds the Bitmap Image to Memory Cache with the Image URL String as the Key
+     * Method that retrieves the Bitmap Image from Memory Cache for the given Key
      *
-     * @param imageURLStr String containing the Image URL used as the Key to store in Memory Cache
-     * @param bitmap      Bitmap Image downloaded from the Image URL passed
+     * @param cacheKeyStr String containing the Key built by {@link #buildCacheKey(String, int, int)}
+     *                    whose Bitmap needs to be retrieved from Memory Cache
+     * @return Bitmap of the Image for the Key mentioned
+     */
+    public static Bitmap getBitmapFromCache(String cacheKeyStr) {
+        return getInstance().mMemoryCache.get(cacheKeyStr);
+    }
+
+    /**
+     * Method that adds the Bitmap Image to Memory Cache with the Key built by {@link #buildCacheKey(String, int, int)}
+     *
+     * @param cacheKeyStr String containing the Key to store in Memory Cache
+     * @param bitmap      Bitmap Image downloaded for the Key passed
      */
-    public static void addBitmapToCache(String imageURLStr, Bitmap bitmap) {
-        if (getBitmapFromCache(imageURLStr) == null
+    public static void addBitmapToCache(String cacheKeyStr, Bitmap bitmap) {
+        if (getBitmapFromCache(cacheKeyStr) == null
                 && bitmap != null) {
-            getInstance().mMemoryCache.put(imageURLStr, bitmap);
+            BitmapImageCache bitmapImageCache = getInstance();
+            //Restoring the size of the Memory Cache when the memory pressure has passed
+            bitmapImageCache.restoreSizeIfDue();
+            bitmapImageCache.mMemoryCache.put(cacheKeyStr, bitmap);
         }
     }
 
     /**
-     * Method that clears the entire Memory Cache
+     * Method that retrieves the Thumbnail Bitmap from the Disk Cache for the given Image URL
+     * and the target size of the Thumbnail.
+     *
+     * @param context     A {@link Context} to open the Disk Cache
+     * @param imageURLStr String containing the Image URL whose Thumbnail needs to be retrieved from Disk Cache
+     * @param targetW     The target width of the Thumbnail in pixels
+     * @param targetH     The target height of the Thumbnail in pixels
+     * @return Bitmap of the Thumbnail for the Image URL mentioned when present in the Disk Cache;
+     * otherwise {@code null}
+     */
+    @WorkerThread
+    @Nullable
+    public static Bitmap getBitmapFromDiskCache(@NonNull Context context, String imageURLStr, int targetW, int targetH) {
+        //Looking up for the encoded Thumbnail in the Compressed Cache first
+        String cacheKeyStr = buildCacheKey(imageURLStr, targetW, targetH);
+        CompressedThumbnailCache compressedThumbnailCache = CompressedThumbnailCache.getInstance(context);
+        Bitmap thumbnailBitmap = compressedThumbnailCache.get(cacheKeyStr);
+        if (thumbnailBitmap != null) {
+            //Returning the Thumbnail decoded from the Compressed Cache
+            return thumbnailBitmap;
+        }
+
+        //Reading the encoded Thumbnail from the Disk Cache
+        DiskThumbnailCache diskThumbnailCache = DiskThumbnailCache.getInstance(context);
+        byte[] thumbnailBytes = diskThumbnailCache.getBytes(imageURLStr, targetW, targetH);
+        if (thumbnailBytes == null) {
+            //Returning null when the Thumbnail is not present
+            return null;
+        }
+
+        //Decoding the Thumbnail read
+        thumbnailBitmap = CompressedThumbnailCache.decodeThumbnail(thumbnailBytes, thumbnailBytes.length);
+        if (thumbnailBitmap == null) {
+            //Removing the Thumbnail that could not be decoded
+            diskThumbnailCache.remove(imageURLStr, targetW, targetH);
+            return null;
+        }
+
+        //Promoting the encoded Thumbnail to the Compressed Cache
+        compressedThumbnailCache.put(cacheKeyStr, thumbnailBytes);
+        //Returning the Thumbnail decoded
+        return thumbnailBitmap;
+    }
+
+    /**
+     * Method that adds the Thumbnail of the Bitmap Image to Disk Cache with the Image URL String
+     * and the target size of the Thumbnail as the Key
+     *
+     * @param context     A {@link Context} to open the Disk Cache
+     * @param imageURLStr String containing the Image URL used as the Key to store in Disk Cache
+     * @param targetW     The target width of the Thumbnail in pixels
+     * @param targetH     The target height of the Thumbnail in pixels
+     * @param bitmap      Bitmap Image downloaded from the Image URL passed
+     */
+    @WorkerThread
+    public static void addBitmapToDiskCache(@NonNull Context context, String imageURLStr, int targetW, int targetH, Bitmap bitmap) {
+        if (bitmap != null) {
+            //Writing the encoded Thumbnail to the Disk Cache, and holding the same bytes in the Compressed Cache
+            byte[] thumbnailBytes = DiskThumbnailCache.getInstance(context).put(imageURLStr, targetW, targetH, bitmap);
+            CompressedThumbnailCache.getInstance(context).put(buildCacheKey(imageURLStr, targetW, targetH), thumbnailBytes);
+        }
+    }
+
+    /**
+     * Method that registers the Memory Cache for the trim memory callbacks of the Application,
+     * to shrink the Memory Cache as per the memory pressure. Registers only once, for the lifetime of the process.
+     *
+     * @param context A {@link Context} to derive the Application Context to register with
+     */
+    public static void registerMemoryCallbacks(@NonNull Context context) {
+        BitmapImageCache bitmapImageCache = getInstance();
+        if (!bitmapImageCache.mMemoryCallbacksRegistered.compareAndSet(false, true)) {
+            //Returning when already registered
+            return;
+        }
+
+        context.getApplicationContext().registerComponentCallbacks(new ComponentCallbacks2() {
+            /**
+             * Called when the operating system has determined that it is a good
+             * time for a process to trim unneeded memory from its process.
+             *
+             * @param level The context of the trim, giving a hint of the amount of
+             *              trimming the application may like to perform.
+             */
+            @Override
+            public void onTrimMemory(int level) {
+                trimMemory(level);
+            }
+
+            /**
+             * Called by the system when the device configuration changes while your
+             * component is running.
+             *
+             * @param newConfig The new device configuration.
+             */
+            @Override
+            public void onConfigurationChanged(Configuration newConfig) {
+                //no-op
+            }
+
+            /**
+             * This is called when the overall system is running low on memory,
+             * and actively running processes should trim their memory usage.
+             */
+            @Override
+            public void onLowMemory() {
+                trimMemory(ComponentCallbacks2.TRIM_MEMORY_COMPLETE);
+            }
+        });
+    }
+
+    /**
+     * Method that shrinks the Memory Cache as per the trim memory {@code level}, and releases the
+     * {@link BitmapPool}. The more severe the level, the smaller the Memory Cache is made. When the
+     * App is about to be killed, the Memory Cache is emptied.
+     *
+     * @param level The trim memory level, one of the {@link ComponentCallbacks2} TRIM_MEMORY_* constants
+     */
+    public static void trimMemory(int level) {
+        BitmapImageCache bitmapImageCache = getInstance();
+        final int baseCacheSize = bitmapImageCache.mBaseCacheSize;
+
+        //Selecting the size of the Memory Cache for the level
+        int trimmedCacheSize;
+        if (level >= ComponentCallbacks2.TRIM_MEMORY_MODERATE) {
+            //When the App is in the middle or end of the background LRU list
+            trimmedCacheSize = baseCacheSize / 8;
+        } else if (level >= ComponentCallbacks2.TRIM_MEMORY_BACKGROUND) {
+            //When the App has entered the background LRU list
+            trimmedCacheSize = baseCacheSize / 4;
+        } else if (level >= ComponentCallbacks2.TRIM_MEMORY_UI_HIDDEN) {
+            //When the UI of the App is no longer visible
+            trimmedCacheSize = baseCacheSize / 2;
+        } else if (level >= ComponentCallbacks2.TRIM_MEMORY_RUNNING_CRITICAL) {
+            //When the device is extremely low on memory while the App is running
+            trimmedCacheSize = baseCacheSize / 4;
+        } else if (level >= ComponentCallbacks2.TRIM_MEMORY_RUNNING_LOW) {
+            //When the device is low on memory while the App is running
+            trimmedCacheSize = baseCacheSize / 2;
+        } else {
+            //When the device is beginning to run low on memory
+            trimmedCacheSize = baseCacheSize * 3 / 4;
+        }
+
+        bitmapImageCache.mLastTrimMillis = SystemClock.elapsedRealtime();
+        if (level >= ComponentCallbacks2.TRIM_MEMORY_COMPLETE) {
+            //Emptying the Memory Cache when the App is about to be killed
+            bitmapImageCache.mMemoryCache.evictAll();
+        }
+        if (trimmedCacheSize < bitmapImageCache.mMemoryCache.maxSize()) {
+            //Shrinking the Memory Cache, evicting the least recently used Bitmaps
+            bitmapImageCache.mMemoryCache.resize(trimmedCacheSize);
+        }
+
+        if (level >= ComponentCallbacks2.TRIM_MEMORY_RUNNING_LOW) {
+            //Releasing the pooled Bitmaps when the memory is low
+            BitmapPool.clearPool();
+        }
+    }
+
+    /**
+     * Method that restores the Memory Cache to its original size, when it was shrunk by a trim
+     * that occurred more than {@link #RESTORE_SIZE_DELAY_MILLIS} ago.
+     */
+    private void restoreSizeIfDue() {
+        if (mMemoryCache.maxSize() < mBaseCacheSize
+                && SystemClock.elapsedRealtime() - mLastTrimMillis > RESTORE_SIZE_DELAY_MILLIS) {
+            mMemoryCache.resize(mBaseCacheSize);
+        }
+    }
+
+    /**
+     * Method that records the time taken to decode a Bitmap from the {@code decodeSource},
+     * for the decode latency statistics.
+     *
+     * @param decodeSource The source of the Bitmap decoded, one of {@link #DECODE_SOURCE_DISK_CACHE},
+     *                     {@link #DECODE_SOURCE_DEFAULT_THUMBNAIL} or {@link #DECODE_SOURCE_CONTENT_URI}
+     * @param elapsedNanos The time taken to decode the Bitmap in nanos
+     */
+    public static void recordDecode(@DecodeSource int decodeSource, long elapsedNanos) {
+        BitmapImageCache bitmapImageCache = getInstance();
+        bitmapImageCache.mDecodeCounts.incrementAndGet(decodeSource);
+        bitmapImageCache.mDecodeNanos.addAndGet(decodeSource, elapsedNanos);
+    }
+
+    /**
+     * Method that returns a snapshot of the statistics of the Memory Cache, the {@link BitmapPool}
+     * and the decode latencies, for diagnostics.
+     *
+     * @param context A {@link Context} to open the Compressed Cache
+     * @return The {@link CacheStats} at this moment
+     */
+    @NonNull
+    public static CacheStats getStats(@NonNull Context context) {
+        return new CacheStats(getInstance(), CompressedThumbnailCache.getInstance(context));
+    }
+
+    /**
+     * Method that clears the entire Memory Cache and the {@link BitmapPool}. The Disk Cache is retained
+     * to serve the Thumbnails after restarts.
      */
     public static void clearCache() {
         getInstance().mMemoryCache.evictAll();
+        //Releasing the pooled Bitmaps
+        BitmapPool.clearPool();
+    }
+
+    //Defining Annotation interface for valid sources of the Bitmaps decoded
+    //Enumerating Annotation with the valid sources of the Bitmaps decoded
+    //Retains annotation till Compile Time
+    @IntDef({DECODE_SOURCE_DISK_CACHE, DECODE_SOURCE_DEFAULT_THUMBNAIL, DECODE_SOURCE_CONTENT_URI})
+    @Retention(RetentionPolicy.SOURCE)
+    public @interface DecodeSource {
+    }
+
+    /**
+     * Immutable snapshot of the statistics of the Memory Cache, the {@link BitmapPool} and
+     * the decode latencies by the source of the Bitmaps decoded. The hits and misses of the
+     * Memory Cache include the lookups made by the prefetches.
+     */
+    public static final class CacheStats {
+        //Counters of the Memory Cache
+        private final int mHitCount;
+        private final int mMissCount;
+        private final int mEvictionCount;
+        //Sizes of the Memory Cache in bytes
+        private final int mSizeBytes;
+        private final int mMaxSizeBytes;
+        private final int mBaseMaxSizeBytes;
+        //Counters of the BitmapPool
+        private final long mPoolHitCount;
+        private final long mPoolMissCount;
+        //Counters and the bytes in use of the Compressed Cache
+        private final long mCompressedHitCount;
+        private final long mCompressedMissCount;
+        private final int mCompressedSizeBytes;
+        //Counters and total time in nanos of the Bitmaps decoded, by their source
+        private final long[] mDecodeCounts = new long[DECODE_SOURCE_COUNT];
+        private final long[] mDecodeNanos = new long[DECODE_SOURCE_COUNT];
+
+        /**
+         * Constructor of {@link CacheStats}
+         *
+         * @param bitmapImageCache         The {@link BitmapImageCache} to read the statistics from
+         * @param compressedThumbnailCache The {@link CompressedThumbnailCache} to read the statistics from
+         */
+        private CacheStats(BitmapImageCache bitmapImageCache, CompressedThumbnailCache compressedThumbnailCache) {
+            LruCache<String, Bitmap> memoryCache = bitmapImageCache.mMemoryCache;
+            mHitCount = memoryCache.hitCount();
+            mMissCount = memoryCache.missCount();
+            mEvictionCount = memoryCache.evictionCount();
+            mSizeBytes = memoryCache.size();
+            mMaxSizeBytes = memoryCache.maxSize();
+            mBaseMaxSizeBytes = bitmapImageCache.mBaseCacheSize;
+            mPoolHitCount = BitmapPool.getHitCount();
+            mPoolMissCount = BitmapPool.getMissCount();
+            mCompressedHitCount = compressedThumbnailCache.getHitCount();
+            mCompressedMissCount = compressedThumbnailCache.getMissCount();
+            mCompressedSizeBytes = compressedThumbnailCache.getUsedBytes();
+            for (int decodeSource = 0; decodeSource < DECODE_SOURCE_COUNT; decodeSource++) {
+                mDecodeCounts[decodeSource] = bitmapImageCache.mDecodeCounts.get(decodeSource);
+                mDecodeNanos[decodeSource] = bitmapImageCache.mDecodeNanos.get(decodeSource);
+            }
+        }
+
+        /**
+         * @return The number of lookups that found the Bitmap in the Memory Cache
+         */
+        public int getHitCount() {
+            return mHitCount;
+        }
+
+        /**
+         * @return The number of lookups that did not find the Bitmap in the Memory Cache
+         */
+        public int getMissCount() {
+            return mMissCount;
+        }
+
+        /**
+         * @return The ratio of the lookups that found the Bitmap in the Memory Cache, between 0 and 1
+         */
+        public float getHitRate() {
+            int lookupCount = mHitCount + mMissCount;
+            return (lookupCount > 0) ? (float) mHitCount / lookupCount : 0f;
+        }
+
+        /**
+         * @return The number of Bitmaps evicted from the Memory Cache
+         */
+        public int getEvictionCount() {
+            return mEvictionCount;
+        }
+
+        /**
+         * @return The bytes in use by the Bitmaps in the Memory Cache
+         */
+        public int getSizeBytes() {
+            return mSizeBytes;
+        }
+
+        /**
+         * @return The current maximum size of the Memory Cache in bytes, which is lower than
+         * {@link #getBaseMaxSizeBytes()} when shrunk by a trim
+         */
+        public int getMaxSizeBytes() {
+            return mMaxSizeBytes;
+        }
+
+        /**
+         * @return The original maximum size of the Memory Cache in bytes, selected for the device
+         */
+        public int getBaseMaxSizeBytes() {
+            return mBaseMaxSizeBytes;
+        }
+
+        /**
+         * @return The number of decodes that reused a Bitmap from the {@link BitmapPool}
+         */
+        public long getPoolHitCount() {
+            return mPoolHitCount;
+        }
+
+        /**
+         * @return The number of decodes that did not find a Bitmap to reuse in the {@link BitmapPool}
+         */
+        public long getPoolMissCount() {
+            return mPoolMissCount;
+        }
+
+        /**
+         * @return The number of lookups that found the encoded Thumbnail in the Compressed Cache
+         */
+        public long getCompressedHitCount() {
+            return mCompressedHitCount;
+        }
+
+        /**
+         * @return The number of lookups that did not find the encoded Thumbnail in the Compressed Cache
+         */
+        public long getCompressedMissCount() {
+            return mCompressedMissCount;
+        }
+
+        /**
+         * @return The bytes in use by the encoded Thumbnails in the Compressed Cache
+         */
+        public int getCompressedSizeBytes() {
+            return mCompressedSizeBytes;
+        }
+
+        /**
+         * Method that returns the number of Bitmaps decoded from the {@code decodeSource}
+         *
+         * @param decodeSource The source of the Bitmaps decoded
+         * @return The number of Bitmaps decoded from the {@code decodeSource}
+         */
+        public long getDecodeCount(@DecodeSource int decodeSource) {
+            return mDecodeCounts[decodeSource];
+        }
+
+        /**
+         * Method that returns the average time taken to decode a Bitmap from the {@code decodeSource}
+         *
+         * @param decodeSource The source of the Bitmaps decoded
+         * @return The average decode latency in millis; or 0 when nothing was decoded from the {@code decodeSource}
+         */
+        public double getAverageDecodeMillis(@DecodeSource int decodeSource) {
+            return (mDecodeCounts[decodeSource] > 0) ?
+                    mDecodeNanos[decodeSource] / (mDecodeCounts[decodeSource] * 1_000_000d) : 0d;
+        }
+
+        /**
+         * Returns a string representation of the statistics, for logging.
+         *
+         * @return A string representation of the statistics
+         */
+        @Override
+        public String toString() {
+            return String.format(Locale.US,
+                    "CacheStats{hits=%d, misses=%d, hitRate=%.2f, evictions=%d, size=%dKB, maxSize=%dKB, baseMaxSize=%dKB, "
+                            + "poolHits=%d, poolMisses=%d, compressedHits=%d, compressedMisses=%d, compressedSize=%dKB, diskDecodes=%d@%.1fms, thumbnailDecodes=%d@%.1fms, uriDecodes=%d@%.1fms}",
+                    mHitCount, mMissCount, getHitRate(), mEvictionCount,
+                    mSizeBytes / 1024, mMaxSizeBytes / 1024, mBaseMaxSizeBytes / 1024,
+                    mPoolHitCount, mPoolMissCount,
+                    mCompressedHitCount, mCompressedMissCount, mCompressedSizeBytes / 1024,
+                    mDecodeCounts[DECODE_SOURCE_DISK_CACHE], getAverageDecodeMillis(DECODE_SOURCE_DISK_CACHE),
+                    mDecodeCounts[DECODE_SOURCE_DEFAULT_THUMBNAIL], getAverageDecodeMillis(DECODE_SOURCE_DEFAULT_THUMBNAIL),
+                    mDecodeCounts[DECODE_SOURCE_CONTENT_URI], getAverageDecodeMillis(DECODE_SOURCE_CONTENT_URI));
+        }
     }
 }
@@ -0,0 +1,307 @@
+/*
+ * Copyright 2018 Kaushik N. Sanji
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.example.kaushiknsanji.storeapp.cache;
+
+import android.graphics.Bitmap;
+import android.os.Build;
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Class that pools the mutable Bitmaps no longer in use, in buckets of their allocation size,
+ * so that the decoder can reuse their memory through {@link android.graphics.BitmapFactory.Options#inBitmap}
+ * instead of allocating a new Bitmap for every decode.
+ * <p>
+ * <p>The Pool is fed only by the intermediate Bitmaps discarded by the decoder, which are never displayed.
+ * The Bitmaps evicted from the {@link BitmapImageCache} are not pooled, as these may still be
+ * displayed, and decoding into them or recycling them would corrupt or crash the Views drawing them.</p>
+ *
+ * @author Kaushik N Sanji
+ */
+public class BitmapPool {
+    //Constant for the maximum size of the Pool
+    private static final int DEFAULT_POOL_SIZE = 8 * 1024 * 1024; //8MB in bytes
+    //Constant for the factor by which a pooled Bitmap can be larger than the Bitmap required,
+    //to avoid holding up large Bitmaps for the small decodes
+    private static final int MAX_SIZE_MULTIPLE = 4;
+
+    //For the Singleton instance of this
+    private static volatile BitmapPool INSTANCE;
+
+    //The Buckets of the pooled Bitmaps, keyed by their allocation size in bytes
+    private final TreeMap<Integer, ArrayDeque<Bitmap>> mBuckets = new TreeMap<>();
+    //The maximum size of the Pool in bytes
+    private final int mMaxSize;
+    //The current size of the Pool in bytes
+    private int mCurrentSize;
+    //Counters of the requests served and not served by the Pool
+    private final AtomicLong mHitCount = new AtomicLong();
+    private final AtomicLong mMissCount = new AtomicLong();
+
+    /**
+     * Private Constructor of {@link BitmapPool}
+     */
+    private BitmapPool() {
+        //Retrieving the current Max Memory available (in bytes)
+        final int maxMemory = (int) Runtime.getRuntime().maxMemory();
+        //Calculating the safe usable Max Memory which is 1/16th of the current Max Memory available
+        final int maxMemoryThreshold = maxMemory / 16;
+        //Selecting the pool size based on the current availability
+        mMaxSize = DEFAULT_POOL_SIZE > maxMemoryThreshold ? maxMemoryThreshold : DEFAULT_POOL_SIZE;
+    }
+
+    /**
+     * Singleton Constructor of {@link BitmapPool}
+     *
+     * @return Instance of {@link BitmapPool}
+     */
+    private static BitmapPool getInstance() {
+        if (INSTANCE == null) {
+            synchronized (BitmapPool.class) {
+                if (INSTANCE == null) {
+                    //Creating the instance when not available
+                    INSTANCE = new BitmapPool();
+                }
+            }
+        }
+        //Using the previously created instance
+        return INSTANCE;
+    }
+
+    /**
+     * Method that adds the Bitmap {@code bitmap} no longer in use to the Pool, for reuse
+     * by the later decodes. Bitmaps that cannot be reused are recycled instead. Hence the
+     * {@code bitmap} must not be referenced by any View or Cache.
+     *
+     * @param bitmap The {@link Bitmap} no longer in use, that was never displayed
+     */
+    public static void addReusableBitmap(@Nullable Bitmap bitmap) {
+        if (bitmap == null || bitmap.isRecycled()) {
+            //Ignoring when there is no Bitmap to pool
+            return;
+        }
+
+        if (!bitmap.isMutable()) {
+            //Recycling the immutable Bitmaps as these cannot be decoded into
+            bitmap.recycle();
+            return;
+        }
+
+        getInstance().put(bitmap);
+    }
+
+    /**
+     * Method that removes and returns a pooled Bitmap that can be decoded into, for decoding
+     * an Image of the given dimensions and configuration.
+     *
+     * @param width        The width of the decoded Image in pixels
+     * @param height       The height of the decoded Image in pixels
+     * @param config       The {@link Bitmap.Config} of the decoded Image
+     * @param inSampleSize The sampling of the decode. Prior to KitKat, a Bitmap can be
+     *                     decoded into only when there is no sampling.
+     * @return A pooled {@link Bitmap} that can be reused for the decode; otherwise {@code null}
+     */
+    @Nullable
+    public static Bitmap getReusableBitmap(int width, int height, @NonNull Bitmap.Config config, int inSampleSize) {
+        //Looking up the Bitmap to reuse
+        Bitmap reusableBitmap = null;
+        if (width > 0 && height > 0
+                && (Build.VERSION.SDK_INT >= Build.VERSION_CODES.KITKAT || inSampleSize == 1)) {
+            reusableBitmap = getInstance().take(width, height, config);
+        }
+
+        //Updating the counters
+        if (reusableBitmap != null) {
+            getInstance().mHitCount.incrementAndGet();
+        } else {
+            getInstance().mMissCount.incrementAndGet();
+        }
+
+        //Returning the Bitmap found if any
+        return reusableBitmap;
+    }
+
+    /**
+     * Method that returns the number of decodes that reused a pooled Bitmap.
+     *
+     * @return The number of hits in the Pool
+     */
+    public static long getHitCount() {
+        return getInstance().mHitCount.get();
+    }
+
+    /**
+     * Method that returns the number of decodes that did not find a pooled Bitmap to reuse.
+     *
+     * @return The number of misses in the Pool
+     */
+    public static long getMissCount() {
+        return getInstance().mMissCount.get();
+    }
+
+    /**
+     * Method that recycles all the Bitmaps in the Pool.
+     */
+    public static void clearPool() {
+        getInstance().trimToSize(0);
+    }
+
+    /**
+     * Method that returns the number of bytes required for a Bitmap of the given dimensions and configuration.
+     *
+     * @param width  The width of the Bitmap in pixels
+     * @param height The height of the Bitmap in pixels
+     * @param config The {@link Bitmap.Config} of the Bitmap
+     * @return The number of bytes required for the Bitmap
+     */
+    private static int getByteCount(int width, int height, Bitmap.Config config) {
+        //Reading the number of bytes per pixel of the configuration
+        int bytesPerPixel;
+        switch (config) {
+            case ALPHA_8:
+                bytesPerPixel = 1;
+                break;
+            case RGB_565:
+            case ARGB_4444:
+                bytesPerPixel = 2;
+                break;
+            default:
+                bytesPerPixel = 4;
+        }
+        return width * height * bytesPerPixel;
+    }
+
+    /**
+     * Method that returns the number of bytes allocated for the {@code bitmap}, which is the
+     * size it can be reconfigured to when reused.
+     *
+     * @param bitmap The {@link Bitmap} whose allocation size is required
+     * @return The number of bytes allocated for the {@code bitmap}
+     */
+    private static int getAllocationByteCount(Bitmap bitmap) {
+        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.KITKAT) {
+            return bitmap.getAllocationByteCount();
+        }
+        return bitmap.getByteCount();
+    }
+
+    /**
+     * Method that adds the {@code bitmap} to its Bucket, and trims the Pool to its maximum size.
+     *
+     * @param bitmap The mutable {@link Bitmap} to be pooled
+     */
+    private synchronized void put(Bitmap bitmap) {
+        //Reading the size of the Bitmap
+        int size = getAllocationByteCount(bitmap);
+        if (size > mMaxSize) {
+            //Recycling the Bitmaps too large for the Pool
+            bitmap.recycle();
+            return;
+        }
+
+        //Adding the Bitmap to its Bucket
+        ArrayDeque<Bitmap> bucket = mBuckets.get(size);
+        if (bucket == null) {
+            bucket = new ArrayDeque<>();
+            mBuckets.put(size, bucket);
+        }
+        bucket.addLast(bitmap);
+        mCurrentSize += size;
+
+        //Trimming the Pool to its maximum size
+        trimToSize(mMaxSize);
+    }
+
+    /**
+     * Method that removes and returns a pooled Bitmap that can be reused for a Bitmap of the
+     * given dimensions and configuration. From KitKat, any Bitmap large enough can be reconfigured
+     * for the decode, whereas prior to KitKat, the Bitmap needs to be of the same dimensions.
+     *
+     * @param width  The width of the Bitmap required in pixels
+     * @param height The height of the Bitmap required in pixels
+     * @param config The {@link Bitmap.Config} of the Bitmap required
+     * @return A pooled {@link Bitmap} that can be reused; otherwise {@code null}
+     */
+    @Nullable
+    private synchronized Bitmap take(int width, int height, Bitmap.Config config) {
+        //Reading the size of the Bitmap required
+        int requiredSize = getByteCount(width, height, config);
+
+        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.KITKAT) {
+            //Looking for the smallest Bucket large enough, but not too large for the Bitmap required
+            Map.Entry<Integer, ArrayDeque<Bitmap>> bucketEntry = mBuckets.ceilingEntry(requiredSize);
+            if (bucketEntry != null && bucketEntry.getKey() <= requiredSize * MAX_SIZE_MULTIPLE) {
+                return removeFromBucket(bucketEntry.getKey(), bucketEntry.getValue().pollLast());
+            }
+        } else {
+            //Looking for a Bitmap of the same dimensions and configuration in the Bucket of the same size
+            ArrayDeque<Bitmap> bucket = mBuckets.get(requiredSize);
+            if (bucket != null) {
+                Iterator<Bitmap> bitmapIterator = bucket.descendingIterator();
+                while (bitmapIterator.hasNext()) {
+                    Bitmap bitmap = bitmapIterator.next();
+                    if (bitmap.getWidth() == width && bitmap.getHeight() == height && bitmap.getConfig() == config) {
+                        bitmapIterator.remove();
+                        return removeFromBucket(requiredSize, bitmap);
+                    }
+                }
+            }
+        }
+
+        //Returning NULL when there is no Bitmap to reuse
+        return null;
+    }
+
+    /**
+     * Method that accounts for the {@code bitmap} taken out of the Bucket of {@code size},
+     * and removes the Bucket when emptied.
+     *
+     * @param size   The allocation size of the Bucket in bytes
+     * @param bitmap The {@link Bitmap} taken out of the Bucket
+     * @return The {@code bitmap} taken out of the Bucket
+     */
+    private Bitmap removeFromBucket(int size, Bitmap bitmap) {
+        mCurrentSize -= size;
+        //Removing the Bucket when emptied
+        ArrayDeque<Bitmap> bucket = mBuckets.get(size);
+        if (bucket != null && bucket.isEmpty()) {
+            mBuckets.remove(size);
+        }
+        return bitmap;
+    }
+
+    /**
+     * Method that recycles the pooled Bitmaps, starting from the largest Bucket, until the
+     * size of the Pool is within the {@code maxSize}. The largest Bitmaps are discarded first, as these
+     * are reused the least by the thumbnail decodes.
+     *
+     * @param maxSize The maximum size of the Pool in bytes
+     */
+    private synchronized void trimToSize(int maxSize) {
+        while (mCurrentSize > maxSize && !mBuckets.isEmpty()) {
+            //Recycling a Bitmap from the largest Bucket
+            Map.Entry<Integer, ArrayDeque<Bitmap>> bucketEntry = mBuckets.lastEntry();
+            removeFromBucket(bucketEntry.getKey(), bucketEntry.getValue().pollFirst()).recycle();
+        }
+    }
+}
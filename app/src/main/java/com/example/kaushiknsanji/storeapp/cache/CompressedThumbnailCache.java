@@ -0,0 +1,403 @@
+/*
+ * Copyright 2018 Kaushik N. Sanji
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.example.kaushiknsanji.storeapp.cache;
+
+import android.content.Context;
+import android.graphics.Bitmap;
+import android.graphics.BitmapFactory;
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+import android.support.annotation.WorkerThread;
+import android.util.Log;
+
+import com.example.kaushiknsanji.storeapp.utils.AppConstants;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Class that holds the encoded (JPEG) bytes of the Thumbnails in a memory-mapped arena file, as
+ * the intermediate tier between the Memory Cache of decoded Bitmaps and the {@link DiskThumbnailCache}.
+ * The arena lives outside of the Java heap, hence it can hold the Thumbnails of a large catalog
+ * at a fraction of the memory of their decoded Bitmaps, and a Thumbnail found here is decoded in
+ * memory without any file lookup or ContentResolver I/O.
+ * <p>
+ * <p>The arena is written as a ring: Thumbnails are appended one after the other, and the oldest
+ * Thumbnails are overwritten when the arena wraps around. A Thumbnail read from the older half of the arena
+ * is appended again, so that the frequently used Thumbnails survive the wrap. The Index of the arena is
+ * kept only in memory, hence the arena starts empty on every process start and is refilled from
+ * the {@link DiskThumbnailCache}.</p>
+ * <p>
+ * <p>This is accessed only through {@link BitmapImageCache}, and only from worker threads.</p>
+ *
+ * @author Kaushik N Sanji
+ */
+final class CompressedThumbnailCache {
+
+    //Constant used for logs
+    private static final String LOG_TAG = CompressedThumbnailCache.class.getSimpleName();
+
+    //Constant for the smallest size of the arena, below which the arena is not mapped
+    private static final int MIN_ARENA_SIZE = 1024 * 1024; //1MB in bytes
+    //Constant for the largest share of the free space in the Cache directory taken up by the arena
+    private static final int FREE_SPACE_DIVISOR = 10;
+    //Constant for the largest Thumbnail held in the arena, as a fraction of the arena size
+    private static final int MAX_ENTRY_SIZE_DIVISOR = 16;
+    //Constant for the name of the arena file in the App's Cache directory
+    private static final String ARENA_FILE_NAME = "thumbnails.arena";
+
+    //For the Singleton instance of this
+    private static volatile CompressedThumbnailCache INSTANCE;
+
+    //Buffer of each worker thread for reading the Thumbnails out of the arena for decoding
+    private static final ThreadLocal<byte[]> sReadBuffer = new ThreadLocal<>();
+
+    //The memory-mapped arena, or null when the arena could not be mapped
+    private final MappedByteBuffer mArena;
+    //The size of the arena in bytes
+    private final int mArenaSize;
+    //Index of the Thumbnails in the arena, in the order they were written
+    private final LinkedHashMap<String, Slot> mSlots = new LinkedHashMap<>();
+    //The logical offset of the next write, which increases forever and wraps around the arena
+    private long mWriteOffset;
+    //The bytes of the arena used by the Thumbnails present
+    private int mUsedBytes;
+    //Counters of the lookups that found and did not find the Thumbnail in the arena
+    private final AtomicLong mHitCount = new AtomicLong();
+    private final AtomicLong mMissCount = new AtomicLong();
+
+    /**
+     * Private Constructor of {@link CompressedThumbnailCache}
+     *
+     * @param arenaFile The file to be memory-mapped as the arena
+     * @param arenaSize The size of the arena in bytes
+     */
+    private CompressedThumbnailCache(File arenaFile, int arenaSize) {
+        mArenaSize = arenaSize;
+        mArena = mapArena(arenaFile, arenaSize);
+    }
+
+    /**
+     * Singleton Constructor of {@link CompressedThumbnailCache}, which maps the arena
+     * on its first invocation.
+     *
+     * @param context A {@link Context} to retrieve the App's Cache directory
+     * @return Instance of {@link CompressedThumbnailCache}
+     */
+    @WorkerThread
+    static CompressedThumbnailCache getInstance(@NonNull Context context) {
+        if (INSTANCE == null) {
+            synchronized (CompressedThumbnailCache.class) {
+                if (INSTANCE == null) {
+                    //Creating the instance when not available
+                    File arenaFile = new File(context.getApplicationContext().getCacheDir(), ARENA_FILE_NAME);
+                    INSTANCE = new CompressedThumbnailCache(arenaFile, selectArenaSize(arenaFile));
+                }
+            }
+        }
+        //Using the previously created instance
+        return INSTANCE;
+    }
+
+    /**
+     * Method that selects the size of the arena, which is the size configured by
+     * {@link AppConstants#THUMBNAIL_ARENA_SIZE}, limited to a tenth of the free space available
+     * in the Cache directory, including the space held by the arena file of the previous process if any.
+     *
+     * @param arenaFile The file to be memory-mapped as the arena
+     * @return The size of the arena in bytes; or 0 when there is not enough free space for the arena
+     */
+    private static int selectArenaSize(File arenaFile) {
+        //Reading the free space available for the arena
+        long freeSpace = arenaFile.getParentFile().getUsableSpace() + arenaFile.length();
+        //Selecting the arena size based on the current availability
+        long arenaSize = Math.min(AppConstants.THUMBNAIL_ARENA_SIZE, freeSpace / FREE_SPACE_DIVISOR);
+        //Returning 0 when the arena would be too small to be of use
+        return arenaSize < MIN_ARENA_SIZE ? 0 : (int) arenaSize;
+    }
+
+    /**
+     * Method that memory-maps the {@code arenaFile} of {@code arenaSize} for reading and writing.
+     *
+     * @param arenaFile The file to be memory-mapped
+     * @param arenaSize The size of the arena in bytes
+     * @return The {@link MappedByteBuffer} of the arena; or {@code null} when the file could not be mapped,
+     * in which case the tier stays empty and every lookup falls through to the {@link DiskThumbnailCache}
+     */
+    @Nullable
+    private static MappedByteBuffer mapArena(File arenaFile, int arenaSize) {
+        if (arenaSize <= 0) {
+            //Releasing the space of the arena file of the previous process, when there is no room for the arena
+            if (arenaFile.exists() && !arenaFile.delete()) {
+                Log.e(LOG_TAG, "mapArena: Failed to delete the arena file " + arenaFile);
+            }
+            return null;
+        }
+
+        //The mapping remains valid after the file and its channel are closed
+        try (RandomAccessFile randomAccessFile = new RandomAccessFile(arenaFile, "rw")) {
+            randomAccessFile.setLength(arenaSize);
+            return randomAccessFile.getChannel().map(FileChannel.MapMode.READ_WRITE, 0, arenaSize);
+        } catch (IOException e) {
+            Log.e(LOG_TAG, "mapArena: Failed to map the arena file " + arenaFile, e);
+            return null;
+        }
+    }
+
+    /**
+     * Method that decodes the Thumbnail Bitmap from its encoded bytes {@code data}, reusing
+     * a Bitmap from the {@link BitmapPool} when possible.
+     *
+     * @param data   The encoded bytes of the Thumbnail
+     * @param length The number of bytes of the Thumbnail in {@code data}
+     * @return The Thumbnail Bitmap decoded; or {@code null} when the {@code data} could not be decoded
+     */
+    @Nullable
+    static Bitmap decodeThumbnail(byte[] data, int length) {
+        //Reading the dimensions of the Thumbnail
+        BitmapFactory.Options options = new BitmapFactory.Options();
+        options.inJustDecodeBounds = true;
+        BitmapFactory.decodeByteArray(data, 0, length, options);
+        if (options.outWidth <= 0 || options.outHeight <= 0) {
+            //Returning null when the data is not a valid Image
+            return null;
+        }
+
+        //Decoding into a pooled Bitmap when available
+        options.inJustDecodeBounds = false;
+        options.inMutable = true;
+        options.inBitmap = BitmapPool.getReusableBitmap(options.outWidth, options.outHeight, Bitmap.Config.ARGB_8888, 1);
+        try {
+            return BitmapFactory.decodeByteArray(data, 0, length, options);
+        } catch (IllegalArgumentException e) {
+            if (options.inBitmap == null) {
+                //Rethrowing when the failure is not due to the pooled Bitmap
+                throw e;
+            }
+            //Recycling the pooled Bitmap that could not be reused, and decoding without it
+            options.inBitmap.recycle();
+            options.inBitmap = null;
+            return BitmapFactory.decodeByteArray(data, 0, length, options);
+        }
+    }
+
+    /**
+     * Method that retrieves and decodes the Thumbnail of {@code key} from the arena.
+     *
+     * @param key The Key of the Thumbnail, built by {@link BitmapImageCache#buildCacheKey(String, int, int)}
+     * @return Bitmap of the Thumbnail when present in the arena; otherwise {@code null}
+     */
+    @WorkerThread
+    @Nullable
+    Bitmap get(String key) {
+        //Stores the number of bytes of the Thumbnail read
+        int length;
+        //Buffer holding the Thumbnail read
+        byte[] data;
+
+        synchronized (this) {
+            Slot slot = mSlots.get(key);
+            if (slot == null) {
+                //Returning null when the Thumbnail is not present
+                mMissCount.incrementAndGet();
+                return null;
+            }
+
+            //Copying the Thumbnail out of the arena
+            length = slot.mLength;
+            data = obtainReadBuffer(length);
+            ByteBuffer arenaView = mArena.duplicate();
+            arenaView.position(slot.getPosition(mArenaSize));
+            arenaView.get(data, 0, length);
+
+            if (slot.mOffset < mWriteOffset - mArenaSize / 2) {
+                //Appending the Thumbnail again when it is in the older half of the arena,
+                //to keep it from being overwritten soon
+                removeSlot(key);
+                write(key, data, length);
+            }
+        }
+
+        //Decoding the Thumbnail outside of the lock
+        Bitmap thumbnailBitmap = decodeThumbnail(data, length);
+        if (thumbnailBitmap == null) {
+            //Removing the Thumbnail that could not be decoded
+            synchronized (this) {
+                removeSlot(key);
+            }
+            mMissCount.incrementAndGet();
+            return null;
+        }
+
+        mHitCount.incrementAndGet();
+        //Returning the Thumbnail decoded
+        return thumbnailBitmap;
+    }
+
+    /**
+     * Method that adds the encoded bytes of the Thumbnail of {@code key} to the arena, overwriting
+     * the oldest Thumbnails when the arena is full. Thumbnails too large for the arena are skipped.
+     *
+     * @param key  The Key of the Thumbnail, built by {@link BitmapImageCache#buildCacheKey(String, int, int)}
+     * @param data The encoded bytes of the Thumbnail
+     */
+    @WorkerThread
+    synchronized void put(String key, @Nullable byte[] data) {
+        if (mArena == null || data == null || data.length == 0
+                || data.length > mArenaSize / MAX_ENTRY_SIZE_DIVISOR || mSlots.containsKey(key)) {
+            //Returning when the arena is not usable, the Thumbnail is too large or already present
+            return;
+        }
+        write(key, data, data.length);
+    }
+
+    /**
+     * Method that returns the number of lookups that found the Thumbnail in the arena.
+     *
+     * @return The number of hits in the arena
+     */
+    long getHitCount() {
+        return mHitCount.get();
+    }
+
+    /**
+     * Method that returns the number of lookups that did not find the Thumbnail in the arena.
+     *
+     * @return The number of misses in the arena
+     */
+    long getMissCount() {
+        return mMissCount.get();
+    }
+
+    /**
+     * Method that returns the bytes of the arena used by the Thumbnails present.
+     *
+     * @return The bytes in use
+     */
+    synchronized int getUsedBytes() {
+        return mUsedBytes;
+    }
+
+    /**
+     * Method that appends the Thumbnail to the arena, evicting the Thumbnails overwritten by it.
+     * Thumbnails are never split across the end of the arena, the write wraps around to the start instead.
+     *
+     * @param key    The Key of the Thumbnail
+     * @param data   The encoded bytes of the Thumbnail
+     * @param length The number of bytes of the Thumbnail in {@code data}
+     */
+    private void write(String key, byte[] data, int length) {
+        //Wrapping around to the start of the arena when the Thumbnail does not fit at the end
+        int position = (int) (mWriteOffset % mArenaSize);
+        if (position + length > mArenaSize) {
+            mWriteOffset += mArenaSize - position;
+            position = 0;
+        }
+
+        //Evicting the oldest Thumbnails, that lie within the bytes about to be overwritten
+        long writeEndOffset = mWriteOffset + length;
+        Iterator<Map.Entry<String, Slot>> slotsIterator = mSlots.entrySet().iterator();
+        while (slotsIterator.hasNext()) {
+            Slot eldestSlot = slotsIterator.next().getValue();
+            if (eldestSlot.mOffset < writeEndOffset - mArenaSize) {
+                //Removing the Thumbnail overwritten
+                mUsedBytes -= eldestSlot.mLength;
+                slotsIterator.remove();
+            } else {
+                //Remaining Thumbnails are newer, hence not overwritten
+                break;
+            }
+        }
+
+        //Writing the Thumbnail into the arena
+        ByteBuffer arenaView = mArena.duplicate();
+        arenaView.position(position);
+        arenaView.put(data, 0, length);
+
+        //Recording the Thumbnail written
+        mSlots.put(key, new Slot(mWriteOffset, length));
+        mUsedBytes += length;
+        mWriteOffset = writeEndOffset;
+    }
+
+    /**
+     * Method that removes the Thumbnail of {@code key} from the Index. The bytes are
+     * left in the arena until overwritten.
+     *
+     * @param key The Key of the Thumbnail to be removed
+     */
+    private void removeSlot(String key) {
+        Slot slot = mSlots.remove(key);
+        if (slot != null) {
+            mUsedBytes -= slot.mLength;
+        }
+    }
+
+    /**
+     * Method that returns the read buffer of the current thread, grown to hold at least {@code length} bytes.
+     *
+     * @param length The number of bytes to be read
+     * @return The read buffer of the current thread
+     */
+    private static byte[] obtainReadBuffer(int length) {
+        byte[] readBuffer = sReadBuffer.get();
+        if (readBuffer == null || readBuffer.length < length) {
+            readBuffer = new byte[length];
+            sReadBuffer.set(readBuffer);
+        }
+        return readBuffer;
+    }
+
+    /**
+     * Class that records the location of a Thumbnail in the arena.
+     */
+    private static final class Slot {
+        //The logical offset of the Thumbnail, which maps to its position in the arena
+        final long mOffset;
+        //The number of bytes of the Thumbnail
+        final int mLength;
+
+        /**
+         * Constructor of {@link Slot}
+         *
+         * @param offset The logical offset of the Thumbnail
+         * @param length The number of bytes of the Thumbnail
+         */
+        Slot(long offset, int length) {
+            mOffset = offset;
+            mLength = length;
+        }
+
+        /**
+         * Method that returns the position of the Thumbnail in the arena.
+         *
+         * @param arenaSize The size of the arena in bytes
+         * @return The position of the Thumbnail in the arena
+         */
+        int getPosition(int arenaSize) {
+            return (int) (mOffset % arenaSize);
+        }
+    }
+}
@@ -0,0 +1,587 @@
+/*
+ * Copyright 2018 Kaushik N. Sanji
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.example.kaushiknsanji.storeapp.cache;
+
+import android.content.Context;
+import android.graphics.Bitmap;
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+import android.support.annotation.WorkerThread;
+import android.util.Log;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Class that saves the pre-scaled and recompressed Thumbnails of the Images in a size-bounded
+ * Disk Cache, in the App's Cache directory, so that they survive process restarts. Entries are keyed
+ * by the Image URL and the target size of the Thumbnail, and are evicted in the
+ * Least Recently Used order when the Cache grows beyond its size.
+ * <p>
+ * <p>The state of the Cache is recorded in an append-only Journal file that is replayed when the
+ * Cache is opened. Thumbnails are written to a temporary file and renamed into place before
+ * being recorded in the Journal, hence a crash can never leave a partially written Thumbnail
+ * behind a Journal entry. Files not recorded in the Journal are deleted on open.</p>
+ * <p>
+ * <p>This is accessed only through {@link BitmapImageCache}, and only from worker threads.</p>
+ *
+ * @author Kaushik N Sanji
+ */
+final class DiskThumbnailCache {
+
+    //Constant used for logs
+    private static final String LOG_TAG = DiskThumbnailCache.class.getSimpleName();
+
+    //Constant for Cache size of the Disk Cache
+    private static final long DEFAULT_CACHE_SIZE = 20 * 1024 * 1024; //20MB in bytes
+    //Name of the Cache directory within the App's Cache directory
+    private static final String CACHE_DIR_NAME = "thumbnails";
+    //Name of the Journal file
+    private static final String JOURNAL_FILE_NAME = "journal";
+    //Name of the temporary Journal file used while compacting the Journal
+    private static final String JOURNAL_TEMP_FILE_NAME = "journal.tmp";
+    //Extension of the temporary Thumbnail files being written
+    private static final String TEMP_FILE_EXT = ".tmp";
+    //Header line of the Journal that identifies its format
+    private static final String JOURNAL_HEADER = "storeapp.DiskThumbnailCache 1";
+
+    //Journal operations
+    private static final String JOURNAL_OP_CLEAN = "CLEAN";
+    private static final String JOURNAL_OP_READ = "READ";
+    private static final String JOURNAL_OP_REMOVE = "REMOVE";
+
+    //Number of redundant Journal lines after which the Journal is compacted
+    private static final int JOURNAL_REDUNDANT_OPS_THRESHOLD = 2000;
+
+    //Quality of the JPEG compression of the Thumbnails
+    private static final int THUMBNAIL_COMPRESS_QUALITY = 85;
+
+    //For the Singleton instance of this
+    private static volatile DiskThumbnailCache INSTANCE;
+
+    //The Cache directory
+    private final File mCacheDir;
+    //The Journal file
+    private final File mJournalFile;
+    //The maximum size of the Cache in bytes
+    private final long mMaxSize;
+
+    //Index of the Thumbnail files in the Cache to their sizes, in the Least Recently Used order
+    private final LinkedHashMap<String, Long> mEntries = new LinkedHashMap<>(0, 0.75f, true);
+    //The current size of the Cache in bytes
+    private long mSize;
+    //The number of Journal lines that are redundant
+    private int mRedundantOpCount;
+    //Writer that appends to the Journal
+    private Writer mJournalWriter;
+
+    /**
+     * Private Constructor of {@link DiskThumbnailCache}
+     *
+     * @param cacheDir The Cache directory
+     * @param maxSize  The maximum size of the Cache in bytes
+     */
+    private DiskThumbnailCache(File cacheDir, long maxSize) {
+        mCacheDir = cacheDir;
+        mJournalFile = new File(cacheDir, JOURNAL_FILE_NAME);
+        mMaxSize = maxSize;
+    }
+
+    /**
+     * Singleton Constructor of {@link DiskThumbnailCache}, which opens the Cache
+     * on its first invocation.
+     *
+     * @param context A {@link Context} to retrieve the App's Cache directory
+     * @return Instance of {@link DiskThumbnailCache}
+     */
+    @WorkerThread
+    static DiskThumbnailCache getInstance(@NonNull Context context) {
+        if (INSTANCE == null) {
+            synchronized (DiskThumbnailCache.class) {
+                if (INSTANCE == null) {
+                    //Creating and opening the instance when not available
+                    DiskThumbnailCache diskThumbnailCache = new DiskThumbnailCache(
+                            new File(context.getApplicationContext().getCacheDir(), CACHE_DIR_NAME),
+                            DEFAULT_CACHE_SIZE
+                    );
+                    diskThumbnailCache.open();
+                    INSTANCE = diskThumbnailCache;
+                }
+            }
+        }
+        //Using the previously created instance
+        return INSTANCE;
+    }
+
+    /**
+     * Method that opens the Cache by replaying its Journal, and deletes the files not recorded
+     * in the Journal, which could be the temporary files of the writes interrupted by a crash.
+     */
+    private synchronized void open() {
+        if (!mCacheDir.exists() && !mCacheDir.mkdirs()) {
+            //When the Cache directory could not be created, the Cache stays empty and unusable
+            Log.e(LOG_TAG, "open: Failed to create the Cache directory " + mCacheDir);
+            return;
+        }
+
+        //Replaying the Journal to rebuild the Index
+        readJournal();
+
+        //Deleting the files that are not recorded in the Index
+        File[] files = mCacheDir.listFiles();
+        if (files != null) {
+            for (File file : files) {
+                String fileName = file.getName();
+                if (!fileName.equals(JOURNAL_FILE_NAME) && !mEntries.containsKey(fileName)) {
+                    //Deleting the orphaned file
+                    deleteFile(file);
+                }
+            }
+        }
+
+        //Dropping the entries whose files are missing or changed outside of the Cache
+        Iterator<Map.Entry<String, Long>> entriesIterator = mEntries.entrySet().iterator();
+        while (entriesIterator.hasNext()) {
+            Map.Entry<String, Long> entry = entriesIterator.next();
+            File thumbnailFile = new File(mCacheDir, entry.getKey());
+            if (!thumbnailFile.isFile() || thumbnailFile.length() != entry.getValue()) {
+                //Removing the entry and the file if any
+                deleteFile(thumbnailFile);
+                mSize -= entry.getValue();
+                entriesIterator.remove();
+            }
+        }
+
+        //Rewriting the Journal with only the entries present, which also opens the Journal Writer
+        rebuildJournal();
+        //Evicting when the Cache is over its size
+        trimToSize();
+    }
+
+    /**
+     * Method that reads the Journal line by line and rebuilds the Index of entries. Lines that
+     * cannot be parsed, like a line torn by a crash, are skipped.
+     */
+    private void readJournal() {
+        if (!mJournalFile.exists()) {
+            //Returning when there is no Journal, as the Cache is new
+            return;
+        }
+
+        try (BufferedReader journalReader = new BufferedReader(
+                new InputStreamReader(new FileInputStream(mJournalFile), Charset.forName("US-ASCII")))) {
+            //Validating the header of the Journal
+            if (!JOURNAL_HEADER.equals(journalReader.readLine())) {
+                //Ignoring the Journal of a different format, which also discards its files on open
+                return;
+            }
+
+            //Stores the number of lines read
+            int lineCount = 0;
+            String line;
+            while ((line = journalReader.readLine()) != null) {
+                lineCount++;
+                //Splitting into the operation and its arguments
+                String[] lineParts = line.split(" ");
+                if (lineParts.length < 2) {
+                    //Skipping the line that cannot be parsed
+                    continue;
+                }
+
+                String key = lineParts[1];
+                switch (lineParts[0]) {
+                    case JOURNAL_OP_CLEAN:
+                        //A Thumbnail written successfully, with its size
+                        if (lineParts.length == 3) {
+                            try {
+                                long entrySize = Long.parseLong(lineParts[2]);
+                                Long previousSize = mEntries.put(key, entrySize);
+                                mSize += entrySize - (previousSize != null ? previousSize : 0L);
+                            } catch (NumberFormatException e) {
+                                //Skipping the line with an invalid size
+                                Log.w(LOG_TAG, "readJournal: Skipping an invalid journal line " + line);
+                            }
+                        }
+                        break;
+                    case JOURNAL_OP_READ:
+                        //A Thumbnail read, which moves the entry to the end of the access order
+                        mEntries.get(key);
+                        break;
+                    case JOURNAL_OP_REMOVE:
+                        //A Thumbnail removed
+                        Long removedSize = mEntries.remove(key);
+                        if (removedSize != null) {
+                            mSize -= removedSize;
+                        }
+                        break;
+                }
+            }
+
+            //Saving the number of redundant lines, to compact the Journal when it grows
+            mRedundantOpCount = lineCount - mEntries.size();
+
+        } catch (IOException e) {
+            Log.e(LOG_TAG, "readJournal: Failed to read the journal " + mJournalFile, e);
+        }
+    }
+
+    /**
+     * Method that rewrites the Journal with a CLEAN line for each of the entries in their
+     * access order, and reopens the Journal Writer for appending. The Journal is first written
+     * to a temporary file and then renamed over the Journal, so that a crash in between
+     * leaves the previous Journal intact.
+     */
+    private void rebuildJournal() {
+        //Closing the current Journal Writer if any
+        closeJournalWriter();
+
+        File journalTempFile = new File(mCacheDir, JOURNAL_TEMP_FILE_NAME);
+        try (Writer journalTempWriter = new BufferedWriter(
+                new OutputStreamWriter(new FileOutputStream(journalTempFile), Charset.forName("US-ASCII")))) {
+            //Writing the header
+            journalTempWriter.write(JOURNAL_HEADER);
+            journalTempWriter.write('\n');
+            //Writing the entries in their access order
+            for (Map.Entry<String, Long> entry : mEntries.entrySet()) {
+                journalTempWriter.write(JOURNAL_OP_CLEAN + " " + entry.getKey() + " " + entry.getValue() + '\n');
+            }
+        } catch (IOException e) {
+            Log.e(LOG_TAG, "rebuildJournal: Failed to write the journal " + journalTempFile, e);
+            deleteFile(journalTempFile);
+            return;
+        }
+
+        if (!journalTempFile.renameTo(mJournalFile)) {
+            //When the new Journal could not be renamed into place
+            Log.e(LOG_TAG, "rebuildJournal: Failed to replace the journal " + mJournalFile);
+            deleteFile(journalTempFile);
+            return;
+        }
+
+        //Resetting the count of redundant lines as the Journal is compacted
+        mRedundantOpCount = 0;
+
+        try {
+            //Opening the Journal Writer to append
+            mJournalWriter = new BufferedWriter(
+                    new OutputStreamWriter(new FileOutputStream(mJournalFile, true), Charset.forName("US-ASCII")));
+        } catch (FileNotFoundException e) {
+            Log.e(LOG_TAG, "rebuildJournal: Failed to open the journal " + mJournalFile, e);
+        }
+    }
+
+    /**
+     * Method that appends a line to the Journal for the operation on the entry of {@code key},
+     * and compacts the Journal when it has grown with too many redundant lines.
+     *
+     * @param operation The Journal operation
+     * @param key       The Key of the entry
+     * @param entrySize The size of the entry, written only for the CLEAN operation
+     */
+    private void appendToJournal(String operation, String key, long entrySize) {
+        if (mJournalWriter == null) {
+            //Returning when the Journal is not open
+            return;
+        }
+
+        try {
+            //Writing the line and flushing it to the file, so that it survives a crash
+            mJournalWriter.write(JOURNAL_OP_CLEAN.equals(operation) ?
+                    operation + " " + key + " " + entrySize + '\n' : operation + " " + key + '\n');
+            mJournalWriter.flush();
+        } catch (IOException e) {
+            Log.e(LOG_TAG, "appendToJournal: Failed to write to the journal " + mJournalFile, e);
+        }
+
+        //Counting the redundant lines. A READ line is redundant, while a REMOVE line
+        //also makes the CLEAN line of the entry redundant
+        if (JOURNAL_OP_READ.equals(operation)) {
+            mRedundantOpCount++;
+        } else if (JOURNAL_OP_REMOVE.equals(operation)) {
+            mRedundantOpCount += 2;
+        }
+
+        if (mRedundantOpCount >= JOURNAL_REDUNDANT_OPS_THRESHOLD
+                && mRedundantOpCount >= mEntries.size()) {
+            //Compacting the Journal when the redundant lines outnumber the entries
+            rebuildJournal();
+        }
+    }
+
+    /**
+     * Method that closes the Journal Writer if open.
+     */
+    private void closeJournalWriter() {
+        if (mJournalWriter != null) {
+            try {
+                mJournalWriter.close();
+            } catch (IOException e) {
+                Log.e(LOG_TAG, "closeJournalWriter: Failed to close the journal " + mJournalFile, e);
+            }
+            mJournalWriter = null;
+        }
+    }
+
+    /**
+     * Method that retrieves the encoded bytes of the Thumbnail from the Disk Cache for the given
+     * Image URL and target size.
+     *
+     * @param imageURLStr String containing the Image URL whose Thumbnail needs to be retrieved
+     * @param targetW     The target width of the Thumbnail in pixels
+     * @param targetH     The target height of the Thumbnail in pixels
+     * @return The encoded bytes of the Thumbnail when present in the Disk Cache; otherwise {@code null}
+     */
+    @WorkerThread
+    @Nullable
+    synchronized byte[] getBytes(String imageURLStr, int targetW, int targetH) {
+        //Generating the Key of the Thumbnail
+        String key = generateKey(imageURLStr, targetW, targetH);
+        Long entrySize;
+        if (key == null || (entrySize = mEntries.get(key)) == null) {
+            //Returning null when the Thumbnail is not present
+            return null;
+        }
+
+        //Reading the Thumbnail file
+        byte[] thumbnailBytes = new byte[entrySize.intValue()];
+        try (FileInputStream fileInputStream = new FileInputStream(new File(mCacheDir, key))) {
+            int bytesRead = 0;
+            while (bytesRead < thumbnailBytes.length) {
+                int count = fileInputStream.read(thumbnailBytes, bytesRead, thumbnailBytes.length - bytesRead);
+                if (count < 0) {
+                    throw new IOException("Unexpected end of the thumbnail file");
+                }
+                bytesRead += count;
+            }
+        } catch (IOException e) {
+            //When the Thumbnail file is truncated or deleted outside of the Cache, removing its entry
+            Log.e(LOG_TAG, "getBytes: Failed to read the thumbnail for the URI " + imageURLStr, e);
+            removeEntry(key);
+            return null;
+        }
+
+        //Recording the read to preserve the access order across restarts
+        appendToJournal(JOURNAL_OP_READ, key, 0L);
+
+        //Returning the Thumbnail read
+        return thumbnailBytes;
+    }
+
+    /**
+     * Method that removes the Thumbnail from the Disk Cache for the given Image URL and target size,
+     * like when it could not be decoded.
+     *
+     * @param imageURLStr String containing the Image URL whose Thumbnail needs to be removed
+     * @param targetW     The target width of the Thumbnail in pixels
+     * @param targetH     The target height of the Thumbnail in pixels
+     */
+    @WorkerThread
+    synchronized void remove(String imageURLStr, int targetW, int targetH) {
+        String key = generateKey(imageURLStr, targetW, targetH);
+        if (key != null) {
+            removeEntry(key);
+        }
+    }
+
+    /**
+     * Method that adds the Thumbnail of the {@code bitmap} to the Disk Cache for the given Image URL
+     * and target size. The {@code bitmap} is scaled down to cover the target size when larger,
+     * and recompressed as JPEG.
+     *
+     * @param imageURLStr String containing the Image URL of the {@code bitmap}
+     * @param targetW     The target width of the Thumbnail in pixels
+     * @param targetH     The target height of the Thumbnail in pixels
+     * @param bitmap      Bitmap Image decoded from the Image URL passed
+     * @return The encoded bytes of the Thumbnail written; or {@code null} when the Thumbnail
+     * was already present or could not be written
+     */
+    @WorkerThread
+    @Nullable
+    synchronized byte[] put(String imageURLStr, int targetW, int targetH, @NonNull Bitmap bitmap) {
+        //Generating the Key of the Thumbnail
+        String key = generateKey(imageURLStr, targetW, targetH);
+        if (key == null || mJournalWriter == null || mEntries.containsKey(key)) {
+            //Returning when the Cache is not usable or the Thumbnail is already present
+            return null;
+        }
+
+        //Scaling down the Bitmap to cover the target size if larger
+        Bitmap thumbnailBitmap = scaleToCover(bitmap, targetW, targetH);
+
+        //Encoding the Thumbnail
+        ByteArrayOutputStream thumbnailOutputStream = new ByteArrayOutputStream();
+        boolean compressSuccess = thumbnailBitmap.compress(Bitmap.CompressFormat.JPEG, THUMBNAIL_COMPRESS_QUALITY, thumbnailOutputStream);
+        if (thumbnailBitmap != bitmap) {
+            //Recycling the scaled Bitmap as it is no longer required
+            thumbnailBitmap.recycle();
+        }
+        if (!compressSuccess) {
+            //Returning when the Thumbnail could not be encoded
+            return null;
+        }
+        byte[] thumbnailBytes = thumbnailOutputStream.toByteArray();
+
+        //Writing the Thumbnail to a temporary file
+        File thumbnailTempFile = new File(mCacheDir, key + TEMP_FILE_EXT);
+        boolean writeSuccess;
+        try (FileOutputStream fileOutputStream = new FileOutputStream(thumbnailTempFile)) {
+            fileOutputStream.write(thumbnailBytes);
+            writeSuccess = true;
+        } catch (IOException e) {
+            Log.e(LOG_TAG, "put: Failed to write the thumbnail for the URI " + imageURLStr, e);
+            writeSuccess = false;
+        }
+
+        //Renaming the temporary file into place once completely written
+        File thumbnailFile = new File(mCacheDir, key);
+        if (!writeSuccess || !thumbnailTempFile.renameTo(thumbnailFile)) {
+            //Discarding the temporary file on failure
+            deleteFile(thumbnailTempFile);
+            return null;
+        }
+
+        //Recording the entry
+        long entrySize = thumbnailFile.length();
+        mEntries.put(key, entrySize);
+        mSize += entrySize;
+        appendToJournal(JOURNAL_OP_CLEAN, key, entrySize);
+
+        //Evicting the Least Recently Used entries when the Cache is over its size
+        trimToSize();
+
+        //Returning the Thumbnail written
+        return thumbnailBytes;
+    }
+
+    /**
+     * Method that clears the entire Disk Cache
+     */
+    @WorkerThread
+    synchronized void clear() {
+        //Deleting all the Thumbnail files
+        for (String key : mEntries.keySet()) {
+            deleteFile(new File(mCacheDir, key));
+        }
+        mEntries.clear();
+        mSize = 0L;
+        //Rewriting the Journal as empty
+        rebuildJournal();
+    }
+
+    /**
+     * Method that removes the entry of {@code key} along with its Thumbnail file.
+     *
+     * @param key The Key of the entry to be removed
+     */
+    private void removeEntry(String key) {
+        Long entrySize = mEntries.remove(key);
+        if (entrySize != null) {
+            //Deleting the Thumbnail file and recording the removal
+            deleteFile(new File(mCacheDir, key));
+            mSize -= entrySize;
+            appendToJournal(JOURNAL_OP_REMOVE, key, 0L);
+        }
+    }
+
+    /**
+     * Method that evicts the Least Recently Used entries until the Cache is within its size.
+     */
+    private void trimToSize() {
+        while (mSize > mMaxSize && !mEntries.isEmpty()) {
+            //Removing the eldest entry
+            removeEntry(mEntries.keySet().iterator().next());
+        }
+    }
+
+    /**
+     * Method that scales down the {@code bitmap} to just cover the target size, preserving its aspect ratio.
+     *
+     * @param bitmap  The Bitmap to be scaled down
+     * @param targetW The target width in pixels
+     * @param targetH The target height in pixels
+     * @return A new scaled down Bitmap when the {@code bitmap} is larger than required to cover
+     * the target size; otherwise the {@code bitmap} itself
+     */
+    private static Bitmap scaleToCover(Bitmap bitmap, int targetW, int targetH) {
+        //Calculating the scale required to cover the target size
+        float scale = Math.max((float) targetW / bitmap.getWidth(), (float) targetH / bitmap.getHeight());
+        if (targetW <= 0 || targetH <= 0 || scale >= 1f) {
+            //Returning the Bitmap AS-IS when it is not larger than required
+            return bitmap;
+        }
+        //Returning the scaled down Bitmap
+        return Bitmap.createScaledBitmap(bitmap,
+                Math.max(1, Math.round(bitmap.getWidth() * scale)),
+                Math.max(1, Math.round(bitmap.getHeight() * scale)),
+                true);
+    }
+
+    /**
+     * Method that generates the Key of a Thumbnail, which is the hex encoded SHA-1 digest of the
+     * Image URL along with the target size, safe to be used as the File name.
+     *
+     * @param imageURLStr String containing the Image URL
+     * @param targetW     The target width of the Thumbnail in pixels
+     * @param targetH     The target height of the Thumbnail in pixels
+     * @return The Key of the Thumbnail, or {@code null} when the digest algorithm is not available
+     */
+    @Nullable
+    private static String generateKey(String imageURLStr, int targetW, int targetH) {
+        try {
+            //Computing the digest of the Image URL with its target size
+            MessageDigest messageDigest = MessageDigest.getInstance("SHA-1");
+            byte[] digestBytes = messageDigest.digest(
+                    (imageURLStr + "#" + targetW + "x" + targetH).getBytes(Charset.forName("UTF-8")));
+            //Encoding the digest to hex
+            StringBuilder keyBuilder = new StringBuilder(digestBytes.length * 2);
+            for (byte digestByte : digestBytes) {
+                keyBuilder.append(String.format(Locale.US, "%02x", digestByte));
+            }
+            return keyBuilder.toString();
+        } catch (NoSuchAlgorithmException e) {
+            Log.e(LOG_TAG, "generateKey: SHA-1 is not available", e);
+            return null;
+        }
+    }
+
+    /**
+     * Method that deletes the {@code file} if it exists.
+     *
+     * @param file The {@link File} to be deleted
+     */
+    private static void deleteFile(File file) {
+        if (file.exists() && !file.delete()) {
+            Log.w(LOG_TAG, "deleteFile: Failed to delete the file " + file);
+        }
+    }
+}
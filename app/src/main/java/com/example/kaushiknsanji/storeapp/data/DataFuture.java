@@ -0,0 +1,612 @@
+/*
+ * Copyright 2018 Kaushik N. Sanji
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.example.kaushiknsanji.storeapp.data;
+
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+import android.support.annotation.StringRes;
+
+import com.example.kaushiknsanji.storeapp.utils.AppExecutors;
+import com.example.kaushiknsanji.storeapp.utils.TaskHandle;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * A composable {@link Future} of the result of the Database reads, returned by the asynchronous
+ * methods of the {@link DataRepository}. Independent reads submitted with
+ * {@link #submit(AppExecutors, int, Callable)} run in parallel on the pool of Database read threads,
+ * and are joined with {@link #combine(DataFuture, DataFuture, DataFuture, Combiner3)} to build the result
+ * once all of them complete.
+ * <p>
+ * The result is delivered to the existing callbacks with {@link #deliver(Executor, DataRepository.GetQueryCallback)}.
+ * Cancelling a future also cancels the futures and the reads it depends on.
+ * </p>
+ *
+ * @param <T> The type of the result
+ * @author Kaushik N Sanji
+ */
+public final class DataFuture<T> implements Future<T> {
+
+    //Lock guarding the state of the future
+    private final Object mLock = new Object();
+    //Actions to be executed when the future completes, in the order added
+    private final List<Runnable> mListeners = new ArrayList<>();
+    //Actions that cancel the futures and the reads this future depends on
+    private final List<Runnable> mCancellers = new ArrayList<>();
+    //Indicates whether the future has completed, failed or was cancelled
+    private boolean mDone;
+    //Indicates whether the future was cancelled
+    private boolean mCancelled;
+    //The result of the future when completed
+    private T mResult;
+    //The failure of the future when failed
+    private Throwable mFailure;
+
+    /**
+     * Private Constructor of {@link DataFuture}
+     */
+    private DataFuture() {
+    }
+
+    /**
+     * Method that submits the Database read {@code callable} at the {@code priority} to the pool of
+     * Database read threads, and returns the future of its result.
+     *
+     * @param appExecutors Instance of {@link AppExecutors} to run the read
+     * @param priority     The {@link AppExecutors.TaskPriority} of the read
+     * @param callable     The Database read returning its result, or throwing a {@link QueryException}
+     *                     when the result could not be retrieved
+     * @param <T>          The type of the result
+     * @return The {@link DataFuture} of the result of the read
+     */
+    @NonNull
+    public static <T> DataFuture<T> submit(@NonNull AppExecutors appExecutors,
+                                           @AppExecutors.TaskPriority int priority,
+                                           @NonNull Callable<T> callable) {
+        DataFuture<T> future = new DataFuture<>();
+        TaskHandle taskHandle = TaskHandle.newCancellable();
+        //Cancelling the read when the future is cancelled
+        future.addCanceller(taskHandle::cancel);
+        appExecutors.executeDbRead(priority, taskHandle, () -> {
+            if (future.isDone()) {
+                //Skipping the read when the future was cancelled before it started
+                return;
+            }
+            try {
+                future.complete(callable.call());
+            } catch (Exception e) {
+                future.fail(e);
+            }
+        });
+        //Returning the future of the read
+        return future;
+    }
+
+    /**
+     * Method that returns a future already completed with the {@code result}.
+     *
+     * @param result The result of the future
+     * @param <T>    The type of the result
+     * @return The completed {@link DataFuture}
+     */
+    @NonNull
+    public static <T> DataFuture<T> completed(@Nullable T result) {
+        DataFuture<T> future = new DataFuture<>();
+        future.complete(result);
+        return future;
+    }
+
+    /**
+     * Method that returns a future that completes with the result of {@code combiner} applied to
+     * the results of the futures {@code first} and {@code second}, once both of them complete.
+     * The future fails when any of them fails.
+     *
+     * @param first    The first {@link DataFuture}
+     * @param second   The second {@link DataFuture}
+     * @param combiner The {@link Combiner} that combines the results
+     * @param <A>      The type of the result of {@code first}
+     * @param <B>      The type of the result of {@code second}
+     * @param <R>      The type of the combined result
+     * @return The {@link DataFuture} of the combined result
+     */
+    @NonNull
+    public static <A, B, R> DataFuture<R> combine(@NonNull DataFuture<A> first,
+                                                  @NonNull DataFuture<B> second,
+                                                  @NonNull Combiner<? super A, ? super B, ? extends R> combiner) {
+        return join(first, second).map(ignored -> combiner.combine(first.getResult(), second.getResult()));
+    }
+
+    /**
+     * Method that returns a future that completes with the result of {@code combiner} applied to
+     * the results of the futures {@code first}, {@code second} and {@code third}, once all of them complete.
+     * The future fails when any of them fails.
+     *
+     * @param first    The first {@link DataFuture}
+     * @param second   The second {@link DataFuture}
+     * @param third    The third {@link DataFuture}
+     * @param combiner The {@link Combiner3} that combines the results
+     * @param <A>      The type of the result of {@code first}
+     * @param <B>      The type of the result of {@code second}
+     * @param <C>      The type of the result of {@code third}
+     * @param <R>      The type of the combined result
+     * @return The {@link DataFuture} of the combined result
+     */
+    @NonNull
+    public static <A, B, C, R> DataFuture<R> combine(@NonNull DataFuture<A> first,
+                                                     @NonNull DataFuture<B> second,
+                                                     @NonNull DataFuture<C> third,
+                                                     @NonNull Combiner3<? super A, ? super B, ? super C, ? extends R> combiner) {
+        return join(first, second, third).map(ignored ->
+                combiner.combine(first.getResult(), second.getResult(), third.getResult()));
+    }
+
+    /**
+     * Method that returns a future that completes when all the {@code futures} complete,
+     * or fails with the first failure among them. Cancelling the returned future cancels all the {@code futures}.
+     *
+     * @param futures The {@link DataFuture}s to be joined
+     * @return The {@link DataFuture} that completes when all the {@code futures} complete
+     */
+    @NonNull
+    private static DataFuture<Void> join(@NonNull DataFuture<?>... futures) {
+        DataFuture<Void> joined = new DataFuture<>();
+        //Stores the number of futures yet to complete
+        final int[] pendingCount = {futures.length};
+        for (DataFuture<?> future : futures) {
+            //Cancelling the futures joined when the joined future is cancelled
+            joined.addCanceller(() -> future.cancel(false));
+            future.addListener(() -> {
+                Throwable failure = future.getFailure();
+                if (failure instanceof CancellationException) {
+                    //Cancelling when any of the futures joined was cancelled
+                    joined.cancel(false);
+                    return;
+                } else if (failure != null) {
+                    //Failing on the first failure, and cancelling the remaining futures
+                    if (joined.fail(failure)) {
+                        joined.runCancellers();
+                    }
+                    return;
+                }
+
+                boolean allCompleted;
+                synchronized (pendingCount) {
+                    allCompleted = --pendingCount[0] == 0;
+                }
+                if (allCompleted) {
+                    joined.complete(null);
+                }
+            });
+        }
+        //Returning the joined future
+        return joined;
+    }
+
+    /**
+     * Method that returns a future that completes with the result of this future transformed by the
+     * {@code mapper}. The {@code mapper} runs on the thread that completes this future.
+     *
+     * @param mapper The {@link Mapper} that transforms the result
+     * @param <R>    The type of the transformed result
+     * @return The {@link DataFuture} of the transformed result
+     */
+    @NonNull
+    public <R> DataFuture<R> map(@NonNull Mapper<? super T, ? extends R> mapper) {
+        DataFuture<R> mapped = new DataFuture<>();
+        //Cancelling this future when the transformed future is cancelled
+        mapped.addCanceller(() -> cancel(false));
+        addListener(() -> {
+            Throwable failure = getFailure();
+            if (failure instanceof CancellationException) {
+                //Cancelling when this future was cancelled
+                mapped.cancel(false);
+                return;
+            } else if (failure != null) {
+                mapped.fail(failure);
+                return;
+            }
+            try {
+                mapped.complete(mapper.map(getResult()));
+            } catch (Exception e) {
+                mapped.fail(e);
+            }
+        });
+        //Returning the transformed future
+        return mapped;
+    }
+
+    /**
+     * Method that delivers the result of this future to the {@code queryCallback} on the
+     * {@code callbackExecutor}. A {@code null} result or an empty collection is delivered as
+     * {@link DataRepository.GetQueryCallback#onEmpty()}, and a {@link QueryException} as
+     * {@link DataRepository.GetQueryCallback#onFailure(int, Object...)}. Any other failure is rethrown
+     * on the {@code callbackExecutor}, so that it is not hidden.
+     *
+     * @param callbackExecutor The {@link Executor} to deliver the result on, usually the Main Thread
+     * @param queryCallback    The Callback to be implemented by the caller to receive the result.
+     * @return The {@link TaskHandle} to cancel this future and stop the delivery of its result
+     */
+    @NonNull
+    public TaskHandle deliver(@NonNull Executor callbackExecutor,
+                              @NonNull DataRepository.GetQueryCallback<T> queryCallback) {
+        //Handle to cancel this future, which also stops the delivery of its result once cancelled
+        TaskHandle taskHandle = TaskHandle.forFuture(this);
+        addListener(() -> callbackExecutor.execute(() -> {
+            Throwable failure = getFailure();
+            if (taskHandle.isCancelled() || failure instanceof CancellationException) {
+                //Ignoring when the future or its delivery was cancelled
+                return;
+            } else if (failure instanceof QueryException) {
+                //Pass the failure to the callback
+                QueryException queryException = (QueryException) failure;
+                queryCallback.onFailure(queryException.getMessageId(), queryException.getArgs());
+            } else if (failure != null) {
+                //Rethrowing the unexpected failures
+                throw new RuntimeException(failure);
+            } else {
+                T result = getResult();
+                if (result == null || (result instanceof Collection && ((Collection<?>) result).isEmpty())) {
+                    //Return to the caller when there are no results
+                    queryCallback.onEmpty();
+                } else {
+                    //Pass the results to the callback
+                    queryCallback.onResults(result);
+                }
+            }
+        }));
+        //Returning the handle to this future
+        return taskHandle;
+    }
+
+    /**
+     * Attempts to cancel this future, along with the futures and the reads it depends on.
+     * The result of a cancelled future is not delivered.
+     *
+     * @param mayInterruptIfRunning Ignored, as the Database reads do not respond to interrupts
+     * @return <b>TRUE</b> when the future was cancelled; <b>FALSE</b> when it had already completed
+     */
+    @Override
+    public boolean cancel(boolean mayInterruptIfRunning) {
+        synchronized (mLock) {
+            if (mDone) {
+                return false;
+            }
+            mCancelled = true;
+            mDone = true;
+            mLock.notifyAll();
+        }
+        //Cancelling the futures and the reads this future depends on
+        runCancellers();
+        //Notifying the listeners
+        runListeners();
+        return true;
+    }
+
+    /**
+     * Returns {@code true} if this future was cancelled before it completed normally.
+     *
+     * @return <b>TRUE</b> if this future was cancelled before it completed
+     */
+    @Override
+    public boolean isCancelled() {
+        synchronized (mLock) {
+            return mCancelled;
+        }
+    }
+
+    /**
+     * Returns {@code true} if this future completed, failed or was cancelled.
+     *
+     * @return <b>TRUE</b> if this future is done
+     */
+    @Override
+    public boolean isDone() {
+        synchronized (mLock) {
+            return mDone;
+        }
+    }
+
+    /**
+     * Waits if necessary for this future to complete, and then returns its result.
+     * Should be called only on a Worker Thread.
+     *
+     * @return The result of the future
+     * @throws CancellationException if this future was cancelled
+     * @throws ExecutionException    if this future failed
+     * @throws InterruptedException  if the current thread was interrupted while waiting
+     */
+    @Override
+    public T get() throws InterruptedException, ExecutionException {
+        synchronized (mLock) {
+            while (!mDone) {
+                mLock.wait();
+            }
+            return reportResult();
+        }
+    }
+
+    /**
+     * Waits if necessary for at most the given time for this future to complete,
+     * and then returns its result. Should be called only on a Worker Thread.
+     *
+     * @param timeout The maximum time to wait
+     * @param unit    The {@link TimeUnit} of the {@code timeout}
+     * @return The result of the future
+     * @throws CancellationException if this future was cancelled
+     * @throws ExecutionException    if this future failed
+     * @throws InterruptedException  if the current thread was interrupted while waiting
+     * @throws TimeoutException      if the wait timed out
+     */
+    @Override
+    public T get(long timeout, @NonNull TimeUnit unit) throws InterruptedException, ExecutionException, TimeoutException {
+        long deadlineNanos = System.nanoTime() + unit.toNanos(timeout);
+        synchronized (mLock) {
+            while (!mDone) {
+                long remainingNanos = deadlineNanos - System.nanoTime();
+                if (remainingNanos <= 0) {
+                    throw new TimeoutException();
+                }
+                TimeUnit.NANOSECONDS.timedWait(mLock, remainingNanos);
+            }
+            return reportResult();
+        }
+    }
+
+    /**
+     * Method that returns the result of the future done, or throws its failure.
+     * Called with the lock held.
+     *
+     * @return The result of the future
+     * @throws ExecutionException if this future failed
+     */
+    private T reportResult() throws ExecutionException {
+        if (mCancelled) {
+            throw new CancellationException();
+        }
+        if (mFailure != null) {
+            throw new ExecutionException(mFailure);
+        }
+        return mResult;
+    }
+
+    /**
+     * Method that completes this future with the {@code result}, if not already done.
+     *
+     * @param result The result of the future
+     */
+    private void complete(@Nullable T result) {
+        synchronized (mLock) {
+            if (mDone) {
+                return;
+            }
+            mResult = result;
+            mDone = true;
+            mLock.notifyAll();
+        }
+        runListeners();
+    }
+
+    /**
+     * Method that fails this future with the {@code failure}, if not already done.
+     *
+     * @param failure The failure of the future
+     * @return <b>TRUE</b> when this future was failed; <b>FALSE</b> when it was already done
+     */
+    private boolean fail(@NonNull Throwable failure) {
+        synchronized (mLock) {
+            if (mDone) {
+                return false;
+            }
+            mFailure = failure;
+            mDone = true;
+            mLock.notifyAll();
+        }
+        runListeners();
+        return true;
+    }
+
+    /**
+     * Method that returns the result of the future done.
+     *
+     * @return The result of the future
+     */
+    private T getResult() {
+        synchronized (mLock) {
+            return mResult;
+        }
+    }
+
+    /**
+     * Method that returns the failure of the future done, which is a {@link CancellationException}
+     * when the future was cancelled.
+     *
+     * @return The failure of the future if any; otherwise {@code null}
+     */
+    @Nullable
+    private Throwable getFailure() {
+        synchronized (mLock) {
+            return mCancelled ? new CancellationException() : mFailure;
+        }
+    }
+
+    /**
+     * Method that adds the {@code listener} to be executed when this future is done.
+     * The {@code listener} is executed immediately when the future is already done.
+     *
+     * @param listener The action to be executed when this future is done
+     */
+    private void addListener(@NonNull Runnable listener) {
+        synchronized (mLock) {
+            if (!mDone) {
+                mListeners.add(listener);
+                return;
+            }
+        }
+        listener.run();
+    }
+
+    /**
+     * Method that adds the {@code canceller} to be executed when this future is cancelled.
+     *
+     * @param canceller The action that cancels a future or a read this future depends on
+     */
+    private void addCanceller(@NonNull Runnable canceller) {
+        synchronized (mLock) {
+            mCancellers.add(canceller);
+        }
+    }
+
+    /**
+     * Method that executes the listeners added, once this future is done.
+     */
+    private void runListeners() {
+        List<Runnable> listeners;
+        synchronized (mLock) {
+            listeners = new ArrayList<>(mListeners);
+            mListeners.clear();
+        }
+        for (Runnable listener : listeners) {
+            listener.run();
+        }
+    }
+
+    /**
+     * Method that executes the cancellers added, to cancel the futures and the reads
+     * this future depends on.
+     */
+    private void runCancellers() {
+        List<Runnable> cancellers;
+        synchronized (mLock) {
+            cancellers = new ArrayList<>(mCancellers);
+            mCancellers.clear();
+        }
+        for (Runnable canceller : cancellers) {
+            canceller.run();
+        }
+    }
+
+    /**
+     * Function Interface that transforms the result of a {@link DataFuture}
+     *
+     * @param <T> The type of the result
+     * @param <R> The type of the transformed result
+     */
+    public interface Mapper<T, R> {
+        /**
+         * Method that transforms the {@code result}.
+         *
+         * @param result The result to be transformed
+         * @return The transformed result
+         * @throws Exception when the result cannot be transformed, which fails the future
+         */
+        R map(T result) throws Exception;
+    }
+
+    /**
+     * Function Interface that combines the results of two {@link DataFuture}s
+     *
+     * @param <A> The type of the first result
+     * @param <B> The type of the second result
+     * @param <R> The type of the combined result
+     */
+    public interface Combiner<A, B, R> {
+        /**
+         * Method that combines the results.
+         *
+         * @param first  The first result
+         * @param second The second result
+         * @return The combined result
+         * @throws Exception when the results cannot be combined, which fails the future
+         */
+        R combine(A first, B second) throws Exception;
+    }
+
+    /**
+     * Function Interface that combines the results of three {@link DataFuture}s
+     *
+     * @param <A> The type of the first result
+     * @param <B> The type of the second result
+     * @param <C> The type of the third result
+     * @param <R> The type of the combined result
+     */
+    public interface Combiner3<A, B, C, R> {
+        /**
+         * Method that combines the results.
+         *
+         * @param first  The first result
+         * @param second The second result
+         * @param third  The third result
+         * @return The combined result
+         * @throws Exception when the results cannot be combined, which fails the future
+         */
+        R combine(A first, B second, C third) throws Exception;
+    }
+
+    /**
+     * Exception thrown by the Database reads when the result could not be retrieved,
+     * carrying the String resource of the error message to be shown to the user.
+     */
+    public static class QueryException extends Exception {
+        //The String resource of the error message
+        @StringRes
+        private final int mMessageId;
+        //The arguments to replace the format specifiers in the error message
+        private final Object[] mArgs;
+
+        /**
+         * Constructor of {@link QueryException}
+         *
+         * @param messageId The String resource of the error message
+         *                  for the query execution failure
+         * @param args      Variable number of arguments to replace the format specifiers
+         */
+        public QueryException(@StringRes int messageId, @Nullable Object... args) {
+            mMessageId = messageId;
+            mArgs = args;
+        }
+
+        /**
+         * Getter Method for the String resource of the error message
+         *
+         * @return The String resource of the error message
+         */
+        @StringRes
+        public int getMessageId() {
+            return mMessageId;
+        }
+
+        /**
+         * Getter Method for the arguments of the error message
+         *
+         * @return The arguments to replace the format specifiers in the error message
+         */
+        @Nullable
+        public Object[] getArgs() {
+            return mArgs;
+        }
+    }
+}
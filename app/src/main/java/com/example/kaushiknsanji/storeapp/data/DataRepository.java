@@ -27,8 +27,11 @@ import com.example.kaushiknsanji.storeapp.data.local.models.Product;
 import com.example.kaushiknsanji.storeapp.data.local.models.ProductImage;
 import com.example.kaushiknsanji.storeapp.data.local.models.ProductLite;
 import com.example.kaushiknsanji.storeapp.data.local.models.ProductSupplierSales;
+import com.example.kaushiknsanji.storeapp.data.local.models.SalesLite;
 import com.example.kaushiknsanji.storeapp.data.local.models.Supplier;
 import com.example.kaushiknsanji.storeapp.data.local.models.SupplierContact;
+import com.example.kaushiknsanji.storeapp.data.local.models.SupplierLite;
+import com.example.kaushiknsanji.storeapp.utils.TaskHandle;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -46,32 +49,46 @@ public interface DataRepository {
      * Method that retrieves the Categories for configuring a Product.
      *
      * @param queryCallback The Callback to be implemented by the caller to receive the results
+     * @return The {@link TaskHandle} to cancel the query
      */
-    void getAllCategories(@NonNull GetQueryCallback<List<String>> queryCallback);
+    TaskHandle getAllCategories(@NonNull GetQueryCallback<List<String>> queryCallback);
 
     /**
      * Method that retrieves the Category Id for the Category Name configured for the Product.
      *
      * @param categoryName  The Category Name selected for the Product
      * @param queryCallback The Callback to be implemented by the caller to receive the result.
+     * @return The {@link TaskHandle} to cancel the query
      */
-    void getCategoryByName(@NonNull String categoryName, @NonNull GetQueryCallback<Integer> queryCallback);
+    TaskHandle getCategoryByName(@NonNull String categoryName, @NonNull GetQueryCallback<Integer> queryCallback);
 
     /**
      * Method that retrieves the Product Details of Product identified by its Id.
      *
      * @param productId     The Integer Id of the Product to lookup for.
      * @param queryCallback The Callback to be implemented by the caller to receive the result.
+     * @return The {@link TaskHandle} to cancel the query
      */
-    void getProductDetailsById(int productId, @NonNull GetQueryCallback<Product> queryCallback);
+    TaskHandle getProductDetailsById(int productId, @NonNull GetQueryCallback<Product> queryCallback);
+
+    /**
+     * Method that retrieves the Product Details of Product identified by its Id, reading the Item,
+     * its Attributes and its Images in a single query.
+     *
+     * @param productId The Integer Id of the Product to lookup for.
+     * @return The {@link DataFuture} of the Product details, which fails with a
+     * {@link DataFuture.QueryException} when the Product is not found
+     */
+    DataFuture<Product> getProductDetailsByIdAsync(int productId);
 
     /**
      * Method that checks and validates the uniqueness of the Product SKU {@code productSku} passed.
      *
      * @param productSku    The Product SKU of the Product to lookup for.
      * @param queryCallback The Callback to be implemented by the caller to receive the result.
+     * @return The {@link TaskHandle} to cancel the query
      */
-    void getProductSkuUniqueness(@NonNull String productSku, @NonNull GetQueryCallback<Boolean> queryCallback);
+    TaskHandle getProductSkuUniqueness(@NonNull String productSku, @NonNull GetQueryCallback<Boolean> queryCallback);
 
     /**
      * Method that adds a New {@link Product} entry into the database.
@@ -79,8 +96,9 @@ public interface DataRepository {
      * @param newProduct         The New {@link Product} to be added to the database
      * @param operationsCallback The Callback to be implemented by the caller to
      *                           receive the operation result.
+     * @return The {@link TaskHandle} to stop the delivery of the result of the operation
      */
-    void saveNewProduct(@NonNull Product newProduct, @NonNull DataOperationsCallback operationsCallback);
+    TaskHandle saveNewProduct(@NonNull Product newProduct, @NonNull DataOperationsCallback operationsCallback);
 
     /**
      * Method that updates an existing {@link Product} entry in the database.
@@ -90,8 +108,9 @@ public interface DataRepository {
      * @param newProduct         The New Updated Product details to be saved in the database.
      * @param operationsCallback The Callback to be implemented by the caller to
      *                           receive the operation result.
+     * @return The {@link TaskHandle} to stop the delivery of the result of the operation
      */
-    void saveUpdatedProduct(@NonNull Product existingProduct, @NonNull Product newProduct,
+    TaskHandle saveUpdatedProduct(@NonNull Product existingProduct, @NonNull Product newProduct,
                             @NonNull DataOperationsCallback operationsCallback);
 
     /**
@@ -101,8 +120,9 @@ public interface DataRepository {
      * @param productId          The Product Id of the Product to be deleted.
      * @param operationsCallback The Callback to be implemented by the caller to
      *                           receive the operation result.
+     * @return The {@link TaskHandle} to stop the delivery of the result of the operation
      */
-    void deleteProductById(int productId, @NonNull DataOperationsCallback operationsCallback);
+    TaskHandle deleteProductById(int productId, @NonNull DataOperationsCallback operationsCallback);
 
     /**
      * Method that updates the list of {@link ProductImage} details for the
@@ -115,8 +135,9 @@ public interface DataRepository {
      * @param productImages      The New List of {@link ProductImage} details to be updated to the database
      * @param operationsCallback The Callback to be implemented by the caller to
      *                           receive the operation result.
+     * @return The {@link TaskHandle} to stop the delivery of the result of the operation
      */
-    void saveProductImages(@NonNull Product existingProduct, @NonNull ArrayList<ProductImage> productImages, @NonNull DataOperationsCallback operationsCallback);
+    TaskHandle saveProductImages(@NonNull Product existingProduct, @NonNull ArrayList<ProductImage> productImages, @NonNull DataOperationsCallback operationsCallback);
 
     /**
      * Method that registers a {@link ContentObserver} class that receives callbacks
@@ -147,24 +168,37 @@ public interface DataRepository {
      *
      * @param supplierId    The Integer Id of the Supplier to lookup for.
      * @param queryCallback The Callback to be implemented by the caller to receive the result.
+     * @return The {@link TaskHandle} to cancel the query
      */
-    void getSupplierDetailsById(int supplierId, @NonNull GetQueryCallback<Supplier> queryCallback);
+    TaskHandle getSupplierDetailsById(int supplierId, @NonNull GetQueryCallback<Supplier> queryCallback);
+
+    /**
+     * Method that retrieves the Supplier Details of Supplier identified by its Id, reading the Supplier,
+     * its Contacts and its Items in parallel.
+     *
+     * @param supplierId The Integer Id of the Supplier to lookup for.
+     * @return The {@link DataFuture} of the Supplier details, which fails with a
+     * {@link DataFuture.QueryException} when the Supplier is not found
+     */
+    DataFuture<Supplier> getSupplierDetailsByIdAsync(int supplierId);
 
     /**
      * Method that retrieves the Contacts of a Supplier identified by its Id.
      *
      * @param supplierId    The Integer Id of the Supplier to retrieve the List of Supplier's Contacts.
      * @param queryCallback The Callback to be implemented by the caller to receive the result.
+     * @return The {@link TaskHandle} to cancel the query
      */
-    void getSupplierContactsById(int supplierId, @NonNull GetQueryCallback<List<SupplierContact>> queryCallback);
+    TaskHandle getSupplierContactsById(int supplierId, @NonNull GetQueryCallback<List<SupplierContact>> queryCallback);
 
     /**
      * Method that checks and validates the uniqueness of the Supplier Code {@code supplierCode} passed.
      *
      * @param supplierCode  The Supplier Code of the Supplier to lookup for.
      * @param queryCallback The Callback to be implemented by the caller to receive the result.
+     * @return The {@link TaskHandle} to cancel the query
      */
-    void getSupplierCodeUniqueness(@NonNull String supplierCode, @NonNull GetQueryCallback<Boolean> queryCallback);
+    TaskHandle getSupplierCodeUniqueness(@NonNull String supplierCode, @NonNull GetQueryCallback<Boolean> queryCallback);
 
     /**
      * Method that retrieves short information of the Products identified by its Ids {@code productIds}
@@ -172,8 +206,57 @@ public interface DataRepository {
      * @param productIds    List of Ids of the Products whose information is required. When {@code null},
      *                      information for all the Products in the database is retrieved.
      * @param queryCallback The Callback to be implemented by the caller to receive the result.
+     * @return The {@link TaskHandle} to cancel the query
+     */
+    TaskHandle getShortProductInfoForProducts(@Nullable List<String> productIds, @NonNull GetQueryCallback<List<ProductLite>> queryCallback);
+
+    /**
+     * Method that searches the Products by their Name, SKU and Category for the words of the
+     * search query {@code searchQuery}, matched as prefixes, and retrieves their short information
+     * ranked by relevance.
+     *
+     * @param searchQuery   The Product Name/SKU/Category to search for
+     * @param limit         The maximum number of Products to be retrieved
+     * @param queryCallback The Callback to be implemented by the caller to receive the result.
+     * @return The {@link TaskHandle} to cancel the query
+     */
+    TaskHandle searchProducts(@NonNull String searchQuery, int limit, @NonNull GetQueryCallback<List<ProductLite>> queryCallback);
+
+    /**
+     * Method that retrieves a page of short information of the Products, sorted by their SKU,
+     * for the Products whose SKU is after {@code afterProductSku}.
+     *
+     * @param afterProductSku The SKU of the last Product in the previous page. When {@code null},
+     *                        the first page of Products is retrieved.
+     * @param limit           The maximum number of Products in the page
+     * @param queryCallback   The Callback to be implemented by the caller to receive the result.
+     * @return The {@link TaskHandle} to cancel the query
+     */
+    TaskHandle getProductsPage(@Nullable String afterProductSku, int limit, @NonNull GetQueryCallback<List<ProductLite>> queryCallback);
+
+    /**
+     * Method that retrieves a page of short information of the Suppliers, sorted by their Code,
+     * for the Suppliers whose Code is after {@code afterSupplierCode}.
+     *
+     * @param afterSupplierCode The Code of the last Supplier in the previous page. When {@code null},
+     *                          the first page of Suppliers is retrieved.
+     * @param limit             The maximum number of Suppliers in the page
+     * @param queryCallback     The Callback to be implemented by the caller to receive the result.
+     * @return The {@link TaskHandle} to cancel the query
+     */
+    TaskHandle getSuppliersPage(@Nullable String afterSupplierCode, int limit, @NonNull GetQueryCallback<List<SupplierLite>> queryCallback);
+
+    /**
+     * Method that retrieves a page of short information of the Products sold by the Suppliers,
+     * sorted by their SKU, for the Products whose SKU is after {@code afterProductSku}.
+     *
+     * @param afterProductSku The SKU of the last Product in the previous page. When {@code null},
+     *                        the first page of Products is retrieved.
+     * @param limit           The maximum number of Products in the page
+     * @param queryCallback   The Callback to be implemented by the caller to receive the result.
+     * @return The {@link TaskHandle} to cancel the query
      */
-    void getShortProductInfoForProducts(@Nullable List<String> productIds, @NonNull GetQueryCallback<List<ProductLite>> queryCallback);
+    TaskHandle getProductSalesPage(@Nullable String afterProductSku, int limit, @NonNull GetQueryCallback<List<SalesLite>> queryCallback);
 
     /**
      * Method that adds a new {@link Supplier} entry into the database.
@@ -181,8 +264,9 @@ public interface DataRepository {
      * @param newSupplier        The new {@link Supplier} to be added to the database.
      * @param operationsCallback The Callback to be implemented by the caller to
      *                           receive the operation result.
+     * @return The {@link TaskHandle} to stop the delivery of the result of the operation
      */
-    void saveNewSupplier(@NonNull Supplier newSupplier, @NonNull DataOperationsCallback operationsCallback);
+    TaskHandle saveNewSupplier(@NonNull Supplier newSupplier, @NonNull DataOperationsCallback operationsCallback);
 
     /**
      * Method that updates an existing {@link Supplier} entry in the database.
@@ -192,8 +276,9 @@ public interface DataRepository {
      * @param newSupplier        The New Supplier details to be saved in the database.
      * @param operationsCallback The Callback to be implemented by the caller to
      *                           receive the operation result.
+     * @return The {@link TaskHandle} to stop the delivery of the result of the operation
      */
-    void saveUpdatedSupplier(@NonNull Supplier existingSupplier, @NonNull Supplier newSupplier,
+    TaskHandle saveUpdatedSupplier(@NonNull Supplier existingSupplier, @NonNull Supplier newSupplier,
                              @NonNull DataOperationsCallback operationsCallback);
 
     /**
@@ -203,8 +288,9 @@ public interface DataRepository {
      * @param supplierId         The Supplier Id of the Supplier to be deleted.
      * @param operationsCallback The Callback to be implemented by the caller to
      *                           receive the operation result.
+     * @return The {@link TaskHandle} to stop the delivery of the result of the operation
      */
-    void deleteSupplierById(int supplierId, @NonNull DataOperationsCallback operationsCallback);
+    TaskHandle deleteSupplierById(int supplierId, @NonNull DataOperationsCallback operationsCallback);
 
     /**
      * Method that decreases the available quantity {@code availableQuantity} of a Product sold
@@ -218,8 +304,9 @@ public interface DataRepository {
      * @param decreaseQuantityBy The amount to decrease the available quantity by.
      * @param operationsCallback The Callback to be implemented by the caller to
      *                           receive the operation result.
+     * @return The {@link TaskHandle} to stop the delivery of the result of the operation
      */
-    void decreaseProductSupplierInventory(int productId, String productSku, int supplierId, String supplierCode, int availableQuantity,
+    TaskHandle decreaseProductSupplierInventory(int productId, String productSku, int supplierId, String supplierCode, int availableQuantity,
                                           int decreaseQuantityBy, @NonNull DataOperationsCallback operationsCallback);
 
     /**
@@ -228,8 +315,9 @@ public interface DataRepository {
      *
      * @param productId     The Integer Id of the Product to lookup for.
      * @param queryCallback The Callback to be implemented by the caller to receive the result.
+     * @return The {@link TaskHandle} to cancel the query
      */
-    void getProductSuppliersSalesInfo(int productId, @NonNull GetQueryCallback<List<ProductSupplierSales>> queryCallback);
+    TaskHandle getProductSuppliersSalesInfo(int productId, @NonNull GetQueryCallback<List<ProductSupplierSales>> queryCallback);
 
     /**
      * Method that updates the inventory of the Product identified by the Product Id {@code productId}
@@ -242,8 +330,9 @@ public interface DataRepository {
      * @param updatedProductSupplierSales  List of Product's Suppliers with updated Sales information
      * @param operationsCallback           The Callback to be implemented by the caller to
      *                                     receive the operation result.
+     * @return The {@link TaskHandle} to stop the delivery of the result of the operation
      */
-    void saveUpdatedProductSalesInfo(int productId, String productSku, @NonNull List<ProductSupplierSales> existingProductSupplierSales,
+    TaskHandle saveUpdatedProductSalesInfo(int productId, String productSku, @NonNull List<ProductSupplierSales> existingProductSupplierSales,
                                      @NonNull List<ProductSupplierSales> updatedProductSupplierSales,
                                      @NonNull DataOperationsCallback operationsCallback);
 
@@ -0,0 +1,257 @@
+/*
+ * Copyright 2018 Kaushik N. Sanji
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.example.kaushiknsanji.storeapp.data;
+
+import android.os.Parcel;
+import android.os.Parcelable;
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+import android.util.LruCache;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Bounded in-memory cache of the Entities read from the database, keyed by their Integer Id,
+ * which is used by the {@link StoreRepository} to avoid reading the same Entity again when
+ * it is opened in more than one screen. The Entities are mutable, hence the cache holds its own
+ * copy of the Entities and hands out a new copy on every lookup.
+ * <p>
+ * <p>Every removal advances the Generation of the cache. A read that started before a removal
+ * carries an older Generation, and is not allowed to add its possibly stale result.</p>
+ *
+ * @param <V> The type of the Entities held in the cache
+ * @author Kaushik N Sanji
+ */
+public final class EntityCache<V> {
+
+    //The cache of the Entities, bounded by the number of Entities
+    private final LruCache<Integer, V> mCache;
+    //Makes the copies of the Entities going in and out of the cache
+    private final Copier<V> mCopier;
+    //The Generation of the cache, advanced on every removal
+    private final AtomicInteger mGeneration = new AtomicInteger();
+
+    /**
+     * Constructor of {@link EntityCache}
+     *
+     * @param maxEntries The maximum number of Entities held in the cache
+     * @param copier     The {@link Copier} that makes the copies of the Entities
+     */
+    EntityCache(int maxEntries, @NonNull Copier<V> copier) {
+        mCache = new LruCache<>(maxEntries);
+        mCopier = copier;
+    }
+
+    /**
+     * Method that returns a {@link Copier} for the {@link Parcelable} Entities, which copies
+     * the Entities by writing them to a {@link Parcel} and reading them back.
+     *
+     * @param creator The {@link Parcelable.Creator} of the Entity
+     * @param <V>     The type of the Entity
+     * @return The {@link Copier} for the Entities of type {@code V}
+     */
+    static <V extends Parcelable> Copier<V> parcelableCopier(@NonNull Parcelable.Creator<V> creator) {
+        return value -> {
+            Parcel parcel = Parcel.obtain();
+            try {
+                //Writing the Entity and reading it back as a new instance
+                value.writeToParcel(parcel, 0);
+                parcel.setDataPosition(0);
+                return creator.createFromParcel(parcel);
+            } finally {
+                //Releasing the Parcel for reuse
+                parcel.recycle();
+            }
+        };
+    }
+
+    /**
+     * Method that returns the current Generation of the cache, to be passed to
+     * {@link #put(int, Object, int)} when the Entity read is to be added.
+     *
+     * @return The current Generation of the cache
+     */
+    int getGeneration() {
+        return mGeneration.get();
+    }
+
+    /**
+     * Method that retrieves a copy of the Entity identified by {@code id}.
+     *
+     * @param id The Integer Id of the Entity
+     * @return A copy of the Entity when present in the cache; otherwise {@code null}
+     */
+    @Nullable
+    V get(int id) {
+        V value = mCache.get(id);
+        return (value != null) ? mCopier.copy(value) : null;
+    }
+
+    /**
+     * Method that adds a copy of the Entity {@code value} read from the database, provided the
+     * cache was not modified by a removal since the read was started at {@code generation}.
+     *
+     * @param id         The Integer Id of the Entity
+     * @param value      The Entity read from the database
+     * @param generation The Generation of the cache when the read was started
+     */
+    void put(int id, @Nullable V value, int generation) {
+        if (value == null) {
+            //Ignoring when there is no Entity
+            return;
+        }
+
+        //Copying the Entity outside of the lock
+        V copy = mCopier.copy(value);
+        synchronized (this) {
+            if (generation == mGeneration.get()) {
+                //Adding only when there was no removal after the read was started
+                mCache.put(id, copy);
+            }
+        }
+    }
+
+    /**
+     * Method that removes the Entity identified by {@code id}, and advances the Generation
+     * to prevent the reads in progress from adding their possibly stale results.
+     *
+     * @param id The Integer Id of the Entity to be removed
+     */
+    synchronized void remove(int id) {
+        mGeneration.incrementAndGet();
+        mCache.remove(id);
+    }
+
+    /**
+     * Method that removes all the Entities, and advances the Generation
+     * to prevent the reads in progress from adding their possibly stale results.
+     */
+    synchronized void removeAll() {
+        mGeneration.incrementAndGet();
+        mCache.evictAll();
+    }
+
+    /**
+     * Method that returns the statistics of the cache.
+     *
+     * @return The {@link CacheStats} at this moment
+     */
+    public CacheStats getStats() {
+        return new CacheStats(mCache);
+    }
+
+    /**
+     * Interface that makes a copy of an Entity.
+     *
+     * @param <V> The type of the Entity
+     */
+    interface Copier<V> {
+        /**
+         * Method that returns a copy of the Entity {@code value}, which does not share
+         * any mutable state with the {@code value}.
+         *
+         * @param value The Entity to be copied
+         * @return A copy of the Entity
+         */
+        V copy(@NonNull V value);
+    }
+
+    /**
+     * Immutable snapshot of the statistics of an {@link EntityCache}.
+     */
+    public static final class CacheStats {
+        //Counters of the cache
+        private final int mHitCount;
+        private final int mMissCount;
+        private final int mEvictionCount;
+        //Number of Entities in the cache
+        private final int mSize;
+        private final int mMaxSize;
+
+        /**
+         * Constructor of {@link CacheStats}
+         *
+         * @param cache The {@link LruCache} to read the statistics from
+         */
+        private CacheStats(LruCache<Integer, ?> cache) {
+            mHitCount = cache.hitCount();
+            mMissCount = cache.missCount();
+            mEvictionCount = cache.evictionCount();
+            mSize = cache.size();
+            mMaxSize = cache.maxSize();
+        }
+
+        /**
+         * @return The number of lookups that found the Entity in the cache
+         */
+        public int getHitCount() {
+            return mHitCount;
+        }
+
+        /**
+         * @return The number of lookups that did not find the Entity in the cache
+         */
+        public int getMissCount() {
+            return mMissCount;
+        }
+
+        /**
+         * @return The ratio of the lookups that found the Entity in the cache, between 0 and 1
+         */
+        public float getHitRate() {
+            int lookupCount = mHitCount + mMissCount;
+            return (lookupCount > 0) ? (float) mHitCount / lookupCount : 0f;
+        }
+
+        /**
+         * @return The number of Entities evicted from the cache for want of space
+         */
+        public int getEvictionCount() {
+            return mEvictionCount;
+        }
+
+        /**
+         * @return The number of Entities in the cache
+         */
+        public int getSize() {
+            return mSize;
+        }
+
+        /**
+         * @return The maximum number of Entities held in the cache
+         */
+        public int getMaxSize() {
+            return mMaxSize;
+        }
+
+        /**
+         * Returns a string representation of the object.
+         *
+         * @return String representation of the {@link CacheStats}
+         */
+        @Override
+        public String toString() {
+            return "CacheStats{" +
+                    "mHitCount=" + mHitCount +
+                    ", mMissCount=" + mMissCount +
+                    ", mEvictionCount=" + mEvictionCount +
+                    ", mSize=" + mSize +
+                    ", mMaxSize=" + mMaxSize +
+                    '}';
+        }
+    }
+}
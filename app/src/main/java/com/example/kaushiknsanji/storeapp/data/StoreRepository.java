@@ -23,12 +23,18 @@ import android.support.annotation.NonNull;
 import android.support.annotation.Nullable;
 import android.util.Log;
 
+import com.example.kaushiknsanji.storeapp.data.local.contracts.StoreContract;
 import com.example.kaushiknsanji.storeapp.data.local.models.Product;
 import com.example.kaushiknsanji.storeapp.data.local.models.ProductImage;
 import com.example.kaushiknsanji.storeapp.data.local.models.ProductLite;
 import com.example.kaushiknsanji.storeapp.data.local.models.ProductSupplierSales;
+import com.example.kaushiknsanji.storeapp.data.local.models.SalesLite;
 import com.example.kaushiknsanji.storeapp.data.local.models.Supplier;
 import com.example.kaushiknsanji.storeapp.data.local.models.SupplierContact;
+import com.example.kaushiknsanji.storeapp.data.local.models.SupplierLite;
+import com.example.kaushiknsanji.storeapp.utils.AppConstants;
+import com.example.kaushiknsanji.storeapp.utils.AppExecutors;
+import com.example.kaushiknsanji.storeapp.utils.TaskHandle;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -36,6 +42,12 @@ import java.util.List;
 /**
  * The App Repository class that interfaces with {@link DataRepository}
  * and {@link FileRepository} to communicate with Database and Files respectively.
+ * <p>
+ * <p>When {@link AppConstants#ENABLE_ENTITY_CACHE} is enabled, the details of the Products,
+ * the Suppliers and the Sales info of the Products are held in bounded {@link EntityCache}s.
+ * The Entities being saved are removed from the caches before and after the save, and are read again
+ * from the database on their next lookup. The caches are also cleared on every change notified
+ * by the {@link android.content.ContentProvider}.</p>
  *
  * @author Kaushik N Sanji
  */
@@ -53,15 +65,61 @@ public class StoreRepository implements DataRepository, FileRepository {
     //Instance of FileRepository to communicate with Files
     private final FileRepository mLocalFileSource;
 
+    //Instance of AppExecutors to deliver the Entities found in the caches
+    private final AppExecutors mAppExecutors;
+
+    //Caches of the Products, the Suppliers and the Sales info of the Products, keyed by their Id.
+    //These are null when the Entity cache is disabled
+    private final EntityCache<Product> mProductCache;
+    private final EntityCache<Supplier> mSupplierCache;
+    private final EntityCache<List<ProductSupplierSales>> mProductSalesCache;
+
     /**
      * Private Constructor of {@link StoreRepository}
      *
      * @param localDataSource Instance of {@link DataRepository} to communicate with Database
      * @param localFileSource Instance of {@link FileRepository} to communicate with Files
+     * @param appExecutors    Instance of {@link AppExecutors} to deliver the Entities found in the caches
      */
-    private StoreRepository(@NonNull DataRepository localDataSource, @NonNull FileRepository localFileSource) {
+    private StoreRepository(@NonNull DataRepository localDataSource, @NonNull FileRepository localFileSource,
+                            @NonNull AppExecutors appExecutors) {
         mLocalDataSource = localDataSource;
         mLocalFileSource = localFileSource;
+        mAppExecutors = appExecutors;
+
+        if (AppConstants.ENABLE_ENTITY_CACHE) {
+            //Creating the caches when enabled
+            mProductCache = new EntityCache<>(AppConstants.ENTITY_CACHE_SIZE, EntityCache.parcelableCopier(Product.CREATOR));
+            mSupplierCache = new EntityCache<>(AppConstants.ENTITY_CACHE_SIZE, EntityCache.parcelableCopier(Supplier.CREATOR));
+            mProductSalesCache = new EntityCache<>(AppConstants.ENTITY_CACHE_SIZE, productSupplierSalesList -> {
+                //Copying the list by cloning each of its ProductSupplierSales
+                List<ProductSupplierSales> copyList = new ArrayList<>(productSupplierSalesList.size());
+                for (ProductSupplierSales productSupplierSales : productSupplierSalesList) {
+                    copyList.add((ProductSupplierSales) productSupplierSales.clone());
+                }
+                return copyList;
+            });
+
+            //Clearing the caches on any change to the data of the ContentProvider. The Entities
+            //are composed from several tables, hence all the caches are cleared on every change.
+            mLocalDataSource.registerContentObserver(StoreContract.BASE_CONTENT_URI, true,
+                    new ContentObserver(null) {
+                        /**
+                         * This method is called when a content change occurs.
+                         *
+                         * @param selfChange True if this is a self-change notification.
+                         */
+                        @Override
+                        public void onChange(boolean selfChange) {
+                            clearEntityCaches();
+                        }
+                    });
+        } else {
+            //Leaving the caches out when disabled
+            mProductCache = null;
+            mSupplierCache = null;
+            mProductSalesCache = null;
+        }
     }
 
     /**
@@ -69,16 +127,18 @@ public class StoreRepository implements DataRepository, FileRepository {
      *
      * @param localDataSource Instance of {@link DataRepository} to communicate with Database
      * @param localFileSource Instance of {@link FileRepository} to communicate with Files
+     * @param appExecutors    Instance of {@link AppExecutors} to deliver the Entities found in the caches
      * @return New or existing instance of {@link StoreRepository}
      */
-    public static StoreRepository getInstance(@NonNull DataRepository localDataSource, @NonNull FileRepository localFileSource) {
+    public static StoreRepository getInstance(@NonNull DataRepository localDataSource, @NonNull FileRepository localFileSource,
+                                              @NonNull AppExecutors appExecutors) {
         if (INSTANCE == null) {
             //When instance is not available
             synchronized (StoreRepository.class) {
                 //Apply lock and check for the instance again
                 if (INSTANCE == null) {
                     //When there is no instance, create a new one
-                    INSTANCE = new StoreRepository(localDataSource, localFileSource);
+                    INSTANCE = new StoreRepository(localDataSource, localFileSource, appExecutors);
                 }
             }
         }
@@ -86,14 +146,95 @@ public class StoreRepository implements DataRepository, FileRepository {
         return INSTANCE;
     }
 
+    /**
+     * Method that clears all the Entity caches.
+     */
+    private void clearEntityCaches() {
+        mProductCache.removeAll();
+        mSupplierCache.removeAll();
+        mProductSalesCache.removeAll();
+    }
+
+    /**
+     * Method that returns the statistics of the cache of the Products.
+     *
+     * @return The {@link EntityCache.CacheStats} of the cache; or {@code null} when the Entity cache is disabled
+     */
+    @Nullable
+    public EntityCache.CacheStats getProductCacheStats() {
+        return (mProductCache != null) ? mProductCache.getStats() : null;
+    }
+
+    /**
+     * Method that returns the statistics of the cache of the Suppliers.
+     *
+     * @return The {@link EntityCache.CacheStats} of the cache; or {@code null} when the Entity cache is disabled
+     */
+    @Nullable
+    public EntityCache.CacheStats getSupplierCacheStats() {
+        return (mSupplierCache != null) ? mSupplierCache.getStats() : null;
+    }
+
+    /**
+     * Method that returns the statistics of the cache of the Sales info of the Products.
+     *
+     * @return The {@link EntityCache.CacheStats} of the cache; or {@code null} when the Entity cache is disabled
+     */
+    @Nullable
+    public EntityCache.CacheStats getProductSalesCacheStats() {
+        return (mProductSalesCache != null) ? mProductSalesCache.getStats() : null;
+    }
+
+    /**
+     * Method that wraps the {@code operationsCallback} to run the {@code cacheInvalidation}
+     * before the success of the operation is delivered. The Entities saved are not added to the caches,
+     * as these are built by the caller and may differ from what the database holds. They are read
+     * again from the database on their next lookup instead. Removing them again on success also drops
+     * any read that ran during the save, since the change notification from the ContentProvider
+     * may still be on its way.
+     *
+     * @param cacheInvalidation  The {@link Runnable} that removes the Entities saved from the Entity caches
+     * @param operationsCallback The Callback of the caller to receive the operation result
+     * @return The wrapped {@link DataOperationsCallback}
+     */
+    private static DataOperationsCallback invalidateOnSuccess(@NonNull Runnable cacheInvalidation,
+                                                              @NonNull DataOperationsCallback operationsCallback) {
+        return new DataOperationsCallback() {
+            /**
+             * Method invoked when the database operations like insert/update/delete
+             * was successful.
+             */
+            @Override
+            public void onSuccess() {
+                //Removing the Entities saved from the caches, and delivering the result
+                cacheInvalidation.run();
+                operationsCallback.onSuccess();
+            }
+
+            /**
+             * Method invoked when the database operations like insert/update/delete
+             * failed to complete.
+             *
+             * @param messageId The String resource of the error message
+             *                  for the database operation failure
+             * @param args      Variable number of arguments to replace the format specifiers
+             */
+            @Override
+            public void onFailure(int messageId, @Nullable Object... args) {
+                operationsCallback.onFailure(messageId, args);
+            }
+        };
+    }
+
     /**
      * Method that retrieves the Categories for configuring a Product.
      *
      * @param queryCallback The Callback to be implemented by the caller to receive the results
+     * @return The {@link TaskHandle} to cancel the query
      */
     @Override
-    public void getAllCategories(@NonNull GetQueryCallback<List<String>> queryCallback) {
-        mLocalDataSource.getAllCategories(queryCallback);
+    public TaskHandle getAllCategories(@NonNull GetQueryCallback<List<String>> queryCallback) {
+        return mLocalDataSource.getAllCategories(queryCallback);
     }
 
     /**
@@ -101,10 +242,11 @@ public class StoreRepository implements DataRepository, FileRepository {
      *
      * @param categoryName  The Category Name selected for the Product
      * @param queryCallback The Callback to be implemented by the caller to receive the result.
+     * @return The {@link TaskHandle} to cancel the query
      */
     @Override
-    public void getCategoryByName(@NonNull String categoryName, @NonNull GetQueryCallback<Integer> queryCallback) {
-        mLocalDataSource.getCategoryByName(categoryName, queryCallback);
+    public TaskHandle getCategoryByName(@NonNull String categoryName, @NonNull GetQueryCallback<Integer> queryCallback) {
+        return mLocalDataSource.getCategoryByName(categoryName, queryCallback);
     }
 
     /**
@@ -112,10 +254,46 @@ public class StoreRepository implements DataRepository, FileRepository {
      *
      * @param productId     The Integer Id of the Product to lookup for.
      * @param queryCallback The Callback to be implemented by the caller to receive the result.
+     * @return The {@link TaskHandle} to cancel the query
      */
     @Override
-    public void getProductDetailsById(int productId, @NonNull GetQueryCallback<Product> queryCallback) {
-        mLocalDataSource.getProductDetailsById(productId, queryCallback);
+    public TaskHandle getProductDetailsById(int productId, @NonNull GetQueryCallback<Product> queryCallback) {
+        if (mProductCache == null) {
+            //When the Entity cache is disabled, read from the database
+            return mLocalDataSource.getProductDetailsById(productId, queryCallback);
+        }
+        //Reading through the cache, and delivering on the Main Thread
+        return getProductDetailsByIdAsync(productId).deliver(mAppExecutors.getMainThread(), queryCallback);
+    }
+
+    /**
+     * Method that retrieves the Product Details of Product identified by its Id, reading the Item,
+     * its Attributes and its Images in a single query.
+     *
+     * @param productId The Integer Id of the Product to lookup for.
+     * @return The {@link DataFuture} of the Product details, which fails with a
+     * {@link DataFuture.QueryException} when the Product is not found
+     */
+    @Override
+    public DataFuture<Product> getProductDetailsByIdAsync(int productId) {
+        if (mProductCache == null) {
+            //When the Entity cache is disabled, read from the database
+            return mLocalDataSource.getProductDetailsByIdAsync(productId);
+        }
+
+        //Looking up the cache for the Product
+        Product cachedProduct = mProductCache.get(productId);
+        if (cachedProduct != null) {
+            //Returning the Product found
+            return DataFuture.completed(cachedProduct);
+        }
+
+        //Reading from the database, and adding the Product read to the cache
+        int generation = mProductCache.getGeneration();
+        return mLocalDataSource.getProductDetailsByIdAsync(productId).map(product -> {
+            mProductCache.put(productId, product, generation);
+            return product;
+        });
     }
 
     /**
@@ -123,10 +301,11 @@ public class StoreRepository implements DataRepository, FileRepository {
      *
      * @param productSku    The Product SKU of the Product to lookup for.
      * @param queryCallback The Callback to be implemented by the caller to receive the result.
+     * @return The {@link TaskHandle} to cancel the query
      */
     @Override
-    public void getProductSkuUniqueness(@NonNull String productSku, @NonNull GetQueryCallback<Boolean> queryCallback) {
-        mLocalDataSource.getProductSkuUniqueness(productSku, queryCallback);
+    public TaskHandle getProductSkuUniqueness(@NonNull String productSku, @NonNull GetQueryCallback<Boolean> queryCallback) {
+        return mLocalDataSource.getProductSkuUniqueness(productSku, queryCallback);
     }
 
     /**
@@ -135,10 +314,11 @@ public class StoreRepository implements DataRepository, FileRepository {
      * @param newProduct         The New {@link Product} to be added to the database
      * @param operationsCallback The Callback to be implemented by the caller to
      *                           receive the operation result.
+     * @return The {@link TaskHandle} to stop the delivery of the result of the operation
      */
     @Override
-    public void saveNewProduct(@NonNull Product newProduct, @NonNull DataOperationsCallback operationsCallback) {
-        mLocalDataSource.saveNewProduct(newProduct, operationsCallback);
+    public TaskHandle saveNewProduct(@NonNull Product newProduct, @NonNull DataOperationsCallback operationsCallback) {
+        return mLocalDataSource.saveNewProduct(newProduct, operationsCallback);
     }
 
     /**
@@ -149,11 +329,20 @@ public class StoreRepository implements DataRepository, FileRepository {
      * @param newProduct         The New Updated Product details to be saved in the database.
      * @param operationsCallback The Callback to be implemented by the caller to
      *                           receive the operation result.
+     * @return The {@link TaskHandle} to stop the delivery of the result of the operation
      */
     @Override
-    public void saveUpdatedProduct(@NonNull Product existingProduct, @NonNull Product newProduct,
+    public TaskHandle saveUpdatedProduct(@NonNull Product existingProduct, @NonNull Product newProduct,
                                    @NonNull DataOperationsCallback operationsCallback) {
-        mLocalDataSource.saveUpdatedProduct(existingProduct, newProduct, operationsCallback);
+        if (mProductCache == null) {
+            //When the Entity cache is disabled, save to the database
+            return mLocalDataSource.saveUpdatedProduct(existingProduct, newProduct, operationsCallback);
+        }
+
+        //Removing the Product being updated, before and after it is saved
+        mProductCache.remove(existingProduct.getId());
+        return mLocalDataSource.saveUpdatedProduct(existingProduct, newProduct,
+                invalidateOnSuccess(() -> mProductCache.remove(existingProduct.getId()), operationsCallback));
     }
 
     /**
@@ -162,10 +351,18 @@ public class StoreRepository implements DataRepository, FileRepository {
      *
      * @param productId          The Product Id of the Product to be deleted.
      * @param operationsCallback The Callback to be implemented by the caller to
+     * @return The {@link TaskHandle} to stop the delivery of the result of the operation
      */
     @Override
-    public void deleteProductById(int productId, @NonNull DataOperationsCallback operationsCallback) {
-        mLocalDataSource.deleteProductById(productId, operationsCallback);
+    public TaskHandle deleteProductById(int productId, @NonNull DataOperationsCallback operationsCallback) {
+        if (mProductCache != null) {
+            //Removing the Product being deleted along with its Sales info, and the Suppliers
+            //that may hold the Product
+            mProductCache.remove(productId);
+            mProductSalesCache.remove(productId);
+            mSupplierCache.removeAll();
+        }
+        return mLocalDataSource.deleteProductById(productId, operationsCallback);
     }
 
     /**
@@ -178,10 +375,15 @@ public class StoreRepository implements DataRepository, FileRepository {
      * @param existingProduct    The Existing Product for which the Product Images are to be updated.
      * @param productImages      The New List of {@link ProductImage} details to be updated to the database
      * @param operationsCallback The Callback to be implemented by the caller to
+     * @return The {@link TaskHandle} to stop the delivery of the result of the operation
      */
     @Override
-    public void saveProductImages(@NonNull Product existingProduct, @NonNull ArrayList<ProductImage> productImages, @NonNull DataOperationsCallback operationsCallback) {
-        mLocalDataSource.saveProductImages(existingProduct, productImages, operationsCallback);
+    public TaskHandle saveProductImages(@NonNull Product existingProduct, @NonNull ArrayList<ProductImage> productImages, @NonNull DataOperationsCallback operationsCallback) {
+        if (mProductCache != null) {
+            //Removing the Product whose Images are being updated
+            mProductCache.remove(existingProduct.getId());
+        }
+        return mLocalDataSource.saveProductImages(existingProduct, productImages, operationsCallback);
     }
 
     /**
@@ -218,10 +420,46 @@ public class StoreRepository implements DataRepository, FileRepository {
      *
      * @param supplierId    The Integer Id of the Supplier to lookup for.
      * @param queryCallback The Callback to be implemented by the caller to receive the result.
+     * @return The {@link TaskHandle} to cancel the query
+     */
+    @Override
+    public TaskHandle getSupplierDetailsById(int supplierId, @NonNull GetQueryCallback<Supplier> queryCallback) {
+        if (mSupplierCache == null) {
+            //When the Entity cache is disabled, read from the database
+            return mLocalDataSource.getSupplierDetailsById(supplierId, queryCallback);
+        }
+        //Reading through the cache, and delivering on the Main Thread
+        return getSupplierDetailsByIdAsync(supplierId).deliver(mAppExecutors.getMainThread(), queryCallback);
+    }
+
+    /**
+     * Method that retrieves the Supplier Details of Supplier identified by its Id, reading the Supplier,
+     * its Contacts and its Items in parallel.
+     *
+     * @param supplierId The Integer Id of the Supplier to lookup for.
+     * @return The {@link DataFuture} of the Supplier details, which fails with a
+     * {@link DataFuture.QueryException} when the Supplier is not found
      */
     @Override
-    public void getSupplierDetailsById(int supplierId, @NonNull GetQueryCallback<Supplier> queryCallback) {
-        mLocalDataSource.getSupplierDetailsById(supplierId, queryCallback);
+    public DataFuture<Supplier> getSupplierDetailsByIdAsync(int supplierId) {
+        if (mSupplierCache == null) {
+            //When the Entity cache is disabled, read from the database
+            return mLocalDataSource.getSupplierDetailsByIdAsync(supplierId);
+        }
+
+        //Looking up the cache for the Supplier
+        Supplier cachedSupplier = mSupplierCache.get(supplierId);
+        if (cachedSupplier != null) {
+            //Returning the Supplier found
+            return DataFuture.completed(cachedSupplier);
+        }
+
+        //Reading from the database, and adding the Supplier read to the cache
+        int generation = mSupplierCache.getGeneration();
+        return mLocalDataSource.getSupplierDetailsByIdAsync(supplierId).map(supplier -> {
+            mSupplierCache.put(supplierId, supplier, generation);
+            return supplier;
+        });
     }
 
     /**
@@ -229,10 +467,11 @@ public class StoreRepository implements DataRepository, FileRepository {
      *
      * @param supplierId    The Integer Id of the Supplier to retrieve the List of Supplier's Contacts.
      * @param queryCallback The Callback to be implemented by the caller to receive the result.
+     * @return The {@link TaskHandle} to cancel the query
      */
     @Override
-    public void getSupplierContactsById(int supplierId, @NonNull GetQueryCallback<List<SupplierContact>> queryCallback) {
-        mLocalDataSource.getSupplierContactsById(supplierId, queryCallback);
+    public TaskHandle getSupplierContactsById(int supplierId, @NonNull GetQueryCallback<List<SupplierContact>> queryCallback) {
+        return mLocalDataSource.getSupplierContactsById(supplierId, queryCallback);
     }
 
     /**
@@ -240,10 +479,11 @@ public class StoreRepository implements DataRepository, FileRepository {
      *
      * @param supplierCode  The Supplier Code of the Supplier to lookup for.
      * @param queryCallback The Callback to be implemented by the caller to receive the result.
+     * @return The {@link TaskHandle} to cancel the query
      */
     @Override
-    public void getSupplierCodeUniqueness(@NonNull String supplierCode, @NonNull GetQueryCallback<Boolean> queryCallback) {
-        mLocalDataSource.getSupplierCodeUniqueness(supplierCode, queryCallback);
+    public TaskHandle getSupplierCodeUniqueness(@NonNull String supplierCode, @NonNull GetQueryCallback<Boolean> queryCallback) {
+        return mLocalDataSource.getSupplierCodeUniqueness(supplierCode, queryCallback);
     }
 
     /**
@@ -252,10 +492,71 @@ public class StoreRepository implements DataRepository, FileRepository {
      * @param productIds    List of Ids of the Products whose information is required. When {@code null},
      *                      information for all the Products in the database is retrieved.
      * @param queryCallback The Callback to be implemented by the caller to receive the result.
+     * @return The {@link TaskHandle} to cancel the query
+     */
+    @Override
+    public TaskHandle getShortProductInfoForProducts(@Nullable List<String> productIds, @NonNull GetQueryCallback<List<ProductLite>> queryCallback) {
+        return mLocalDataSource.getShortProductInfoForProducts(productIds, queryCallback);
+    }
+
+    /**
+     * Method that searches the Products by their Name, SKU and Category for the words of the
+     * search query {@code searchQuery}, matched as prefixes, and retrieves their short information
+     * ranked by relevance.
+     *
+     * @param searchQuery   The Product Name/SKU/Category to search for
+     * @param limit         The maximum number of Products to be retrieved
+     * @param queryCallback The Callback to be implemented by the caller to receive the result.
+     * @return The {@link TaskHandle} to cancel the query
+     */
+    @Override
+    public TaskHandle searchProducts(@NonNull String searchQuery, int limit, @NonNull GetQueryCallback<List<ProductLite>> queryCallback) {
+        return mLocalDataSource.searchProducts(searchQuery, limit, queryCallback);
+    }
+
+    /**
+     * Method that retrieves a page of short information of the Products, sorted by their SKU,
+     * for the Products whose SKU is after {@code afterProductSku}.
+     *
+     * @param afterProductSku The SKU of the last Product in the previous page. When {@code null},
+     *                        the first page of Products is retrieved.
+     * @param limit           The maximum number of Products in the page
+     * @param queryCallback   The Callback to be implemented by the caller to receive the result.
+     * @return The {@link TaskHandle} to cancel the query
+     */
+    @Override
+    public TaskHandle getProductsPage(@Nullable String afterProductSku, int limit, @NonNull GetQueryCallback<List<ProductLite>> queryCallback) {
+        return mLocalDataSource.getProductsPage(afterProductSku, limit, queryCallback);
+    }
+
+    /**
+     * Method that retrieves a page of short information of the Suppliers, sorted by their Code,
+     * for the Suppliers whose Code is after {@code afterSupplierCode}.
+     *
+     * @param afterSupplierCode The Code of the last Supplier in the previous page. When {@code null},
+     *                          the first page of Suppliers is retrieved.
+     * @param limit             The maximum number of Suppliers in the page
+     * @param queryCallback     The Callback to be implemented by the caller to receive the result.
+     * @return The {@link TaskHandle} to cancel the query
+     */
+    @Override
+    public TaskHandle getSuppliersPage(@Nullable String afterSupplierCode, int limit, @NonNull GetQueryCallback<List<SupplierLite>> queryCallback) {
+        return mLocalDataSource.getSuppliersPage(afterSupplierCode, limit, queryCallback);
+    }
+
+    /**
+     * Method that retrieves a page of short information of the Products sold by the Suppliers,
+     * sorted by their SKU, for the Products whose SKU is after {@code afterProductSku}.
+     *
+     * @param afterProductSku The SKU of the last Product in the previous page. When {@code null},
+     *                        the first page of Products is retrieved.
+     * @param limit           The maximum number of Products in the page
+     * @param queryCallback   The Callback to be implemented by the caller to receive the result.
+     * @return The {@link TaskHandle} to cancel the query
      */
     @Override
-    public void getShortProductInfoForProducts(@Nullable List<String> productIds, @NonNull GetQueryCallback<List<ProductLite>> queryCallback) {
-        mLocalDataSource.getShortProductInfoForProducts(productIds, queryCallback);
+    public TaskHandle getProductSalesPage(@Nullable String afterProductSku, int limit, @NonNull GetQueryCallback<List<SalesLite>> queryCallback) {
+        return mLocalDataSource.getProductSalesPage(afterProductSku, limit, queryCallback);
     }
 
     /**
@@ -263,10 +564,11 @@ public class StoreRepository implements DataRepository, FileRepository {
      *
      * @param newSupplier        The new {@link Supplier} to be added to the database.
      * @param operationsCallback The Callback to be implemented by the caller to
+     * @return The {@link TaskHandle} to stop the delivery of the result of the operation
      */
     @Override
-    public void saveNewSupplier(@NonNull Supplier newSupplier, @NonNull DataOperationsCallback operationsCallback) {
-        mLocalDataSource.saveNewSupplier(newSupplier, operationsCallback);
+    public TaskHandle saveNewSupplier(@NonNull Supplier newSupplier, @NonNull DataOperationsCallback operationsCallback) {
+        return mLocalDataSource.saveNewSupplier(newSupplier, operationsCallback);
     }
 
     /**
@@ -276,10 +578,24 @@ public class StoreRepository implements DataRepository, FileRepository {
      *                           CRUD operations.
      * @param newSupplier        The New Supplier details to be saved in the database.
      * @param operationsCallback The Callback to be implemented by the caller to
+     * @return The {@link TaskHandle} to stop the delivery of the result of the operation
      */
     @Override
-    public void saveUpdatedSupplier(@NonNull Supplier existingSupplier, @NonNull Supplier newSupplier, @NonNull DataOperationsCallback operationsCallback) {
-        mLocalDataSource.saveUpdatedSupplier(existingSupplier, newSupplier, operationsCallback);
+    public TaskHandle saveUpdatedSupplier(@NonNull Supplier existingSupplier, @NonNull Supplier newSupplier, @NonNull DataOperationsCallback operationsCallback) {
+        if (mSupplierCache == null) {
+            //When the Entity cache is disabled, save to the database
+            return mLocalDataSource.saveUpdatedSupplier(existingSupplier, newSupplier, operationsCallback);
+        }
+
+        //Removing the Supplier being updated along with the Sales info that may hold the Supplier,
+        //before and after it is saved
+        mSupplierCache.remove(existingSupplier.getId());
+        mProductSalesCache.removeAll();
+        return mLocalDataSource.saveUpdatedSupplier(existingSupplier, newSupplier,
+                invalidateOnSuccess(() -> {
+                    mSupplierCache.remove(existingSupplier.getId());
+                    mProductSalesCache.removeAll();
+                }, operationsCallback));
     }
 
     /**
@@ -288,10 +604,16 @@ public class StoreRepository implements DataRepository, FileRepository {
      *
      * @param supplierId         The Supplier Id of the Supplier to be deleted.
      * @param operationsCallback The Callback to be implemented by the caller to
+     * @return The {@link TaskHandle} to stop the delivery of the result of the operation
      */
     @Override
-    public void deleteSupplierById(int supplierId, @NonNull DataOperationsCallback operationsCallback) {
-        mLocalDataSource.deleteSupplierById(supplierId, operationsCallback);
+    public TaskHandle deleteSupplierById(int supplierId, @NonNull DataOperationsCallback operationsCallback) {
+        if (mSupplierCache != null) {
+            //Removing the Supplier being deleted along with the Sales info that may hold the Supplier
+            mSupplierCache.remove(supplierId);
+            mProductSalesCache.removeAll();
+        }
+        return mLocalDataSource.deleteSupplierById(supplierId, operationsCallback);
     }
 
     /**
@@ -305,13 +627,18 @@ public class StoreRepository implements DataRepository, FileRepository {
      * @param availableQuantity  The current available Quantity of the Product at the Supplier.
      * @param decreaseQuantityBy The amount to decrease the available quantity by.
      * @param operationsCallback The Callback to be implemented by the caller to
+     * @return The {@link TaskHandle} to stop the delivery of the result of the operation
      */
     @Override
-    public void decreaseProductSupplierInventory(int productId, String productSku,
+    public TaskHandle decreaseProductSupplierInventory(int productId, String productSku,
                                                  int supplierId, String supplierCode,
                                                  int availableQuantity, int decreaseQuantityBy,
                                                  @NonNull DataOperationsCallback operationsCallback) {
-        mLocalDataSource.decreaseProductSupplierInventory(productId, productSku, supplierId, supplierCode, availableQuantity, decreaseQuantityBy, operationsCallback);
+        if (mProductSalesCache != null) {
+            //Removing the Sales info of the Product whose inventory is being decreased
+            mProductSalesCache.remove(productId);
+        }
+        return mLocalDataSource.decreaseProductSupplierInventory(productId, productSku, supplierId, supplierCode, availableQuantity, decreaseQuantityBy, operationsCallback);
     }
 
     /**
@@ -320,10 +647,60 @@ public class StoreRepository implements DataRepository, FileRepository {
      *
      * @param productId     The Integer Id of the Product to lookup for.
      * @param queryCallback The Callback to be implemented by the caller to receive the result.
+     * @return The {@link TaskHandle} to cancel the query
      */
     @Override
-    public void getProductSuppliersSalesInfo(int productId, @NonNull GetQueryCallback<List<ProductSupplierSales>> queryCallback) {
-        mLocalDataSource.getProductSuppliersSalesInfo(productId, queryCallback);
+    public TaskHandle getProductSuppliersSalesInfo(int productId, @NonNull GetQueryCallback<List<ProductSupplierSales>> queryCallback) {
+        if (mProductSalesCache == null) {
+            //When the Entity cache is disabled, read from the database
+            return mLocalDataSource.getProductSuppliersSalesInfo(productId, queryCallback);
+        }
+
+        //Looking up the cache for the Sales info of the Product
+        List<ProductSupplierSales> cachedProductSupplierSales = mProductSalesCache.get(productId);
+        if (cachedProductSupplierSales != null) {
+            //Delivering the Sales info found on the Main Thread
+            return DataFuture.completed(cachedProductSupplierSales).deliver(mAppExecutors.getMainThread(), queryCallback);
+        }
+
+        //Reading from the database, and adding the Sales info read to the cache
+        int generation = mProductSalesCache.getGeneration();
+        return mLocalDataSource.getProductSuppliersSalesInfo(productId, new GetQueryCallback<List<ProductSupplierSales>>() {
+            /**
+             * Method invoked when the results are obtained
+             * for the query executed.
+             *
+             * @param results The query results in the generic type passed
+             */
+            @Override
+            public void onResults(List<ProductSupplierSales> results) {
+                mProductSalesCache.put(productId, results, generation);
+                queryCallback.onResults(results);
+            }
+
+            /**
+             * Method invoked when there are no results
+             * for the query executed.
+             */
+            @Override
+            public void onEmpty() {
+                queryCallback.onEmpty();
+            }
+
+            /**
+             * Method invoked when the results could not be retrieved
+             * for the query due to some error.
+             *
+             * @param messageId The String resource of the error message
+             *                  for the query execution failure
+             * @param args      Variable number of arguments to replace the format specifiers
+             *                  in the String resource if any
+             */
+            @Override
+            public void onFailure(int messageId, @Nullable Object... args) {
+                queryCallback.onFailure(messageId, args);
+            }
+        });
     }
 
     /**
@@ -336,14 +713,29 @@ public class StoreRepository implements DataRepository, FileRepository {
      *                                     currently persisted in the database.
      * @param updatedProductSupplierSales  List of Product's Suppliers with updated Sales information
      * @param operationsCallback           The Callback to be implemented by the caller to
+     * @return The {@link TaskHandle} to stop the delivery of the result of the operation
      */
     @Override
-    public void saveUpdatedProductSalesInfo(int productId, String productSku,
+    public TaskHandle saveUpdatedProductSalesInfo(int productId, String productSku,
                                             @NonNull List<ProductSupplierSales> existingProductSupplierSales,
                                             @NonNull List<ProductSupplierSales> updatedProductSupplierSales,
                                             @NonNull DataOperationsCallback operationsCallback) {
-        mLocalDataSource.saveUpdatedProductSalesInfo(productId, productSku,
-                existingProductSupplierSales, updatedProductSupplierSales, operationsCallback);
+        if (mProductSalesCache == null) {
+            //When the Entity cache is disabled, save to the database
+            return mLocalDataSource.saveUpdatedProductSalesInfo(productId, productSku,
+                    existingProductSupplierSales, updatedProductSupplierSales, operationsCallback);
+        }
+
+        //Removing the Sales info being updated along with the Suppliers that hold the prices
+        //of the Product, before and after it is saved
+        mProductSalesCache.remove(productId);
+        mSupplierCache.removeAll();
+        return mLocalDataSource.saveUpdatedProductSalesInfo(productId, productSku,
+                existingProductSupplierSales, updatedProductSupplierSales,
+                invalidateOnSuccess(() -> {
+                    mProductSalesCache.remove(productId);
+                    mSupplierCache.removeAll();
+                }, operationsCallback));
     }
 
     /**
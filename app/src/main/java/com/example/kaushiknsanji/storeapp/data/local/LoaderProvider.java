@@ -20,7 +20,6 @@ import android.content.Context;
 import android.database.Cursor;
 import android.support.annotation.IntDef;
 import android.support.annotation.NonNull;
-import android.support.v4.content.CursorLoader;
 import android.support.v4.content.Loader;
 
 import com.example.kaushiknsanji.storeapp.data.local.contracts.ProductContract;
@@ -33,7 +32,7 @@ import java.lang.annotation.RetentionPolicy;
 import java.lang.ref.WeakReference;
 
 /**
- * Class that provides CursorLoader instance based in the Loader Type {@link LoadersTypeDef} requested.
+ * Class that provides {@link PagedCursorLoader} instance based in the Loader Type {@link LoadersTypeDef} requested.
  *
  * @author Kaushik N Sanji
  */
@@ -43,6 +42,8 @@ public class LoaderProvider {
     public static final int PRODUCT_LIST_TYPE = 0;
     public static final int SUPPLIER_LIST_TYPE = 1;
     public static final int SALES_LIST_TYPE = 2;
+    //The number of records loaded per page by the CursorLoaders of the Lists
+    public static final int LIST_PAGE_SIZE = 50;
     //Singleton instance of LoaderProvider
     private static volatile LoaderProvider INSTANCE;
     //Context Reference required for CursorLoaders
@@ -79,11 +80,12 @@ public class LoaderProvider {
     }
 
     /**
-     * Method that returns the {@link CursorLoader} to the {@code loaderType} requested
+     * Method that returns the {@link PagedCursorLoader} to the {@code loaderType} requested, which loads
+     * the records of the List in pages of {@link #LIST_PAGE_SIZE}, sorted by the Key of the List.
      *
      * @param loaderType Integer constant defined by {@link LoadersTypeDef} to
      *                   create a correct CursorLoader.
-     * @return Returns a {@link CursorLoader} instance when the {@link Context} instance is present
+     * @return Returns a {@link PagedCursorLoader} instance when the {@link Context} instance is present
      * and the {@code loaderType} requested is valid; otherwise {@code NULL}
      */
     public Loader<Cursor> createCursorLoader(@LoadersTypeDef int loaderType) {
@@ -97,34 +99,28 @@ public class LoaderProvider {
         //Returning the CursorLoader instance based on the LoaderType
         switch (loaderType) {
             case PRODUCT_LIST_TYPE:
-                //Returning the Cursor Loader to list of Products sorted by its SKU
-                return new CursorLoader(
+                //Returning the Cursor Loader to list of Products sorted and paged by its SKU
+                return new PagedCursorLoader(
                         context,
-                        ProductContract.Product.CONTENT_URI_SHORT_INFO,
+                        ProductContract.Product::buildShortInfoPageUri,
                         QueryArgsUtility.ItemsShortInfoQuery.getProjection(),
-                        null,
-                        null,
-                        ProductContract.Product.getQualifiedColumnName(ProductContract.Product.COLUMN_ITEM_SKU)
+                        LIST_PAGE_SIZE
                 );
             case SUPPLIER_LIST_TYPE:
-                //Returning the Cursor Loader to list of Suppliers sorted by its Code
-                return new CursorLoader(
+                //Returning the Cursor Loader to list of Suppliers sorted and paged by its Code
+                return new PagedCursorLoader(
                         context,
-                        SupplierContract.Supplier.CONTENT_URI_SHORT_INFO,
+                        SupplierContract.Supplier::buildShortInfoPageUri,
                         QueryArgsUtility.SuppliersShortInfoQuery.getProjection(),
-                        null,
-                        null,
-                        SupplierContract.Supplier.COLUMN_SUPPLIER_CODE
+                        LIST_PAGE_SIZE
                 );
             case SALES_LIST_TYPE:
-                //Returning the Cursor Loader to the list of Products sold by the Suppliers, sorted by its SKU
-                return new CursorLoader(
+                //Returning the Cursor Loader to the list of Products sold by the Suppliers, sorted and paged by its SKU
+                return new PagedCursorLoader(
                         context,
-                        SalesContract.ProductSupplierInventory.CONTENT_URI_SHORT_INFO,
+                        SalesContract.ProductSupplierInventory::buildShortInfoPageUri,
                         QueryArgsUtility.SalesShortInfoQuery.getProjection(),
-                        null,
-                        null,
-                        ProductContract.Product.getQualifiedColumnName(ProductContract.Product.COLUMN_ITEM_SKU)
+                        LIST_PAGE_SIZE
                 );
         }
 
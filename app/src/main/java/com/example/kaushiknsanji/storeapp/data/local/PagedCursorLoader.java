@@ -0,0 +1,121 @@
+/*
+ * Copyright 2018 Kaushik N. Sanji
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.example.kaushiknsanji.storeapp.data.local;
+
+import android.content.Context;
+import android.database.Cursor;
+import android.net.Uri;
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+import android.support.v4.content.CursorLoader;
+
+/**
+ * {@link CursorLoader} that loads the records of a List from its first record, only upto the
+ * number of records currently displayed, instead of the entire table. The number of records to load
+ * starts with a page and grows as the further pages are appended to the List by its Presenter,
+ * so that any reload of this Loader refreshes only the range of records being displayed.
+ *
+ * @author Kaushik N Sanji
+ */
+public class PagedCursorLoader extends CursorLoader {
+
+    //The Builder of the Keyset Page URIs of the List
+    @NonNull
+    private final PageUriBuilder mPageUriBuilder;
+    //The number of records in a page
+    private final int mPageSize;
+    //The number of records to be loaded, from the first record
+    private volatile int mLoadSize;
+
+    /**
+     * Constructor of {@link PagedCursorLoader}
+     *
+     * @param context        A {@link Context} required for the CursorLoader
+     * @param pageUriBuilder The {@link PageUriBuilder} that builds the Keyset Page URIs of the List
+     * @param projection     The list of Columns to return
+     * @param pageSize       The number of records in a page, which is also the initial
+     *                       number of records to be loaded
+     */
+    public PagedCursorLoader(@NonNull Context context,
+                             @NonNull PageUriBuilder pageUriBuilder,
+                             @Nullable String[] projection,
+                             int pageSize) {
+        super(context, pageUriBuilder.buildPageUri(null, pageSize), projection, null, null, null);
+        mPageUriBuilder = pageUriBuilder;
+        mPageSize = pageSize;
+        mLoadSize = pageSize;
+    }
+
+    /**
+     * Getter Method that returns the number of records in a page
+     *
+     * @return The number of records in a page
+     */
+    public int getPageSize() {
+        return mPageSize;
+    }
+
+    /**
+     * Getter Method that returns the number of records currently loaded by this Loader
+     *
+     * @return The number of records to be loaded, from the first record
+     */
+    public int getLoadSize() {
+        return mLoadSize;
+    }
+
+    /**
+     * Setter Method that updates the number of records to be loaded by this Loader
+     * on its next load. This is called by the Presenter after appending the pages, so that
+     * the records appended are also refreshed on a reload. The number of records
+     * loaded is never less than a page.
+     *
+     * @param loadSize The number of records to be loaded, from the first record
+     */
+    public void setLoadSize(int loadSize) {
+        mLoadSize = Math.max(loadSize, mPageSize);
+    }
+
+    /**
+     * Called on a worker thread to perform the actual load and to return
+     * the result of the load operation.
+     *
+     * @return The result of the load operation.
+     */
+    @Override
+    public Cursor loadInBackground() {
+        //Updating the URI to load the records only upto the current load size
+        setUri(mPageUriBuilder.buildPageUri(null, mLoadSize));
+        //Delegating to the super to execute the query
+        return super.loadInBackground();
+    }
+
+    /**
+     * Interface that builds the Keyset Page URIs of a List, implemented by the Page URI builders of the Contracts.
+     */
+    public interface PageUriBuilder {
+        /**
+         * Method that prepares and returns the URI for a page of the List.
+         *
+         * @param afterKey The Key of the last record in the previous page, after which the
+         *                 page of records is to be returned. When {@code null}, the first page is returned.
+         * @param limit    The maximum number of records in the page
+         * @return The URI for the page of the List
+         */
+        Uri buildPageUri(@Nullable String afterKey, int limit);
+    }
+}
@@ -17,9 +17,12 @@
 package com.example.kaushiknsanji.storeapp.data.local;
 
 import android.content.ContentProvider;
+import android.content.ContentProviderOperation;
+import android.content.ContentProviderResult;
 import android.content.ContentResolver;
 import android.content.ContentUris;
 import android.content.ContentValues;
+import android.content.OperationApplicationException;
 import android.content.UriMatcher;
 import android.database.ContentObserver;
 import android.database.Cursor;
@@ -27,12 +30,14 @@ import android.database.SQLException;
 import android.database.sqlite.SQLiteConstraintException;
 import android.database.sqlite.SQLiteDatabase;
 import android.database.sqlite.SQLiteQueryBuilder;
+import android.database.sqlite.SQLiteStatement;
 import android.net.Uri;
 import android.os.Build;
 import android.os.Bundle;
 import android.os.CancellationSignal;
 import android.support.annotation.NonNull;
 import android.support.annotation.Nullable;
+import android.support.annotation.VisibleForTesting;
 import android.support.v4.util.Pair;
 import android.text.TextUtils;
 import android.util.Log;
@@ -42,10 +47,21 @@ import com.example.kaushiknsanji.storeapp.data.local.contracts.SalesContract;
 import com.example.kaushiknsanji.storeapp.data.local.contracts.StoreContract;
 import com.example.kaushiknsanji.storeapp.data.local.contracts.SupplierContract;
 import com.example.kaushiknsanji.storeapp.data.local.utils.QueryArgsUtility;
+import com.example.kaushiknsanji.storeapp.data.local.utils.SqliteUtility;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.Set;
 
 import static com.example.kaushiknsanji.storeapp.data.local.utils.SqliteUtility.AND;
 import static com.example.kaushiknsanji.storeapp.data.local.utils.SqliteUtility.EQUALS;
+import static com.example.kaushiknsanji.storeapp.data.local.utils.SqliteUtility.GREATER_THAN;
+import static com.example.kaushiknsanji.storeapp.data.local.utils.SqliteUtility.GREATER_THAN_OR_EQUAL;
+import static com.example.kaushiknsanji.storeapp.data.local.utils.SqliteUtility.MINUS;
 import static com.example.kaushiknsanji.storeapp.data.local.utils.SqliteUtility.PLACEHOLDER;
+import static com.example.kaushiknsanji.storeapp.data.local.utils.SqliteUtility.SET;
+import static com.example.kaushiknsanji.storeapp.data.local.utils.SqliteUtility.UPDATE;
+import static com.example.kaushiknsanji.storeapp.data.local.utils.SqliteUtility.WHERE;
 import static com.example.kaushiknsanji.storeapp.data.local.utils.SqliteUtility.combineSelectionPairs;
 
 /**
@@ -58,6 +74,10 @@ public class StoreContentProvider extends ContentProvider {
 
     //Constant Used for Logs
     private static final String LOG_TAG = StoreContentProvider.class.getSimpleName();
+    //Key Columns by which the lists of the Items, the Suppliers and the Sales Inventory are sorted and paged
+    private static final String ITEM_PAGE_KEY_COLUMN = ProductContract.Product.getQualifiedColumnName(ProductContract.Product.COLUMN_ITEM_SKU);
+    private static final String SUPPLIER_PAGE_KEY_COLUMN = SupplierContract.Supplier.getQualifiedColumnName(SupplierContract.Supplier.COLUMN_SUPPLIER_CODE);
+    private static final String SALES_PAGE_KEY_COLUMN = ProductContract.Product.getQualifiedColumnName(ProductContract.Product.COLUMN_ITEM_SKU);
     //URI Matcher codes for identifying the URI of Item and its descendant relationships
     private static final int ITEMS = 10;
     private static final int ITEM_SHORT_INFO = 11;
@@ -65,6 +85,9 @@ public class StoreContentProvider extends ContentProvider {
     private static final int ITEM_BY_SKU = 13;
     private static final int ITEM_ATTRS_ID = 14;
     private static final int ITEM_IMAGES_ID = 15;
+    private static final int ITEM_SEARCH = 16;
+    private static final int ITEM_IMAGE_FILES = 17;
+    private static final int ITEM_DETAIL_ID = 18;
     //URI Matcher codes for identifying the URI of Category and its descendant relationships
     private static final int CATEGORIES = 20;
     private static final int CATEGORY_BY_ID = 21;
@@ -84,6 +107,17 @@ public class StoreContentProvider extends ContentProvider {
     private static final int SALES_INVENTORY_SUPPLIER_ID = 52;
     //URI Matcher for matching the possible URI
     private static final UriMatcher sUriMatcher = buildUriMatcher();
+    //SQL Statement that decreases the available quantity of an Item at a Supplier,
+    //only when the quantity available is sufficient
+    private static final String DECREASE_AVAIL_QUANTITY_SQL = UPDATE + SalesContract.ProductSupplierInventory.TABLE_NAME
+            + SET + SalesContract.ProductSupplierInventory.COLUMN_ITEM_AVAIL_QUANTITY + EQUALS
+            + SalesContract.ProductSupplierInventory.COLUMN_ITEM_AVAIL_QUANTITY + MINUS + PLACEHOLDER
+            + WHERE + SalesContract.ProductSupplierInventory.COLUMN_ITEM_ID + EQUALS + PLACEHOLDER
+            + AND + SalesContract.ProductSupplierInventory.COLUMN_SUPPLIER_ID + EQUALS + PLACEHOLDER
+            + AND + SalesContract.ProductSupplierInventory.COLUMN_ITEM_AVAIL_QUANTITY + GREATER_THAN_OR_EQUAL + PLACEHOLDER;
+    //Stores the set of URIs changed during a batch of write operations on the current thread,
+    //which are notified only once after the batch completes
+    private final ThreadLocal<Set<Uri>> mPendingNotifyUris = new ThreadLocal<>();
     //Stores the instance of SQLiteOpenHelper
     private StoreDbHelper mDbHelper;
 
@@ -127,6 +161,23 @@ public class StoreContentProvider extends ContentProvider {
                 ProductContract.PATH_ITEM + "/" + ProductContract.PATH_ITEM_IMAGE + "/#",
                 ITEM_IMAGES_ID);
 
+        //For "content://AUTHORITY/item/image/file" URI that references the entire 'item_image_file' table
+        matcher.addURI(StoreContract.CONTENT_AUTHORITY,
+                ProductContract.PATH_ITEM + "/" + ProductContract.PATH_ITEM_IMAGE + "/" + ProductContract.PATH_ITEM_IMAGE_FILE,
+                ITEM_IMAGE_FILES);
+
+        //For "content://AUTHORITY/item/detail/#" URI that references a record in 'item' table
+        //along with its records in 'item_attr' and 'item_image' tables
+        matcher.addURI(StoreContract.CONTENT_AUTHORITY,
+                ProductContract.PATH_ITEM + "/" + ProductContract.Product.PATH_DETAIL + "/#",
+                ITEM_DETAIL_ID);
+
+        //For "content://AUTHORITY/item/search/*" URI that references a set of records in 'item' table
+        //with relationship data, matching the search query passed
+        matcher.addURI(StoreContract.CONTENT_AUTHORITY,
+                ProductContract.PATH_ITEM + "/" + ProductContract.Product.PATH_SEARCH + "/*",
+                ITEM_SEARCH);
+
         //For "content://AUTHORITY/category" URI that references the entire 'item_category' table
         matcher.addURI(StoreContract.CONTENT_AUTHORITY,
                 ProductContract.PATH_CATEGORY, CATEGORIES);
@@ -229,7 +280,15 @@ public class StoreContentProvider extends ContentProvider {
     @Nullable
     @Override
     public String getType(@NonNull Uri uri) {
-        return null;
+        //Matching the Uri to return its MIME type
+        switch (sUriMatcher.match(uri)) {
+            case ITEM_DETAIL_ID:
+                //For an Item identified by its '_id', along with its Attributes and Images
+                return ProductContract.Product.CONTENT_LIST_TYPE_DETAIL;
+            default:
+                //For the rest, no type is published
+                return null;
+        }
     }
 
     /**
@@ -315,17 +374,37 @@ public class StoreContentProvider extends ContentProvider {
                 //For Item's Images, identified by the item '_id'
                 retCursor = getItemImages(uri, readableDatabase, projection);
                 break;
+            case ITEM_IMAGE_FILES:
+                //For the Image files with their reference counts
+                retCursor = readableDatabase.query(
+                        ProductContract.ProductImageFile.TABLE_NAME,
+                        projection,
+                        selection,
+                        selectionArgs,
+                        null,
+                        null,
+                        sortOrder
+                );
+                break;
             case ITEM_ID:
                 //For an Item identified by its '_id'
                 retCursor = getItemDetails(uri, readableDatabase, projection);
                 break;
+            case ITEM_DETAIL_ID:
+                //For an Item identified by its '_id', along with its Attributes and Images
+                retCursor = getItemDetailsAggregate(uri, readableDatabase);
+                break;
             case ITEM_BY_SKU:
                 //For an Item identified by its 'item_sku'
                 retCursor = getItemBySku(uri, readableDatabase, projection);
                 break;
             case ITEM_SHORT_INFO:
-                //For Items with Short relationship info
-                retCursor = getItemsWithShortInfo(readableDatabase, projection, selection, selectionArgs, sortOrder);
+                //For Items with Short relationship info, paged by the 'item_sku' when requested
+                retCursor = getShortInfoList(uri, readableDatabase, projection, selection, selectionArgs, sortOrder);
+                break;
+            case ITEM_SEARCH:
+                //For Items with Short relationship info matching the search query
+                retCursor = getItemsBySearch(uri, readableDatabase, projection);
                 break;
             case CATEGORIES:
                 //For all Categories
@@ -360,12 +439,12 @@ public class StoreContentProvider extends ContentProvider {
                 retCursor = getItemSuppliers(uri, readableDatabase, projection);
                 break;
             case SUPPLIER_SHORT_INFO:
-                //For Suppliers with Short relationship info
-                retCursor = getSuppliersWithShortInfo(readableDatabase, projection, selection, selectionArgs, sortOrder);
+                //For Suppliers with Short relationship info, paged by the 'supplier_code' when requested
+                retCursor = getShortInfoList(uri, readableDatabase, projection, selection, selectionArgs, sortOrder);
                 break;
             case SALES_SHORT_INFO:
-                //For Sales Inventory with Short relationship info
-                retCursor = getSalesWithShortInfo(readableDatabase, projection, selection, selectionArgs, sortOrder);
+                //For Sales Inventory with Short relationship info, paged by the 'item_sku' when requested
+                retCursor = getShortInfoList(uri, readableDatabase, projection, selection, selectionArgs, sortOrder);
                 break;
             case SALES_INVENTORY_ITEM_ID:
                 //For Item's Suppliers with Inventory and Price details
@@ -408,11 +487,76 @@ public class StoreContentProvider extends ContentProvider {
     }
 
     /**
-     * Method that returns a Cursor to the records retrieved from the relationship between
+     * Method that returns a Cursor to the records of the List with Short relationship info
+     * identified by the URI, which are paged by their Key when the URI requests a page.
+     *
+     * @param uri              is the URI of the List used for querying the data
+     * @param readableDatabase is the instance of {@link SQLiteDatabase} opened for reading
+     * @param projection       is the Projection of columns required in the Select Query
+     * @param selection        A selection criteria to apply when filtering rows. Can be {@code null}.
+     * @param selectionArgs    The values of the ?s in the {@code selection}. Can be {@code null}.
+     * @param sortOrder        How the rows in the cursor should be sorted, when the URI does not request a page.
+     * @return Cursor to the records of the List
+     */
+    private Cursor getShortInfoList(Uri uri, SQLiteDatabase readableDatabase, String[] projection,
+                                    @Nullable String selection, @Nullable String[] selectionArgs,
+                                    @Nullable String sortOrder) {
+        //Building the Query of the List
+        Pair<String, String[]> queryPairs = buildShortInfoListQuery(uri, projection, selection, selectionArgs, sortOrder);
+        //Executing the Query
+        return readableDatabase.rawQuery(queryPairs.first, queryPairs.second);
+    }
+
+    /**
+     * Method that builds the Query of the List with Short relationship info identified by the URI.
+     * When the URI requests a page, the records are sorted by the Key of the List, and restricted to
+     * those after the Key and within the limit passed in the URI.
+     *
+     * @param uri           is the URI of the List used for querying the data
+     * @param projection    is the Projection of columns required in the Select Query
+     * @param selection     A selection criteria to apply when filtering rows. Can be {@code null}.
+     * @param selectionArgs The values of the ?s in the {@code selection}. Can be {@code null}.
+     * @param sortOrder     How the rows in the cursor should be sorted, when the URI does not request a page.
+     * @return A Pair of the Query with its Selection Arguments
+     * @throws IllegalArgumentException when the URI is not of a List with Short relationship info
+     */
+    @VisibleForTesting
+    @NonNull
+    static Pair<String, String[]> buildShortInfoListQuery(Uri uri, String[] projection,
+                                                          @Nullable String selection, @Nullable String[] selectionArgs,
+                                                          @Nullable String sortOrder) {
+        //Reading the number of records requested
+        String limit = uri.getQueryParameter(StoreContract.QUERY_PARAMETER_LIMIT);
+        switch (sUriMatcher.match(uri)) {
+            case ITEM_SHORT_INFO: {
+                //For Items, paged by the 'item_sku'
+                Pair<String, String[]> selectionPairs = combinePageSelection(uri, ITEM_PAGE_KEY_COLUMN, selection, selectionArgs);
+                return buildItemsWithShortInfoQuery(projection, selectionPairs.first, selectionPairs.second,
+                        isPageRequest(uri) ? ITEM_PAGE_KEY_COLUMN : sortOrder, limit);
+            }
+            case SUPPLIER_SHORT_INFO: {
+                //For Suppliers, paged by the 'supplier_code'
+                Pair<String, String[]> selectionPairs = combinePageSelection(uri, SUPPLIER_PAGE_KEY_COLUMN, selection, selectionArgs);
+                return buildSuppliersWithShortInfoQuery(projection, selectionPairs.first, selectionPairs.second,
+                        isPageRequest(uri) ? SUPPLIER_PAGE_KEY_COLUMN : sortOrder, limit);
+            }
+            case SALES_SHORT_INFO: {
+                //For Sales Inventory, paged by the 'item_sku'
+                Pair<String, String[]> selectionPairs = combinePageSelection(uri, SALES_PAGE_KEY_COLUMN, selection, selectionArgs);
+                return buildSalesWithShortInfoQuery(projection, selectionPairs.first, selectionPairs.second,
+                        isPageRequest(uri) ? SALES_PAGE_KEY_COLUMN : sortOrder, limit);
+            }
+            default:
+                //For the URIs of the other data
+                throw new IllegalArgumentException("Unknown/Unsupported uri: " + uri);
+        }
+    }
+
+    /**
+     * Method that builds the Query of the records retrieved from the relationship between
      * the tables 'item', 'item_category' and 'item_image'. Column 'image_uri' retrieved for the
      * 'item_image' relationship can be NULL.
      *
-     * @param readableDatabase is the instance of {@link SQLiteDatabase} opened for reading
      * @param projection       is the Projection of columns required in the Select Query
      * @param selection        A selection criteria to apply when filtering rows.
      *                         If {@code null} then all rows are included.
@@ -421,10 +565,12 @@ public class StoreContentProvider extends ContentProvider {
      *                         The values will be bound as Strings.
      * @param sortOrder        How the rows in the cursor should be sorted.
      *                         If {@code null} then the provider is free to define the sort order.
-     * @return Cursor to the records retrieved from the relationship with 'item' and its tables
-     * 'item_category' and 'item_image'.
+     * @param limit            Limits the number of rows returned. If {@code null} then all rows are returned.
+     * @return A Pair of the Query with its Selection Arguments, for the records retrieved from
+     * the relationship with 'item' and its tables 'item_category' and 'item_image'.
      */
-    private Cursor getItemsWithShortInfo(SQLiteDatabase readableDatabase, String[] projection, @Nullable String selection, @Nullable String[] selectionArgs, @Nullable String sortOrder) {
+    private static Pair<String, String[]> buildItemsWithShortInfoQuery(String[] projection, @Nullable String selection, @Nullable String[] selectionArgs,
+                                                                       @Nullable String sortOrder, @Nullable String limit) {
         //Instantiating a Query Builder
         SQLiteQueryBuilder queryBuilder = new SQLiteQueryBuilder();
         //Setting up the Tables involved in the query
@@ -445,17 +591,121 @@ public class StoreContentProvider extends ContentProvider {
             );
         }
 
+        //Building the Query using the Query Builder
+        return Pair.create(
+                queryBuilder.buildQuery(
+                        projection,
+                        //Where Clause
+                        selectionPairs != null ? selectionPairs.first : null,
+                        null,
+                        null,
+                        sortOrder,
+                        limit
+                ),
+                //The value in Where Clause
+                selectionPairs != null ? selectionPairs.second : null
+        );
+    }
+
+    /**
+     * Method that checks whether the URI requests a page of records, through the
+     * {@link StoreContract#QUERY_PARAMETER_AFTER} or {@link StoreContract#QUERY_PARAMETER_LIMIT}
+     * query parameters.
+     *
+     * @param uri is the URI used for querying the data
+     * @return <b>TRUE</b> when the URI requests a page of records; <b>FALSE</b> otherwise.
+     */
+    private static boolean isPageRequest(Uri uri) {
+        return uri.getQueryParameter(StoreContract.QUERY_PARAMETER_AFTER) != null
+                || uri.getQueryParameter(StoreContract.QUERY_PARAMETER_LIMIT) != null;
+    }
+
+    /**
+     * Method that combines the Selection passed with the Keyset Selection of the page requested
+     * by the {@link StoreContract#QUERY_PARAMETER_AFTER} query parameter of the URI if any, which
+     * restricts the records to those whose Key is after the Key passed.
+     *
+     * @param uri               is the URI used for querying the data
+     * @param keyColumnName     The Name of the Key Column by which the records are sorted and paged
+     * @param selection         A selection criteria to apply when filtering rows. Can be {@code null}.
+     * @param selectionArgs     The values of the ?s in the {@code selection}. Can be {@code null}.
+     * @return A Pair of combined Selection with its Selection Arguments, whose values can be {@code null}
+     * when there is no Selection passed and no page requested.
+     */
+    @NonNull
+    private static Pair<String, String[]> combinePageSelection(Uri uri, String keyColumnName,
+                                                               @Nullable String selection, @Nullable String[] selectionArgs) {
+        //Reading the Key after which the page of records is requested
+        String afterKey = uri.getQueryParameter(StoreContract.QUERY_PARAMETER_AFTER);
+        if (afterKey == null) {
+            //When there is no Key, returning the Selection passed as is
+            return Pair.create(selection, selectionArgs);
+        }
+
+        //Building the Keyset Selection "keyColumnName > ?"
+        Pair<String, String[]> pageSelectionPairs = Pair.create(
+                keyColumnName + GREATER_THAN + PLACEHOLDER,
+                new String[]{afterKey}
+        );
+
+        if (!TextUtils.isEmpty(selection)) {
+            //Combining the Selection clauses when Selection Clause is passed
+            pageSelectionPairs = combineSelectionPairs(
+                    Pair.create(selection, selectionArgs),
+                    pageSelectionPairs,
+                    AND
+            );
+        }
+
+        //Returning the combined Selection
+        return pageSelectionPairs;
+    }
+
+    /**
+     * Method that returns a Cursor to the records retrieved from the relationship between
+     * the tables 'item', 'item_category' and 'item_image', for the Items whose Name, SKU or Category
+     * contains words starting with the words of the search query passed in the URI. The records
+     * are searched using the 'item_search' Full-Text Search Table and are ranked by
+     * {@link QueryArgsUtility.ItemsSearchQuery#getSortOrder()}.
+     *
+     * @param uri              is the URI used for querying the data, which carries the search query
+     *                         and the optional {@link StoreContract#QUERY_PARAMETER_LIMIT}
+     * @param readableDatabase is the instance of {@link SQLiteDatabase} opened for reading
+     * @param projection       is the Projection of columns required in the Select Query
+     * @return Cursor to the records retrieved from the relationship with 'item' and its tables
+     * 'item_category' and 'item_image', for the Items matching the search query.
+     */
+    private Cursor getItemsBySearch(Uri uri, SQLiteDatabase readableDatabase, String[] projection) {
+        //Reading the search query passed in the URI
+        String searchQuery = uri.getLastPathSegment();
+        //Building the Full-Text Search MATCH expression for the search query
+        String matchQuery = SqliteUtility.makeFtsPrefixMatchQuery(searchQuery);
+
+        //Instantiating a Query Builder
+        SQLiteQueryBuilder queryBuilder = new SQLiteQueryBuilder();
+        //Setting up the Tables involved in the query
+        QueryArgsUtility.ItemsSearchQuery.setTables(queryBuilder);
+        //Setting up the Projection Map to use
+        QueryArgsUtility.ItemsSearchQuery.setProjectionMap(queryBuilder);
+
         //Querying for the content using the Query Builder
         return queryBuilder.query(
                 readableDatabase,
                 projection,
                 //Where Clause
-                selectionPairs != null ? selectionPairs.first : null,
-                //The value in Where Clause
-                selectionPairs != null ? selectionPairs.second : null,
+                QueryArgsUtility.ItemsSearchQuery.getSelection(),
+                //The values in Where Clause and Order By Clause. When the search query has no words,
+                //an empty MATCH expression is used which matches none of the records
+                QueryArgsUtility.ItemsSearchQuery.getSelectionArgs(
+                        matchQuery != null ? matchQuery : "",
+                        SqliteUtility.makeLikePrefixPattern(searchQuery != null ? searchQuery : "")
+                ),
                 null,
                 null,
-                sortOrder
+                //Order By Clause that ranks the Items
+                QueryArgsUtility.ItemsSearchQuery.getSortOrder(),
+                //Limit on the number of Items if any
+                uri.getQueryParameter(StoreContract.QUERY_PARAMETER_LIMIT)
         );
     }
 
@@ -492,6 +742,26 @@ public class StoreContentProvider extends ContentProvider {
         );
     }
 
+    /**
+     * Method that returns a Cursor to the record in the 'item' table identified by the
+     * '_id' value passed in the URI, followed by its records in the 'item_attr' and 'item_image' tables.
+     * Each record carries its type in the 'record_type' column, as defined by
+     * {@link QueryArgsUtility.ItemDetailQuery}, so that the entire Item can be read in a single pass.
+     *
+     * @param uri              is the URI used for querying the data
+     * @param readableDatabase is the instance of {@link SQLiteDatabase} opened for reading
+     * @return Cursor to the records of the Item identified by the '_id' value passed in the URI,
+     * along with its Attributes and Images.
+     */
+    private Cursor getItemDetailsAggregate(Uri uri, SQLiteDatabase readableDatabase) {
+        //Querying for the content using the Compound Select Query
+        return readableDatabase.rawQuery(
+                QueryArgsUtility.ItemDetailQuery.getQuery(),
+                //The value in Where Clauses which is the '_id' passed in the URI
+                QueryArgsUtility.ItemDetailQuery.getSelectionArgs(uri)
+        );
+    }
+
     /**
      * Method that returns a Cursor to the record in the 'item_category' table identified
      * by the '_id' value passed in the URI.
@@ -749,10 +1019,9 @@ public class StoreContentProvider extends ContentProvider {
     }
 
     /**
-     * Method that returns a Cursor to the records of Suppliers retrieved from the relationship between
+     * Method that builds the Query of the records of Suppliers retrieved from the relationship between
      * the tables 'supplier', 'supplier_contact', 'contact_type', 'item' and 'item_supplier_info'.
      *
-     * @param readableDatabase is the instance of {@link SQLiteDatabase} opened for reading
      * @param projection       is the Projection of columns required in the Select Query
      * @param selection        A selection criteria to apply when filtering rows.
      *                         If {@code null} then all rows are included.
@@ -761,11 +1030,13 @@ public class StoreContentProvider extends ContentProvider {
      *                         The values will be bound as Strings.
      * @param sortOrder        How the rows in the cursor should be sorted.
      *                         If {@code null} then the provider is free to define the sort order.
-     * @return Cursor to the records of Suppliers retrieved from the relationship between
-     * the tables 'supplier', 'supplier_contact', 'contact_type', 'item' and 'item_supplier_info'.
+     * @param limit            Limits the number of rows returned. If {@code null} then all rows are returned.
+     * @return A Pair of the Query with its Selection Arguments, for the records of Suppliers retrieved
+     * from the relationship between the tables 'supplier', 'supplier_contact', 'contact_type', 'item'
+     * and 'item_supplier_info'.
      */
-    private Cursor getSuppliersWithShortInfo(SQLiteDatabase readableDatabase, String[] projection,
-                                             String selection, String[] selectionArgs, String sortOrder) {
+    private static Pair<String, String[]> buildSuppliersWithShortInfoQuery(String[] projection, @Nullable String selection, @Nullable String[] selectionArgs,
+                                                                           @Nullable String sortOrder, @Nullable String limit) {
         //Instantiating a Query Builder
         SQLiteQueryBuilder queryBuilder = new SQLiteQueryBuilder();
         //Setting up the Tables involved in the query
@@ -773,23 +1044,24 @@ public class StoreContentProvider extends ContentProvider {
         //Setting up the Projection Map to use
         QueryArgsUtility.SuppliersShortInfoQuery.setProjectionMap(queryBuilder);
 
-        //Querying for the content using the Query Builder
-        return queryBuilder.query(
-                readableDatabase,
-                projection,
-                selection,
-                selectionArgs,
-                null,
-                null,
-                sortOrder
+        //Building the Query using the Query Builder
+        return Pair.create(
+                queryBuilder.buildQuery(
+                        projection,
+                        selection,
+                        null,
+                        null,
+                        sortOrder,
+                        limit
+                ),
+                selectionArgs
         );
     }
 
     /**
-     * Method that returns a Cursor to the records retrieved from the relationship between
+     * Method that builds the Query of the records retrieved from the relationship between
      * the tables 'item', 'item_category', 'item_image', 'supplier', 'item_supplier_info' and 'item_supplier_inventory'.
      *
-     * @param readableDatabase is the instance of {@link SQLiteDatabase} opened for reading
      * @param projection       is the Projection of columns required in the Select Query
      * @param selection        A selection criteria to apply when filtering rows.
      *                         If {@code null} then all rows are included.
@@ -798,10 +1070,12 @@ public class StoreContentProvider extends ContentProvider {
      *                         The values will be bound as Strings.
      * @param sortOrder        How the rows in the cursor should be sorted.
      *                         If {@code null} then the provider is free to define the sort order.
-     * @return Cursor to the records retrieved from the relationship between
-     * the tables 'item', 'item_category', 'item_image', 'supplier', 'item_supplier_info' and 'item_supplier_inventory'.
+     * @param limit            Limits the number of rows returned. If {@code null} then all rows are returned.
+     * @return A Pair of the Query with its Selection Arguments, for the records retrieved from the relationship
+     * between the tables 'item', 'item_category', 'item_image', 'supplier', 'item_supplier_info' and 'item_supplier_inventory'.
      */
-    private Cursor getSalesWithShortInfo(SQLiteDatabase readableDatabase, String[] projection, String selection, String[] selectionArgs, String sortOrder) {
+    private static Pair<String, String[]> buildSalesWithShortInfoQuery(String[] projection, @Nullable String selection, @Nullable String[] selectionArgs,
+                                                                       @Nullable String sortOrder, @Nullable String limit) {
         //Instantiating a Query Builder
         SQLiteQueryBuilder queryBuilder = new SQLiteQueryBuilder();
         //Setting up the Tables involved in the query
@@ -822,17 +1096,19 @@ public class StoreContentProvider extends ContentProvider {
             );
         }
 
-        //Querying for the content using the Query Builder
-        return queryBuilder.query(
-                readableDatabase,
-                projection,
-                //Where Clause
-                selectionPairs != null ? selectionPairs.first : null,
+        //Building the Query using the Query Builder
+        return Pair.create(
+                queryBuilder.buildQuery(
+                        projection,
+                        //Where Clause
+                        selectionPairs != null ? selectionPairs.first : null,
+                        null,
+                        null,
+                        sortOrder,
+                        limit
+                ),
                 //The value in Where Clause
-                selectionPairs != null ? selectionPairs.second : null,
-                null,
-                null,
-                sortOrder
+                selectionPairs != null ? selectionPairs.second : null
         );
     }
 
@@ -903,6 +1179,10 @@ public class StoreContentProvider extends ContentProvider {
         try {
             //Using URI matcher to find the possible URI
             switch (sUriMatcher.match(uri)) {
+                case ITEM_IMAGE_FILES:
+                    //For 'item_image_file' table
+                    returnUri = insertImageFile(uri, writableDatabase, values);
+                    break;
                 case CATEGORIES:
                     //For 'item_category' table
                     returnUri = insertWithConflictFail(uri,
@@ -927,6 +1207,51 @@ public class StoreContentProvider extends ContentProvider {
                             values
                     );
                     break;
+                case SUPPLIER_CONTACTS_ID:
+                    //For 'supplier_contact' Table, identified by 'supplier_id'
+                    returnUri = insertHangOffRecord(uri,
+                            SupplierContract.SupplierContact.TABLE_NAME,
+                            SupplierContract.SupplierContact.COLUMN_SUPPLIER_ID,
+                            writableDatabase,
+                            values
+                    );
+                    break;
+                case SUPPLIER_ITEMS_ID:
+                    //For 'item_supplier_info' Table, identified by 'supplier_id'
+                    returnUri = insertHangOffRecord(uri,
+                            SalesContract.ProductSupplierInfo.TABLE_NAME,
+                            SalesContract.ProductSupplierInfo.COLUMN_SUPPLIER_ID,
+                            writableDatabase,
+                            values
+                    );
+                    break;
+                case ITEM_SUPPLIERS_ID:
+                    //For 'item_supplier_info' Table, identified by 'item_id'
+                    returnUri = insertHangOffRecord(uri,
+                            SalesContract.ProductSupplierInfo.TABLE_NAME,
+                            SalesContract.ProductSupplierInfo.COLUMN_ITEM_ID,
+                            writableDatabase,
+                            values
+                    );
+                    break;
+                case SALES_INVENTORY_ITEM_ID:
+                    //For 'item_supplier_inventory' Table, identified by 'item_id'
+                    returnUri = insertHangOffRecord(uri,
+                            SalesContract.ProductSupplierInventory.TABLE_NAME,
+                            SalesContract.ProductSupplierInventory.COLUMN_ITEM_ID,
+                            writableDatabase,
+                            values
+                    );
+                    break;
+                case SALES_INVENTORY_SUPPLIER_ID:
+                    //For 'item_supplier_inventory' Table, identified by 'supplier_id'
+                    returnUri = insertHangOffRecord(uri,
+                            SalesContract.ProductSupplierInventory.TABLE_NAME,
+                            SalesContract.ProductSupplierInventory.COLUMN_SUPPLIER_ID,
+                            writableDatabase,
+                            values
+                    );
+                    break;
                 default:
                     throw new IllegalArgumentException("Unknown/Unsupported uri: " + uri);
             }
@@ -935,10 +1260,72 @@ public class StoreContentProvider extends ContentProvider {
             writableDatabase.endTransaction();
         }
 
+        if (returnUri != null) {
+            //Notifying the listeners that the data at the URI has changed,
+            //only after the record inserted is committed
+            notifyChange(uri);
+        }
+
         //Returning the URI generated for the record inserted
         return returnUri;
     }
 
+    /**
+     * Method that registers an Image file into the 'item_image_file' table. The Image file may already be
+     * registered by the Triggers on 'item_image' table, in which case only its content hash is updated,
+     * retaining its reference count.
+     *
+     * @param uri              The content:// URI of the insertion request.
+     * @param writableDatabase The instance of {@link SQLiteDatabase} opened for writing
+     * @param values           A set of column_name/value pairs to add to the database,
+     *                         which must contain the 'image_uri' of the Image file.
+     * @return The URI of the Image file registered.
+     */
+    private Uri insertImageFile(Uri uri, SQLiteDatabase writableDatabase, ContentValues values) {
+        //Reading the URI of the Image file
+        String imageUriStr = values.getAsString(ProductContract.ProductImageFile.COLUMN_ITEM_IMAGE_URI);
+        if (TextUtils.isEmpty(imageUriStr)) {
+            throw new IllegalArgumentException("Image file requires an image uri");
+        }
+
+        //Declaring a Uri that will hold the Uri of the record inserted
+        Uri returnUri = null;
+
+        try {
+            //Inserting the record, ignoring when the Image file is already registered
+            writableDatabase.insertWithOnConflict(
+                    ProductContract.ProductImageFile.TABLE_NAME,
+                    null,
+                    values,
+                    SQLiteDatabase.CONFLICT_IGNORE
+            );
+
+            //Updating the content hash of an Image file already registered, without altering its reference count
+            ContentValues hashValues = new ContentValues();
+            hashValues.put(ProductContract.ProductImageFile.COLUMN_CONTENT_HASH,
+                    values.getAsString(ProductContract.ProductImageFile.COLUMN_CONTENT_HASH));
+            writableDatabase.update(
+                    ProductContract.ProductImageFile.TABLE_NAME,
+                    hashValues,
+                    ProductContract.ProductImageFile.COLUMN_ITEM_IMAGE_URI + EQUALS + PLACEHOLDER,
+                    new String[]{imageUriStr}
+            );
+
+            //Mark the Transaction as successful
+            writableDatabase.setTransactionSuccessful();
+
+            //Returning the URI of the table for the Image file registered
+            returnUri = uri;
+        } catch (SQLException e) {
+            //For an error in SQL string or any other unknown causes
+            //Logging the error
+            Log.e(LOG_TAG, "insertImageFile: Failed to register the image file " + imageUriStr, e);
+        }
+
+        //Returning the URI of the Image file registered
+        return returnUri;
+    }
+
     /**
      * Method that inserts record into the table {@code tableName} that has a
      * unique constraint of CONFLICT FAIL
@@ -972,10 +1359,6 @@ public class StoreContentProvider extends ContentProvider {
                 //Mark the Transaction as successful
                 writableDatabase.setTransactionSuccessful();
 
-                //Notify listeners attached to the Content Resolver
-                //that the data at the URI has changed
-                getContext().getContentResolver().notifyChange(uri, null);
-
                 //Generate the URI for the record inserted, with the id appended at the end
                 returnUri = ContentUris.withAppendedId(uri, recordId);
             }
@@ -992,6 +1375,38 @@ public class StoreContentProvider extends ContentProvider {
         return returnUri;
     }
 
+    /**
+     * Method that inserts a single record into the hang off table {@code tableName}
+     * that has a unique constraint of CONFLICT REPLACE. The '_id' column value of the
+     * parent record passed in the {@code uri} is added to the record being inserted.
+     *
+     * @param uri                 The content:// URI of the insertion request which contains the '_id' column
+     *                            value of the parent record appended in the end.
+     * @param tableName           The name of the hang off table where the record is to be inserted
+     * @param parentIdColumnName  The name of the column in {@code tableName} that references the parent record
+     * @param writableDatabase    The instance of {@link SQLiteDatabase} opened for writing
+     * @param values              A set of column_name/value pairs to add to the database.
+     * @return The {@code uri} of the insertion request when the record was inserted; {@code null} otherwise.
+     */
+    @Nullable
+    private Uri insertHangOffRecord(Uri uri, String tableName, String parentIdColumnName,
+                                    SQLiteDatabase writableDatabase, ContentValues values) {
+        //Adding the '_id' of the parent record to the record to insert
+        values.put(parentIdColumnName, ContentUris.parseId(uri));
+
+        //Inserting the record into the table
+        if (insertBulkRecord(uri, tableName, writableDatabase, values)) {
+            //On success, mark the Transaction as successful
+            writableDatabase.setTransactionSuccessful();
+            //Returning the URI of the insertion request, since the hang off records
+            //are identified by their parent record
+            return uri;
+        }
+
+        //Returning NULL when the record was not inserted
+        return null;
+    }
+
     /**
      * Override this to handle requests to insert a set of new rows, or the
      * default implementation will iterate over the values and call
@@ -1020,70 +1435,77 @@ public class StoreContentProvider extends ContentProvider {
         //Stores the count of records inserted
         int noOfRecordsInserted;
 
-        //Using URI matcher to find the possible URI
-        switch (sUriMatcher.match(uri)) {
-            case ITEM_ATTRS_ID:
-                //For 'item_attr' table
-
-                //Executing bulk insert after delete
-                noOfRecordsInserted = bulkInsertHangOffTable(uri,
-                        ProductContract.ProductAttribute.TABLE_NAME,
-                        writableDatabase,
-                        values,
-                        true
-                );
-                break;
-            case ITEM_IMAGES_ID:
-                //For 'item_image' table
-
-                //Executing bulk insert after delete
-                noOfRecordsInserted = bulkInsertHangOffTable(uri,
-                        ProductContract.ProductImage.TABLE_NAME,
-                        writableDatabase,
-                        values,
-                        true
-                );
-                break;
-            case SUPPLIER_CONTACTS_ID:
-                //For 'supplier_contact' Table
-
-                //Executing bulk insert without delete
-                //(Because the Table definition supports CONFLICT REPLACE)
-                noOfRecordsInserted = bulkInsertHangOffTable(uri,
-                        SupplierContract.SupplierContact.TABLE_NAME,
-                        writableDatabase,
-                        values,
-                        false
-                );
-                break;
-            case SUPPLIER_ITEMS_ID:
-            case ITEM_SUPPLIERS_ID:
-                //For 'item_supplier_info' Table
-
-                //Executing bulk insert without delete
-                //(Because the Table definition supports CONFLICT REPLACE)
-                noOfRecordsInserted = bulkInsertHangOffTable(uri,
-                        SalesContract.ProductSupplierInfo.TABLE_NAME,
-                        writableDatabase,
-                        values,
-                        false
-                );
-                break;
-            case SALES_INVENTORY_ITEM_ID:
-            case SALES_INVENTORY_SUPPLIER_ID:
-                //For 'item_supplier_inventory' Table
-
-                //Executing bulk insert without delete
-                //(Because the Table definition supports CONFLICT REPLACE)
-                noOfRecordsInserted = bulkInsertHangOffTable(uri,
-                        SalesContract.ProductSupplierInventory.TABLE_NAME,
-                        writableDatabase,
-                        values,
-                        false
-                );
-                break;
-            default:
-                noOfRecordsInserted = super.bulkInsert(uri, values);
+        //Starting a batch to coalesce the notifications of the delete and insert operations
+        boolean isOutermostBatch = beginNotifyBatch();
+        try {
+            //Using URI matcher to find the possible URI
+            switch (sUriMatcher.match(uri)) {
+                case ITEM_ATTRS_ID:
+                    //For 'item_attr' table
+
+                    //Executing bulk insert after delete
+                    noOfRecordsInserted = bulkInsertHangOffTable(uri,
+                            ProductContract.ProductAttribute.TABLE_NAME,
+                            writableDatabase,
+                            values,
+                            true
+                    );
+                    break;
+                case ITEM_IMAGES_ID:
+                    //For 'item_image' table
+
+                    //Executing bulk insert after delete
+                    noOfRecordsInserted = bulkInsertHangOffTable(uri,
+                            ProductContract.ProductImage.TABLE_NAME,
+                            writableDatabase,
+                            values,
+                            true
+                    );
+                    break;
+                case SUPPLIER_CONTACTS_ID:
+                    //For 'supplier_contact' Table
+
+                    //Executing bulk insert without delete
+                    //(Because the Table definition supports CONFLICT REPLACE)
+                    noOfRecordsInserted = bulkInsertHangOffTable(uri,
+                            SupplierContract.SupplierContact.TABLE_NAME,
+                            writableDatabase,
+                            values,
+                            false
+                    );
+                    break;
+                case SUPPLIER_ITEMS_ID:
+                case ITEM_SUPPLIERS_ID:
+                    //For 'item_supplier_info' Table
+
+                    //Executing bulk insert without delete
+                    //(Because the Table definition supports CONFLICT REPLACE)
+                    noOfRecordsInserted = bulkInsertHangOffTable(uri,
+                            SalesContract.ProductSupplierInfo.TABLE_NAME,
+                            writableDatabase,
+                            values,
+                            false
+                    );
+                    break;
+                case SALES_INVENTORY_ITEM_ID:
+                case SALES_INVENTORY_SUPPLIER_ID:
+                    //For 'item_supplier_inventory' Table
+
+                    //Executing bulk insert without delete
+                    //(Because the Table definition supports CONFLICT REPLACE)
+                    noOfRecordsInserted = bulkInsertHangOffTable(uri,
+                            SalesContract.ProductSupplierInventory.TABLE_NAME,
+                            writableDatabase,
+                            values,
+                            false
+                    );
+                    break;
+                default:
+                    noOfRecordsInserted = super.bulkInsert(uri, values);
+            }
+        } finally {
+            //Ending the batch, which dispatches the coalesced notifications when this is the outermost batch
+            endNotifyBatch(isOutermostBatch);
         }
 
         //Returning the number of records inserted
@@ -1275,6 +1697,12 @@ public class StoreContentProvider extends ContentProvider {
             writableDatabase.endTransaction();
         }
 
+        if (noOfRecordsInserted > 0) {
+            //Notifying the listeners once for all the records inserted,
+            //only after the records inserted are committed
+            notifyChange(uri);
+        }
+
         //Returning the number of records inserted
         return noOfRecordsInserted;
     }
@@ -1302,12 +1730,6 @@ public class StoreContentProvider extends ContentProvider {
             //Returning False on Failure
             return false;
         } else {
-            //On success of inserting the record
-
-            //Notify listeners attached to the Content Resolver
-            //that the data at the URI has changed
-            getContext().getContentResolver().notifyChange(uri, null);
-
             //Returning True on Success
             return true;
         }
@@ -1385,6 +1807,19 @@ public class StoreContentProvider extends ContentProvider {
                     writableDatabase.setTransactionSuccessful();
                     break;
 
+                case ITEM_IMAGE_FILES:
+                    //For the records from the 'item_image_file' table matching the selection passed
+
+                    //Executing delete
+                    noOfRecordsDeleted = writableDatabase.delete(
+                            ProductContract.ProductImageFile.TABLE_NAME,
+                            selection,
+                            selectionArgs
+                    );
+                    //Marking the transaction as successful
+                    writableDatabase.setTransactionSuccessful();
+                    break;
+
                 case ITEM_ID:
                     //For a specific Item from the 'item' Table
                     //identified by the Item's '_id' passed in the URI
@@ -1589,7 +2024,7 @@ public class StoreContentProvider extends ContentProvider {
 
         if (noOfRecordsDeleted > 0) {
             //Notifying the listeners that the data at the URI has changed, when some rows are deleted
-            getContext().getContentResolver().notifyChange(uri, null);
+            notifyChange(uri);
         }
 
         //Returning the number of records deleted
@@ -1747,10 +2182,252 @@ public class StoreContentProvider extends ContentProvider {
 
         if (noOfRecordsUpdated > 0) {
             //Notifying the listeners that the data at the URI has changed, when some rows are updated
-            getContext().getContentResolver().notifyChange(uri, null);
+            notifyChange(uri);
         }
 
         //Returning the number of records updated
         return noOfRecordsUpdated;
     }
+
+    /**
+     * Override this to handle requests to perform a batch of operations, or the
+     * default implementation will iterate over the operations and call
+     * {@link ContentProviderOperation#apply} on each of them.
+     * <p>
+     * All the operations are applied within a single database transaction, which is committed
+     * only when every operation succeeds. If any of the operations fails, the entire batch
+     * is rolled back. The change notifications for the URIs affected are dispatched
+     * once per URI, only after the batch is committed.
+     * </p>
+     *
+     * @param operations The operations to apply
+     * @return The results of the applications
+     * @throws OperationApplicationException thrown if any operation fails.
+     * @see ContentProviderOperation#apply
+     */
+    @NonNull
+    @Override
+    public ContentProviderResult[] applyBatch(@NonNull ArrayList<ContentProviderOperation> operations)
+            throws OperationApplicationException {
+        //Retrieving the database in write mode
+        SQLiteDatabase writableDatabase = mDbHelper.getWritableDatabase();
+
+        //Starting a batch to defer the notifications of all the operations till the end
+        boolean isOutermostBatch = beginNotifyBatch();
+        //Stores the result of the batch
+        boolean isBatchSuccessful = false;
+
+        //Locking the database for the batch of operations
+        writableDatabase.beginTransaction();
+        try {
+            //Executing the batch of operations within the transaction
+            ContentProviderResult[] results = super.applyBatch(operations);
+            //Marking the transaction as successful when all the operations were applied
+            writableDatabase.setTransactionSuccessful();
+            isBatchSuccessful = true;
+            //Returning the results of the operations
+            return results;
+        } finally {
+            //Releasing the lock in the end, which commits or rolls back the entire batch
+            writableDatabase.endTransaction();
+
+            if (!isBatchSuccessful) {
+                //When the batch failed, discard the notifications collected as nothing was changed
+                Set<Uri> pendingNotifyUris = mPendingNotifyUris.get();
+                if (isOutermostBatch && pendingNotifyUris != null) {
+                    pendingNotifyUris.clear();
+                }
+            }
+
+            //Ending the batch, which dispatches the coalesced notifications when this is the outermost batch
+            endNotifyBatch(isOutermostBatch);
+        }
+    }
+
+    /**
+     * Call a provider-defined method.  This can be used to implement
+     * interfaces that are cheaper and/or unnatural for a table-like
+     * model.
+     * <p>
+     * Supports {@link SalesContract.ProductSupplierInventory#METHOD_DECREASE_AVAIL_QUANTITY}
+     * for atomically decreasing the available quantity of a batch of Item-Supplier pairs.
+     * </p>
+     *
+     * @param method method name to call.  Opaque to framework, but should not be {@code null}.
+     * @param arg    provider-defined String argument.  May be {@code null}.
+     * @param extras provider-defined Bundle argument.  May be {@code null}.
+     * @return provider-defined return value.  May be {@code null}, which is also
+     * the default for providers which don't implement any call methods.
+     */
+    @Nullable
+    @Override
+    public Bundle call(@NonNull String method, @Nullable String arg, @Nullable Bundle extras) {
+        if (SalesContract.ProductSupplierInventory.METHOD_DECREASE_AVAIL_QUANTITY.equals(method)) {
+            //For decreasing the available quantity of the Item-Supplier pairs
+            return decreaseAvailableQuantity(extras);
+        }
+
+        //Propagating the call to super for other methods
+        return super.call(method, arg, extras);
+    }
+
+    /**
+     * Method that decreases the available quantity of a batch of Item-Supplier pairs in the
+     * 'item_supplier_inventory' table, in a single transaction. The quantity is decreased
+     * in the database itself and only when sufficient quantity is available, which prevents
+     * lost updates from concurrent sales. The batch is committed only when all the Item-Supplier
+     * pairs were updated; otherwise none of them are.
+     *
+     * @param extras The {@link Bundle} containing the int arrays of Item Ids, Supplier Ids and the
+     *               quantities to decrease by, identified by the keys
+     *               {@link SalesContract.ProductSupplierInventory#EXTRA_ITEM_IDS},
+     *               {@link SalesContract.ProductSupplierInventory#EXTRA_SUPPLIER_IDS} and
+     *               {@link SalesContract.ProductSupplierInventory#EXTRA_DECREASE_QUANTITIES} respectively.
+     * @return A {@link Bundle} containing the number of records updated, identified by the key
+     * {@link SalesContract.ProductSupplierInventory#RESULT_NO_OF_RECORDS_UPDATED}. This will be 0 when the batch was not applied.
+     */
+    private Bundle decreaseAvailableQuantity(@Nullable Bundle extras) {
+        //Retrieving the batch of Item-Supplier pairs with their quantities to decrease by
+        int[] itemIds = extras != null ? extras.getIntArray(SalesContract.ProductSupplierInventory.EXTRA_ITEM_IDS) : null;
+        int[] supplierIds = extras != null ? extras.getIntArray(SalesContract.ProductSupplierInventory.EXTRA_SUPPLIER_IDS) : null;
+        int[] decreaseQuantities = extras != null ? extras.getIntArray(SalesContract.ProductSupplierInventory.EXTRA_DECREASE_QUANTITIES) : null;
+
+        //When the batch is missing or inconsistent, throw an exception
+        if (itemIds == null || supplierIds == null || decreaseQuantities == null
+                || itemIds.length != supplierIds.length || itemIds.length != decreaseQuantities.length) {
+            throw new IllegalArgumentException("Invalid extras for " + SalesContract.ProductSupplierInventory.METHOD_DECREASE_AVAIL_QUANTITY);
+        }
+
+        //Retrieving the database in write mode
+        SQLiteDatabase writableDatabase = mDbHelper.getWritableDatabase();
+
+        //Stores the count of records updated
+        int noOfRecordsUpdated = 0;
+
+        //Compiling the statement once, to be reused for all the Item-Supplier pairs
+        SQLiteStatement statement = writableDatabase.compileStatement(DECREASE_AVAIL_QUANTITY_SQL);
+
+        //Locking the database for update
+        writableDatabase.beginTransaction();
+        try {
+            //Iterating over the Item-Supplier pairs to decrease their available quantity
+            for (int index = 0; index < itemIds.length; index++) {
+                if (decreaseQuantities[index] <= 0) {
+                    //When the quantity to decrease by is not positive, throw an exception
+                    throw new IllegalArgumentException("Invalid quantity " + decreaseQuantities[index]
+                            + " to decrease for item " + itemIds[index] + " at supplier " + supplierIds[index]);
+                }
+
+                //Binding the values of the current Item-Supplier pair
+                statement.bindLong(1, decreaseQuantities[index]);
+                statement.bindLong(2, itemIds[index]);
+                statement.bindLong(3, supplierIds[index]);
+                statement.bindLong(4, decreaseQuantities[index]);
+
+                //Executing update
+                if (statement.executeUpdateDelete() != 1) {
+                    //Logging the error and stop processing when the quantity available is insufficient
+                    //or the Item-Supplier pair does not exist
+                    Log.e(LOG_TAG, "decreaseAvailableQuantity: Failed to decrease quantity for item "
+                            + itemIds[index] + " at supplier " + supplierIds[index]);
+                    break;
+                }
+
+                //On Successful update, increment the number of records updated
+                noOfRecordsUpdated++;
+            }
+
+            if (noOfRecordsUpdated == itemIds.length) {
+                //Mark the Transaction as successful when all the records were updated
+                writableDatabase.setTransactionSuccessful();
+            } else {
+                //Resetting the count when the batch is being rolled back
+                noOfRecordsUpdated = 0;
+            }
+        } finally {
+            //Releasing the lock in the end
+            writableDatabase.endTransaction();
+            //Releasing the statement resources
+            statement.close();
+        }
+
+        if (noOfRecordsUpdated > 0) {
+            //Notifying the listeners once for each of the Items updated, when the batch is committed
+            boolean isOutermostBatch = beginNotifyBatch();
+            for (int itemId : itemIds) {
+                notifyChange(ContentUris.withAppendedId(SalesContract.ProductSupplierInventory.CONTENT_URI_INV_ITEM, itemId));
+            }
+            endNotifyBatch(isOutermostBatch);
+        }
+
+        //Returning the number of records updated
+        Bundle result = new Bundle();
+        result.putInt(SalesContract.ProductSupplierInventory.RESULT_NO_OF_RECORDS_UPDATED, noOfRecordsUpdated);
+        return result;
+    }
+
+    /**
+     * Method that starts a batch of write operations on the current thread, during which
+     * the change notifications are collected and deduplicated instead of being dispatched immediately.
+     * Batches can be nested, in which case the notifications are dispatched only when
+     * the outermost batch ends.
+     *
+     * @return Returns <b>TRUE</b> when the batch started is the outermost batch; <b>FALSE</b> otherwise.
+     * The value returned should be passed to {@link #endNotifyBatch(boolean)}
+     */
+    private boolean beginNotifyBatch() {
+        if (mPendingNotifyUris.get() == null) {
+            //When there is no batch in progress on the current thread, start a new one
+            mPendingNotifyUris.set(new LinkedHashSet<Uri>());
+            //Returning True as this is the outermost batch
+            return true;
+        }
+        //Returning False when the batch is nested in another batch
+        return false;
+    }
+
+    /**
+     * Method that ends the batch of write operations started with {@link #beginNotifyBatch()}.
+     * When this is the outermost batch, the change notifications collected during the batch
+     * are dispatched once for each distinct URI.
+     *
+     * @param isOutermostBatch The value returned by the corresponding call to {@link #beginNotifyBatch()}
+     */
+    private void endNotifyBatch(boolean isOutermostBatch) {
+        if (!isOutermostBatch) {
+            //Returning when the batch is nested, as the outermost batch will dispatch the notifications
+            return;
+        }
+
+        //Retrieving the URIs collected during the batch
+        Set<Uri> pendingNotifyUris = mPendingNotifyUris.get();
+        //Clearing the batch on the current thread
+        mPendingNotifyUris.remove();
+
+        if (pendingNotifyUris != null) {
+            //Notifying the listeners once for each distinct URI changed during the batch
+            for (Uri uri : pendingNotifyUris) {
+                getContext().getContentResolver().notifyChange(uri, null);
+            }
+        }
+    }
+
+    /**
+     * Method that notifies the listeners attached to the Content Resolver that the data
+     * at the {@code uri} has changed. When a batch of write operations is in progress
+     * on the current thread, the notification is deferred till the end of the batch.
+     *
+     * @param uri The content:// URI of the data that has changed
+     */
+    private void notifyChange(Uri uri) {
+        //Retrieving the batch in progress on the current thread if any
+        Set<Uri> pendingNotifyUris = mPendingNotifyUris.get();
+        if (pendingNotifyUris != null) {
+            //When a batch is in progress, collect the URI to be notified later
+            pendingNotifyUris.add(uri);
+        } else {
+            //When there is no batch in progress, notify the listeners immediately
+            getContext().getContentResolver().notifyChange(uri, null);
+        }
+    }
 }
@@ -25,31 +25,47 @@ import android.database.sqlite.SQLiteDatabase;
 import android.database.sqlite.SQLiteOpenHelper;
 import android.database.sqlite.SQLiteQuery;
 import android.os.Build;
+import android.os.SystemClock;
+import android.support.annotation.Nullable;
+import android.support.annotation.VisibleForTesting;
 import android.util.Log;
+import android.util.SparseArray;
 
 import com.example.kaushiknsanji.storeapp.data.local.contracts.ProductContract.Product;
 import com.example.kaushiknsanji.storeapp.data.local.contracts.ProductContract.ProductAttribute;
 import com.example.kaushiknsanji.storeapp.data.local.contracts.ProductContract.ProductCategory;
 import com.example.kaushiknsanji.storeapp.data.local.contracts.ProductContract.ProductImage;
+import com.example.kaushiknsanji.storeapp.data.local.contracts.ProductContract.ProductImageFile;
+import com.example.kaushiknsanji.storeapp.data.local.contracts.ProductContract.ProductSearch;
+import com.example.kaushiknsanji.storeapp.data.local.contracts.SalesContract.ProductSalesSummary;
 import com.example.kaushiknsanji.storeapp.data.local.contracts.SalesContract.ProductSupplierInfo;
 import com.example.kaushiknsanji.storeapp.data.local.contracts.SalesContract.ProductSupplierInventory;
 import com.example.kaushiknsanji.storeapp.data.local.contracts.SupplierContract.Supplier;
 import com.example.kaushiknsanji.storeapp.data.local.contracts.SupplierContract.SupplierContact;
 import com.example.kaushiknsanji.storeapp.data.local.contracts.SupplierContract.SupplierContactType;
+import com.example.kaushiknsanji.storeapp.data.local.contracts.SupplierContract.SupplierSummary;
 import com.example.kaushiknsanji.storeapp.utils.AppConstants;
 import com.example.kaushiknsanji.storeapp.utils.AppExecutors;
 
+import static com.example.kaushiknsanji.storeapp.data.local.utils.SqliteUtility.AND;
+import static com.example.kaushiknsanji.storeapp.data.local.utils.SqliteUtility.AS;
 import static com.example.kaushiknsanji.storeapp.data.local.utils.SqliteUtility.CLOSE_BRACE;
 import static com.example.kaushiknsanji.storeapp.data.local.utils.SqliteUtility.COMMA;
 import static com.example.kaushiknsanji.storeapp.data.local.utils.SqliteUtility.CONFLICT_FAIL;
 import static com.example.kaushiknsanji.storeapp.data.local.utils.SqliteUtility.CONFLICT_REPLACE;
 import static com.example.kaushiknsanji.storeapp.data.local.utils.SqliteUtility.CONSTRAINT;
+import static com.example.kaushiknsanji.storeapp.data.local.utils.SqliteUtility.COUNT;
 import static com.example.kaushiknsanji.storeapp.data.local.utils.SqliteUtility.CREATE_INDEX;
 import static com.example.kaushiknsanji.storeapp.data.local.utils.SqliteUtility.CREATE_TABLE;
+import static com.example.kaushiknsanji.storeapp.data.local.utils.SqliteUtility.CREATE_VIRTUAL_TABLE;
 import static com.example.kaushiknsanji.storeapp.data.local.utils.SqliteUtility.DEFAULT;
 import static com.example.kaushiknsanji.storeapp.data.local.utils.SqliteUtility.DELETE_CASCADE;
+import static com.example.kaushiknsanji.storeapp.data.local.utils.SqliteUtility.DESC;
+import static com.example.kaushiknsanji.storeapp.data.local.utils.SqliteUtility.EQUALS;
 import static com.example.kaushiknsanji.storeapp.data.local.utils.SqliteUtility.FOREIGN_KEY;
 import static com.example.kaushiknsanji.storeapp.data.local.utils.SqliteUtility.INTEGER;
+import static com.example.kaushiknsanji.storeapp.data.local.utils.SqliteUtility.IS;
+import static com.example.kaushiknsanji.storeapp.data.local.utils.SqliteUtility.JOIN;
 import static com.example.kaushiknsanji.storeapp.data.local.utils.SqliteUtility.NOT;
 import static com.example.kaushiknsanji.storeapp.data.local.utils.SqliteUtility.NULL;
 import static com.example.kaushiknsanji.storeapp.data.local.utils.SqliteUtility.ON;
@@ -58,9 +74,14 @@ import static com.example.kaushiknsanji.storeapp.data.local.utils.SqliteUtility.
 import static com.example.kaushiknsanji.storeapp.data.local.utils.SqliteUtility.PRIMARY_KEY_AUTOINCREMENT;
 import static com.example.kaushiknsanji.storeapp.data.local.utils.SqliteUtility.REAL;
 import static com.example.kaushiknsanji.storeapp.data.local.utils.SqliteUtility.REFERENCES;
+import static com.example.kaushiknsanji.storeapp.data.local.utils.SqliteUtility.SET;
 import static com.example.kaushiknsanji.storeapp.data.local.utils.SqliteUtility.SPACE;
+import static com.example.kaushiknsanji.storeapp.data.local.utils.SqliteUtility.SUM;
 import static com.example.kaushiknsanji.storeapp.data.local.utils.SqliteUtility.TEXT;
 import static com.example.kaushiknsanji.storeapp.data.local.utils.SqliteUtility.UNIQUE;
+import static com.example.kaushiknsanji.storeapp.data.local.utils.SqliteUtility.UPDATE;
+import static com.example.kaushiknsanji.storeapp.data.local.utils.SqliteUtility.USING_FTS4;
+import static com.example.kaushiknsanji.storeapp.data.local.utils.SqliteUtility.WHERE;
 
 /**
  * Database Helper class that manages Database creation and Version management.
@@ -72,9 +93,16 @@ public class StoreDbHelper extends SQLiteOpenHelper {
     private static final String LOG_TAG = StoreDbHelper.class.getSimpleName();
 
     //Constant for the Database Version
-    private static final int DATABASE_VERSION = 1;
+    @VisibleForTesting
+    static final int DATABASE_VERSION = 6;
     //Constant for the Database Name
     private static final String DATABASE_NAME = "inventory.db";
+    //Constant for the Page Cache size of the primary Database connection, in KiB
+    //(Negative value passed to the 'cache_size' PRAGMA is interpreted as KiB)
+    @VisibleForTesting
+    static final int DATABASE_CACHE_SIZE_KIB = 4096;
+    //Constant for the size of the Database file to be memory mapped by the primary connection, in bytes
+    private static final long DATABASE_MMAP_SIZE_BYTES = 16L * 1024L * 1024L;
     //Query that creates the Item Table
     private static final String CREATE_TABLE_ITEM
             = CREATE_TABLE + Product.TABLE_NAME
@@ -202,9 +230,197 @@ public class StoreDbHelper extends SQLiteOpenHelper {
     private static final String CREATE_INDEX_SUPPLIER_QUANTITY
             = CREATE_INDEX + "quantity_idx" + ON + ProductSupplierInventory.TABLE_NAME
             + SPACE + OPEN_BRACE + ProductSupplierInventory.COLUMN_ITEM_AVAIL_QUANTITY + CLOSE_BRACE;
+    //Query that creates an Index on the "category_id" column of "item" table
+    private static final String CREATE_INDEX_ITEM_CATEGORY
+            = CREATE_INDEX + "item_category_idx" + ON + Product.TABLE_NAME
+            + SPACE + OPEN_BRACE + Product.COLUMN_ITEM_CATEGORY_ID + CLOSE_BRACE;
+    //Query that creates an Index on the "contact_type_id" and "supplier_id" columns
+    //of "supplier_contact" table
+    private static final String CREATE_INDEX_SUPPLIER_CONTACT_TYPE
+            = CREATE_INDEX + "contact_type_idx" + ON + SupplierContact.TABLE_NAME
+            + SPACE + OPEN_BRACE + SupplierContact.COLUMN_SUPPLIER_CONTACT_TYPE_ID + COMMA + SPACE
+            + SupplierContact.COLUMN_SUPPLIER_ID + CLOSE_BRACE;
+    //Query that creates an Index on the "supplier_id" column of "item_supplier_info" table
+    private static final String CREATE_INDEX_SUPPLIER_INFO_SUPPLIER
+            = CREATE_INDEX + "supplier_info_supplier_idx" + ON + ProductSupplierInfo.TABLE_NAME
+            + SPACE + OPEN_BRACE + ProductSupplierInfo.COLUMN_SUPPLIER_ID + CLOSE_BRACE;
+    //Query that creates an Index on the "supplier_id" column of "item_supplier_inventory" table
+    private static final String CREATE_INDEX_SUPPLIER_INVENTORY_SUPPLIER
+            = CREATE_INDEX + "supplier_inventory_supplier_idx" + ON + ProductSupplierInventory.TABLE_NAME
+            + SPACE + OPEN_BRACE + ProductSupplierInventory.COLUMN_SUPPLIER_ID + CLOSE_BRACE;
+    //Query that creates the Item Sales Summary Table, maintained by the triggers
+    //on "item_supplier_inventory" table
+    private static final String CREATE_TABLE_ITEM_SALES_SUMMARY
+            = CREATE_TABLE + ProductSalesSummary.TABLE_NAME
+            + OPEN_BRACE
+            + ProductSalesSummary.COLUMN_ITEM_ID + SPACE + INTEGER + SPACE + PRIMARY_KEY + COMMA + SPACE
+            + ProductSalesSummary.COLUMN_TOTAL_AVAIL_QUANTITY + SPACE + INTEGER + NOT + NULL + DEFAULT + ProductSupplierInventory.DEFAULT_ITEM_AVAIL_QUANTITY + COMMA + SPACE
+            + ProductSalesSummary.COLUMN_TOP_SUPPLIER_ID + SPACE + INTEGER
+            + CLOSE_BRACE;
+    //Query that creates the Trigger to refresh the Item Sales Summary
+    //when an Item's Inventory is inserted into "item_supplier_inventory" table
+    private static final String CREATE_TRIGGER_SALES_SUMMARY_INSERT
+            = "CREATE TRIGGER sales_summary_insert_trg AFTER INSERT ON " + ProductSupplierInventory.TABLE_NAME
+            + " BEGIN "
+            + buildRefreshSalesSummarySql("NEW." + ProductSupplierInventory.COLUMN_ITEM_ID)
+            + " END";
+    //Query that creates the Trigger to refresh the Item Sales Summary
+    //when an Item's Inventory is updated in "item_supplier_inventory" table
+    private static final String CREATE_TRIGGER_SALES_SUMMARY_UPDATE
+            = "CREATE TRIGGER sales_summary_update_trg AFTER UPDATE OF "
+            + ProductSupplierInventory.COLUMN_ITEM_ID + COMMA + SPACE
+            + ProductSupplierInventory.COLUMN_SUPPLIER_ID + COMMA + SPACE
+            + ProductSupplierInventory.COLUMN_ITEM_AVAIL_QUANTITY
+            + ON + ProductSupplierInventory.TABLE_NAME
+            + " BEGIN "
+            + buildRefreshSalesSummarySql("OLD." + ProductSupplierInventory.COLUMN_ITEM_ID)
+            + buildRefreshSalesSummarySql("NEW." + ProductSupplierInventory.COLUMN_ITEM_ID)
+            + " END";
+    //Query that creates the Trigger to refresh the Item Sales Summary
+    //when an Item's Inventory is deleted from "item_supplier_inventory" table
+    private static final String CREATE_TRIGGER_SALES_SUMMARY_DELETE
+            = "CREATE TRIGGER sales_summary_delete_trg AFTER DELETE ON " + ProductSupplierInventory.TABLE_NAME
+            + " BEGIN "
+            + buildRefreshSalesSummarySql("OLD." + ProductSupplierInventory.COLUMN_ITEM_ID)
+            + " END";
+    //Query that creates the Supplier Summary Table, maintained by the triggers
+    //on "supplier_contact" and "item_supplier_info" tables
+    private static final String CREATE_TABLE_SUPPLIER_SUMMARY
+            = CREATE_TABLE + SupplierSummary.TABLE_NAME
+            + OPEN_BRACE
+            + SupplierSummary.COLUMN_SUPPLIER_ID + SPACE + INTEGER + SPACE + PRIMARY_KEY + COMMA + SPACE
+            + SupplierSummary.COLUMN_DEFAULT_PHONE + SPACE + TEXT + COMMA + SPACE
+            + SupplierSummary.COLUMN_DEFAULT_EMAIL + SPACE + TEXT + COMMA + SPACE
+            + SupplierSummary.COLUMN_ITEM_COUNT + SPACE + INTEGER + NOT + NULL + DEFAULT + "0"
+            + CLOSE_BRACE;
+    //Queries that create the Triggers to refresh the Supplier Summary
+    //when a Supplier's Contact is inserted, updated or deleted in "supplier_contact" table
+    private static final String CREATE_TRIGGER_SUPPLIER_SUMMARY_CONTACT_INSERT
+            = "CREATE TRIGGER supplier_summary_contact_insert_trg AFTER INSERT ON " + SupplierContact.TABLE_NAME
+            + " BEGIN "
+            + buildRefreshSupplierSummarySql("NEW." + SupplierContact.COLUMN_SUPPLIER_ID)
+            + " END";
+    private static final String CREATE_TRIGGER_SUPPLIER_SUMMARY_CONTACT_UPDATE
+            = "CREATE TRIGGER supplier_summary_contact_update_trg AFTER UPDATE ON " + SupplierContact.TABLE_NAME
+            + " BEGIN "
+            + buildRefreshSupplierSummarySql("OLD." + SupplierContact.COLUMN_SUPPLIER_ID)
+            + buildRefreshSupplierSummarySql("NEW." + SupplierContact.COLUMN_SUPPLIER_ID)
+            + " END";
+    private static final String CREATE_TRIGGER_SUPPLIER_SUMMARY_CONTACT_DELETE
+            = "CREATE TRIGGER supplier_summary_contact_delete_trg AFTER DELETE ON " + SupplierContact.TABLE_NAME
+            + " BEGIN "
+            + buildRefreshSupplierSummarySql("OLD." + SupplierContact.COLUMN_SUPPLIER_ID)
+            + " END";
+    //Queries that create the Triggers to refresh the Supplier Summary
+    //when a Supplier's Item is linked, relinked or unlinked in "item_supplier_info" table
+    private static final String CREATE_TRIGGER_SUPPLIER_SUMMARY_ITEM_INSERT
+            = "CREATE TRIGGER supplier_summary_item_insert_trg AFTER INSERT ON " + ProductSupplierInfo.TABLE_NAME
+            + " BEGIN "
+            + buildRefreshSupplierSummarySql("NEW." + ProductSupplierInfo.COLUMN_SUPPLIER_ID)
+            + " END";
+    private static final String CREATE_TRIGGER_SUPPLIER_SUMMARY_ITEM_UPDATE
+            = "CREATE TRIGGER supplier_summary_item_update_trg AFTER UPDATE OF "
+            + ProductSupplierInfo.COLUMN_ITEM_ID + COMMA + SPACE + ProductSupplierInfo.COLUMN_SUPPLIER_ID
+            + ON + ProductSupplierInfo.TABLE_NAME
+            + " BEGIN "
+            + buildRefreshSupplierSummarySql("OLD." + ProductSupplierInfo.COLUMN_SUPPLIER_ID)
+            + buildRefreshSupplierSummarySql("NEW." + ProductSupplierInfo.COLUMN_SUPPLIER_ID)
+            + " END";
+    private static final String CREATE_TRIGGER_SUPPLIER_SUMMARY_ITEM_DELETE
+            = "CREATE TRIGGER supplier_summary_item_delete_trg AFTER DELETE ON " + ProductSupplierInfo.TABLE_NAME
+            + " BEGIN "
+            + buildRefreshSupplierSummarySql("OLD." + ProductSupplierInfo.COLUMN_SUPPLIER_ID)
+            + " END";
+    //Query that creates the Trigger to remove the Supplier Summary
+    //when a Supplier is deleted from "supplier" table
+    private static final String CREATE_TRIGGER_SUPPLIER_SUMMARY_SUPPLIER_DELETE
+            = "CREATE TRIGGER supplier_summary_supplier_delete_trg AFTER DELETE ON " + Supplier.TABLE_NAME
+            + " BEGIN "
+            + "DELETE FROM " + SupplierSummary.TABLE_NAME
+            + " WHERE " + SupplierSummary.COLUMN_SUPPLIER_ID + EQUALS + "OLD." + Supplier._ID + "; "
+            + " END";
+    //Query that creates the Full-Text Search Table of the Items, maintained by the triggers
+    //on "item" and "item_category" tables
+    private static final String CREATE_VIRTUAL_TABLE_ITEM_SEARCH
+            = CREATE_VIRTUAL_TABLE + ProductSearch.TABLE_NAME + USING_FTS4
+            + OPEN_BRACE
+            + ProductSearch.COLUMN_ITEM_NAME + COMMA + SPACE
+            + ProductSearch.COLUMN_ITEM_SKU + COMMA + SPACE
+            + ProductSearch.COLUMN_ITEM_CATEGORY_NAME
+            + CLOSE_BRACE;
+    //Queries that create the Triggers to refresh the Search content of an Item
+    //when the Item is inserted, updated or deleted in "item" table
+    private static final String CREATE_TRIGGER_ITEM_SEARCH_INSERT
+            = "CREATE TRIGGER item_search_insert_trg AFTER INSERT ON " + Product.TABLE_NAME
+            + " BEGIN "
+            + buildInsertProductSearchSql(Product.getQualifiedColumnName(Product._ID) + EQUALS + "NEW." + Product._ID) + "; "
+            + " END";
+    private static final String CREATE_TRIGGER_ITEM_SEARCH_UPDATE
+            = "CREATE TRIGGER item_search_update_trg AFTER UPDATE OF "
+            + Product.COLUMN_ITEM_NAME + COMMA + SPACE + Product.COLUMN_ITEM_SKU + COMMA + SPACE + Product.COLUMN_ITEM_CATEGORY_ID
+            + ON + Product.TABLE_NAME
+            + " BEGIN "
+            + "DELETE FROM " + ProductSearch.TABLE_NAME
+            + " WHERE " + ProductSearch.COLUMN_DOC_ID + EQUALS + "OLD." + Product._ID + "; "
+            + buildInsertProductSearchSql(Product.getQualifiedColumnName(Product._ID) + EQUALS + "NEW." + Product._ID) + "; "
+            + " END";
+    private static final String CREATE_TRIGGER_ITEM_SEARCH_DELETE
+            = "CREATE TRIGGER item_search_delete_trg AFTER DELETE ON " + Product.TABLE_NAME
+            + " BEGIN "
+            + "DELETE FROM " + ProductSearch.TABLE_NAME
+            + " WHERE " + ProductSearch.COLUMN_DOC_ID + EQUALS + "OLD." + Product._ID + "; "
+            + " END";
+    //Query that creates the Trigger to refresh the Search content of the Items of a Category
+    //when the Category is renamed in "item_category" table
+    private static final String CREATE_TRIGGER_ITEM_SEARCH_CATEGORY_UPDATE
+            = "CREATE TRIGGER item_search_category_update_trg AFTER UPDATE OF "
+            + ProductCategory.COLUMN_ITEM_CATEGORY_NAME + ON + ProductCategory.TABLE_NAME
+            + " BEGIN "
+            + "DELETE FROM " + ProductSearch.TABLE_NAME
+            + " WHERE " + ProductSearch.COLUMN_DOC_ID + " IN "
+            + OPEN_BRACE + "SELECT " + Product._ID + " FROM " + Product.TABLE_NAME
+            + " WHERE " + Product.COLUMN_ITEM_CATEGORY_ID + EQUALS + "NEW." + ProductCategory._ID + CLOSE_BRACE + "; "
+            + buildInsertProductSearchSql(Product.getQualifiedColumnName(Product.COLUMN_ITEM_CATEGORY_ID) + EQUALS + "NEW." + ProductCategory._ID) + "; "
+            + " END";
+    //Query that creates the Item Image File Table, whose reference counts are maintained
+    //by the triggers on "item_image" table
+    private static final String CREATE_TABLE_ITEM_IMAGE_FILE
+            = CREATE_TABLE + ProductImageFile.TABLE_NAME
+            + OPEN_BRACE
+            + ProductImageFile.COLUMN_ITEM_IMAGE_URI + SPACE + TEXT + NOT + NULL + SPACE + PRIMARY_KEY + COMMA + SPACE
+            + ProductImageFile.COLUMN_CONTENT_HASH + SPACE + TEXT + COMMA + SPACE
+            + ProductImageFile.COLUMN_REF_COUNT + SPACE + INTEGER + NOT + NULL + DEFAULT + "0"
+            + CLOSE_BRACE;
+    //Query that creates an Index on the "image_uri" column of "item_image" table,
+    //used for counting the references to an Image file
+    private static final String CREATE_INDEX_ITEM_IMAGE_URI
+            = CREATE_INDEX + "item_image_uri_idx" + ON + ProductImage.TABLE_NAME
+            + SPACE + OPEN_BRACE + ProductImage.COLUMN_ITEM_IMAGE_URI + CLOSE_BRACE;
+    //Queries that create the Triggers to refresh the reference count of an Image file
+    //when an Item's Image is inserted, updated or deleted in "item_image" table
+    private static final String CREATE_TRIGGER_IMAGE_FILE_INSERT
+            = "CREATE TRIGGER image_file_insert_trg AFTER INSERT ON " + ProductImage.TABLE_NAME
+            + " BEGIN "
+            + buildRefreshImageFileSql("NEW." + ProductImage.COLUMN_ITEM_IMAGE_URI)
+            + " END";
+    private static final String CREATE_TRIGGER_IMAGE_FILE_UPDATE
+            = "CREATE TRIGGER image_file_update_trg AFTER UPDATE OF "
+            + ProductImage.COLUMN_ITEM_IMAGE_URI + ON + ProductImage.TABLE_NAME
+            + " BEGIN "
+            + buildRefreshImageFileSql("OLD." + ProductImage.COLUMN_ITEM_IMAGE_URI)
+            + buildRefreshImageFileSql("NEW." + ProductImage.COLUMN_ITEM_IMAGE_URI)
+            + " END";
+    private static final String CREATE_TRIGGER_IMAGE_FILE_DELETE
+            = "CREATE TRIGGER image_file_delete_trg AFTER DELETE ON " + ProductImage.TABLE_NAME
+            + " BEGIN "
+            + buildRefreshImageFileSql("OLD." + ProductImage.COLUMN_ITEM_IMAGE_URI)
+            + " END";
     //Stores the singleton instance of this class
     private static volatile StoreDbHelper INSTANCE;
 
+    //Stores the Migrations of the database, keyed by the database version they upgrade to
+    private final SparseArray<Migration> mMigrations = new SparseArray<>();
+
     /**
      * Create a helper object to create, open, and/or manage a database.
      * This method always returns very quickly.  The database is not actually
@@ -214,12 +430,75 @@ public class StoreDbHelper extends SQLiteOpenHelper {
      * @param context to use to open or create the database
      */
     private StoreDbHelper(Context context) {
+        this(context, DATABASE_NAME);
+    }
+
+    /**
+     * Create a helper object to create, open, and/or manage the database of the given name.
+     * Used by the tests to work on a database separate from that of the app.
+     *
+     * @param context      to use to open or create the database
+     * @param databaseName of the database file
+     */
+    @VisibleForTesting
+    StoreDbHelper(Context context, String databaseName) {
         //Propagating the call to super, to initialize the database
         super(context,
-                DATABASE_NAME,
+                databaseName,
                 new AppCursorFactory(), //Custom CursorFactory to log the queries fired
                 DATABASE_VERSION
         );
+
+        //Registering the Migrations for upgrading the database
+        registerMigrations();
+    }
+
+    /**
+     * Method that registers the {@link Migration} for each of the database versions
+     * that an existing database needs to go through when upgraded. Each {@link Migration}
+     * should only add to the schema and retain the existing data.
+     */
+    private void registerMigrations() {
+        //Version 2: Sales Summary of the Items maintained by Triggers
+        mMigrations.put(2, db -> {
+            //Creating the Sales Summary table with its Triggers
+            createSalesSummary(db);
+            //Loading the Sales Summary of the Items already in the database
+            db.execSQL(buildInsertSalesSummarySql(null));
+        });
+
+        //Version 3: Supplier Summary of the Suppliers maintained by Triggers
+        mMigrations.put(3, db -> {
+            //Creating the Supplier Summary table with its Triggers
+            createSupplierSummary(db);
+            //Loading the Supplier Summary of the Suppliers already in the database
+            db.execSQL(buildInsertSupplierSummarySql(null));
+        });
+
+        //Version 4: Indexes on the columns used for joins and lookups
+        mMigrations.put(4, this::createJoinIndexes);
+
+        //Version 5: Full-Text Search Table of the Items maintained by Triggers
+        mMigrations.put(5, db -> {
+            //Creating the Full-Text Search Table with its Triggers
+            createProductSearch(db);
+            //Loading the Search content of the Items already in the database
+            db.execSQL(buildInsertProductSearchSql(null));
+        });
+
+        //Version 6: Reference counted Image files maintained by Triggers
+        mMigrations.put(6, db -> {
+            //Creating the Image File table with its Index and Triggers
+            createImageFileRefs(db);
+            //Loading the reference counts of the Image files already referred to by the Items
+            db.execSQL("INSERT INTO " + ProductImageFile.TABLE_NAME
+                    + SPACE + OPEN_BRACE + ProductImageFile.COLUMN_ITEM_IMAGE_URI + COMMA + SPACE
+                    + ProductImageFile.COLUMN_REF_COUNT + CLOSE_BRACE
+                    + " SELECT " + ProductImage.COLUMN_ITEM_IMAGE_URI + COMMA + SPACE + COUNT + "(*)"
+                    + " FROM " + ProductImage.TABLE_NAME
+                    + " WHERE " + ProductImage.COLUMN_ITEM_IMAGE_URI + IS + NOT + NULL
+                    + " GROUP BY " + ProductImage.COLUMN_ITEM_IMAGE_URI);
+        });
     }
 
     /**
@@ -244,6 +523,233 @@ public class StoreDbHelper extends SQLiteOpenHelper {
         return INSTANCE;
     }
 
+    /**
+     * Method that builds the statement which inserts the Sales Summary of the Items computed
+     * from the "item_supplier_inventory" table, into the "item_sales_summary" table.
+     *
+     * @param itemIdExpr The expression that evaluates to the Item Id whose Sales Summary is to be inserted.
+     *                   When {@code null}, the Sales Summary of all the Items is inserted.
+     * @return The INSERT statement for the Sales Summary of the Items
+     */
+    private static String buildInsertSalesSummarySql(@Nullable String itemIdExpr) {
+        return "INSERT INTO " + ProductSalesSummary.TABLE_NAME
+                + SPACE + OPEN_BRACE + ProductSalesSummary.COLUMN_ITEM_ID + COMMA + SPACE
+                + ProductSalesSummary.COLUMN_TOTAL_AVAIL_QUANTITY + COMMA + SPACE
+                + ProductSalesSummary.COLUMN_TOP_SUPPLIER_ID + CLOSE_BRACE
+                + " SELECT " + ProductSupplierInventory.COLUMN_ITEM_ID + COMMA + SPACE
+                + SUM + OPEN_BRACE + ProductSupplierInventory.COLUMN_ITEM_AVAIL_QUANTITY + CLOSE_BRACE + COMMA + SPACE
+                //Sub query for the Supplier with the highest available quantity of the Item
+                + OPEN_BRACE + "SELECT top_inv." + ProductSupplierInventory.COLUMN_SUPPLIER_ID
+                + " FROM " + ProductSupplierInventory.TABLE_NAME + AS + "top_inv"
+                + " WHERE top_inv." + ProductSupplierInventory.COLUMN_ITEM_ID
+                + EQUALS + ProductSupplierInventory.getQualifiedColumnName(ProductSupplierInventory.COLUMN_ITEM_ID)
+                + " ORDER BY top_inv." + ProductSupplierInventory.COLUMN_ITEM_AVAIL_QUANTITY + DESC + COMMA + SPACE
+                + "top_inv." + ProductSupplierInventory.COLUMN_SUPPLIER_ID
+                + " LIMIT 1" + CLOSE_BRACE
+                + " FROM " + ProductSupplierInventory.TABLE_NAME
+                + (itemIdExpr != null ? " WHERE " + ProductSupplierInventory.COLUMN_ITEM_ID + EQUALS + itemIdExpr : "")
+                + " GROUP BY " + ProductSupplierInventory.COLUMN_ITEM_ID;
+    }
+
+    /**
+     * Method that builds the statements which refresh the Sales Summary of an Item
+     * in the "item_sales_summary" table, for use in the body of a Trigger. The Sales Summary
+     * of the Item is removed when the Item has no Inventory records.
+     *
+     * @param itemIdExpr The expression that evaluates to the Item Id whose Sales Summary is to be refreshed.
+     * @return The statements that refresh the Sales Summary of the Item, each terminated by a semicolon
+     */
+    private static String buildRefreshSalesSummarySql(String itemIdExpr) {
+        return "DELETE FROM " + ProductSalesSummary.TABLE_NAME
+                + " WHERE " + ProductSalesSummary.COLUMN_ITEM_ID + EQUALS + itemIdExpr + "; "
+                + buildInsertSalesSummarySql(itemIdExpr) + "; ";
+    }
+
+    /**
+     * Method that creates the "item_sales_summary" table along with the Triggers on
+     * "item_supplier_inventory" table that keep the Sales Summary of the Items up to date.
+     *
+     * @param db The database.
+     */
+    private void createSalesSummary(SQLiteDatabase db) {
+        //Creating the Sales Summary table
+        db.execSQL(CREATE_TABLE_ITEM_SALES_SUMMARY);
+        //Creating the Triggers that maintain the Sales Summary
+        db.execSQL(CREATE_TRIGGER_SALES_SUMMARY_INSERT);
+        db.execSQL(CREATE_TRIGGER_SALES_SUMMARY_UPDATE);
+        db.execSQL(CREATE_TRIGGER_SALES_SUMMARY_DELETE);
+    }
+
+    /**
+     * Method that builds the statement which inserts the Supplier Summary of the Suppliers computed
+     * from the "supplier_contact" and "item_supplier_info" tables, into the "supplier_summary" table.
+     *
+     * @param supplierIdExpr The expression that evaluates to the Supplier Id whose Supplier Summary is to be inserted.
+     *                       When {@code null}, the Supplier Summary of all the Suppliers is inserted.
+     * @return The INSERT statement for the Supplier Summary of the Suppliers
+     */
+    private static String buildInsertSupplierSummarySql(@Nullable String supplierIdExpr) {
+        return "INSERT INTO " + SupplierSummary.TABLE_NAME
+                + SPACE + OPEN_BRACE + SupplierSummary.COLUMN_SUPPLIER_ID + COMMA + SPACE
+                + SupplierSummary.COLUMN_DEFAULT_PHONE + COMMA + SPACE
+                + SupplierSummary.COLUMN_DEFAULT_EMAIL + COMMA + SPACE
+                + SupplierSummary.COLUMN_ITEM_COUNT + CLOSE_BRACE
+                + " SELECT " + Supplier.getQualifiedColumnName(Supplier._ID) + COMMA + SPACE
+                + buildDefaultContactSubQuery(SupplierContactType.CONTACT_TYPE_ID_PHONE) + COMMA + SPACE
+                + buildDefaultContactSubQuery(SupplierContactType.CONTACT_TYPE_ID_EMAIL) + COMMA + SPACE
+                //Sub query for the number of Items supplied by the Supplier
+                + OPEN_BRACE + "SELECT " + COUNT + OPEN_BRACE + ProductSupplierInfo.COLUMN_ITEM_ID + CLOSE_BRACE
+                + " FROM " + ProductSupplierInfo.TABLE_NAME
+                + " WHERE " + ProductSupplierInfo.getQualifiedColumnName(ProductSupplierInfo.COLUMN_SUPPLIER_ID)
+                + EQUALS + Supplier.getQualifiedColumnName(Supplier._ID) + CLOSE_BRACE
+                + " FROM " + Supplier.TABLE_NAME
+                + (supplierIdExpr != null ? " WHERE " + Supplier.getQualifiedColumnName(Supplier._ID) + EQUALS + supplierIdExpr : "");
+    }
+
+    /**
+     * Method that builds the sub query which retrieves the default contact of a Supplier
+     * for the given Contact Type, for use in {@link #buildInsertSupplierSummarySql(String)}.
+     *
+     * @param contactTypeId The Integer value of the Contact Type. '0' for Phone and '1' for Email.
+     * @return Sub query for the default contact of the Supplier
+     */
+    private static String buildDefaultContactSubQuery(int contactTypeId) {
+        return OPEN_BRACE + "SELECT " + SupplierContact.COLUMN_SUPPLIER_CONTACT_VALUE
+                + " FROM " + SupplierContact.TABLE_NAME
+                + " WHERE " + SupplierContact.getQualifiedColumnName(SupplierContact.COLUMN_SUPPLIER_ID)
+                + EQUALS + Supplier.getQualifiedColumnName(Supplier._ID)
+                + AND + SupplierContact.COLUMN_SUPPLIER_CONTACT_TYPE_ID + EQUALS + contactTypeId
+                + AND + SupplierContact.COLUMN_SUPPLIER_CONTACT_DEFAULT + EQUALS + SupplierContact.SUPPLIER_CONTACT_DEFAULT
+                + CLOSE_BRACE;
+    }
+
+    /**
+     * Method that builds the statements which refresh the Supplier Summary of a Supplier
+     * in the "supplier_summary" table, for use in the body of a Trigger. The Supplier Summary
+     * is not inserted when the Supplier no longer exists.
+     *
+     * @param supplierIdExpr The expression that evaluates to the Supplier Id whose Supplier Summary is to be refreshed.
+     * @return The statements that refresh the Supplier Summary of the Supplier, each terminated by a semicolon
+     */
+    private static String buildRefreshSupplierSummarySql(String supplierIdExpr) {
+        return "DELETE FROM " + SupplierSummary.TABLE_NAME
+                + " WHERE " + SupplierSummary.COLUMN_SUPPLIER_ID + EQUALS + supplierIdExpr + "; "
+                + buildInsertSupplierSummarySql(supplierIdExpr) + "; ";
+    }
+
+    /**
+     * Method that creates the "supplier_summary" table along with the Triggers on
+     * "supplier_contact", "item_supplier_info" and "supplier" tables that keep
+     * the Supplier Summary of the Suppliers up to date.
+     *
+     * @param db The database.
+     */
+    private void createSupplierSummary(SQLiteDatabase db) {
+        //Creating the Supplier Summary table
+        db.execSQL(CREATE_TABLE_SUPPLIER_SUMMARY);
+        //Creating the Triggers that maintain the Supplier Summary
+        db.execSQL(CREATE_TRIGGER_SUPPLIER_SUMMARY_CONTACT_INSERT);
+        db.execSQL(CREATE_TRIGGER_SUPPLIER_SUMMARY_CONTACT_UPDATE);
+        db.execSQL(CREATE_TRIGGER_SUPPLIER_SUMMARY_CONTACT_DELETE);
+        db.execSQL(CREATE_TRIGGER_SUPPLIER_SUMMARY_ITEM_INSERT);
+        db.execSQL(CREATE_TRIGGER_SUPPLIER_SUMMARY_ITEM_UPDATE);
+        db.execSQL(CREATE_TRIGGER_SUPPLIER_SUMMARY_ITEM_DELETE);
+        db.execSQL(CREATE_TRIGGER_SUPPLIER_SUMMARY_SUPPLIER_DELETE);
+    }
+
+    /**
+     * Method that builds the statement which inserts the Search content of the Items
+     * from the "item" and "item_category" tables, into the "item_search" Full-Text Search Table.
+     *
+     * @param whereClause The Where Clause on the "item" table that identifies the Items whose
+     *                    Search content is to be inserted. When {@code null}, the Search content
+     *                    of all the Items is inserted.
+     * @return The INSERT statement for the Search content of the Items
+     */
+    private static String buildInsertProductSearchSql(@Nullable String whereClause) {
+        return "INSERT INTO " + ProductSearch.TABLE_NAME
+                + SPACE + OPEN_BRACE + ProductSearch.COLUMN_DOC_ID + COMMA + SPACE
+                + ProductSearch.COLUMN_ITEM_NAME + COMMA + SPACE
+                + ProductSearch.COLUMN_ITEM_SKU + COMMA + SPACE
+                + ProductSearch.COLUMN_ITEM_CATEGORY_NAME + CLOSE_BRACE
+                + " SELECT " + Product.getQualifiedColumnName(Product._ID) + COMMA + SPACE
+                + Product.getQualifiedColumnName(Product.COLUMN_ITEM_NAME) + COMMA + SPACE
+                + Product.getQualifiedColumnName(Product.COLUMN_ITEM_SKU) + COMMA + SPACE
+                + ProductCategory.getQualifiedColumnName(ProductCategory.COLUMN_ITEM_CATEGORY_NAME)
+                + " FROM " + Product.TABLE_NAME + JOIN + ProductCategory.TABLE_NAME + ON
+                + Product.getQualifiedColumnName(Product.COLUMN_ITEM_CATEGORY_ID)
+                + EQUALS + ProductCategory.getQualifiedColumnName(ProductCategory._ID)
+                + (whereClause != null ? " WHERE " + whereClause : "");
+    }
+
+    /**
+     * Method that creates the "item_search" Full-Text Search Table along with the Triggers on
+     * "item" and "item_category" tables that keep the Search content of the Items up to date.
+     *
+     * @param db The database.
+     */
+    private void createProductSearch(SQLiteDatabase db) {
+        //Creating the Full-Text Search Table
+        db.execSQL(CREATE_VIRTUAL_TABLE_ITEM_SEARCH);
+        //Creating the Triggers that maintain the Search content
+        db.execSQL(CREATE_TRIGGER_ITEM_SEARCH_INSERT);
+        db.execSQL(CREATE_TRIGGER_ITEM_SEARCH_UPDATE);
+        db.execSQL(CREATE_TRIGGER_ITEM_SEARCH_DELETE);
+        db.execSQL(CREATE_TRIGGER_ITEM_SEARCH_CATEGORY_UPDATE);
+    }
+
+    /**
+     * Method that builds the statements which refresh the reference count of an Image file
+     * in the "item_image_file" table, for use in the body of a Trigger. The Image file is
+     * registered when not present, and retained when no longer referred to, so that
+     * the file can be reclaimed later.
+     *
+     * @param imageUriExpr The expression that evaluates to the URI of the Image file whose reference count is to be refreshed.
+     * @return The statements that refresh the reference count of the Image file, each terminated by a semicolon
+     */
+    private static String buildRefreshImageFileSql(String imageUriExpr) {
+        return "INSERT OR IGNORE INTO " + ProductImageFile.TABLE_NAME
+                + SPACE + OPEN_BRACE + ProductImageFile.COLUMN_ITEM_IMAGE_URI + CLOSE_BRACE
+                + " VALUES " + OPEN_BRACE + imageUriExpr + CLOSE_BRACE + "; "
+                + UPDATE + ProductImageFile.TABLE_NAME
+                + SET + ProductImageFile.COLUMN_REF_COUNT + EQUALS
+                + OPEN_BRACE + "SELECT " + COUNT + "(*)" + " FROM " + ProductImage.TABLE_NAME
+                + " WHERE " + ProductImage.COLUMN_ITEM_IMAGE_URI + EQUALS + imageUriExpr + CLOSE_BRACE
+                + WHERE + ProductImageFile.COLUMN_ITEM_IMAGE_URI + EQUALS + imageUriExpr + "; ";
+    }
+
+    /**
+     * Method that creates the "item_image_file" table along with the Index and the Triggers on
+     * "item_image" table that keep the reference counts of the Image files up to date.
+     *
+     * @param db The database.
+     */
+    private void createImageFileRefs(SQLiteDatabase db) {
+        //Creating the Image File table
+        db.execSQL(CREATE_TABLE_ITEM_IMAGE_FILE);
+        //Creating the Index used for counting the references
+        db.execSQL(CREATE_INDEX_ITEM_IMAGE_URI);
+        //Creating the Triggers that maintain the reference counts
+        db.execSQL(CREATE_TRIGGER_IMAGE_FILE_INSERT);
+        db.execSQL(CREATE_TRIGGER_IMAGE_FILE_UPDATE);
+        db.execSQL(CREATE_TRIGGER_IMAGE_FILE_DELETE);
+    }
+
+    /**
+     * Method that creates the Indexes on the foreign key columns that are not the leading column
+     * of any other Index, and are used in the joins and lookups of the queries in
+     * {@link com.example.kaushiknsanji.storeapp.data.local.utils.QueryArgsUtility},
+     * the Summary Triggers and the Foreign Key checks.
+     *
+     * @param db The database.
+     */
+    private void createJoinIndexes(SQLiteDatabase db) {
+        db.execSQL(CREATE_INDEX_ITEM_CATEGORY);
+        db.execSQL(CREATE_INDEX_SUPPLIER_CONTACT_TYPE);
+        db.execSQL(CREATE_INDEX_SUPPLIER_INFO_SUPPLIER);
+        db.execSQL(CREATE_INDEX_SUPPLIER_INVENTORY_SUPPLIER);
+    }
+
     /**
      * Called when the database is created for the first time. This is where the
      * creation of tables and the initial population of the tables should happen.
@@ -267,6 +773,21 @@ public class StoreDbHelper extends SQLiteOpenHelper {
         //Creating an Index on the Available Quantity column of the table "item_supplier_inventory"
         db.execSQL(CREATE_INDEX_SUPPLIER_QUANTITY);
 
+        //Creating the Indexes on the columns used for joins and lookups
+        createJoinIndexes(db);
+
+        //Creating the Sales Summary table with its Triggers
+        createSalesSummary(db);
+
+        //Creating the Supplier Summary table with its Triggers
+        createSupplierSummary(db);
+
+        //Creating the Full-Text Search Table of the Items with its Triggers
+        createProductSearch(db);
+
+        //Creating the reference counted Image File table with its Triggers
+        createImageFileRefs(db);
+
         //Inserting predefined set of categories into the 'item_category' table
         insertPredefinedCategories();
 
@@ -279,12 +800,12 @@ public class StoreDbHelper extends SQLiteOpenHelper {
      */
     private void insertPredefinedCategories() {
         //Executing in the background thread
-        AppExecutors.getInstance().getDiskIO().execute(() -> {
+        AppExecutors.getInstance().getDbWrite().execute(() -> {
             //Get the Categories to insert
             String[] preloadedCategories = ProductCategory.getPreloadedCategories();
 
             //Retrieving the database in write mode
-            SQLiteDatabase writableDatabase = INSTANCE.getWritableDatabase();
+            SQLiteDatabase writableDatabase = getWritableDatabase();
 
             //Stores the count of records inserted
             int noOfRecordsInserted = 0;
@@ -340,12 +861,12 @@ public class StoreDbHelper extends SQLiteOpenHelper {
      */
     private void insertPredefinedContactTypes() {
         //Executing in the background thread
-        AppExecutors.getInstance().getDiskIO().execute(() -> {
+        AppExecutors.getInstance().getDbWrite().execute(() -> {
             //Get the Contact types to insert
             String[] preloadedContactTypes = SupplierContactType.getPreloadedContactTypes();
 
             //Retrieving the database in write mode
-            SQLiteDatabase writableDatabase = INSTANCE.getWritableDatabase();
+            SQLiteDatabase writableDatabase = getWritableDatabase();
 
             //Stores the count of records inserted
             int noOfRecordsInserted = 0;
@@ -422,24 +943,35 @@ public class StoreDbHelper extends SQLiteOpenHelper {
      */
     @Override
     public void onUpgrade(SQLiteDatabase db, int oldVersion, int newVersion) {
-        //Dropping the Database tables and recreating it on Version Upgrade
-
-        //Dropping the tables
-        db.execSQL("DROP TABLE IF EXISTS " + Product.TABLE_NAME);
-        db.execSQL("DROP TABLE IF EXISTS " + ProductCategory.TABLE_NAME);
-        db.execSQL("DROP TABLE IF EXISTS " + ProductImage.TABLE_NAME);
-        db.execSQL("DROP TABLE IF EXISTS " + ProductAttribute.TABLE_NAME);
-        db.execSQL("DROP TABLE IF EXISTS " + Supplier.TABLE_NAME);
-        db.execSQL("DROP TABLE IF EXISTS " + SupplierContactType.TABLE_NAME);
-        db.execSQL("DROP TABLE IF EXISTS " + SupplierContact.TABLE_NAME);
-        db.execSQL("DROP TABLE IF EXISTS " + ProductSupplierInfo.TABLE_NAME);
-        db.execSQL("DROP TABLE IF EXISTS " + ProductSupplierInventory.TABLE_NAME);
-
-        //Dropping the Indexes manually created
-        db.execSQL("DROP INDEX quantity_idx");
-
-        //Recreating all the tables
-        onCreate(db);
+        //Upgrading the Database through each of the versions in order, retaining the existing data
+        for (int version = oldVersion + 1; version <= newVersion; version++) {
+            //Retrieving the Migration to the version
+            Migration migration = mMigrations.get(version);
+            if (migration == null) {
+                //Throwing an exception when there is no Migration registered for the version,
+                //which rolls back the entire upgrade
+                throw new IllegalStateException("No Migration registered for upgrading the database to version " + version);
+            }
+
+            //Recording the start time of the Migration
+            long startTimeMillis = SystemClock.elapsedRealtime();
+
+            //Acquiring a lock for the Migration
+            db.beginTransaction();
+            try {
+                //Executing the Migration
+                migration.migrate(db);
+                //Marking the Migration as successful
+                db.setTransactionSuccessful();
+            } finally {
+                //Releasing the lock in the end
+                db.endTransaction();
+            }
+
+            //Logging the time taken for the Migration
+            Log.i(LOG_TAG, "onUpgrade: Migrated to version " + version + " in "
+                    + (SystemClock.elapsedRealtime() - startTimeMillis) + " ms");
+        }
     }
 
     /**
@@ -471,6 +1003,73 @@ public class StoreDbHelper extends SQLiteOpenHelper {
             String foreignKeyPragmaStr = "PRAGMA foreign_keys = ON";
             db.execSQL(foreignKeyPragmaStr);
         }
+
+        if (AppConstants.ENABLE_DB_WAL) {
+            //When Write-Ahead Logging is enabled
+
+            //Enabling Write-Ahead Logging, so that the readers on the CursorLoader threads
+            //do not block behind the writers and vice versa
+            db.enableWriteAheadLogging();
+
+            //With Write-Ahead Logging, syncing only at checkpoints is durable enough
+            //and avoids a sync on every commit
+            executePragma(db, "PRAGMA synchronous = NORMAL");
+        }
+
+        //The following PRAGMAs are per connection and reach only the primary connection
+        //configured here, which runs the writes, the transactions of the ContentProvider and
+        //the Triggers they fire. The reader connections pooled for Write-Ahead Logging are
+        //opened by the framework without this callback, and the framework offers no hook to
+        //configure them, hence these keep the SQLite defaults. The reads of the lists gain from
+        //Write-Ahead Logging alone, which lets them run without waiting on the writes, and
+        //not from these PRAGMAs.
+
+        //Sizing the Page Cache of the connection
+        executePragma(db, "PRAGMA cache_size = -" + DATABASE_CACHE_SIZE_KIB);
+        //Keeping the temporary tables and indices used for sorting and grouping in memory
+        executePragma(db, "PRAGMA temp_store = MEMORY");
+
+        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.LOLLIPOP) {
+            //For API Level 21 and above, which bundle the SQLite version supporting memory mapped I/O
+
+            //Memory mapping the Database file to read pages without copying them
+            executePragma(db, "PRAGMA mmap_size = " + DATABASE_MMAP_SIZE_BYTES);
+        }
+    }
+
+    /**
+     * Method that executes the PRAGMA statement {@code pragmaStr} on the database connection.
+     * Some of the PRAGMA statements return the value set, hence these are executed as a query
+     * and the result is discarded.
+     *
+     * @param db        The database.
+     * @param pragmaStr The PRAGMA statement to be executed.
+     */
+    private void executePragma(SQLiteDatabase db, String pragmaStr) {
+        //Executing the PRAGMA statement as a query
+        Cursor cursor = db.rawQuery(pragmaStr, null);
+        try {
+            //Moving to the first record to make sure the statement is executed
+            cursor.moveToFirst();
+        } finally {
+            //Closing the cursor to release its resources
+            cursor.close();
+        }
+    }
+
+    /**
+     * Interface for a step that upgrades the database from its previous version
+     * to the version it is registered for. Each step is executed in its own transaction
+     * by {@link #onUpgrade(SQLiteDatabase, int, int)}.
+     */
+    private interface Migration {
+        /**
+         * Method that applies the schema and data changes of the version
+         * on the database.
+         *
+         * @param db The database being upgraded.
+         */
+        void migrate(SQLiteDatabase db);
     }
 
     /**
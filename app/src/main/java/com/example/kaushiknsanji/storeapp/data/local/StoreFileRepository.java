@@ -17,8 +17,10 @@
 package com.example.kaushiknsanji.storeapp.data.local;
 
 import android.content.ContentResolver;
+import android.content.ContentValues;
 import android.content.Context;
 import android.content.Intent;
+import android.database.Cursor;
 import android.net.Uri;
 import android.os.Build;
 import android.support.annotation.NonNull;
@@ -26,6 +28,7 @@ import android.util.Log;
 
 import com.example.kaushiknsanji.storeapp.R;
 import com.example.kaushiknsanji.storeapp.data.FileRepository;
+import com.example.kaushiknsanji.storeapp.data.local.contracts.ProductContract;
 import com.example.kaushiknsanji.storeapp.utils.AppExecutors;
 import com.example.kaushiknsanji.storeapp.utils.FileStorageUtility;
 import com.example.kaushiknsanji.storeapp.utils.ImageStorageUtility;
@@ -33,6 +36,9 @@ import com.example.kaushiknsanji.storeapp.utils.ImageStorageUtility;
 import java.io.IOException;
 import java.util.List;
 
+import static com.example.kaushiknsanji.storeapp.data.local.utils.SqliteUtility.EQUALS;
+import static com.example.kaushiknsanji.storeapp.data.local.utils.SqliteUtility.PLACEHOLDER;
+
 /**
  * The File Repository class that implements {@link FileRepository} interface
  * to manage communication with the files maintained by the App.
@@ -97,15 +103,19 @@ public class StoreFileRepository implements FileRepository {
     @Override
     public void saveImageToFile(Context context, Uri fileContentUri, FileOperationsCallback<Uri> operationsCallback) {
         if (FileStorageUtility.isExternalStorageMounted()) {
-            //When the external storage is mounted, begin the save process in the disk thread
+            //When the external storage is mounted, begin the save process in the File I/O thread
 
-            //Executing on the Disk Thread
-            mAppExecutors.getDiskIO().execute(() -> {
+            //Executing on a File I/O Thread
+            mAppExecutors.getFileIO().execute(() -> {
                 //Stores the URI of the saved image
                 Uri savedImageFileUri = null;
                 try {
                     //Saving the Image to a file and retrieving its Content URI
                     savedImageFileUri = ImageStorageUtility.saveImage(context, fileContentUri);
+                    if (savedImageFileUri != null) {
+                        //Registering the Image file saved along with its content hash
+                        registerImageFile(savedImageFileUri);
+                    }
                 } catch (IOException e) {
                     Log.e(LOG_TAG, "saveImageToFile: Error occurred while saving the image " + fileContentUri, e);
                 }
@@ -130,6 +140,51 @@ public class StoreFileRepository implements FileRepository {
         }
     }
 
+    /**
+     * Method that registers the Image file pointed to by the Content URI {@code savedImageFileUri}
+     * along with its content hash, for tracking the references to the Image file, which
+     * can be shared by the Items when the same Image is saved again.
+     *
+     * @param savedImageFileUri The Content Uri of the Image File saved
+     */
+    private void registerImageFile(Uri savedImageFileUri) {
+        //Preparing the values of the Image file
+        ContentValues contentValues = new ContentValues();
+        contentValues.put(ProductContract.ProductImageFile.COLUMN_ITEM_IMAGE_URI, savedImageFileUri.toString());
+        contentValues.put(ProductContract.ProductImageFile.COLUMN_CONTENT_HASH,
+                ImageStorageUtility.getContentHashFromImageUri(savedImageFileUri));
+        //Executing the insert
+        if (mContentResolver.insert(ProductContract.ProductImageFile.CONTENT_URI, contentValues) == null) {
+            Log.e(LOG_TAG, "registerImageFile: Failed to register the image file " + savedImageFileUri);
+        }
+    }
+
+    /**
+     * Method that returns the number of Item Images referring to the Image file
+     * pointed to by the Content URI {@code fileContentUriStr}.
+     *
+     * @param fileContentUriStr The String URI (Content URI) of the Image file
+     * @return The number of references to the Image file. Returns 0 when the Image file is not registered.
+     */
+    private int getImageFileRefCount(String fileContentUriStr) {
+        //Querying for the reference count of the Image file
+        try (Cursor cursor = mContentResolver.query(
+                ProductContract.ProductImageFile.CONTENT_URI,
+                new String[]{ProductContract.ProductImageFile.COLUMN_REF_COUNT},
+                ProductContract.ProductImageFile.COLUMN_ITEM_IMAGE_URI + EQUALS + PLACEHOLDER,
+                new String[]{fileContentUriStr},
+                null
+        )) {
+            if (cursor != null && cursor.moveToFirst()) {
+                //Returning the reference count when the Image file is registered
+                return cursor.getInt(0);
+            }
+        }
+
+        //Returning 0 when the Image file is not registered
+        return 0;
+    }
+
     /**
      * Method that persists the persistable URI permission grant that the system gives the app.
      * Applicable for devices with Android Kitkat (API level 19) and above.
@@ -148,7 +203,8 @@ public class StoreFileRepository implements FileRepository {
     }
 
     /**
-     * Method that deletes the Image files passed in {@code fileContentUriList}
+     * Method that deletes the Image files passed in {@code fileContentUriList}. Image files still
+     * referred to by any Item are retained, as these can be shared between the Items by their content hash.
      *
      * @param fileContentUriList List of String URIs (Content URIs) of the Image Files to be deleted.
      * @param operationsCallback The Callback to be implemented by the caller to receive the result.
@@ -156,29 +212,46 @@ public class StoreFileRepository implements FileRepository {
     @Override
     public void deleteImageFiles(List<String> fileContentUriList, FileOperationsCallback<Boolean> operationsCallback) {
         if (FileStorageUtility.isExternalStorageMounted()) {
-            //When the external storage is mounted, begin the delete process in the disk thread
+            //When the external storage is mounted, begin the delete process in the File I/O thread
 
-            //Executing on the Disk Thread
-            mAppExecutors.getDiskIO().execute(() -> {
+            //Executing on a File I/O Thread
+            mAppExecutors.getFileIO().execute(() -> {
                 //Saves the final result of the operation
                 int noOfFilesDeleted = 0;
+                //Saves the number of files retained as these are still referred to by an Item
+                int noOfFilesRetained = 0;
 
                 //Iterating over the list and deleting the files one by one
                 for (String fileContentUriStr : fileContentUriList) {
+                    if (getImageFileRefCount(fileContentUriStr) > 0) {
+                        //Retaining the Image file when it is still referred to by an Item
+                        noOfFilesRetained++;
+                        continue;
+                    }
+
                     boolean fileDeleted = ImageStorageUtility.deleteImageFile(
                             Uri.parse(fileContentUriStr),
                             mContentResolver
                     );
+                    if (fileDeleted) {
+                        //Unregistering the Image file deleted
+                        mContentResolver.delete(
+                                ProductContract.ProductImageFile.CONTENT_URI,
+                                ProductContract.ProductImageFile.COLUMN_ITEM_IMAGE_URI + EQUALS + PLACEHOLDER,
+                                new String[]{fileContentUriStr}
+                        );
+                    }
                     noOfFilesDeleted += fileDeleted ? 1 : 0;
                 }
 
                 //Saving to pass the result to the callback
                 final int finalNoOfFilesDeleted = noOfFilesDeleted;
+                final int finalNoOfFilesRetained = noOfFilesRetained;
 
                 //Passing the results on the Main Thread
                 mAppExecutors.getMainThread().execute(() -> {
-                    if (finalNoOfFilesDeleted == fileContentUriList.size()) {
-                        //When all files were deleted successfully
+                    if (finalNoOfFilesDeleted + finalNoOfFilesRetained == fileContentUriList.size()) {
+                        //When all files were deleted successfully, except those retained
                         operationsCallback.onSuccess(true);
                     } else {
                         //When not all files were deleted, dispatch the error to the callback
@@ -16,22 +16,30 @@
 
 package com.example.kaushiknsanji.storeapp.data.local;
 
+import android.content.ContentProviderOperation;
+import android.content.ContentProviderResult;
 import android.content.ContentResolver;
 import android.content.ContentUris;
 import android.content.ContentValues;
+import android.content.OperationApplicationException;
 import android.database.ContentObserver;
 import android.database.Cursor;
 import android.net.Uri;
+import android.os.Bundle;
+import android.os.RemoteException;
 import android.support.annotation.MainThread;
 import android.support.annotation.NonNull;
 import android.support.annotation.Nullable;
 import android.support.annotation.WorkerThread;
 import android.support.v4.util.Pair;
+import android.util.Log;
 
 import com.example.kaushiknsanji.storeapp.R;
+import com.example.kaushiknsanji.storeapp.data.DataFuture;
 import com.example.kaushiknsanji.storeapp.data.DataRepository;
 import com.example.kaushiknsanji.storeapp.data.local.contracts.ProductContract;
 import com.example.kaushiknsanji.storeapp.data.local.contracts.SalesContract;
+import com.example.kaushiknsanji.storeapp.data.local.contracts.StoreContract;
 import com.example.kaushiknsanji.storeapp.data.local.contracts.SupplierContract;
 import com.example.kaushiknsanji.storeapp.data.local.models.Product;
 import com.example.kaushiknsanji.storeapp.data.local.models.ProductAttribute;
@@ -39,11 +47,14 @@ import com.example.kaushiknsanji.storeapp.data.local.models.ProductImage;
 import com.example.kaushiknsanji.storeapp.data.local.models.ProductLite;
 import com.example.kaushiknsanji.storeapp.data.local.models.ProductSupplierInfo;
 import com.example.kaushiknsanji.storeapp.data.local.models.ProductSupplierSales;
+import com.example.kaushiknsanji.storeapp.data.local.models.SalesLite;
 import com.example.kaushiknsanji.storeapp.data.local.models.Supplier;
 import com.example.kaushiknsanji.storeapp.data.local.models.SupplierContact;
+import com.example.kaushiknsanji.storeapp.data.local.models.SupplierLite;
 import com.example.kaushiknsanji.storeapp.data.local.utils.QueryArgsUtility;
 import com.example.kaushiknsanji.storeapp.data.local.utils.SqliteUtility;
 import com.example.kaushiknsanji.storeapp.utils.AppExecutors;
+import com.example.kaushiknsanji.storeapp.utils.TaskHandle;
 
 import java.util.ArrayList;
 import java.util.Iterator;
@@ -109,12 +120,17 @@ public class StoreLocalRepository implements DataRepository {
     /**
      * Method that retrieves the Categories for configuring a Product.
      *
-     * @param queryCallback The Callback to be implemented by the caller to receive the results
+     * @param callback The Callback to be implemented by the caller to receive the results
+     * @return The {@link TaskHandle} to cancel the query
      */
     @Override
-    public void getAllCategories(@NonNull GetQueryCallback<List<String>> queryCallback) {
-        //Executing on Disk Thread
-        mAppExecutors.getDiskIO().execute(() -> {
+    public TaskHandle getAllCategories(@NonNull GetQueryCallback<List<String>> callback) {
+        //Handle to cancel the query, which also stops the delivery of its result once cancelled
+        TaskHandle taskHandle = TaskHandle.newCancellable();
+        GetQueryCallback<List<String>> queryCallback = cancellable(taskHandle, callback);
+
+        //Executing on a Database Read Thread
+        mAppExecutors.executeDbRead(AppExecutors.PRIORITY_USER_BLOCKING, taskHandle, () -> {
             //Retrieving the cursor to the records, sorted by "category_name" column
             Cursor cursor = mContentResolver.query(
                     ProductContract.ProductCategory.CONTENT_URI,
@@ -154,18 +170,26 @@ public class StoreLocalRepository implements DataRepository {
             });
 
         });
+
+        //Returning the handle to the query
+        return taskHandle;
     }
 
     /**
      * Method that retrieves the Category Id for the Category Name configured for the Product.
      *
      * @param categoryName  The Category Name selected for the Product
-     * @param queryCallback The Callback to be implemented by the caller to receive the result.
+     * @param callback      The Callback to be implemented by the caller to receive the result.
+     * @return The {@link TaskHandle} to cancel the query
      */
     @Override
-    public void getCategoryByName(@NonNull String categoryName, @NonNull GetQueryCallback<Integer> queryCallback) {
-        //Executing on Disk Thread
-        mAppExecutors.getDiskIO().execute(() -> {
+    public TaskHandle getCategoryByName(@NonNull String categoryName, @NonNull GetQueryCallback<Integer> callback) {
+        //Handle to cancel the query, which also stops the delivery of its result once cancelled
+        TaskHandle taskHandle = TaskHandle.newCancellable();
+        GetQueryCallback<Integer> queryCallback = cancellable(taskHandle, callback);
+
+        //Executing on a Database Read Thread
+        mAppExecutors.executeDbRead(AppExecutors.PRIORITY_DEFAULT, taskHandle, () -> {
             //Retrieving the cursor to the record
             Cursor cursor = mContentResolver.query(
                     ProductContract.ProductCategory.buildCategoryNameUri(categoryName),
@@ -211,6 +235,9 @@ public class StoreLocalRepository implements DataRepository {
             }
 
         });
+
+        //Returning the handle to the query
+        return taskHandle;
     }
 
     /**
@@ -218,160 +245,86 @@ public class StoreLocalRepository implements DataRepository {
      *
      * @param productId     The Integer Id of the Product to lookup for.
      * @param queryCallback The Callback to be implemented by the caller to receive the result.
+     * @return The {@link TaskHandle} to cancel the query
      */
     @Override
-    public void getProductDetailsById(int productId, @NonNull GetQueryCallback<Product> queryCallback) {
-        //Retrieving the Product details for the Product ID passed
-        //Executing on Disk Thread
-        mAppExecutors.getDiskIO().execute(() -> {
-            //Retrieving the cursor to the record
-            Cursor cursor = mContentResolver.query(
-                    ContentUris.withAppendedId(ProductContract.Product.CONTENT_URI, productId),
-                    QueryArgsUtility.ItemByIdQuery.getProjection(),
-                    null,
-                    null,
-                    null
-            );
-
-            //Retrieving item details from the cursor
-            try {
-                if (cursor != null && cursor.moveToFirst()) {
-                    //When Cursor is not Null and there is a record for the Product being queried
-
-                    //Retrieving the details of the Item
-                    int itemId = cursor.getInt(QueryArgsUtility.ItemByIdQuery.COLUMN_ITEM_ID_INDEX);
-                    String itemName = cursor.getString(QueryArgsUtility.ItemByIdQuery.COLUMN_ITEM_NAME_INDEX);
-                    String itemSku = cursor.getString(QueryArgsUtility.ItemByIdQuery.COLUMN_ITEM_SKU_INDEX);
-                    String itemDescription = cursor.getString(QueryArgsUtility.ItemByIdQuery.COLUMN_ITEM_DESCRIPTION_INDEX);
-                    String itemCategoryName = cursor.getString(QueryArgsUtility.ItemByIdQuery.COLUMN_ITEM_CATEGORY_NAME_INDEX);
-
-                    //Retrieving the Hang-off table data: START
-                    //Retrieving the ProductAttribute for the Product ID passed
-                    ArrayList<ProductAttribute> productAttributes = getProductAttributesById(productId);
-
-                    //Retrieving the ProductImage for the Product ID passed
-                    ArrayList<ProductImage> productImages = getProductImagesById(productId);
-                    //Retrieving the Hang-off table data: END
-
-                    //Building the Product details
-                    final Product product = new Product.Builder()
-                            .setId(itemId)
-                            .setName(itemName)
-                            .setSku(itemSku)
-                            .setDescription(itemDescription)
-                            .setCategory(itemCategoryName)
-                            .setProductAttributes(productAttributes)
-                            .setProductImages(productImages)
-                            .createProduct();
-
-                    //Executing on the Main Thread
-                    mAppExecutors.getMainThread().execute(() -> {
-                        //Pass the Product data to the callback
-                        queryCallback.onResults(product);
-                    });
-                } else {
-                    //When Cursor is Null, the Product being queried is not found
-
-                    //Pass the Product Not Found error to the callback in this case.
-                    queryCallback.onFailure(R.string.product_config_no_product_found_error, productId);
-                }
-
-            } finally {
-                //Closing the cursor to release its resources
-                if (cursor != null && !cursor.isClosed()) {
-                    cursor.close();
-                }
-            }
-
-        });
+    public TaskHandle getProductDetailsById(int productId, @NonNull GetQueryCallback<Product> queryCallback) {
+        //Retrieving the Product details for the Product ID passed, and delivering on the Main Thread
+        return getProductDetailsByIdAsync(productId).deliver(mAppExecutors.getMainThread(), queryCallback);
     }
 
     /**
-     * Method that retrieves the list of {@link ProductImage}s for the Product identified by its Id.
-     * This is called on the Disk Thread.
+     * Method that retrieves the Product Details of Product identified by its Id, reading the Item,
+     * its Attributes and its Images in a single query on a Database Read Thread.
      *
      * @param productId The Integer Id of the Product to lookup for.
-     * @return List of {@link ProductImage}s for the Product identified by its Id.
+     * @return The {@link DataFuture} of the Product details, which fails with a
+     * {@link DataFuture.QueryException} when the Product is not found
      */
-    @WorkerThread
-    private ArrayList<ProductImage> getProductImagesById(int productId) {
-        //Retrieving the cursor to the records
-        Cursor cursor = mContentResolver.query(
-                ContentUris.withAppendedId(ProductContract.ProductImage.CONTENT_URI, productId),
-                QueryArgsUtility.ItemImagesQuery.getProjection(),
-                null,
-                null,
-                null
-        );
-
-        //Retrieving item images from the cursor
-        ArrayList<ProductImage> productImages = new ArrayList<>();
-        try {
-            if (cursor != null && cursor.getCount() > 0) {
-                //When the query returned results
-                while (cursor.moveToNext()) {
-                    //Retrieving the values from the record pointed to by the Cursor
-                    String imageUri = cursor.getString(QueryArgsUtility.ItemImagesQuery.COLUMN_ITEM_IMAGE_URI_INDEX);
-                    int defaultImageId = cursor.getInt(QueryArgsUtility.ItemImagesQuery.COLUMN_ITEM_IMAGE_DEFAULT_INDEX);
-
-                    //Preparing the ProductImage
-                    ProductImage productImage = new ProductImage.Builder()
-                            .setImageUri(imageUri)
-                            .setIsDefault(defaultImageId == ProductContract.ProductImage.ITEM_IMAGE_DEFAULT)
-                            .createProductImage();
-
-                    //Adding to the list of ProductImages
-                    productImages.add(productImage);
-                }
-            }
-        } finally {
-            //Closing the cursor to release its resources
-            if (cursor != null && !cursor.isClosed()) {
-                cursor.close();
-            }
-        }
-
-        //Returning the ProductImages retrieved for the Product ID passed
-        return productImages;
+    @Override
+    public DataFuture<Product> getProductDetailsByIdAsync(int productId) {
+        //Reading the Item along with its Hang-off table data
+        return DataFuture.submit(mAppExecutors, AppExecutors.PRIORITY_USER_BLOCKING,
+                () -> getProductAggregateById(productId));
     }
 
     /**
-     * Method that retrieves the list of {@link ProductAttribute}s for the Product identified by its Id.
-     * This is called on the Disk Thread.
+     * Method that retrieves the details of the Item identified by its Id, along with its
+     * Attributes and Images, from the records of a single query read in a single pass.
+     * This is called on a Database Read Thread.
      *
      * @param productId The Integer Id of the Product to lookup for.
-     * @return List of {@link ProductAttribute}s for the Product identified by its Id.
+     * @return The {@link Product} with its Attributes and Images
+     * @throws DataFuture.QueryException when the Product is not found
      */
     @WorkerThread
-    private ArrayList<ProductAttribute> getProductAttributesById(int productId) {
-        //Retrieving the cursor to the records
+    private Product getProductAggregateById(int productId) throws DataFuture.QueryException {
+        //Retrieving the cursor to the records of the Item, its Attributes and its Images
         Cursor cursor = mContentResolver.query(
-                ContentUris.withAppendedId(ProductContract.ProductAttribute.CONTENT_URI, productId),
-                QueryArgsUtility.ItemAttributesQuery.getProjection(),
+                ProductContract.Product.buildDetailUri(productId),
+                null,
                 null,
                 null,
                 null
-
         );
 
-        //Retrieving item attributes from the cursor
+        //Builder of the Product, created on reading the record of the Item
+        Product.Builder productBuilder = null;
+        //Lists of the Item's Attributes and Images
         ArrayList<ProductAttribute> productAttributes = new ArrayList<>();
+        ArrayList<ProductImage> productImages = new ArrayList<>();
+
+        //Retrieving the Item details from the cursor
         try {
-            if (cursor != null && cursor.getCount() > 0) {
-                //When the query returned results
+            if (cursor != null) {
                 while (cursor.moveToNext()) {
-                    //Retrieving the values from the record pointed to by the Cursor
-                    String attrName = cursor.getString(QueryArgsUtility.ItemAttributesQuery.COLUMN_ITEM_ATTR_NAME_INDEX);
-                    String attrValue = cursor.getString(QueryArgsUtility.ItemAttributesQuery.COLUMN_ITEM_ATTR_VALUE_INDEX);
-
-                    //Preparing the ProductAttribute
-                    ProductAttribute productAttribute = new ProductAttribute.Builder()
-                            .setAttributeName(attrName)
-                            .setAttributeValue(attrValue)
-                            .createProductAttribute();
-
-                    //Adding to the list of ProductAttributes
-                    productAttributes.add(productAttribute);
+                    //Reading each record based on its type
+                    switch (cursor.getInt(QueryArgsUtility.ItemDetailQuery.COLUMN_RECORD_TYPE_INDEX)) {
+                        case QueryArgsUtility.ItemDetailQuery.RECORD_TYPE_ITEM:
+                            //Preparing the Product with the details of the Item
+                            productBuilder = new Product.Builder()
+                                    .setId(cursor.getInt(QueryArgsUtility.ItemDetailQuery.COLUMN_ITEM_ID_INDEX))
+                                    .setName(cursor.getString(QueryArgsUtility.ItemDetailQuery.COLUMN_ITEM_NAME_INDEX))
+                                    .setSku(cursor.getString(QueryArgsUtility.ItemDetailQuery.COLUMN_ITEM_SKU_INDEX))
+                                    .setDescription(cursor.getString(QueryArgsUtility.ItemDetailQuery.COLUMN_ITEM_DESCRIPTION_INDEX))
+                                    .setCategory(cursor.getString(QueryArgsUtility.ItemDetailQuery.COLUMN_ITEM_CATEGORY_NAME_INDEX));
+                            break;
+                        case QueryArgsUtility.ItemDetailQuery.RECORD_TYPE_ATTR:
+                            //Preparing the ProductAttribute and adding to the list of ProductAttributes
+                            productAttributes.add(new ProductAttribute.Builder()
+                                    .setAttributeName(cursor.getString(QueryArgsUtility.ItemDetailQuery.COLUMN_ITEM_ATTR_NAME_INDEX))
+                                    .setAttributeValue(cursor.getString(QueryArgsUtility.ItemDetailQuery.COLUMN_ITEM_ATTR_VALUE_INDEX))
+                                    .createProductAttribute());
+                            break;
+                        case QueryArgsUtility.ItemDetailQuery.RECORD_TYPE_IMAGE:
+                            //Preparing the ProductImage and adding to the list of ProductImages
+                            productImages.add(new ProductImage.Builder()
+                                    .setImageUri(cursor.getString(QueryArgsUtility.ItemDetailQuery.COLUMN_ITEM_IMAGE_URI_INDEX))
+                                    .setIsDefault(cursor.getInt(QueryArgsUtility.ItemDetailQuery.COLUMN_ITEM_IMAGE_DEFAULT_INDEX)
+                                            == ProductContract.ProductImage.ITEM_IMAGE_DEFAULT)
+                                    .createProductImage());
+                            break;
+                    }
                 }
             }
         } finally {
@@ -381,20 +334,33 @@ public class StoreLocalRepository implements DataRepository {
             }
         }
 
-        //Returning the ProductAttributes retrieved for the Product ID passed
-        return productAttributes;
+        if (productBuilder == null) {
+            //When there is no record of the Item, the Product being queried is not found
+            throw new DataFuture.QueryException(R.string.product_config_no_product_found_error, productId);
+        }
+
+        //Returning the Product with its Attributes and Images
+        return productBuilder
+                .setProductAttributes(productAttributes)
+                .setProductImages(productImages)
+                .createProduct();
     }
 
     /**
      * Method that checks and validates the uniqueness of the Product SKU {@code productSku} passed.
      *
      * @param productSku    The Product SKU of the Product to lookup for.
-     * @param queryCallback The Callback to be implemented by the caller to receive the result.
+     * @param callback      The Callback to be implemented by the caller to receive the result.
+     * @return The {@link TaskHandle} to cancel the query
      */
     @Override
-    public void getProductSkuUniqueness(@NonNull String productSku, @NonNull GetQueryCallback<Boolean> queryCallback) {
-        //Executing on Disk Thread
-        mAppExecutors.getDiskIO().execute(() -> {
+    public TaskHandle getProductSkuUniqueness(@NonNull String productSku, @NonNull GetQueryCallback<Boolean> callback) {
+        //Handle to cancel the query, which also stops the delivery of its result once cancelled
+        TaskHandle taskHandle = TaskHandle.newCancellable();
+        GetQueryCallback<Boolean> queryCallback = cancellable(taskHandle, callback);
+
+        //Executing on a Database Read Thread
+        mAppExecutors.executeDbRead(AppExecutors.PRIORITY_USER_BLOCKING, taskHandle, () -> {
             //Retrieving the cursor to the record
             Cursor cursor = mContentResolver.query(
                     ProductContract.Product.buildItemSkuUri(productSku),
@@ -441,21 +407,29 @@ public class StoreLocalRepository implements DataRepository {
             }
 
         });
+
+        //Returning the handle to the query
+        return taskHandle;
     }
 
     /**
      * Method that adds a New {@link Product} entry into the database table 'item'.
      *
      * @param newProduct         The New {@link Product} to be added to the database
-     * @param operationsCallback The Callback to be implemented by the caller to
+     * @param callback           The Callback to be implemented by the caller to
      *                           receive the operation result.
+     * @return The {@link TaskHandle} to stop the delivery of the result of the operation
      */
     @Override
-    public void saveNewProduct(@NonNull Product newProduct, @NonNull DataOperationsCallback operationsCallback) {
+    public TaskHandle saveNewProduct(@NonNull Product newProduct, @NonNull DataOperationsCallback callback) {
+        //Handle to stop the delivery of the result, as the operation needs to complete once submitted
+        TaskHandle taskHandle = TaskHandle.newNonCancellable();
+        DataOperationsCallback operationsCallback = cancellable(taskHandle, callback);
+
         //Get the Category Name
         String categoryName = newProduct.getCategory();
 
-        //Check if the Category exists (Executes on Disk Thread)
+        //Check if the Category exists (Executes on a Database Read Thread)
         getCategoryByName(categoryName, new GetQueryCallback<Integer>() {
             /**
              * Method invoked when the results are obtained
@@ -469,8 +443,8 @@ public class StoreLocalRepository implements DataRepository {
                 //When Category was found
 
                 //Propagating the result to #proceedToSaveProduct
-                //Executing on Disk Thread
-                mAppExecutors.getDiskIO().execute(() -> proceedToSaveProduct(categoryId));
+                //Executing on the Database Write Thread
+                mAppExecutors.executeDbWrite(taskHandle, () -> proceedToSaveProduct(categoryId));
             }
 
             /**
@@ -482,8 +456,8 @@ public class StoreLocalRepository implements DataRepository {
             public void onEmpty() {
                 //When Category does not exist, we insert the new Category to get the new record Id
 
-                //Executing on Disk Thread
-                mAppExecutors.getDiskIO().execute(() -> {
+                //Executing on the Database Write Thread
+                mAppExecutors.executeDbWrite(taskHandle, () -> {
                     //Loading the Category Name for insert
                     ContentValues categoryContentValues = new ContentValues();
                     categoryContentValues.put(ProductContract.ProductCategory.COLUMN_ITEM_CATEGORY_NAME, categoryName);
@@ -590,6 +564,8 @@ public class StoreLocalRepository implements DataRepository {
 
         });
 
+        //Returning the handle to the operation
+        return taskHandle;
     }
 
     /**
@@ -598,17 +574,21 @@ public class StoreLocalRepository implements DataRepository {
      * @param existingProduct    The Existing Product details for figuring out the required
      *                           CRUD operations
      * @param newProduct         The New Updated Product details to be saved in the database.
-     * @param operationsCallback The Callback to be implemented by the caller to
+     * @param callback           The Callback to be implemented by the caller to
      *                           receive the operation result.
+     * @return The {@link TaskHandle} to stop the delivery of the result of the operation
      */
     @Override
-    public void saveUpdatedProduct(@NonNull Product existingProduct, @NonNull Product newProduct,
-                                   @NonNull DataOperationsCallback operationsCallback) {
+    public TaskHandle saveUpdatedProduct(@NonNull Product existingProduct, @NonNull Product newProduct,
+                                   @NonNull DataOperationsCallback callback) {
+        //Handle to stop the delivery of the result, as the operation needs to complete once submitted
+        TaskHandle taskHandle = TaskHandle.newNonCancellable();
+        DataOperationsCallback operationsCallback = cancellable(taskHandle, callback);
 
         //Get the Category Name
         String newCategoryName = newProduct.getCategory();
 
-        //Check if the Category exists (Executes on Disk Thread)
+        //Check if the Category exists (Executes on a Database Read Thread)
         getCategoryByName(newCategoryName, new GetQueryCallback<Integer>() {
             /**
              * Method invoked when the results are obtained
@@ -622,8 +602,8 @@ public class StoreLocalRepository implements DataRepository {
                 //When Category was found
 
                 //Propagating the result to #proceedToUpdateProduct
-                //Executing on Disk Thread
-                mAppExecutors.getDiskIO().execute(() -> proceedToUpdateProduct(categoryId));
+                //Executing on the Database Write Thread
+                mAppExecutors.executeDbWrite(taskHandle, () -> proceedToUpdateProduct(categoryId));
             }
 
             /**
@@ -635,8 +615,8 @@ public class StoreLocalRepository implements DataRepository {
             public void onEmpty() {
                 //When Category does not exist, we insert the new Category to get the new record Id
 
-                //Executing on Disk Thread
-                mAppExecutors.getDiskIO().execute(() -> {
+                //Executing on the Database Write Thread
+                mAppExecutors.executeDbWrite(taskHandle, () -> {
                     //Loading the Category Name for insert
                     ContentValues categoryContentValues = new ContentValues();
                     categoryContentValues.put(ProductContract.ProductCategory.COLUMN_ITEM_CATEGORY_NAME, newCategoryName);
@@ -775,6 +755,8 @@ public class StoreLocalRepository implements DataRepository {
             }
         });
 
+        //Returning the handle to the operation
+        return taskHandle;
     }
 
     /**
@@ -847,13 +829,18 @@ public class StoreLocalRepository implements DataRepository {
      *
      * @param existingProduct    The Existing Product for which the Product Images are to be updated.
      * @param productImages      The New List of {@link ProductImage} details to be updated to the database
-     * @param operationsCallback The Callback to be implemented by the caller to
+     * @param callback           The Callback to be implemented by the caller to
      *                           receive the operation result.
+     * @return The {@link TaskHandle} to stop the delivery of the result of the operation
      */
     @Override
-    public void saveProductImages(@NonNull Product existingProduct, @NonNull ArrayList<ProductImage> productImages, @NonNull DataOperationsCallback operationsCallback) {
-        //Executing on Disk Thread
-        mAppExecutors.getDiskIO().execute(() -> {
+    public TaskHandle saveProductImages(@NonNull Product existingProduct, @NonNull ArrayList<ProductImage> productImages, @NonNull DataOperationsCallback callback) {
+        //Handle to stop the delivery of the result, as the operation needs to complete once submitted
+        TaskHandle taskHandle = TaskHandle.newNonCancellable();
+        DataOperationsCallback operationsCallback = cancellable(taskHandle, callback);
+
+        //Executing on the Database Write Thread
+        mAppExecutors.executeDbWrite(taskHandle, () -> {
             //Bulk insert Product Images
             int noOfProductImagesInserted = 0;
             int noOfProductImagesPresent = productImages.size();
@@ -880,6 +867,9 @@ public class StoreLocalRepository implements DataRepository {
                 });
             }
         });
+
+        //Returning the handle to the operation
+        return taskHandle;
     }
 
     /**
@@ -887,12 +877,17 @@ public class StoreLocalRepository implements DataRepository {
      * This also deletes any relationship data with the Product.
      *
      * @param productId          The Product Id of the Product to be deleted.
-     * @param operationsCallback The Callback to be implemented by the caller to
+     * @param callback           The Callback to be implemented by the caller to
+     * @return The {@link TaskHandle} to stop the delivery of the result of the operation
      */
     @Override
-    public void deleteProductById(int productId, @NonNull DataOperationsCallback operationsCallback) {
-        //Executing on Disk Thread
-        mAppExecutors.getDiskIO().execute(() -> {
+    public TaskHandle deleteProductById(int productId, @NonNull DataOperationsCallback callback) {
+        //Handle to stop the delivery of the result, as the operation needs to complete once submitted
+        TaskHandle taskHandle = TaskHandle.newNonCancellable();
+        DataOperationsCallback operationsCallback = cancellable(taskHandle, callback);
+
+        //Executing on the Database Write Thread
+        mAppExecutors.executeDbWrite(taskHandle, () -> {
             //Executing Product Deletion for the Product ID passed
             final int noOfRecordsDeleted = mContentResolver.delete(
                     ContentUris.withAppendedId(ProductContract.Product.CONTENT_URI, productId),
@@ -911,6 +906,9 @@ public class StoreLocalRepository implements DataRepository {
                 }
             });
         });
+
+        //Returning the handle to the operation
+        return taskHandle;
     }
 
     /**
@@ -947,77 +945,97 @@ public class StoreLocalRepository implements DataRepository {
      *
      * @param supplierId    The Integer Id of the Supplier to lookup for.
      * @param queryCallback The Callback to be implemented by the caller to receive the result.
+     * @return The {@link TaskHandle} to cancel the query
      */
     @Override
-    public void getSupplierDetailsById(int supplierId, @NonNull GetQueryCallback<Supplier> queryCallback) {
-        //Retrieving the Supplier details for the Supplier ID passed
-        //Executing on Disk Thread
-        mAppExecutors.getDiskIO().execute(() -> {
-            //Retrieving the cursor to the record
-            Cursor cursor = mContentResolver.query(
-                    ContentUris.withAppendedId(SupplierContract.Supplier.CONTENT_URI, supplierId),
-                    QueryArgsUtility.SupplierByIdQuery.getProjection(),
-                    null,
-                    null,
-                    null
-            );
-
-            //Retrieving the details from the Cursor
-            try {
-                if (cursor != null && cursor.moveToFirst()) {
-                    //When the Cursor is NOT Null and there is a record for the Supplier being queried
-
-                    //Retrieving the details of the Supplier
-                    String name = cursor.getString(QueryArgsUtility.SupplierByIdQuery.COLUMN_SUPPLIER_NAME_INDEX);
-                    String code = cursor.getString(QueryArgsUtility.SupplierByIdQuery.COLUMN_SUPPLIER_CODE_INDEX);
-
-                    //Retrieving the Supplier's Contacts
-                    ArrayList<SupplierContact> supplierContacts = getSupplierContacts(supplierId);
-
-                    //Retrieving the Supplier's Items
-                    ArrayList<ProductSupplierInfo> productSupplierInfoList = getProductSupplierInfoList(supplierId);
-
-                    //Building the Supplier details
-                    final Supplier supplier = new Supplier.Builder()
-                            .setId(supplierId)
-                            .setName(name)
-                            .setCode(code)
-                            .setContacts(supplierContacts)
-                            .setProductSupplierInfoList(productSupplierInfoList)
-                            .createSupplier();
+    public TaskHandle getSupplierDetailsById(int supplierId, @NonNull GetQueryCallback<Supplier> queryCallback) {
+        //Retrieving the Supplier details for the Supplier ID passed, and delivering on the Main Thread
+        return getSupplierDetailsByIdAsync(supplierId).deliver(mAppExecutors.getMainThread(), queryCallback);
+    }
 
-                    //Executing on the Main Thread
-                    mAppExecutors.getMainThread().execute(() -> {
-                        //Pass the Supplier data to the callback
-                        queryCallback.onResults(supplier);
-                    });
+    /**
+     * Method that retrieves the Supplier Details of Supplier identified by its Id, reading the Supplier,
+     * its Contacts and its Items in parallel on the Database Read Threads.
+     *
+     * @param supplierId The Integer Id of the Supplier to lookup for.
+     * @return The {@link DataFuture} of the Supplier details, which fails with a
+     * {@link DataFuture.QueryException} when the Supplier is not found
+     */
+    @Override
+    public DataFuture<Supplier> getSupplierDetailsByIdAsync(int supplierId) {
+        //Reading the Supplier, its Contacts and its Items in parallel
+        DataFuture<Supplier.Builder> supplierFuture = DataFuture.submit(mAppExecutors, AppExecutors.PRIORITY_USER_BLOCKING,
+                () -> getSupplierById(supplierId));
+        DataFuture<ArrayList<SupplierContact>> supplierContactsFuture = DataFuture.submit(mAppExecutors, AppExecutors.PRIORITY_USER_BLOCKING,
+                () -> getSupplierContacts(supplierId));
+        DataFuture<ArrayList<ProductSupplierInfo>> productSupplierInfoListFuture = DataFuture.submit(mAppExecutors, AppExecutors.PRIORITY_USER_BLOCKING,
+                () -> getProductSupplierInfoList(supplierId));
+
+        //Building the Supplier details when all the reads complete
+        return DataFuture.combine(supplierFuture, supplierContactsFuture, productSupplierInfoListFuture,
+                (supplierBuilder, supplierContacts, productSupplierInfoList) -> supplierBuilder
+                        .setContacts(supplierContacts)
+                        .setProductSupplierInfoList(productSupplierInfoList)
+                        .createSupplier());
+    }
 
-                } else {
-                    //When Cursor is Null, the Supplier being queried is not found
+    /**
+     * Method that retrieves the details of the Supplier identified by its Id, without its Contacts and Items.
+     * This is called on a Database Read Thread.
+     *
+     * @param supplierId The Integer Id of the Supplier to lookup for.
+     * @return The {@link Supplier.Builder} loaded with the details of the Supplier
+     * @throws DataFuture.QueryException when the Supplier is not found
+     */
+    @WorkerThread
+    private Supplier.Builder getSupplierById(int supplierId) throws DataFuture.QueryException {
+        //Retrieving the cursor to the record
+        Cursor cursor = mContentResolver.query(
+                ContentUris.withAppendedId(SupplierContract.Supplier.CONTENT_URI, supplierId),
+                QueryArgsUtility.SupplierByIdQuery.getProjection(),
+                null,
+                null,
+                null
+        );
 
-                    //Pass the Supplier Not found error to the callback in this case.
-                    queryCallback.onFailure(R.string.supplier_config_no_supplier_found_error, supplierId);
-                }
-            } finally {
-                //Closing the cursor to release its resources
-                if (cursor != null && !cursor.isClosed()) {
-                    cursor.close();
-                }
+        //Retrieving the details from the Cursor
+        try {
+            if (cursor != null && cursor.moveToFirst()) {
+                //When the Cursor is NOT Null and there is a record for the Supplier being queried
+
+                //Returning the details of the Supplier
+                return new Supplier.Builder()
+                        .setId(supplierId)
+                        .setName(cursor.getString(QueryArgsUtility.SupplierByIdQuery.COLUMN_SUPPLIER_NAME_INDEX))
+                        .setCode(cursor.getString(QueryArgsUtility.SupplierByIdQuery.COLUMN_SUPPLIER_CODE_INDEX));
+            } else {
+                //When Cursor is Null, the Supplier being queried is not found
+                throw new DataFuture.QueryException(R.string.supplier_config_no_supplier_found_error, supplierId);
             }
-        });
+        } finally {
+            //Closing the cursor to release its resources
+            if (cursor != null && !cursor.isClosed()) {
+                cursor.close();
+            }
+        }
     }
 
     /**
      * Method that retrieves the Contacts of a Supplier identified by its Id.
      *
      * @param supplierId    The Integer Id of the Supplier to retrieve the List of Supplier's Contacts.
-     * @param queryCallback The Callback to be implemented by the caller to receive the result.
+     * @param callback      The Callback to be implemented by the caller to receive the result.
+     * @return The {@link TaskHandle} to cancel the query
      */
     @Override
-    public void getSupplierContactsById(int supplierId, @NonNull GetQueryCallback<List<SupplierContact>> queryCallback) {
+    public TaskHandle getSupplierContactsById(int supplierId, @NonNull GetQueryCallback<List<SupplierContact>> callback) {
+        //Handle to cancel the query, which also stops the delivery of its result once cancelled
+        TaskHandle taskHandle = TaskHandle.newCancellable();
+        GetQueryCallback<List<SupplierContact>> queryCallback = cancellable(taskHandle, callback);
+
         //Retrieving the Supplier's contacts for the Supplier ID passed
-        //Executing on Disk Thread
-        mAppExecutors.getDiskIO().execute(() -> {
+        //Executing on a Database Read Thread
+        mAppExecutors.executeDbRead(AppExecutors.PRIORITY_USER_BLOCKING, taskHandle, () -> {
             //Retrieving the Supplier's Contacts
             ArrayList<SupplierContact> supplierContacts = getSupplierContacts(supplierId);
 
@@ -1032,11 +1050,14 @@ public class StoreLocalRepository implements DataRepository {
             }
 
         });
+
+        //Returning the handle to the query
+        return taskHandle;
     }
 
     /**
      * Method that retrieves the list of {@link ProductSupplierInfo} for the Supplier identified by its id.
-     * This is called on Disk Thread.
+     * This is called on a Database Read Thread.
      *
      * @param supplierId The Integer Id of the Supplier to lookup for.
      * @return List of {@link ProductSupplierInfo} for the Supplier identified by its id.
@@ -1086,7 +1107,7 @@ public class StoreLocalRepository implements DataRepository {
 
     /**
      * Method that retrieves the list of {@link SupplierContact} for the Supplier identified by its id.
-     * This is called on Disk Thread.
+     * This is called on a Database Read Thread.
      *
      * @param supplierId The Integer Id of the Supplier to lookup for.
      * @return List of {@link SupplierContact} for the Supplier identified by its id.
@@ -1139,12 +1160,17 @@ public class StoreLocalRepository implements DataRepository {
      * Method that checks and validates the uniqueness of the Supplier Code {@code supplierCode} passed.
      *
      * @param supplierCode  The Supplier Code of the Supplier to lookup for.
-     * @param queryCallback The Callback to be implemented by the caller to receive the result.
+     * @param callback      The Callback to be implemented by the caller to receive the result.
+     * @return The {@link TaskHandle} to cancel the query
      */
     @Override
-    public void getSupplierCodeUniqueness(@NonNull String supplierCode, @NonNull GetQueryCallback<Boolean> queryCallback) {
-        //Executing on Disk Thread
-        mAppExecutors.getDiskIO().execute(() -> {
+    public TaskHandle getSupplierCodeUniqueness(@NonNull String supplierCode, @NonNull GetQueryCallback<Boolean> callback) {
+        //Handle to cancel the query, which also stops the delivery of its result once cancelled
+        TaskHandle taskHandle = TaskHandle.newCancellable();
+        GetQueryCallback<Boolean> queryCallback = cancellable(taskHandle, callback);
+
+        //Executing on a Database Read Thread
+        mAppExecutors.executeDbRead(AppExecutors.PRIORITY_USER_BLOCKING, taskHandle, () -> {
             //Retrieving the cursor to the record
             Cursor cursor = mContentResolver.query(
                     SupplierContract.Supplier.buildSupplierCodeUri(supplierCode),
@@ -1190,6 +1216,9 @@ public class StoreLocalRepository implements DataRepository {
                 }
             }
         });
+
+        //Returning the handle to the query
+        return taskHandle;
     }
 
     /**
@@ -1197,13 +1226,18 @@ public class StoreLocalRepository implements DataRepository {
      *
      * @param productIds    List of Ids of the Products whose information is required. When {@code null},
      *                      information for all the Products in the database is retrieved.
-     * @param queryCallback The Callback to be implemented by the caller to receive the result.
+     * @param callback      The Callback to be implemented by the caller to receive the result.
+     * @return The {@link TaskHandle} to cancel the query
      */
     @Override
-    public void getShortProductInfoForProducts(@Nullable List<String> productIds,
-                                               @NonNull GetQueryCallback<List<ProductLite>> queryCallback) {
-        //Executing on the Disk Thread
-        mAppExecutors.getDiskIO().execute(() -> {
+    public TaskHandle getShortProductInfoForProducts(@Nullable List<String> productIds,
+                                               @NonNull GetQueryCallback<List<ProductLite>> callback) {
+        //Handle to cancel the query, which also stops the delivery of its result once cancelled
+        TaskHandle taskHandle = TaskHandle.newCancellable();
+        GetQueryCallback<List<ProductLite>> queryCallback = cancellable(taskHandle, callback);
+
+        //Executing on a Database Read Thread
+        mAppExecutors.executeDbRead(AppExecutors.PRIORITY_DEFAULT, taskHandle, () -> {
             //Building the Selection and its Arguments Pair for the list of Products passed
             Pair<String, String[]> selectionPairs = SqliteUtility.makeSelectionForInClause(
                     ProductContract.Product.getQualifiedColumnName(ProductContract.Product._ID),
@@ -1251,18 +1285,219 @@ public class StoreLocalRepository implements DataRepository {
             });
 
         });
+
+        //Returning the handle to the query
+        return taskHandle;
+    }
+
+    /**
+     * Method that searches the Products by their Name, SKU and Category for the words of the
+     * search query {@code searchQuery}, matched as prefixes, and retrieves their short information
+     * ranked by relevance.
+     *
+     * @param searchQuery   The Product Name/SKU/Category to search for
+     * @param limit         The maximum number of Products to be retrieved
+     * @param callback      The Callback to be implemented by the caller to receive the result.
+     * @return The {@link TaskHandle} to cancel the query
+     */
+    @Override
+    public TaskHandle searchProducts(@NonNull String searchQuery, int limit,
+                               @NonNull GetQueryCallback<List<ProductLite>> callback) {
+        //Handle to cancel the query, which also stops the delivery of its result once cancelled
+        TaskHandle taskHandle = TaskHandle.newCancellable();
+        GetQueryCallback<List<ProductLite>> queryCallback = cancellable(taskHandle, callback);
+
+        //Executing on a Database Read Thread
+        mAppExecutors.executeDbRead(AppExecutors.PRIORITY_USER_BLOCKING, taskHandle, () -> {
+            //Retrieving the Cursor to the records matching the search query
+            Cursor cursor = mContentResolver.query(
+                    ProductContract.Product.buildSearchUri(searchQuery, limit),
+                    QueryArgsUtility.ItemsSearchQuery.getProjection(),
+                    null,
+                    null,
+                    null
+            );
+
+            //Retrieving Products from the cursor
+            ArrayList<ProductLite> productList = new ArrayList<>();
+            try {
+                if (cursor != null && cursor.getCount() > 0) {
+                    //When the query returned results
+                    while (cursor.moveToNext()) {
+                        //Retrieving the values from the record pointed to by the Cursor
+                        ProductLite productLite = ProductLite.from(cursor);
+                        //Adding to the list of Products
+                        productList.add(productLite);
+                    }
+                }
+
+            } finally {
+                //Closing the cursor to release its resources
+                if (cursor != null && !cursor.isClosed()) {
+                    cursor.close();
+                }
+            }
+
+            //Executing on the Main Thread
+            mAppExecutors.getMainThread().execute(() -> {
+                if (productList.size() > 0) {
+                    //Pass the results to the callback
+                    queryCallback.onResults(productList);
+                } else {
+                    //Return to the caller when there are no results
+                    queryCallback.onEmpty();
+                }
+            });
+
+        });
+
+        //Returning the handle to the query
+        return taskHandle;
+    }
+
+    /**
+     * Method that retrieves a page of short information of the Products, sorted by their SKU,
+     * for the Products whose SKU is after {@code afterProductSku}.
+     *
+     * @param afterProductSku The SKU of the last Product in the previous page. When {@code null},
+     *                        the first page of Products is retrieved.
+     * @param limit           The maximum number of Products in the page
+     * @param queryCallback   The Callback to be implemented by the caller to receive the result.
+     * @return The {@link TaskHandle} to cancel the query
+     */
+    @Override
+    public TaskHandle getProductsPage(@Nullable String afterProductSku, int limit, @NonNull GetQueryCallback<List<ProductLite>> queryCallback) {
+        //Retrieving the page of Products sorted by their SKU
+        return queryListPage(
+                ProductContract.Product.buildShortInfoPageUri(afterProductSku, limit),
+                QueryArgsUtility.ItemsShortInfoQuery.getProjection(),
+                ProductLite::from,
+                queryCallback
+        );
+    }
+
+    /**
+     * Method that retrieves a page of short information of the Suppliers, sorted by their Code,
+     * for the Suppliers whose Code is after {@code afterSupplierCode}.
+     *
+     * @param afterSupplierCode The Code of the last Supplier in the previous page. When {@code null},
+     *                          the first page of Suppliers is retrieved.
+     * @param limit             The maximum number of Suppliers in the page
+     * @param queryCallback     The Callback to be implemented by the caller to receive the result.
+     * @return The {@link TaskHandle} to cancel the query
+     */
+    @Override
+    public TaskHandle getSuppliersPage(@Nullable String afterSupplierCode, int limit, @NonNull GetQueryCallback<List<SupplierLite>> queryCallback) {
+        //Retrieving the page of Suppliers sorted by their Code
+        return queryListPage(
+                SupplierContract.Supplier.buildShortInfoPageUri(afterSupplierCode, limit),
+                QueryArgsUtility.SuppliersShortInfoQuery.getProjection(),
+                SupplierLite::from,
+                queryCallback
+        );
+    }
+
+    /**
+     * Method that retrieves a page of short information of the Products sold by the Suppliers,
+     * sorted by their SKU, for the Products whose SKU is after {@code afterProductSku}.
+     *
+     * @param afterProductSku The SKU of the last Product in the previous page. When {@code null},
+     *                        the first page of Products is retrieved.
+     * @param limit           The maximum number of Products in the page
+     * @param queryCallback   The Callback to be implemented by the caller to receive the result.
+     * @return The {@link TaskHandle} to cancel the query
+     */
+    @Override
+    public TaskHandle getProductSalesPage(@Nullable String afterProductSku, int limit, @NonNull GetQueryCallback<List<SalesLite>> queryCallback) {
+        //Retrieving the page of Products sold by the Suppliers, sorted by their SKU
+        return queryListPage(
+                SalesContract.ProductSupplierInventory.buildShortInfoPageUri(afterProductSku, limit),
+                QueryArgsUtility.SalesShortInfoQuery.getProjection(),
+                SalesLite::from,
+                queryCallback
+        );
+    }
+
+    /**
+     * Method that retrieves the records of a page of a List identified by the Keyset Page URI
+     * {@code pageUri}, and converts each of them to its List Item using the {@code rowMapper}.
+     *
+     * @param pageUri       The Keyset Page URI of the List to query
+     * @param projection    The list of Columns to return
+     * @param rowMapper     The {@link CursorRowMapper} that converts a record to its List Item
+     * @param callback      The Callback to be implemented by the caller to receive the result.
+     * @param <T>           The type of List Items
+     * @return The {@link TaskHandle} to cancel the query
+     */
+    private <T> TaskHandle queryListPage(@NonNull Uri pageUri, @NonNull String[] projection,
+                                         @NonNull CursorRowMapper<T> rowMapper,
+                                         @NonNull GetQueryCallback<List<T>> callback) {
+        //Handle to cancel the query, which also stops the delivery of its result once cancelled
+        TaskHandle taskHandle = TaskHandle.newCancellable();
+        GetQueryCallback<List<T>> queryCallback = cancellable(taskHandle, callback);
+
+        //Executing on a Database Read Thread at the default priority for all the pages, as the further
+        //pages are read while the User scrolls towards them, and must not wait on the background reads
+        mAppExecutors.executeDbRead(AppExecutors.PRIORITY_DEFAULT, taskHandle, () -> {
+            //Retrieving the Cursor to the records of the page
+            Cursor cursor = mContentResolver.query(
+                    pageUri,
+                    projection,
+                    null,
+                    null,
+                    null
+            );
+
+            //Retrieving the List Items from the cursor
+            ArrayList<T> itemList = new ArrayList<>();
+            try {
+                if (cursor != null && cursor.getCount() > 0) {
+                    //When the query returned results
+                    while (cursor.moveToNext()) {
+                        //Converting the record pointed to by the Cursor and adding to the list
+                        itemList.add(rowMapper.from(cursor));
+                    }
+                }
+
+            } finally {
+                //Closing the cursor to release its resources
+                if (cursor != null && !cursor.isClosed()) {
+                    cursor.close();
+                }
+            }
+
+            //Executing on the Main Thread
+            mAppExecutors.getMainThread().execute(() -> {
+                if (itemList.size() > 0) {
+                    //Pass the results to the callback
+                    queryCallback.onResults(itemList);
+                } else {
+                    //Return to the caller when there are no results
+                    queryCallback.onEmpty();
+                }
+            });
+
+        });
+
+        //Returning the handle to the query
+        return taskHandle;
     }
 
     /**
      * Method that adds a new {@link Supplier} entry into the database.
      *
      * @param newSupplier        The new {@link Supplier} to be added to the database.
-     * @param operationsCallback The Callback to be implemented by the caller to
+     * @param callback           The Callback to be implemented by the caller to
+     * @return The {@link TaskHandle} to stop the delivery of the result of the operation
      */
     @Override
-    public void saveNewSupplier(@NonNull Supplier newSupplier, @NonNull DataOperationsCallback operationsCallback) {
-        //Executing on Disk Thread
-        mAppExecutors.getDiskIO().execute(() -> {
+    public TaskHandle saveNewSupplier(@NonNull Supplier newSupplier, @NonNull DataOperationsCallback callback) {
+        //Handle to stop the delivery of the result, as the operation needs to complete once submitted
+        TaskHandle taskHandle = TaskHandle.newNonCancellable();
+        DataOperationsCallback operationsCallback = cancellable(taskHandle, callback);
+
+        //Executing on the Database Write Thread
+        mAppExecutors.executeDbWrite(taskHandle, () -> {
             //Loading values for 'supplier' table
             ContentValues supplierContentValues = new ContentValues();
             supplierContentValues.put(SupplierContract.Supplier.COLUMN_SUPPLIER_NAME, newSupplier.getName());
@@ -1323,6 +1558,9 @@ public class StoreLocalRepository implements DataRepository {
                 }
             }
         });
+
+        //Returning the handle to the operation
+        return taskHandle;
     }
 
     /**
@@ -1335,10 +1573,25 @@ public class StoreLocalRepository implements DataRepository {
      */
     @WorkerThread
     private int saveSupplierContacts(int supplierId, ArrayList<SupplierContact> contacts) {
+        //Executing the bulk insert
+        return mContentResolver.bulkInsert(
+                ContentUris.withAppendedId(SupplierContract.SupplierContact.CONTENT_URI, supplierId),
+                buildSupplierContactsValues(contacts)
+        );
+    }
+
+    /**
+     * Method that prepares the array of {@link ContentValues} for the Supplier's Contacts {@link SupplierContact}
+     * to be inserted into the database table 'supplier_contact'.
+     *
+     * @param contacts The Supplier's Contacts {@link SupplierContact} to be added/updated to the database.
+     * @return Array of {@link ContentValues} for the Supplier's Contacts
+     */
+    private ContentValues[] buildSupplierContactsValues(ArrayList<SupplierContact> contacts) {
         //Number of Supplier Contacts to be inserted
         int noOfSupplierContactsPresent = contacts.size();
 
-        //Preparing an array of Content values for bulk insert
+        //Preparing an array of Content values for insert
         ContentValues[] valuesArray = new ContentValues[noOfSupplierContactsPresent];
         for (int index = 0; index < noOfSupplierContactsPresent; index++) {
             //Retrieving the SupplierContact at the index
@@ -1360,11 +1613,8 @@ public class StoreLocalRepository implements DataRepository {
             valuesArray[index] = contentValues;
         }
 
-        //Executing the bulk insert
-        return mContentResolver.bulkInsert(
-                ContentUris.withAppendedId(SupplierContract.SupplierContact.CONTENT_URI, supplierId),
-                valuesArray
-        );
+        //Returning the array of ContentValues
+        return valuesArray;
     }
 
     /**
@@ -1378,10 +1628,26 @@ public class StoreLocalRepository implements DataRepository {
      */
     @WorkerThread
     private int saveSupplierItems(int supplierId, ArrayList<ProductSupplierInfo> productSupplierInfoList) {
+        //Executing the bulk insert
+        return mContentResolver.bulkInsert(
+                ContentUris.withAppendedId(SalesContract.ProductSupplierInfo.CONTENT_URI_SUPPLIER_ITEMS, supplierId),
+                buildSupplierItemsValues(productSupplierInfoList)
+        );
+    }
+
+    /**
+     * Method that prepares the array of {@link ContentValues} for the Supplier's Items with their
+     * Price info {@link ProductSupplierInfo} to be inserted into the database table 'item_supplier_info'.
+     *
+     * @param productSupplierInfoList List of Supplier's Items with their Price info
+     *                                {@link ProductSupplierInfo} to be added/updated to the database.
+     * @return Array of {@link ContentValues} for the Supplier's Items
+     */
+    private ContentValues[] buildSupplierItemsValues(ArrayList<ProductSupplierInfo> productSupplierInfoList) {
         //Number of Supplier Items to be inserted
         int noOfSupplierItemsPresent = productSupplierInfoList.size();
 
-        //Preparing an array of Content values for bulk insert
+        //Preparing an array of Content values for insert
         ContentValues[] valuesArray = new ContentValues[noOfSupplierItemsPresent];
         for (int index = 0; index < noOfSupplierItemsPresent; index++) {
             //Retrieving the ProductSupplierInfo at the index
@@ -1394,11 +1660,8 @@ public class StoreLocalRepository implements DataRepository {
             valuesArray[index] = contentValues;
         }
 
-        //Executing the bulk insert
-        return mContentResolver.bulkInsert(
-                ContentUris.withAppendedId(SalesContract.ProductSupplierInfo.CONTENT_URI_SUPPLIER_ITEMS, supplierId),
-                valuesArray
-        );
+        //Returning the array of ContentValues
+        return valuesArray;
     }
 
     /**
@@ -1412,10 +1675,27 @@ public class StoreLocalRepository implements DataRepository {
      */
     @WorkerThread
     private int insertZeroSupplierInventoryForItems(int supplierId, ArrayList<ProductSupplierInfo> productSupplierInfoList) {
+        //Executing the bulk insert
+        return mContentResolver.bulkInsert(
+                ContentUris.withAppendedId(SalesContract.ProductSupplierInventory.CONTENT_URI_INV_SUPPLIER, supplierId),
+                buildZeroSupplierInventoryValues(productSupplierInfoList)
+        );
+    }
+
+    /**
+     * Method that prepares the array of {@link ContentValues} for the Zero Inventory records
+     * of the Supplier's Items {@link ProductSupplierInfo} to be inserted into the database table
+     * 'item_supplier_inventory'.
+     *
+     * @param productSupplierInfoList List of Supplier's Items {@link ProductSupplierInfo}
+     *                                whose inventory record are to be inserted with 0.
+     * @return Array of {@link ContentValues} for the Zero Inventory records of the Supplier's Items
+     */
+    private ContentValues[] buildZeroSupplierInventoryValues(ArrayList<ProductSupplierInfo> productSupplierInfoList) {
         //Number of Supplier Items inventory to be inserted
         int noOfSupplierItemsPresent = productSupplierInfoList.size();
 
-        //Preparing an array of Content values for bulk insert
+        //Preparing an array of Content values for insert
         ContentValues[] valuesArray = new ContentValues[noOfSupplierItemsPresent];
         for (int index = 0; index < noOfSupplierItemsPresent; index++) {
             //Retrieving the ProductSupplierInfo at the index
@@ -1427,28 +1707,24 @@ public class StoreLocalRepository implements DataRepository {
             valuesArray[index] = contentValues;
         }
 
-        //Executing the bulk insert
-        return mContentResolver.bulkInsert(
-                ContentUris.withAppendedId(SalesContract.ProductSupplierInventory.CONTENT_URI_INV_SUPPLIER, supplierId),
-                valuesArray
-        );
+        //Returning the array of ContentValues
+        return valuesArray;
     }
 
     /**
-     * Method that saves/updates the Item's Inventory provided by its Suppliers {@link ProductSupplierSales}
-     * into the database table 'item_supplier_inventory'.
+     * Method that prepares the array of {@link ContentValues} for the Item's Inventory provided by
+     * its Suppliers {@link ProductSupplierSales} to be inserted/updated into the database table
+     * 'item_supplier_inventory'.
      *
-     * @param productId                The Product Id of the Product whose inventory is to be inserted/updated.
      * @param productSupplierSalesList List of the Product's Suppliers inventory{@link ProductSupplierSales}
      *                                 to be added/updated to the database.
-     * @return The Number of inventory records inserted for the Item {@code productId}
+     * @return Array of {@link ContentValues} for the Item's Suppliers inventory
      */
-    @WorkerThread
-    private int saveItemSuppliersInventory(int productId, List<ProductSupplierSales> productSupplierSalesList) {
+    private ContentValues[] buildItemSuppliersInventoryValues(List<ProductSupplierSales> productSupplierSalesList) {
         //Number of Suppliers Inventory records to be inserted for the Item
         int noOfItemSuppliersInventoryPresent = productSupplierSalesList.size();
 
-        //Preparing an array of Content values for bulk insert
+        //Preparing an array of Content values for insert
         ContentValues[] valuesArray = new ContentValues[noOfItemSuppliersInventoryPresent];
         for (int index = 0; index < noOfItemSuppliersInventoryPresent; index++) {
             //Retrieving the ProductSupplierSales at the index
@@ -1461,30 +1737,76 @@ public class StoreLocalRepository implements DataRepository {
             valuesArray[index] = contentValues;
         }
 
-        //Executing the bulk insert
-        return mContentResolver.bulkInsert(
-                ContentUris.withAppendedId(SalesContract.ProductSupplierInventory.CONTENT_URI_INV_ITEM, productId),
-                valuesArray
-        );
+        //Returning the array of ContentValues
+        return valuesArray;
+    }
+
+    /**
+     * Method that adds an insert {@link ContentProviderOperation} for each of the
+     * {@link ContentValues} in {@code valuesArray} to the batch of {@code operations}.
+     *
+     * @param operations  The batch of {@link ContentProviderOperation} to add the inserts to.
+     * @param uri         The content:// URI of the insertion request.
+     * @param valuesArray An array of sets of column_name/value pairs to add to the database.
+     */
+    private void addInsertOperations(ArrayList<ContentProviderOperation> operations, Uri uri, ContentValues[] valuesArray) {
+        //Iterating over the ContentValues to add an insert operation for each of them
+        for (ContentValues contentValues : valuesArray) {
+            operations.add(ContentProviderOperation.newInsert(uri)
+                    .withValues(contentValues)
+                    .build()
+            );
+        }
+    }
+
+    /**
+     * Method that applies the batch of {@code operations} on the database in a single transaction.
+     * Either all the operations are applied or none of them are.
+     *
+     * @param operations The batch of {@link ContentProviderOperation} to be applied.
+     * @return The results of the operations applied; or {@code null} when the batch failed.
+     */
+    @WorkerThread
+    @Nullable
+    private ContentProviderResult[] applyBatch(ArrayList<ContentProviderOperation> operations) {
+        try {
+            //Executing the batch of operations
+            return mContentResolver.applyBatch(StoreContract.CONTENT_AUTHORITY, operations);
+        } catch (RemoteException | OperationApplicationException e) {
+            //Logging the error when the batch failed, in which case the entire batch is rolled back
+            Log.e(LOG_TAG, "applyBatch: Failed to apply the batch of " + operations.size() + " operations", e);
+            //Returning NULL on Failure
+            return null;
+        }
     }
 
     /**
      * Method that updates an existing {@link Supplier} entry in the database.
+     * All the changes to the Supplier and its relationship data are applied in a single
+     * batch, so that either all of them are saved or none of them are.
      *
      * @param existingSupplier   The Existing Supplier details for figuring out the required
      *                           CRUD operations.
      * @param newSupplier        The New Supplier details to be saved in the database.
-     * @param operationsCallback The Callback to be implemented by the caller to
+     * @param callback           The Callback to be implemented by the caller to
+     * @return The {@link TaskHandle} to stop the delivery of the result of the operation
      */
     @Override
-    public void saveUpdatedSupplier(@NonNull Supplier existingSupplier,
+    public TaskHandle saveUpdatedSupplier(@NonNull Supplier existingSupplier,
                                     @NonNull Supplier newSupplier,
-                                    @NonNull DataOperationsCallback operationsCallback) {
-        //Executing on Disk Thread
-        mAppExecutors.getDiskIO().execute(() -> {
+                                    @NonNull DataOperationsCallback callback) {
+        //Handle to stop the delivery of the result, as the operation needs to complete once submitted
+        TaskHandle taskHandle = TaskHandle.newNonCancellable();
+        DataOperationsCallback operationsCallback = cancellable(taskHandle, callback);
+
+        //Executing on the Database Write Thread
+        mAppExecutors.executeDbWrite(taskHandle, () -> {
             //Get the Supplier Id to update
             int supplierId = existingSupplier.getId();
 
+            //Stores the batch of operations to be applied for the update
+            ArrayList<ContentProviderOperation> operations = new ArrayList<>();
+
             //Retrieving the Supplier Contacts
             ArrayList<SupplierContact> existingSupplierContacts = existingSupplier.getContacts();
             ArrayList<SupplierContact> newSupplierContacts = newSupplier.getContacts();
@@ -1495,22 +1817,18 @@ public class StoreLocalRepository implements DataRepository {
             //Removing what is present in the new list
             removeSimilarSupplierContacts(removedSupplierContacts, newSupplierContacts);
 
-            //Stores the number of Contacts deleted
-            int noOfSupplierContactsDeleted = 0;
-            //Number of Contacts to be deleted
-            int noOfSupplierContactsToDelete = removedSupplierContacts.size();
-            if (noOfSupplierContactsToDelete > 0) {
+            if (removedSupplierContacts.size() > 0) {
                 //When there are contacts to be deleted, delete them
-                noOfSupplierContactsDeleted = deleteSupplierContacts(supplierId, removedSupplierContacts);
+                addDeleteSupplierContactsOperations(operations, supplierId, removedSupplierContacts);
             }
 
-            //Stores the number of Contacts inserted
-            int noOfSupplierContactsInserted = 0;
-            int noOfSupplierContactsToInsert = newSupplierContacts.size();
-            if (noOfSupplierContactsToInsert > 0) {
-                //When there are Contacts to be inserted, bulk insert the contacts
+            if (newSupplierContacts.size() > 0) {
+                //When there are Contacts to be inserted, insert the contacts
                 //(Existing Contacts data will be updated because of CONFLICT REPLACE Strategy)
-                noOfSupplierContactsInserted = saveSupplierContacts(supplierId, newSupplierContacts);
+                addInsertOperations(operations,
+                        ContentUris.withAppendedId(SupplierContract.SupplierContact.CONTENT_URI, supplierId),
+                        buildSupplierContactsValues(newSupplierContacts)
+                );
             }
 
             //Retrieving the Supplier Items with their Price info
@@ -1523,19 +1841,11 @@ public class StoreLocalRepository implements DataRepository {
             //Removing what is present in the new list
             removeSimilarProductSupplierInfo(removedProductSupplierInfoList, newProductSupplierInfoList);
 
-            //Stores the number of Supplier Items removed from the Supplier
-            int noOfSupplierItemsRemoved = 0;
-            int noOfSupplierItemsToRemove = removedProductSupplierInfoList.size();
-            if (noOfSupplierItemsToRemove > 0) {
+            if (removedProductSupplierInfoList.size() > 0) {
                 //When there are Supplier Items to be removed, unlink them from the Supplier
-                noOfSupplierItemsRemoved = unlinkSupplierItems(supplierId, removedProductSupplierInfoList);
-            }
-
-            //Stores the number of Supplier Items inventory removed from the Supplier
-            int noOfSupplierItemsInventoryRemoved = 0;
-            if (noOfSupplierItemsToRemove > 0) {
-                //When there are Supplier Items to be removed, unlink their inventory from the Supplier
-                noOfSupplierItemsInventoryRemoved = unlinkSupplierItemsInventory(supplierId, removedProductSupplierInfoList);
+                addUnlinkSupplierItemsOperations(operations, supplierId, removedProductSupplierInfoList);
+                //Also unlink their inventory from the Supplier
+                addUnlinkSupplierItemsInventoryOperations(operations, supplierId, removedProductSupplierInfoList);
             }
 
             //Evaluating the Supplier Items that were newly added in order to insert Zero Inventory record
@@ -1544,81 +1854,89 @@ public class StoreLocalRepository implements DataRepository {
             //Removing what is present in the existing list
             removeSimilarProductSupplierInfo(addedProductSupplierInfoList, existingProductSupplierInfoList);
 
-            //Stores the number of Supplier Items inventory added to the Supplier
-            int noOfSupplierItemsInventoryInserted = 0;
-            int noOfSupplierItemsInventoryToInsert = addedProductSupplierInfoList.size();
-            if (noOfSupplierItemsInventoryToInsert > 0) {
+            if (addedProductSupplierInfoList.size() > 0) {
                 //When there are new Items for the Supplier added, insert the Zero Inventory record for those Items
-                noOfSupplierItemsInventoryInserted = insertZeroSupplierInventoryForItems(supplierId, addedProductSupplierInfoList);
+                addInsertOperations(operations,
+                        ContentUris.withAppendedId(SalesContract.ProductSupplierInventory.CONTENT_URI_INV_SUPPLIER, supplierId),
+                        buildZeroSupplierInventoryValues(addedProductSupplierInfoList)
+                );
             }
 
-            //Stores the number of Supplier Items inserted
-            int noOfSupplierItemsInserted = 0;
-            int noOfSupplierItemsToInsert = newProductSupplierInfoList.size();
-            if (noOfSupplierItemsToInsert > 0) {
-                //When there are Supplier Items to be inserted, bulk insert the Supplier Items
+            if (newProductSupplierInfoList.size() > 0) {
+                //When there are Supplier Items to be inserted, insert the Supplier Items
                 //(Existing Supplier Items data will be updated because of CONFLICT REPLACE Strategy)
-                noOfSupplierItemsInserted = saveSupplierItems(supplierId, newProductSupplierInfoList);
+                addInsertOperations(operations,
+                        ContentUris.withAppendedId(SalesContract.ProductSupplierInfo.CONTENT_URI_SUPPLIER_ITEMS, supplierId),
+                        buildSupplierItemsValues(newProductSupplierInfoList)
+                );
             }
 
-            if (noOfSupplierContactsDeleted == noOfSupplierContactsToDelete
-                    && noOfSupplierContactsInserted == noOfSupplierContactsToInsert
-                    && noOfSupplierItemsRemoved == noOfSupplierItemsToRemove
-                    && noOfSupplierItemsInventoryRemoved == noOfSupplierItemsToRemove
-                    && noOfSupplierItemsInventoryInserted == noOfSupplierItemsInventoryToInsert
-                    && noOfSupplierItemsInserted == noOfSupplierItemsToInsert) {
-                //When the Hang off details were inserted/deleted successfully,
-                //begin with the Supplier update
-
-                //Compare the Supplier details for Update
-                boolean isNameChanged = !newSupplier.getName().equals(existingSupplier.getName());
-                boolean isCodeChanged = !newSupplier.getCode().equals(existingSupplier.getCode());
-
-                if (isNameChanged || isCodeChanged) {
-                    //If any of the Supplier details are changed, then we need to update the Supplier
-
-                    //Loading the values for the 'supplier' table update
-                    ContentValues supplierContentValues = new ContentValues();
-                    supplierContentValues.put(SupplierContract.Supplier.COLUMN_SUPPLIER_NAME, newSupplier.getName());
-                    supplierContentValues.put(SupplierContract.Supplier.COLUMN_SUPPLIER_CODE, newSupplier.getCode());
-
-                    //Executing update
-                    int noOfSupplierRecordsUpdated = mContentResolver.update(
-                            ContentUris.withAppendedId(SupplierContract.Supplier.CONTENT_URI, supplierId),
-                            supplierContentValues,
-                            null,
-                            null
-                    );
+            //Compare the Supplier details for Update
+            boolean isNameChanged = !newSupplier.getName().equals(existingSupplier.getName());
+            boolean isCodeChanged = !newSupplier.getCode().equals(existingSupplier.getCode());
+
+            //Stores the index of the Supplier update operation in the batch, if any
+            int supplierUpdateIndex = -1;
+            if (isNameChanged || isCodeChanged) {
+                //If any of the Supplier details are changed, then we need to update the Supplier
+
+                //Loading the values for the 'supplier' table update
+                ContentValues supplierContentValues = new ContentValues();
+                supplierContentValues.put(SupplierContract.Supplier.COLUMN_SUPPLIER_NAME, newSupplier.getName());
+                supplierContentValues.put(SupplierContract.Supplier.COLUMN_SUPPLIER_CODE, newSupplier.getCode());
+
+                //Adding the update as the last operation of the batch
+                supplierUpdateIndex = operations.size();
+                operations.add(ContentProviderOperation.newUpdate(
+                        ContentUris.withAppendedId(SupplierContract.Supplier.CONTENT_URI, supplierId))
+                        .withValues(supplierContentValues)
+                        .build()
+                );
+            }
 
-                    //Checking the number of records updated
-                    if (noOfSupplierRecordsUpdated == 0) {
-                        //When 0 rows were affected, pass the error message
-                        //Executing on Main Thread
-                        mAppExecutors.getMainThread().execute(() -> operationsCallback.onFailure(R.string.supplier_config_update_supplier_error, existingSupplier.getCode()));
-                    } else if (noOfSupplierRecordsUpdated == 1) {
-                        //When 1 row was affected, call the update operation as successful
-                        //Executing on Main Thread
-                        mAppExecutors.getMainThread().execute(operationsCallback::onSuccess);
-                    } else if (noOfSupplierRecordsUpdated > 1) {
-                        //When more than 1 row were affected, pass the error message
-                        //Executing on Main Thread
-                        mAppExecutors.getMainThread().execute(() -> operationsCallback.onFailure(R.string.supplier_config_update_supplier_inconsistent_error, existingSupplier.getCode()));
-                    }
+            if (operations.size() == 0) {
+                //When there is nothing to be changed, call the update operation as successful
+                //Executing on Main Thread
+                mAppExecutors.getMainThread().execute(operationsCallback::onSuccess);
+                return;
+            }
 
-                } else {
-                    //When none of the Supplier details were changed, call the update operation as successful
-                    //Executing on Main Thread
-                    mAppExecutors.getMainThread().execute(operationsCallback::onSuccess);
-                }
+            //Executing all the operations in a single batch
+            ContentProviderResult[] results = applyBatch(operations);
 
-            } else {
+            if (results == null) {
                 //When the Hang off details were not inserted/deleted, pass the error message
+                //(None of the changes were saved since the batch is rolled back)
                 //Executing on Main Thread
                 mAppExecutors.getMainThread().execute(() -> operationsCallback.onFailure(R.string.supplier_config_update_supplier_addtnl_dtls_error, existingSupplier.getCode()));
+            } else if (supplierUpdateIndex == -1) {
+                //When none of the Supplier details were changed, call the update operation as successful
+                //Executing on Main Thread
+                mAppExecutors.getMainThread().execute(operationsCallback::onSuccess);
+            } else {
+                //Retrieving the number of Supplier records updated
+                int noOfSupplierRecordsUpdated = results[supplierUpdateIndex].count;
+
+                //Checking the number of records updated
+                if (noOfSupplierRecordsUpdated == 0) {
+                    //When 0 rows were affected, pass the error message
+                    //Executing on Main Thread
+                    mAppExecutors.getMainThread().execute(() -> operationsCallback.onFailure(R.string.supplier_config_update_supplier_error, existingSupplier.getCode()));
+                } else if (noOfSupplierRecordsUpdated == 1) {
+                    //When 1 row was affected, call the update operation as successful
+                    //Executing on Main Thread
+                    mAppExecutors.getMainThread().execute(operationsCallback::onSuccess);
+                } else if (noOfSupplierRecordsUpdated > 1) {
+                    //When more than 1 row were affected, pass the error message
+                    //Executing on Main Thread
+                    mAppExecutors.getMainThread().execute(() -> operationsCallback.onFailure(R.string.supplier_config_update_supplier_inconsistent_error, existingSupplier.getCode()));
+                }
             }
 
         });
 
+        //Returning the handle to the operation
+        return taskHandle;
     }
 
     /**
@@ -1626,12 +1944,17 @@ public class StoreLocalRepository implements DataRepository {
      * This also deletes any relationship data with the Supplier.
      *
      * @param supplierId         The Supplier Id of the Supplier to be deleted.
-     * @param operationsCallback The Callback to be implemented by the caller to
+     * @param callback           The Callback to be implemented by the caller to
+     * @return The {@link TaskHandle} to stop the delivery of the result of the operation
      */
     @Override
-    public void deleteSupplierById(int supplierId, @NonNull DataOperationsCallback operationsCallback) {
-        //Executing on Disk Thread
-        mAppExecutors.getDiskIO().execute(() -> {
+    public TaskHandle deleteSupplierById(int supplierId, @NonNull DataOperationsCallback callback) {
+        //Handle to stop the delivery of the result, as the operation needs to complete once submitted
+        TaskHandle taskHandle = TaskHandle.newNonCancellable();
+        DataOperationsCallback operationsCallback = cancellable(taskHandle, callback);
+
+        //Executing on the Database Write Thread
+        mAppExecutors.executeDbWrite(taskHandle, () -> {
             //Executing Supplier Deletion for the Supplier ID passed
             final int noOfRecordsDeleted = mContentResolver.delete(
                     ContentUris.withAppendedId(SupplierContract.Supplier.CONTENT_URI, supplierId),
@@ -1650,147 +1973,130 @@ public class StoreLocalRepository implements DataRepository {
                 }
             });
         });
+
+        //Returning the handle to the operation
+        return taskHandle;
     }
 
     /**
-     * Method that removes the Inventory records for the Items of the given Supplier identified by its Id.
+     * Method that adds the delete operations for removing the Inventory records for the Items
+     * of the given Supplier identified by its Id, to the batch of {@code operations}.
      *
+     * @param operations                     The batch of {@link ContentProviderOperation} to add the deletes to.
      * @param supplierId                     The Supplier Id of the Supplier whose Items inventory is to be removed
      * @param removedProductSupplierInfoList List of {@link ProductSupplierInfo} that contains the Item Ids
      *                                       of the Items whose Inventory records needs to be removed.
-     * @return The number of Supplier Items inventory records removed
      */
-    @WorkerThread
-    private int unlinkSupplierItemsInventory(int supplierId, ArrayList<ProductSupplierInfo> removedProductSupplierInfoList) {
-        //Stores the number of Supplier Items inventory removed from the Supplier
-        int noOfSupplierItemsInventoryRemoved = 0;
-
+    private void addUnlinkSupplierItemsInventoryOperations(ArrayList<ContentProviderOperation> operations, int supplierId,
+                                                           ArrayList<ProductSupplierInfo> removedProductSupplierInfoList) {
         //Iterating over the Supplier Items to remove their inventory
         for (ProductSupplierInfo productSupplierInfo : removedProductSupplierInfoList) {
             //Specifying the WHERE Clause filter
             String selection = SalesContract.ProductSupplierInventory.COLUMN_ITEM_ID + EQUALS + PLACEHOLDER;
             //Specifying the values of the columns involved in the WHERE Clause filter
             String[] selectionArgs = new String[]{String.valueOf(productSupplierInfo.getItemId())};
-            //Executing delete
-            noOfSupplierItemsInventoryRemoved += mContentResolver.delete(
-                    ContentUris.withAppendedId(SalesContract.ProductSupplierInventory.CONTENT_URI_INV_SUPPLIER, supplierId),
-                    selection,
-                    selectionArgs
+            //Adding the delete which is expected to remove exactly one record
+            operations.add(ContentProviderOperation.newDelete(
+                    ContentUris.withAppendedId(SalesContract.ProductSupplierInventory.CONTENT_URI_INV_SUPPLIER, supplierId))
+                    .withSelection(selection, selectionArgs)
+                    .withExpectedCount(1)
+                    .build()
             );
         }
-
-        //Returning the number of Supplier Items inventory removed
-        return noOfSupplierItemsInventoryRemoved;
     }
 
     /**
-     * Method that removes the Inventory records for the Suppliers of the given Item identified by its Id.
+     * Method that adds the delete operations for removing the Inventory records for the Suppliers
+     * of the given Item identified by its Id, to the batch of {@code operations}.
      *
+     * @param operations                      The batch of {@link ContentProviderOperation} to add the deletes to.
      * @param productId                       The Product Id of the Product whose inventory from the Suppliers are to be removed.
      * @param removedProductSupplierSalesList List of {@link ProductSupplierSales} that contains the Supplier Ids
      *                                        of the Suppliers whose Inventory records with the Item {@code productId}
      *                                        needs to be removed.
-     * @return The number of Suppliers' inventory removed for the Item.
      */
-    @WorkerThread
-    private int unlinkItemSuppliersInventory(int productId, List<ProductSupplierSales> removedProductSupplierSalesList) {
-        //Stores the number of Suppliers' inventory removed for the Item
-        int noOfItemSuppliersInventoryRemoved = 0;
-
+    private void addUnlinkItemSuppliersInventoryOperations(ArrayList<ContentProviderOperation> operations, int productId,
+                                                           List<ProductSupplierSales> removedProductSupplierSalesList) {
         //Iterating over the Item's Suppliers to remove their inventory
         for (ProductSupplierSales productSupplierSales : removedProductSupplierSalesList) {
             //Specifying the WHERE Clause filter
             String selection = SalesContract.ProductSupplierInventory.COLUMN_SUPPLIER_ID + EQUALS + PLACEHOLDER;
             //Specifying the values of the columns involved in the WHERE Clause filter
             String[] selectionArgs = new String[]{String.valueOf(productSupplierSales.getSupplierId())};
-            //Executing delete
-            noOfItemSuppliersInventoryRemoved += mContentResolver.delete(
-                    ContentUris.withAppendedId(SalesContract.ProductSupplierInventory.CONTENT_URI_INV_ITEM, productId),
-                    selection,
-                    selectionArgs
+            //Adding the delete which is expected to remove exactly one record
+            operations.add(ContentProviderOperation.newDelete(
+                    ContentUris.withAppendedId(SalesContract.ProductSupplierInventory.CONTENT_URI_INV_ITEM, productId))
+                    .withSelection(selection, selectionArgs)
+                    .withExpectedCount(1)
+                    .build()
             );
         }
-
-        //Returning the number of Suppliers' inventory removed
-        return noOfItemSuppliersInventoryRemoved;
     }
 
     /**
-     * Method that removes the link between Supplier and its items for the
-     * items mentioned in {@code removedProductSupplierInfoList}.
+     * Method that adds the delete operations for removing the link between Supplier and its items
+     * for the items mentioned in {@code removedProductSupplierInfoList}, to the batch of {@code operations}.
      *
+     * @param operations                     The batch of {@link ContentProviderOperation} to add the deletes to.
      * @param supplierId                     The Supplier Id of the Supplier whose link with the items are to be removed
      * @param removedProductSupplierInfoList List of {@link ProductSupplierInfo} that contains
      *                                       the Item Ids of the Items for which the link needs to be removed.
-     * @return The Number of Supplier Items removed.
      */
-    @WorkerThread
-    private int unlinkSupplierItems(int supplierId, ArrayList<ProductSupplierInfo> removedProductSupplierInfoList) {
-        //Stores the number of Supplier Items removed from the Supplier
-        int noOfSupplierItemsRemoved = 0;
-
+    private void addUnlinkSupplierItemsOperations(ArrayList<ContentProviderOperation> operations, int supplierId,
+                                                  ArrayList<ProductSupplierInfo> removedProductSupplierInfoList) {
         //Iterating over the Supplier Items to unlink them
         for (ProductSupplierInfo productSupplierInfo : removedProductSupplierInfoList) {
             //Specifying the WHERE Clause filter
             String selection = SalesContract.ProductSupplierInfo.COLUMN_ITEM_ID + EQUALS + PLACEHOLDER;
             //Specifying the values of the columns involved in the WHERE Clause filter
             String[] selectionArgs = new String[]{String.valueOf(productSupplierInfo.getItemId())};
-            //Executing delete
-            noOfSupplierItemsRemoved += mContentResolver.delete(
-                    ContentUris.withAppendedId(SalesContract.ProductSupplierInfo.CONTENT_URI_SUPPLIER_ITEMS, supplierId),
-                    selection,
-                    selectionArgs
+            //Adding the delete which is expected to remove exactly one record
+            operations.add(ContentProviderOperation.newDelete(
+                    ContentUris.withAppendedId(SalesContract.ProductSupplierInfo.CONTENT_URI_SUPPLIER_ITEMS, supplierId))
+                    .withSelection(selection, selectionArgs)
+                    .withExpectedCount(1)
+                    .build()
             );
         }
-
-        //Returning the Number of Supplier Items removed
-        return noOfSupplierItemsRemoved;
     }
 
     /**
-     * Method that removes the link between Item and its Suppliers for the Suppliers
-     * mentioned in {@code removedProductSupplierSalesList}.
+     * Method that adds the delete operations for removing the link between Item and its Suppliers
+     * for the Suppliers mentioned in {@code removedProductSupplierSalesList}, to the batch of {@code operations}.
      *
+     * @param operations                      The batch of {@link ContentProviderOperation} to add the deletes to.
      * @param productId                       The Product Id of the Product whose link with the Suppliers are to be removed.
      * @param removedProductSupplierSalesList List of {@link ProductSupplierSales} that contains
      *                                        the Supplier Ids of the Suppliers for which the link needs to be removed.
-     * @return The Number of Item's Suppliers removed.
      */
-    @WorkerThread
-    private int unlinkItemSuppliers(int productId, List<ProductSupplierSales> removedProductSupplierSalesList) {
-        //Stores the number of Suppliers removed from the item
-        int noOfItemSuppliersRemoved = 0;
-
+    private void addUnlinkItemSuppliersOperations(ArrayList<ContentProviderOperation> operations, int productId,
+                                                  List<ProductSupplierSales> removedProductSupplierSalesList) {
         //Iterating over the Item's Suppliers to unlink them
         for (ProductSupplierSales productSupplierSales : removedProductSupplierSalesList) {
             //Specifying the WHERE Clause filter
             String selection = SalesContract.ProductSupplierInfo.COLUMN_SUPPLIER_ID + EQUALS + PLACEHOLDER;
             //Specifying the values of the columns involved in the WHERE Clause filter
             String[] selectionArgs = new String[]{String.valueOf(productSupplierSales.getSupplierId())};
-            //Executing delete
-            noOfItemSuppliersRemoved += mContentResolver.delete(
-                    ContentUris.withAppendedId(SalesContract.ProductSupplierInfo.CONTENT_URI_ITEM_SUPPLIERS, productId),
-                    selection,
-                    selectionArgs
+            //Adding the delete which is expected to remove exactly one record
+            operations.add(ContentProviderOperation.newDelete(
+                    ContentUris.withAppendedId(SalesContract.ProductSupplierInfo.CONTENT_URI_ITEM_SUPPLIERS, productId))
+                    .withSelection(selection, selectionArgs)
+                    .withExpectedCount(1)
+                    .build()
             );
         }
-
-        //Returning the number of Item's Suppliers removed
-        return noOfItemSuppliersRemoved;
     }
 
     /**
-     * Method that deletes the Contacts of the given Supplier and Supplier Contact Values.
+     * Method that adds the delete operations for deleting the Contacts of the given Supplier
+     * and Supplier Contact Values, to the batch of {@code operations}.
      *
+     * @param operations              The batch of {@link ContentProviderOperation} to add the deletes to.
      * @param supplierId              The Supplier Id of the Supplier whose contacts are to be deleted.
      * @param removedSupplierContacts List of {@link SupplierContact} that needs to be deleted.
-     * @return The Number of Supplier Contacts deleted.
      */
-    @WorkerThread
-    private int deleteSupplierContacts(int supplierId, ArrayList<SupplierContact> removedSupplierContacts) {
-        //Stores the number of Records deleted
-        int noOfRecordsDeleted = 0;
-
+    private void addDeleteSupplierContactsOperations(ArrayList<ContentProviderOperation> operations, int supplierId,
+                                                     ArrayList<SupplierContact> removedSupplierContacts) {
         //Iterating over the Supplier Contacts to delete them
         for (SupplierContact supplierContact : removedSupplierContacts) {
             //Specifying the WHERE Clause filter
@@ -1803,16 +2109,14 @@ public class StoreLocalRepository implements DataRepository {
                     SupplierContract.SupplierContactType.CONTACT_TYPE_ID_EMAIL;
             //Specifying the values of the columns involved in the WHERE Clause filter
             String[] selectionArgs = new String[]{String.valueOf(contactTypeId), supplierContact.getValue()};
-            //Executing delete
-            noOfRecordsDeleted += mContentResolver.delete(
-                    ContentUris.withAppendedId(SupplierContract.SupplierContact.CONTENT_URI, supplierId),
-                    selection,
-                    selectionArgs
+            //Adding the delete which is expected to remove exactly one record
+            operations.add(ContentProviderOperation.newDelete(
+                    ContentUris.withAppendedId(SupplierContract.SupplierContact.CONTENT_URI, supplierId))
+                    .withSelection(selection, selectionArgs)
+                    .withExpectedCount(1)
+                    .build()
             );
         }
-
-        //Returning the Number of Supplier Contacts deleted
-        return noOfRecordsDeleted;
     }
 
     /**
@@ -1905,39 +2209,49 @@ public class StoreLocalRepository implements DataRepository {
 
     /**
      * Method that decreases the available quantity {@code availableQuantity} of a Product sold
-     * by the Supplier, by the specified quantity {@code decreaseQuantityBy}.
+     * by the Supplier, by the specified quantity {@code decreaseQuantityBy}. The quantity is decreased
+     * atomically in the database, only when the quantity available is sufficient.
      *
      * @param productId          The Product Id of the Product.
      * @param productSku         The Product SKU of the Product.
      * @param supplierId         The Supplier Id of the Supplier for the Product.
      * @param supplierCode       The Supplier Code of the Supplier for the Product.
-     * @param availableQuantity  The current available Quantity of the Product at the Supplier.
+     * @param availableQuantity  The current available Quantity of the Product at the Supplier, as last seen
+     *                           by the caller. The update does not depend on this value, since the quantity
+     *                           persisted in the database is decreased directly.
      * @param decreaseQuantityBy The amount to decrease the available quantity by.
-     * @param operationsCallback The Callback to be implemented by the caller to
+     * @param callback           The Callback to be implemented by the caller to
+     * @return The {@link TaskHandle} to stop the delivery of the result of the operation
      */
     @Override
-    public void decreaseProductSupplierInventory(int productId, String productSku,
+    public TaskHandle decreaseProductSupplierInventory(int productId, String productSku,
                                                  int supplierId, String supplierCode,
                                                  int availableQuantity, int decreaseQuantityBy,
-                                                 @NonNull DataOperationsCallback operationsCallback) {
-        //Executing on Disk Thread
-        mAppExecutors.getDiskIO().execute(() -> {
-            //Preparing the ContentValue to update the available quantity
-            ContentValues contentValues = new ContentValues();
-            contentValues.put(SalesContract.ProductSupplierInventory.COLUMN_ITEM_AVAIL_QUANTITY, availableQuantity - decreaseQuantityBy);
-
-            //Preparing the WHERE Clause to pass the Supplier Id
-            String selection = SalesContract.ProductSupplierInventory.COLUMN_SUPPLIER_ID + EQUALS + PLACEHOLDER;
-            String[] selectionArgs = new String[]{String.valueOf(supplierId)};
-
-            //Executing update for the Product Id passed
-            final int noOfRecordsUpdated = mContentResolver.update(
-                    ContentUris.withAppendedId(SalesContract.ProductSupplierInventory.CONTENT_URI_INV_ITEM, productId),
-                    contentValues,
-                    selection,
-                    selectionArgs
+                                                 @NonNull DataOperationsCallback callback) {
+        //Handle to stop the delivery of the result, as the operation needs to complete once submitted
+        TaskHandle taskHandle = TaskHandle.newNonCancellable();
+        DataOperationsCallback operationsCallback = cancellable(taskHandle, callback);
+
+        //Executing on the Database Write Thread
+        mAppExecutors.executeDbWrite(taskHandle, () -> {
+            //Preparing the extras with the Product-Supplier pair and the quantity to decrease by
+            Bundle extras = new Bundle();
+            extras.putIntArray(SalesContract.ProductSupplierInventory.EXTRA_ITEM_IDS, new int[]{productId});
+            extras.putIntArray(SalesContract.ProductSupplierInventory.EXTRA_SUPPLIER_IDS, new int[]{supplierId});
+            extras.putIntArray(SalesContract.ProductSupplierInventory.EXTRA_DECREASE_QUANTITIES, new int[]{decreaseQuantityBy});
+
+            //Executing the atomic decrease of the available quantity
+            Bundle result = mContentResolver.call(
+                    SalesContract.ProductSupplierInventory.CONTENT_URI,
+                    SalesContract.ProductSupplierInventory.METHOD_DECREASE_AVAIL_QUANTITY,
+                    null,
+                    extras
             );
 
+            //Retrieving the number of records updated
+            final int noOfRecordsUpdated = result != null ?
+                    result.getInt(SalesContract.ProductSupplierInventory.RESULT_NO_OF_RECORDS_UPDATED) : 0;
+
             //Executing on Main Thread
             mAppExecutors.getMainThread().execute(() -> {
                 if (noOfRecordsUpdated > 0) {
@@ -1949,6 +2263,9 @@ public class StoreLocalRepository implements DataRepository {
                 }
             });
         });
+
+        //Returning the handle to the operation
+        return taskHandle;
     }
 
     /**
@@ -1956,12 +2273,17 @@ public class StoreLocalRepository implements DataRepository {
      * for a Product identified by its id.
      *
      * @param productId     The Integer Id of the Product to lookup for.
-     * @param queryCallback The Callback to be implemented by the caller to receive the result.
+     * @param callback      The Callback to be implemented by the caller to receive the result.
+     * @return The {@link TaskHandle} to cancel the query
      */
     @Override
-    public void getProductSuppliersSalesInfo(int productId, @NonNull GetQueryCallback<List<ProductSupplierSales>> queryCallback) {
-        //Executing on the Disk Thread
-        mAppExecutors.getDiskIO().execute(() -> {
+    public TaskHandle getProductSuppliersSalesInfo(int productId, @NonNull GetQueryCallback<List<ProductSupplierSales>> callback) {
+        //Handle to cancel the query, which also stops the delivery of its result once cancelled
+        TaskHandle taskHandle = TaskHandle.newCancellable();
+        GetQueryCallback<List<ProductSupplierSales>> queryCallback = cancellable(taskHandle, callback);
+
+        //Executing on a Database Read Thread
+        mAppExecutors.executeDbRead(AppExecutors.PRIORITY_USER_BLOCKING, taskHandle, () -> {
             //Retrieving the cursor to the records
             Cursor cursor = mContentResolver.query(
                     ContentUris.withAppendedId(SalesContract.ProductSupplierInventory.CONTENT_URI_INV_ITEM, productId),
@@ -2011,27 +2333,39 @@ public class StoreLocalRepository implements DataRepository {
             });
 
         });
+
+        //Returning the handle to the query
+        return taskHandle;
     }
 
     /**
      * Method that updates the inventory of the Product identified by the Product Id {@code productId}
-     * at all its registered suppliers.
+     * at all its registered suppliers. All the changes are applied in a single batch, so that
+     * either all of them are saved or none of them are.
      *
      * @param productId                    The Product Id of the Product whose inventory is being updated.
      * @param productSku                   The Product SKU of the Product.
      * @param existingProductSupplierSales List of Product's Suppliers with Sales information
      *                                     currently persisted in the database.
      * @param updatedProductSupplierSales  List of Product's Suppliers with updated Sales information
-     * @param operationsCallback           The Callback to be implemented by the caller to
+     * @param callback                     The Callback to be implemented by the caller to
      *                                     receive the operation result.
+     * @return The {@link TaskHandle} to stop the delivery of the result of the operation
      */
     @Override
-    public void saveUpdatedProductSalesInfo(int productId, String productSku,
+    public TaskHandle saveUpdatedProductSalesInfo(int productId, String productSku,
                                             @NonNull List<ProductSupplierSales> existingProductSupplierSales,
                                             @NonNull List<ProductSupplierSales> updatedProductSupplierSales,
-                                            @NonNull DataOperationsCallback operationsCallback) {
-        //Executing on Disk Thread
-        mAppExecutors.getDiskIO().execute(() -> {
+                                            @NonNull DataOperationsCallback callback) {
+        //Handle to stop the delivery of the result, as the operation needs to complete once submitted
+        TaskHandle taskHandle = TaskHandle.newNonCancellable();
+        DataOperationsCallback operationsCallback = cancellable(taskHandle, callback);
+
+        //Executing on the Database Write Thread
+        mAppExecutors.executeDbWrite(taskHandle, () -> {
+            //Stores the batch of operations to be applied for the update
+            ArrayList<ContentProviderOperation> operations = new ArrayList<>();
+
             //Evaluating the Item's Suppliers that were removed in order to
             //unlink the Item from the Supplier and also its Price and Inventory details
             //Adding the existing list first
@@ -2039,34 +2373,24 @@ public class StoreLocalRepository implements DataRepository {
             //Removing what is present in the new updated list to find the Suppliers unlinked from the Item
             removeSimilarProductSupplierSales(removedProductSupplierSalesList, updatedProductSupplierSales);
 
-            //Stores the number of Item's Suppliers removed
-            int noOfItemSuppliersRemoved = 0;
-            int noOfItemSuppliersToRemove = removedProductSupplierSalesList.size();
-            if (noOfItemSuppliersToRemove > 0) {
+            if (removedProductSupplierSalesList.size() > 0) {
                 //When there are some Item's Suppliers removed, unlink from the Item
-                noOfItemSuppliersRemoved = unlinkItemSuppliers(productId, removedProductSupplierSalesList);
+                addUnlinkItemSuppliersOperations(operations, productId, removedProductSupplierSalesList);
+                //Also remove their inventory records
+                addUnlinkItemSuppliersInventoryOperations(operations, productId, removedProductSupplierSalesList);
             }
 
-            //Stores the number of Item's Suppliers inventory removed
-            int noOfItemSuppliersInventoryRemoved = 0;
-            if (noOfItemSuppliersToRemove > 0) {
-                //When there are some Item's Suppliers removed, remove their inventory records
-                noOfItemSuppliersInventoryRemoved = unlinkItemSuppliersInventory(productId, removedProductSupplierSalesList);
-            }
-
-            //Stores the number of Item's Suppliers inventory records to be inserted/updated
-            int noOfItemSuppliersInventoryInserted = 0;
-            int noOfItemSuppliersInventoryToInsert = updatedProductSupplierSales.size();
-            if (noOfItemSuppliersInventoryToInsert > 0) {
-                //When there are Item's Suppliers inventory records, bulk insert to add/update them to the database
+            if (updatedProductSupplierSales.size() > 0) {
+                //When there are Item's Suppliers inventory records, insert to add/update them to the database
                 //(Existing inventory records will be updated because of CONFLICT REPLACE Strategy)
-                noOfItemSuppliersInventoryInserted = saveItemSuppliersInventory(productId, updatedProductSupplierSales);
+                addInsertOperations(operations,
+                        ContentUris.withAppendedId(SalesContract.ProductSupplierInventory.CONTENT_URI_INV_ITEM, productId),
+                        buildItemSuppliersInventoryValues(updatedProductSupplierSales)
+                );
             }
 
             //Evaluating the records inserted/deleted successfully
-            if (noOfItemSuppliersRemoved == noOfItemSuppliersToRemove
-                    && noOfItemSuppliersInventoryRemoved == noOfItemSuppliersToRemove
-                    && noOfItemSuppliersInventoryInserted == noOfItemSuppliersInventoryToInsert) {
+            if (operations.size() == 0 || applyBatch(operations) != null) {
                 //When all records have been deleted/inserted successfully
                 //Call the operation as successful
 
@@ -2075,7 +2399,7 @@ public class StoreLocalRepository implements DataRepository {
 
             } else {
                 //When some of the records were not deleted/inserted successfully
-                //Pass the error message
+                //Pass the error message (None of the changes were saved since the batch is rolled back)
 
                 //Executing on Main Thread
                 mAppExecutors.getMainThread().execute(() -> operationsCallback.onFailure(R.string.sales_config_inventory_update_error, productSku));
@@ -2083,6 +2407,86 @@ public class StoreLocalRepository implements DataRepository {
 
         });
 
+        //Returning the handle to the operation
+        return taskHandle;
     }
 
-}
\ No newline at end of file
+    /**
+     * Method that wraps the {@code queryCallback} to stop delivering the results
+     * once the query is cancelled through its {@code taskHandle}.
+     *
+     * @param taskHandle    The {@link TaskHandle} of the query
+     * @param queryCallback The Callback to be implemented by the caller to receive the result.
+     * @param <T>           The type of the results
+     * @return The wrapped {@link GetQueryCallback}
+     */
+    private static <T> GetQueryCallback<T> cancellable(@NonNull TaskHandle taskHandle,
+                                                       @NonNull GetQueryCallback<T> queryCallback) {
+        return new GetQueryCallback<T>() {
+            @Override
+            public void onResults(T results) {
+                if (!taskHandle.isCancelled()) {
+                    queryCallback.onResults(results);
+                }
+            }
+
+            @Override
+            public void onEmpty() {
+                if (!taskHandle.isCancelled()) {
+                    queryCallback.onEmpty();
+                }
+            }
+
+            @Override
+            public void onFailure(int messageId, @Nullable Object... args) {
+                if (!taskHandle.isCancelled()) {
+                    queryCallback.onFailure(messageId, args);
+                }
+            }
+        };
+    }
+
+    /**
+     * Method that wraps the {@code operationsCallback} to stop delivering the result
+     * once the operation is cancelled through its {@code taskHandle}.
+     *
+     * @param taskHandle         The {@link TaskHandle} of the operation
+     * @param operationsCallback The Callback to be implemented by the caller to
+     *                           receive the operation result.
+     * @return The wrapped {@link DataOperationsCallback}
+     */
+    private static DataOperationsCallback cancellable(@NonNull TaskHandle taskHandle,
+                                                      @NonNull DataOperationsCallback operationsCallback) {
+        return new DataOperationsCallback() {
+            @Override
+            public void onSuccess() {
+                if (!taskHandle.isCancelled()) {
+                    operationsCallback.onSuccess();
+                }
+            }
+
+            @Override
+            public void onFailure(int messageId, @Nullable Object... args) {
+                if (!taskHandle.isCancelled()) {
+                    operationsCallback.onFailure(messageId, args);
+                }
+            }
+        };
+    }
+
+    /**
+     * Interface used by {@link #queryListPage(Uri, String[], CursorRowMapper, GetQueryCallback)}
+     * to convert the record pointed to by the Cursor to its List Item.
+     *
+     * @param <T> The type of List Items
+     */
+    private interface CursorRowMapper<T> {
+        /**
+         * Method that converts the record pointed to by the {@code cursor} to its List Item.
+         *
+         * @param cursor The Cursor pointing to the record to be converted
+         * @return The List Item of the record
+         */
+        T from(Cursor cursor);
+    }
+}
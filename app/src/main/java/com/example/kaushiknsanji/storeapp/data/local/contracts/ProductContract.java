@@ -17,9 +17,11 @@
 package com.example.kaushiknsanji.storeapp.data.local.contracts;
 
 import android.content.ContentResolver;
+import android.content.ContentUris;
 import android.net.Uri;
 import android.provider.BaseColumns;
 import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
 import android.text.TextUtils;
 
 /**
@@ -38,6 +40,9 @@ public class ProductContract implements StoreContract {
     //Identifier for the table 'item_image' associated with the Base URI
     public static final String PATH_ITEM_IMAGE = "image";
 
+    //Identifier for the table 'item_image_file' associated with the 'item_image' URI
+    public static final String PATH_ITEM_IMAGE_FILE = "file";
+
     //Identifier for the table 'item_attr' associated with the Base URI
     public static final String PATH_ITEM_ATTR = "attr";
 
@@ -99,6 +104,32 @@ public class ProductContract implements StoreContract {
         public static final String CONTENT_ITEM_TYPE_SKU
                 = CONTENT_ITEM_TYPE + "." + PATH_ITEM_SKU;
 
+        //Identifier for retrieving an item from 'item' table along with its Category, Attributes and Images
+        public static final String PATH_DETAIL = "detail";
+
+        //The Content URI to access the 'item' Table data with all its relationship data in the provider
+        public static final Uri CONTENT_URI_DETAIL = Uri.withAppendedPath(CONTENT_URI, PATH_DETAIL);
+
+        /**
+         * The MIME Type of the {@link #CONTENT_URI_DETAIL} for the records of an item with all its relationship data
+         * 'vnd.android.cursor.dir/com.example.kaushiknsanji.storeapp.provider.item.detail
+         */
+        public static final String CONTENT_LIST_TYPE_DETAIL
+                = CONTENT_LIST_TYPE + "." + PATH_DETAIL;
+
+        //Identifier for searching the items in 'item' table by their Name, SKU and Category
+        public static final String PATH_SEARCH = "search";
+
+        //The Content URI to search the 'item' Table data with short relationship data in the provider
+        public static final Uri CONTENT_URI_SEARCH = Uri.withAppendedPath(CONTENT_URI, PATH_SEARCH);
+
+        /**
+         * The MIME Type of the {@link #CONTENT_URI_SEARCH} for the list of items matching the search
+         * 'vnd.android.cursor.dir/com.example.kaushiknsanji.storeapp.provider.item.search
+         */
+        public static final String CONTENT_LIST_TYPE_SEARCH
+                = CONTENT_LIST_TYPE + "." + PATH_SEARCH;
+
         /**
          * Name of the Table
          */
@@ -141,6 +172,51 @@ public class ProductContract implements StoreContract {
             return CONTENT_URI_ITEM_SKU.buildUpon().appendPath(itemSku).build();
         }
 
+        /**
+         * Method that prepares and returns the URI for the 'item' Table record identified by
+         * the {@code itemId}, along with its Category, Attributes and Images.
+         *
+         * @param itemId The Integer Id of the Item
+         * @return The {@link #CONTENT_URI_DETAIL} with the {@code itemId} value appended.
+         */
+        public static Uri buildDetailUri(long itemId) {
+            return ContentUris.withAppendedId(CONTENT_URI_DETAIL, itemId);
+        }
+
+        /**
+         * Method that prepares and returns the URI for a page of the short relationship data
+         * from 'item' Table, sorted and paged by the 'item_sku'.
+         *
+         * @param afterItemSku The 'item_sku' of the last item in the previous page, after which the
+         *                     page of items is to be returned. When {@code null}, the first page is returned.
+         * @param limit        The maximum number of items in the page
+         * @return The {@link #CONTENT_URI_SHORT_INFO} with the {@code afterItemSku} value as its
+         * {@link #QUERY_PARAMETER_AFTER} if any and the {@code limit} value as its {@link #QUERY_PARAMETER_LIMIT}.
+         */
+        public static Uri buildShortInfoPageUri(@Nullable String afterItemSku, int limit) {
+            Uri.Builder uriBuilder = CONTENT_URI_SHORT_INFO.buildUpon();
+            if (afterItemSku != null) {
+                uriBuilder.appendQueryParameter(QUERY_PARAMETER_AFTER, afterItemSku);
+            }
+            return uriBuilder.appendQueryParameter(QUERY_PARAMETER_LIMIT, String.valueOf(limit)).build();
+        }
+
+        /**
+         * Method that prepares and returns the URI for searching the 'item' Table
+         * by the Name, SKU and Category of the items for the search query passed.
+         *
+         * @param searchQuery The Product Name/SKU/Category to search for
+         * @param limit       The maximum number of items to be returned for the search
+         * @return The {@link #CONTENT_URI_SEARCH} with the {@code searchQuery} value appended
+         * and the {@code limit} value as its {@link #QUERY_PARAMETER_LIMIT}.
+         */
+        public static Uri buildSearchUri(String searchQuery, int limit) {
+            return CONTENT_URI_SEARCH.buildUpon()
+                    .appendPath(searchQuery)
+                    .appendQueryParameter(QUERY_PARAMETER_LIMIT, String.valueOf(limit))
+                    .build();
+        }
+
         /**
          * Method that prepares and returns a fully qualified Column Name
          * for the given Column with the current Table Name.
@@ -238,6 +314,57 @@ public class ProductContract implements StoreContract {
         }
     }
 
+    /**
+     * Inner class that defines the constants for the database 'item_search' Full-Text Search Table.
+     * This table contains the Name, SKU and Category of the Items for searching, and is
+     * maintained by the triggers on 'item' and 'item_category' tables.
+     */
+    public static final class ProductSearch {
+
+        /**
+         * Name of the Table
+         */
+        public static final String TABLE_NAME = "item_search";
+
+        /**
+         * The Id of the Item, which is the implicit document id of the Full-Text Search Table
+         * <P>Type: INTEGER</P>
+         * <P>References: item(_id)</P>
+         */
+        public static final String COLUMN_DOC_ID = "docid";
+
+        /**
+         * The name of the Item
+         * <P>Type: TEXT</P>
+         */
+        public static final String COLUMN_ITEM_NAME = "item_name";
+
+        /**
+         * The SKU of the Item
+         * <P>Type: TEXT</P>
+         */
+        public static final String COLUMN_ITEM_SKU = "item_sku";
+
+        /**
+         * Category Name of the Item
+         * <P>Type: TEXT</P>
+         */
+        public static final String COLUMN_ITEM_CATEGORY_NAME = "category_name";
+
+        /**
+         * Method that prepares and returns a fully qualified Column Name
+         * for the given Column with the current Table Name.
+         *
+         * @param columnNameStr The Name of the Column
+         * @return String containing the Fully qualified Column Name with its Table Name
+         * in the format TableName.ColumnName
+         */
+        @NonNull
+        public static String getQualifiedColumnName(String columnNameStr) {
+            return TextUtils.concat(TABLE_NAME, ".", columnNameStr).toString();
+        }
+    }
+
     /**
      * Inner class that defines the constants for the database 'item_image' Table.
      * This table contains the Image links of an Item.
@@ -308,6 +435,62 @@ public class ProductContract implements StoreContract {
         }
     }
 
+    /**
+     * Inner class that defines the constants for the database 'item_image_file' Table.
+     * This table contains the Image files saved by the App with the hash of their content,
+     * and the number of Item Images referring to each file, maintained by the triggers on 'item_image' table.
+     */
+    public static final class ProductImageFile {
+
+        //The Content URI to access the 'item_image_file' Table data in the provider
+        public static final Uri CONTENT_URI = Uri.withAppendedPath(ProductImage.CONTENT_URI, PATH_ITEM_IMAGE_FILE);
+
+        /**
+         * The MIME Type of the {@link #CONTENT_URI} for the list of image files
+         * 'vnd.android.cursor.dir/com.example.kaushiknsanji.storeapp.provider.item.image.file
+         */
+        public static final String CONTENT_LIST_TYPE
+                = ProductImage.CONTENT_LIST_TYPE + "." + PATH_ITEM_IMAGE_FILE;
+
+        /**
+         * Name of the Table
+         */
+        public static final String TABLE_NAME = "item_image_file";
+
+        /**
+         * The URI to the Image file
+         * <P>Type: TEXT</P>
+         * <P>Primary Key</P>
+         */
+        public static final String COLUMN_ITEM_IMAGE_URI = "image_uri";
+
+        /**
+         * The SHA-1 hash of the content of the Image file, in hex. Present only
+         * for the Image files saved by the App.
+         * <P>Type: TEXT</P>
+         */
+        public static final String COLUMN_CONTENT_HASH = "content_hash";
+
+        /**
+         * The number of Item Images referring to the Image file
+         * <P>Type: INTEGER</P>
+         */
+        public static final String COLUMN_REF_COUNT = "ref_count";
+
+        /**
+         * Method that prepares and returns a fully qualified Column Name
+         * for the given Column with the current Table Name.
+         *
+         * @param columnNameStr The Name of the Column
+         * @return String containing the Fully qualified Column Name with its Table Name
+         * in the format TableName.ColumnName
+         */
+        @NonNull
+        public static String getQualifiedColumnName(String columnNameStr) {
+            return TextUtils.concat(TABLE_NAME, ".", columnNameStr).toString();
+        }
+    }
+
     /**
      * Inner class that defines the constants for the database 'item_attr' Table.
      * This table contains additional attributes that further defines an Item.
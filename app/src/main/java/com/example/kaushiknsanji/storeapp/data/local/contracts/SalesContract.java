@@ -20,6 +20,7 @@ import android.content.ContentResolver;
 import android.net.Uri;
 import android.provider.BaseColumns;
 import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
 import android.text.TextUtils;
 
 /**
@@ -216,6 +217,104 @@ public class SalesContract implements StoreContract {
          */
         public static final int DEFAULT_ITEM_AVAIL_QUANTITY = 0;
 
+        /**
+         * Name of the provider method invoked through
+         * {@link ContentResolver#call(Uri, String, String, android.os.Bundle)} that atomically
+         * decreases the "Quantity of the Item available to Sell" for a batch of Item-Supplier pairs.
+         * <p>
+         * The batch is passed in the extras as int arrays of equal length with the keys {@link #EXTRA_ITEM_IDS},
+         * {@link #EXTRA_SUPPLIER_IDS} and {@link #EXTRA_DECREASE_QUANTITIES}. The batch is applied
+         * only when every Item-Supplier pair has sufficient quantity available, and the number of records
+         * updated is returned in the result with the key {@link #RESULT_NO_OF_RECORDS_UPDATED}.
+         * </p>
+         */
+        public static final String METHOD_DECREASE_AVAIL_QUANTITY = "decreaseAvailableQuantity";
+
+        /**
+         * Extras key for the int array of Item Ids passed to {@link #METHOD_DECREASE_AVAIL_QUANTITY}
+         */
+        public static final String EXTRA_ITEM_IDS = "extra_item_ids";
+
+        /**
+         * Extras key for the int array of Supplier Ids passed to {@link #METHOD_DECREASE_AVAIL_QUANTITY}
+         */
+        public static final String EXTRA_SUPPLIER_IDS = "extra_supplier_ids";
+
+        /**
+         * Extras key for the int array of quantities to decrease by, passed to {@link #METHOD_DECREASE_AVAIL_QUANTITY}
+         */
+        public static final String EXTRA_DECREASE_QUANTITIES = "extra_decrease_quantities";
+
+        /**
+         * Result key for the number of records updated by {@link #METHOD_DECREASE_AVAIL_QUANTITY}
+         */
+        public static final String RESULT_NO_OF_RECORDS_UPDATED = "result_no_of_records_updated";
+
+        /**
+         * Method that prepares and returns the URI for a page of the short relationship data
+         * from 'item_supplier_inventory' Table, sorted and paged by the 'item_sku' of the items.
+         *
+         * @param afterItemSku The 'item_sku' of the last item in the previous page, after which the
+         *                     page of items is to be returned. When {@code null}, the first page is returned.
+         * @param limit        The maximum number of items in the page
+         * @return The {@link #CONTENT_URI_SHORT_INFO} with the {@code afterItemSku} value as its
+         * {@link #QUERY_PARAMETER_AFTER} if any and the {@code limit} value as its {@link #QUERY_PARAMETER_LIMIT}.
+         */
+        public static Uri buildShortInfoPageUri(@Nullable String afterItemSku, int limit) {
+            Uri.Builder uriBuilder = CONTENT_URI_SHORT_INFO.buildUpon();
+            if (afterItemSku != null) {
+                uriBuilder.appendQueryParameter(QUERY_PARAMETER_AFTER, afterItemSku);
+            }
+            return uriBuilder.appendQueryParameter(QUERY_PARAMETER_LIMIT, String.valueOf(limit)).build();
+        }
+
+        /**
+         * Method that prepares and returns a fully qualified Column Name
+         * for the given Column with the current Table Name.
+         *
+         * @param columnNameStr The Name of the Column
+         * @return String containing the Fully qualified Column Name with its Table Name
+         * in the format TableName.ColumnName
+         */
+        @NonNull
+        public static String getQualifiedColumnName(String columnNameStr) {
+            return TextUtils.concat(TABLE_NAME, ".", columnNameStr).toString();
+        }
+    }
+
+    /**
+     * Inner class that defines the constants for the database 'item_sales_summary' Table.
+     * This table maintains the total available quantity of an item across all its suppliers
+     * and the supplier with the highest available quantity of the item. The table is maintained
+     * by triggers on the 'item_supplier_inventory' Table and is not exposed by the provider.
+     */
+    public static final class ProductSalesSummary {
+
+        /**
+         * Name of the Table
+         */
+        public static final String TABLE_NAME = "item_sales_summary";
+
+        /**
+         * The Key of the Item
+         * <P>Type: INTEGER</P>
+         * <P>Primary Key, references item(_id)</P>
+         */
+        public static final String COLUMN_ITEM_ID = ProductSupplierColumns.COLUMN_ITEM_ID;
+
+        /**
+         * The Total Quantity of the Item available to Sell across all its Suppliers
+         * <P>Type: INTEGER</P>
+         */
+        public static final String COLUMN_TOTAL_AVAIL_QUANTITY = "total_available_quantity";
+
+        /**
+         * The Key of the Supplier having the highest Quantity of the Item available to Sell
+         * <P>Type: INTEGER</P>
+         * <P>References supplier(_id)</P>
+         */
+        public static final String COLUMN_TOP_SUPPLIER_ID = "top_supplier_id";
+
         /**
          * Method that prepares and returns a fully qualified Column Name
          * for the given Column with the current Table Name.
@@ -30,4 +30,11 @@ public interface StoreContract {
 
     //The Base URI constant to contact the content provider
     Uri BASE_CONTENT_URI = Uri.parse("content://" + CONTENT_AUTHORITY);
+
+    //Query Parameter for limiting the number of records returned by a Content URI
+    String QUERY_PARAMETER_LIMIT = "limit";
+
+    //Query Parameter for the Key after which the page of records is to be returned by a Content URI.
+    //Records are sorted and paged by the Key of the Content URI
+    String QUERY_PARAMETER_AFTER = "after";
 }
@@ -20,6 +20,7 @@ import android.content.ContentResolver;
 import android.net.Uri;
 import android.provider.BaseColumns;
 import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
 import android.text.TextUtils;
 
 /**
@@ -125,6 +126,24 @@ public class SupplierContract implements StoreContract {
             return CONTENT_URI_SUPPLIER_CODE.buildUpon().appendPath(supplierCode).build();
         }
 
+        /**
+         * Method that prepares and returns the URI for a page of the short relationship data
+         * from 'supplier' Table, sorted and paged by the 'supplier_code'.
+         *
+         * @param afterSupplierCode The 'supplier_code' of the last supplier in the previous page, after which the
+         *                          page of suppliers is to be returned. When {@code null}, the first page is returned.
+         * @param limit             The maximum number of suppliers in the page
+         * @return The {@link #CONTENT_URI_SHORT_INFO} with the {@code afterSupplierCode} value as its
+         * {@link #QUERY_PARAMETER_AFTER} if any and the {@code limit} value as its {@link #QUERY_PARAMETER_LIMIT}.
+         */
+        public static Uri buildShortInfoPageUri(@Nullable String afterSupplierCode, int limit) {
+            Uri.Builder uriBuilder = CONTENT_URI_SHORT_INFO.buildUpon();
+            if (afterSupplierCode != null) {
+                uriBuilder.appendQueryParameter(QUERY_PARAMETER_AFTER, afterSupplierCode);
+            }
+            return uriBuilder.appendQueryParameter(QUERY_PARAMETER_LIMIT, String.valueOf(limit)).build();
+        }
+
         /**
          * Method that prepares and returns a fully qualified Column Name
          * for the given Column with the current Table Name.
@@ -288,4 +307,56 @@ public class SupplierContract implements StoreContract {
         }
     }
 
+    /**
+     * Inner class that defines the constants for the database 'supplier_summary' Table.
+     * This table maintains the default contacts of a supplier and the number of items
+     * supplied by the supplier. The table is maintained by triggers on the 'supplier_contact'
+     * and 'item_supplier_info' Tables and is not exposed by the provider.
+     */
+    public static final class SupplierSummary {
+
+        /**
+         * Name of the Table
+         */
+        public static final String TABLE_NAME = "supplier_summary";
+
+        /**
+         * The Key of the Supplier
+         * <P>Type: INTEGER</P>
+         * <P>Primary Key, references supplier(_id)</P>
+         */
+        public static final String COLUMN_SUPPLIER_ID = "supplier_id";
+
+        /**
+         * The Default Phone Contact of the Supplier
+         * <P>Type: TEXT</P>
+         */
+        public static final String COLUMN_DEFAULT_PHONE = "default_phone";
+
+        /**
+         * The Default Email Contact of the Supplier
+         * <P>Type: TEXT</P>
+         */
+        public static final String COLUMN_DEFAULT_EMAIL = "default_email";
+
+        /**
+         * The Number of Items supplied by the Supplier
+         * <P>Type: INTEGER</P>
+         */
+        public static final String COLUMN_ITEM_COUNT = "item_count";
+
+        /**
+         * Method that prepares and returns a fully qualified Column Name
+         * for the given Column with the current Table Name.
+         *
+         * @param columnNameStr The Name of the Column
+         * @return String containing the Fully qualified Column Name with its Table Name
+         * in the format TableName.ColumnName
+         */
+        @NonNull
+        public static String getQualifiedColumnName(String columnNameStr) {
+            return TextUtils.concat(TABLE_NAME, ".", columnNameStr).toString();
+        }
+    }
+
 }
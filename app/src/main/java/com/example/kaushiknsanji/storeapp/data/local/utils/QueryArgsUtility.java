@@ -25,11 +25,13 @@ import com.example.kaushiknsanji.storeapp.data.local.contracts.ProductContract.P
 import com.example.kaushiknsanji.storeapp.data.local.contracts.ProductContract.ProductAttribute;
 import com.example.kaushiknsanji.storeapp.data.local.contracts.ProductContract.ProductCategory;
 import com.example.kaushiknsanji.storeapp.data.local.contracts.ProductContract.ProductImage;
+import com.example.kaushiknsanji.storeapp.data.local.contracts.ProductContract.ProductSearch;
+import com.example.kaushiknsanji.storeapp.data.local.contracts.SalesContract.ProductSalesSummary;
 import com.example.kaushiknsanji.storeapp.data.local.contracts.SalesContract.ProductSupplierInfo;
 import com.example.kaushiknsanji.storeapp.data.local.contracts.SalesContract.ProductSupplierInventory;
 import com.example.kaushiknsanji.storeapp.data.local.contracts.SupplierContract.Supplier;
 import com.example.kaushiknsanji.storeapp.data.local.contracts.SupplierContract.SupplierContact;
-import com.example.kaushiknsanji.storeapp.data.local.contracts.SupplierContract.SupplierContactType;
+import com.example.kaushiknsanji.storeapp.data.local.contracts.SupplierContract.SupplierSummary;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -37,18 +39,27 @@ import java.util.Map;
 import static com.example.kaushiknsanji.storeapp.data.local.utils.SqliteUtility.AND;
 import static com.example.kaushiknsanji.storeapp.data.local.utils.SqliteUtility.AS;
 import static com.example.kaushiknsanji.storeapp.data.local.utils.SqliteUtility.CLOSE_BRACE;
-import static com.example.kaushiknsanji.storeapp.data.local.utils.SqliteUtility.COUNT;
-import static com.example.kaushiknsanji.storeapp.data.local.utils.SqliteUtility.DESC;
+import static com.example.kaushiknsanji.storeapp.data.local.utils.SqliteUtility.COMMA;
 import static com.example.kaushiknsanji.storeapp.data.local.utils.SqliteUtility.EQUALS;
+import static com.example.kaushiknsanji.storeapp.data.local.utils.SqliteUtility.ESCAPE;
+import static com.example.kaushiknsanji.storeapp.data.local.utils.SqliteUtility.FROM;
+import static com.example.kaushiknsanji.storeapp.data.local.utils.SqliteUtility.IFNULL;
 import static com.example.kaushiknsanji.storeapp.data.local.utils.SqliteUtility.IS;
 import static com.example.kaushiknsanji.storeapp.data.local.utils.SqliteUtility.JOIN;
 import static com.example.kaushiknsanji.storeapp.data.local.utils.SqliteUtility.LEFT_JOIN;
+import static com.example.kaushiknsanji.storeapp.data.local.utils.SqliteUtility.LIKE;
+import static com.example.kaushiknsanji.storeapp.data.local.utils.SqliteUtility.LIKE_ESCAPE_CHAR;
+import static com.example.kaushiknsanji.storeapp.data.local.utils.SqliteUtility.MATCH;
 import static com.example.kaushiknsanji.storeapp.data.local.utils.SqliteUtility.NULL;
 import static com.example.kaushiknsanji.storeapp.data.local.utils.SqliteUtility.ON;
 import static com.example.kaushiknsanji.storeapp.data.local.utils.SqliteUtility.OPEN_BRACE;
 import static com.example.kaushiknsanji.storeapp.data.local.utils.SqliteUtility.OR;
+import static com.example.kaushiknsanji.storeapp.data.local.utils.SqliteUtility.ORDER_BY;
 import static com.example.kaushiknsanji.storeapp.data.local.utils.SqliteUtility.PLACEHOLDER;
-import static com.example.kaushiknsanji.storeapp.data.local.utils.SqliteUtility.SUM;
+import static com.example.kaushiknsanji.storeapp.data.local.utils.SqliteUtility.SELECT;
+import static com.example.kaushiknsanji.storeapp.data.local.utils.SqliteUtility.SPACE;
+import static com.example.kaushiknsanji.storeapp.data.local.utils.SqliteUtility.UNION_ALL;
+import static com.example.kaushiknsanji.storeapp.data.local.utils.SqliteUtility.WHERE;
 
 /**
  * Utility class that provides Static inner classes with methods
@@ -473,6 +484,126 @@ public final class QueryArgsUtility {
         }
     }
 
+    /**
+     * Class that provides all the necessities
+     * for building the query to retrieve an Item's info along with its Attributes and Images
+     * in a single query. Each record is identified by its Record Type, and carries the columns
+     * of its type, with the rest of the columns being NULL.
+     * <p>
+     * <pre>
+     *     SELECT 0 AS record_type, item.rowid AS record_order, item._id AS _id,
+     *     item.item_name AS item_name, item.item_sku AS item_sku, item.item_description AS item_description,
+     *     item_category.category_name AS category_name, NULL AS attr_name, NULL AS attr_value,
+     *     NULL AS image_uri, NULL AS is_default
+     *     FROM item JOIN item_category
+     *     ON item.category_id = item_category._id
+     *     WHERE item._id = ?1
+     *     UNION ALL
+     *     SELECT 1, item_attr.rowid, item_attr.item_id, NULL, NULL, NULL, NULL,
+     *     item_attr.attr_name, item_attr.attr_value, NULL, NULL
+     *     FROM item_attr
+     *     WHERE item_attr.item_id = ?1
+     *     UNION ALL
+     *     SELECT 2, item_image.rowid, item_image.item_id, NULL, NULL, NULL, NULL,
+     *     NULL, NULL, item_image.image_uri, item_image.is_default
+     *     FROM item_image
+     *     WHERE item_image.item_id = ?1
+     *     ORDER BY record_type, record_order;
+     * </pre>
+     */
+    public static final class ItemDetailQuery {
+        //Constants of the Record Types
+        public static final int RECORD_TYPE_ITEM = 0;
+        public static final int RECORD_TYPE_ATTR = 1;
+        public static final int RECORD_TYPE_IMAGE = 2;
+
+        //Constants of Column Index as they would appear in the Select clause
+        public static final int COLUMN_RECORD_TYPE_INDEX = 0;
+        public static final int COLUMN_ITEM_ID_INDEX = 2;
+        public static final int COLUMN_ITEM_NAME_INDEX = 3;
+        public static final int COLUMN_ITEM_SKU_INDEX = 4;
+        public static final int COLUMN_ITEM_DESCRIPTION_INDEX = 5;
+        public static final int COLUMN_ITEM_CATEGORY_NAME_INDEX = 6;
+        public static final int COLUMN_ITEM_ATTR_NAME_INDEX = 7;
+        public static final int COLUMN_ITEM_ATTR_VALUE_INDEX = 8;
+        public static final int COLUMN_ITEM_IMAGE_URI_INDEX = 9;
+        public static final int COLUMN_ITEM_IMAGE_DEFAULT_INDEX = 10;
+
+        //Names of the columns that identify the type and the order of the records
+        private static final String COLUMN_RECORD_TYPE = "record_type";
+        private static final String COLUMN_RECORD_ORDER = "record_order";
+        //Name of the implicit Row Id column, which follows the order of insertion
+        private static final String ROW_ID = "rowid";
+        //Placeholder of the Item Id, which is shared by all the Select clauses
+        private static final String ITEM_ID_PLACEHOLDER = PLACEHOLDER + "1";
+
+        //The query that retrieves the Item's info along with its Attributes and Images
+        private static final String QUERY
+                //Item's info with its Category
+                = SELECT + RECORD_TYPE_ITEM + AS + COLUMN_RECORD_TYPE + COMMA
+                + Product.getQualifiedColumnName(ROW_ID) + AS + COLUMN_RECORD_ORDER + COMMA
+                + Product.getQualifiedColumnName(Product._ID) + AS + Product._ID + COMMA
+                + Product.getQualifiedColumnName(Product.COLUMN_ITEM_NAME) + AS + Product.COLUMN_ITEM_NAME + COMMA
+                + Product.getQualifiedColumnName(Product.COLUMN_ITEM_SKU) + AS + Product.COLUMN_ITEM_SKU + COMMA
+                + Product.getQualifiedColumnName(Product.COLUMN_ITEM_DESCRIPTION) + AS + Product.COLUMN_ITEM_DESCRIPTION + COMMA
+                + ProductCategory.getQualifiedColumnName(ProductCategory.COLUMN_ITEM_CATEGORY_NAME) + AS + ProductCategory.COLUMN_ITEM_CATEGORY_NAME + COMMA
+                + NULL + AS + ProductAttribute.COLUMN_ITEM_ATTR_NAME + COMMA
+                + NULL + AS + ProductAttribute.COLUMN_ITEM_ATTR_VALUE + COMMA
+                + NULL + AS + ProductImage.COLUMN_ITEM_IMAGE_URI + COMMA
+                + NULL + AS + ProductImage.COLUMN_ITEM_IMAGE_DEFAULT
+                + FROM + Product.TABLE_NAME + JOIN + ProductCategory.TABLE_NAME + ON
+                + Product.getQualifiedColumnName(Product.COLUMN_ITEM_CATEGORY_ID)
+                + EQUALS + ProductCategory.getQualifiedColumnName(ProductCategory._ID)
+                + WHERE + Product.getQualifiedColumnName(Product._ID) + EQUALS + ITEM_ID_PLACEHOLDER
+                //Item's Attributes
+                + UNION_ALL
+                + SELECT + RECORD_TYPE_ATTR + COMMA
+                + ProductAttribute.getQualifiedColumnName(ROW_ID) + COMMA
+                + ProductAttribute.getQualifiedColumnName(ProductAttribute.COLUMN_ITEM_ID) + COMMA
+                + NULL + COMMA + NULL + COMMA + NULL + COMMA + NULL + COMMA
+                + ProductAttribute.getQualifiedColumnName(ProductAttribute.COLUMN_ITEM_ATTR_NAME) + COMMA
+                + ProductAttribute.getQualifiedColumnName(ProductAttribute.COLUMN_ITEM_ATTR_VALUE) + COMMA
+                + NULL + COMMA + NULL
+                + FROM + ProductAttribute.TABLE_NAME
+                + WHERE + ProductAttribute.getQualifiedColumnName(ProductAttribute.COLUMN_ITEM_ID) + EQUALS + ITEM_ID_PLACEHOLDER
+                //Item's Images
+                + UNION_ALL
+                + SELECT + RECORD_TYPE_IMAGE + COMMA
+                + ProductImage.getQualifiedColumnName(ROW_ID) + COMMA
+                + ProductImage.getQualifiedColumnName(ProductImage.COLUMN_ITEM_ID) + COMMA
+                + NULL + COMMA + NULL + COMMA + NULL + COMMA + NULL + COMMA
+                + NULL + COMMA + NULL + COMMA
+                + ProductImage.getQualifiedColumnName(ProductImage.COLUMN_ITEM_IMAGE_URI) + COMMA
+                + ProductImage.getQualifiedColumnName(ProductImage.COLUMN_ITEM_IMAGE_DEFAULT)
+                + FROM + ProductImage.TABLE_NAME
+                + WHERE + ProductImage.getQualifiedColumnName(ProductImage.COLUMN_ITEM_ID) + EQUALS + ITEM_ID_PLACEHOLDER
+                //Ordering the records by their type, and then by their order of insertion
+                + ORDER_BY + COLUMN_RECORD_TYPE + COMMA + COLUMN_RECORD_ORDER;
+
+        /**
+         * Method that returns the query that retrieves the Item's info along with
+         * its Attributes and Images
+         *
+         * @return String containing the query
+         */
+        public static String getQuery() {
+            return QUERY;
+        }
+
+        /**
+         * Method that returns the arguments of the query
+         *
+         * @param uri is the URI for the query
+         * @return An Array of Strings which are the arguments of the query
+         */
+        public static String[] getSelectionArgs(@NonNull Uri uri) {
+            return new String[]{
+                    //The argument is the 'id' passed in the URI, shared by all the Select clauses
+                    String.valueOf(ContentUris.parseId(uri))
+            };
+        }
+    }
+
     /**
      * Class that provides all the necessities
      * for building the query to retrieve all Items' data
@@ -580,6 +711,133 @@ public final class QueryArgsUtility {
 
     }
 
+    /**
+     * Class that provides all the necessities
+     * for building the query to search the Products by their Name, SKU and Category
+     * using the 'item_search' Full-Text Search Table, with the columns required for displaying
+     * the list of products. Products whose SKU starts with the search query are ranked first,
+     * followed by the Products whose Name starts with the search query, and then the rest.
+     * <p>
+     * <pre>
+     *     SELECT item._id, item.item_name, item.item_sku,
+     *     item_category.category_name, item_image.image_uri
+     *     FROM item_search JOIN item
+     *     ON item._id = item_search.docid
+     *     JOIN item_category
+     *     ON item.category_id = item_category._id
+     *     LEFT JOIN item_image
+     *     ON item_image.item_id = item._id
+     *     WHERE item_search MATCH ?
+     *     AND (item_image.is_default IS NULL OR item_image.is_default = 1)
+     *     ORDER BY CASE WHEN item.item_sku LIKE ? ESCAPE '\' THEN 0
+     *     WHEN item.item_name LIKE ? ESCAPE '\' THEN 1 ELSE 2 END, item.item_name
+     *     LIMIT limit;
+     * </pre>
+     * <p>
+     * The columns retrieved are the same as that of {@link ItemsShortInfoQuery}.
+     */
+    public static final class ItemsSearchQuery {
+
+        /**
+         * Method that builds the relationship tables involved in the join.
+         *
+         * @param queryBuilder Query Builder {@link SQLiteQueryBuilder} instance to set the Tables on
+         */
+        public static void setTables(SQLiteQueryBuilder queryBuilder) {
+            String inTables = ProductSearch.TABLE_NAME + JOIN
+                    + Product.TABLE_NAME + ON
+                    + Product.getQualifiedColumnName(Product._ID)
+                    + EQUALS
+                    + ProductSearch.getQualifiedColumnName(ProductSearch.COLUMN_DOC_ID)
+                    + JOIN
+                    + ProductCategory.TABLE_NAME + ON
+                    + Product.getQualifiedColumnName(Product.COLUMN_ITEM_CATEGORY_ID)
+                    + EQUALS
+                    + ProductCategory.getQualifiedColumnName(ProductCategory._ID)
+                    + LEFT_JOIN
+                    + ProductImage.TABLE_NAME + ON
+                    + Product.getQualifiedColumnName(Product._ID)
+                    + EQUALS
+                    + ProductImage.getQualifiedColumnName(ProductImage.COLUMN_ITEM_ID);
+            queryBuilder.setTables(inTables);
+        }
+
+        /**
+         * Method that builds a map of Projection columns used in the Select clause
+         * with the appropriate column qualifiers or aliases such that there is no ambiguity in the
+         * column names
+         *
+         * @param queryBuilder Query Builder {@link SQLiteQueryBuilder} instance
+         *                     to set the ProjectionMap on.
+         */
+        public static void setProjectionMap(SQLiteQueryBuilder queryBuilder) {
+            //Columns are the same as that of the Short Info query of the Products
+            ItemsShortInfoQuery.setProjectionMap(queryBuilder);
+        }
+
+        /**
+         * Method that returns the Columns for use in the Select clause of the query
+         *
+         * @return An Array of Strings which are the Columns to use in the Select clause
+         * of the query
+         */
+        public static String[] getProjection() {
+            //Columns are the same as that of the Short Info query of the Products
+            return ItemsShortInfoQuery.getProjection();
+        }
+
+        /**
+         * Method that returns the Where Clause of the query
+         *
+         * @return String containing the Where Clause required
+         */
+        public static String getSelection() {
+            //Where clause is the Full-Text Search Match on 'item_search' table and
+            //the 'item_image' table's 'is_default' column
+            //item_search MATCH ? AND (item_image.is_default is null or item_image.is_default = 1)
+            return ProductSearch.TABLE_NAME + MATCH + PLACEHOLDER
+                    + AND + OPEN_BRACE + ItemsShortInfoQuery.getSelection() + CLOSE_BRACE;
+        }
+
+        /**
+         * Method that returns the Where Clause arguments of the query, followed by
+         * the arguments of the Order By clause {@link #getSortOrder()}.
+         *
+         * @param matchQuery        The Full-Text Search MATCH expression for the search query
+         * @param likePrefixPattern The LIKE pattern that matches the values starting with the search query
+         * @return An Array of Strings which are the Where Clause and Order By clause arguments of the query
+         */
+        public static String[] getSelectionArgs(@NonNull String matchQuery, @NonNull String likePrefixPattern) {
+            return new String[]{
+                    //Where clause value for the Full-Text Search Match
+                    matchQuery,
+                    //Where clause value is '1' that denotes the default image of the item
+                    String.valueOf(ProductImage.ITEM_IMAGE_DEFAULT),
+                    //Order By clause value for ranking the Products by their SKU
+                    likePrefixPattern,
+                    //Order By clause value for ranking the Products by their Name
+                    likePrefixPattern
+            };
+        }
+
+        /**
+         * Method that returns the Order By clause of the query that ranks the Products
+         * matching the search query.
+         *
+         * @return String containing the Order By clause required
+         */
+        public static String getSortOrder() {
+            //CASE WHEN item.item_sku LIKE ? ESCAPE '\' THEN 0
+            //WHEN item.item_name LIKE ? ESCAPE '\' THEN 1 ELSE 2 END, item.item_name
+            return "CASE WHEN " + Product.getQualifiedColumnName(Product.COLUMN_ITEM_SKU)
+                    + LIKE + PLACEHOLDER + ESCAPE + "'" + LIKE_ESCAPE_CHAR + "'" + " THEN 0"
+                    + " WHEN " + Product.getQualifiedColumnName(Product.COLUMN_ITEM_NAME)
+                    + LIKE + PLACEHOLDER + ESCAPE + "'" + LIKE_ESCAPE_CHAR + "'" + " THEN 1"
+                    + " ELSE 2 END" + COMMA + SPACE
+                    + Product.getQualifiedColumnName(Product.COLUMN_ITEM_NAME);
+        }
+    }
+
     /**
      * Class that provides all the necessities
      * for building the query to retrieve the Id and Name of the Item
@@ -949,27 +1207,16 @@ public final class QueryArgsUtility {
     /**
      * Class that provides all the necessities
      * for building the query to retrieve all Suppliers' data
-     * required for displaying the list of Suppliers.
+     * required for displaying the list of Suppliers. The default contacts and the item count
+     * of the Suppliers are read from the 'supplier_summary' table maintained by triggers.
      * <p>
      * <pre>
      *     SELECT supplier._id, supplier.supplier_name, supplier.supplier_code,
-     *     (SELECT supplier_contact.contact_value FROM
-     *     supplier_contact JOIN contact_type
-     *     ON supplier_contact.contact_type_id = contact_type._id
-     *     WHERE supplier_contact.supplier_id = supplier._id
-     *     AND contact_type._id = 0
-     *     AND supplier_contact.is_default = 1) AS default_phone,
-     *     (SELECT supplier_contact.contact_value FROM
-     *     supplier_contact JOIN contact_type
-     *     ON supplier_contact.contact_type_id = contact_type._id
-     *     WHERE supplier_contact.supplier_id = supplier._id
-     *     AND contact_type._id = 1
-     *     AND supplier_contact.is_default = 1) AS default_email,
-     *     (SELECT count(item._id) AS item_count FROM
-     *     item JOIN item_supplier_info
-     *     ON item_supplier_info.item_id = item._id
-     *     WHERE item_supplier_info.supplier_id = supplier._id) AS item_count
-     *     FROM supplier;
+     *     supplier_summary.default_phone AS default_phone,
+     *     supplier_summary.default_email AS default_email,
+     *     IFNULL(supplier_summary.item_count, 0) AS item_count
+     *     FROM supplier LEFT JOIN supplier_summary
+     *     ON supplier_summary.supplier_id = supplier._id;
      * </pre>
      */
     public static final class SuppliersShortInfoQuery {
@@ -981,86 +1228,9 @@ public final class QueryArgsUtility {
         public static final int COLUMN_SUPPLIER_DEFAULT_EMAIL_INDEX = 4;
         public static final int COLUMN_SUPPLIER_ITEM_COUNT_INDEX = 5;
         //Column Name constants for the custom columns
-        private static final String COLUMN_SUPPLIER_ITEM_COUNT = "item_count";
-        private static final String COLUMN_SUPPLIER_DEFAULT_PHONE = "default_phone";
-        private static final String COLUMN_SUPPLIER_DEFAULT_EMAIL = "default_email";
-
-        /**
-         * Method that prepares and returns the sub query for the "default_phone" and "default_email"
-         * columns.
-         *
-         * @param contactTypeId The Integer value of the Contact Type. '0' for Phone and '1' for Email.
-         * @return Sub query for the "default_phone" and "default_email" columns.
-         */
-        private static String getDefaultContactSubQuery(int contactTypeId) {
-            //Initializing the QueryBuilder
-            SQLiteQueryBuilder queryBuilder = new SQLiteQueryBuilder();
-
-            //Constructing the Projection Map
-            Map<String, String> columnMap = new HashMap<>();
-            columnMap.put(SupplierContact.getQualifiedColumnName(SupplierContact.COLUMN_SUPPLIER_CONTACT_VALUE),
-                    SupplierContact.getQualifiedColumnName(SupplierContact.COLUMN_SUPPLIER_CONTACT_VALUE));
-            queryBuilder.setProjectionMap(columnMap);
-
-            //Setting the Projection
-            String[] projection = new String[]{
-                    SupplierContact.getQualifiedColumnName(SupplierContact.COLUMN_SUPPLIER_CONTACT_VALUE)
-            };
-
-            //Constructing the relationship between Tables involved
-            String inTables = SupplierContact.TABLE_NAME + JOIN
-                    + SupplierContactType.TABLE_NAME + ON
-                    + SupplierContact.getQualifiedColumnName(SupplierContact.COLUMN_SUPPLIER_CONTACT_TYPE_ID)
-                    + EQUALS
-                    + SupplierContactType.getQualifiedColumnName(SupplierContactType._ID);
-            queryBuilder.setTables(inTables);
-
-            //Constructing the WHERE Clause
-            String selection = SupplierContact.getQualifiedColumnName(SupplierContact.COLUMN_SUPPLIER_ID)
-                    + EQUALS + Supplier.getQualifiedColumnName(Supplier._ID) + AND
-                    + SupplierContactType.getQualifiedColumnName(SupplierContactType._ID)
-                    + EQUALS + contactTypeId + AND
-                    + SupplierContact.getQualifiedColumnName(SupplierContact.COLUMN_SUPPLIER_CONTACT_DEFAULT)
-                    + EQUALS + SupplierContact.SUPPLIER_CONTACT_DEFAULT;
-
-            //Returning the Sub Query built
-            return queryBuilder.buildQuery(projection, selection, null, null, null, null);
-        }
-
-        /**
-         * Method that prepares and returns the sub query for the "item_count" column.
-         *
-         * @return The Sub Query for the "item_count" column.
-         */
-        private static String getItemCountSubQuery() {
-            //Initializing the QueryBuilder
-            SQLiteQueryBuilder queryBuilder = new SQLiteQueryBuilder();
-
-            //Constructing the Projection Map
-            Map<String, String> columnMap = new HashMap<>();
-            columnMap.put(COLUMN_SUPPLIER_ITEM_COUNT, COUNT + OPEN_BRACE + Product.getQualifiedColumnName(Product._ID) + CLOSE_BRACE + AS + COLUMN_SUPPLIER_ITEM_COUNT);
-            queryBuilder.setProjectionMap(columnMap);
-
-            //Setting the Projection
-            String[] projection = new String[]{
-                    COLUMN_SUPPLIER_ITEM_COUNT
-            };
-
-            //Constructing the relationship between Tables involved
-            String inTables = Product.TABLE_NAME + JOIN
-                    + ProductSupplierInfo.TABLE_NAME + ON
-                    + ProductSupplierInfo.getQualifiedColumnName(ProductSupplierInfo.COLUMN_ITEM_ID)
-                    + EQUALS
-                    + Product.getQualifiedColumnName(Product._ID);
-            queryBuilder.setTables(inTables);
-
-            //Constructing the WHERE Clause
-            String selection = ProductSupplierInfo.getQualifiedColumnName(ProductSupplierInfo.COLUMN_SUPPLIER_ID)
-                    + EQUALS + Supplier.getQualifiedColumnName(Supplier._ID);
-
-            //Returning the Sub Query built
-            return queryBuilder.buildQuery(projection, selection, null, null, null, null);
-        }
+        private static final String COLUMN_SUPPLIER_ITEM_COUNT = SupplierSummary.COLUMN_ITEM_COUNT;
+        private static final String COLUMN_SUPPLIER_DEFAULT_PHONE = SupplierSummary.COLUMN_DEFAULT_PHONE;
+        private static final String COLUMN_SUPPLIER_DEFAULT_EMAIL = SupplierSummary.COLUMN_DEFAULT_EMAIL;
 
         /**
          * Method that builds the relationship tables involved in the join.
@@ -1068,7 +1238,10 @@ public final class QueryArgsUtility {
          * @param queryBuilder Query Builder {@link SQLiteQueryBuilder} instance to set the Tables on
          */
         public static void setTables(SQLiteQueryBuilder queryBuilder) {
-            String inTables = Supplier.TABLE_NAME;
+            String inTables = Supplier.TABLE_NAME + LEFT_JOIN
+                    + SupplierSummary.TABLE_NAME + ON
+                    + SupplierSummary.getQualifiedColumnName(SupplierSummary.COLUMN_SUPPLIER_ID)
+                    + EQUALS + Supplier.getQualifiedColumnName(Supplier._ID);
             queryBuilder.setTables(inTables);
         }
 
@@ -1085,9 +1258,9 @@ public final class QueryArgsUtility {
             columnMap.put(Supplier.getQualifiedColumnName(Supplier._ID), Supplier.getQualifiedColumnName(Supplier._ID));
             columnMap.put(Supplier.getQualifiedColumnName(Supplier.COLUMN_SUPPLIER_NAME), Supplier.getQualifiedColumnName(Supplier.COLUMN_SUPPLIER_NAME));
             columnMap.put(Supplier.getQualifiedColumnName(Supplier.COLUMN_SUPPLIER_CODE), Supplier.getQualifiedColumnName(Supplier.COLUMN_SUPPLIER_CODE));
-            columnMap.put(COLUMN_SUPPLIER_DEFAULT_PHONE, OPEN_BRACE + getDefaultContactSubQuery(SupplierContactType.CONTACT_TYPE_ID_PHONE) + CLOSE_BRACE + AS + COLUMN_SUPPLIER_DEFAULT_PHONE);
-            columnMap.put(COLUMN_SUPPLIER_DEFAULT_EMAIL, OPEN_BRACE + getDefaultContactSubQuery(SupplierContactType.CONTACT_TYPE_ID_EMAIL) + CLOSE_BRACE + AS + COLUMN_SUPPLIER_DEFAULT_EMAIL);
-            columnMap.put(COLUMN_SUPPLIER_ITEM_COUNT, OPEN_BRACE + getItemCountSubQuery() + CLOSE_BRACE + AS + COLUMN_SUPPLIER_ITEM_COUNT);
+            columnMap.put(COLUMN_SUPPLIER_DEFAULT_PHONE, SupplierSummary.getQualifiedColumnName(SupplierSummary.COLUMN_DEFAULT_PHONE) + AS + COLUMN_SUPPLIER_DEFAULT_PHONE);
+            columnMap.put(COLUMN_SUPPLIER_DEFAULT_EMAIL, SupplierSummary.getQualifiedColumnName(SupplierSummary.COLUMN_DEFAULT_EMAIL) + AS + COLUMN_SUPPLIER_DEFAULT_EMAIL);
+            columnMap.put(COLUMN_SUPPLIER_ITEM_COUNT, IFNULL + OPEN_BRACE + SupplierSummary.getQualifiedColumnName(SupplierSummary.COLUMN_ITEM_COUNT) + COMMA + SPACE + "0" + CLOSE_BRACE + AS + COLUMN_SUPPLIER_ITEM_COUNT);
             queryBuilder.setProjectionMap(columnMap);
         }
 
@@ -1112,7 +1285,8 @@ public final class QueryArgsUtility {
     /**
      * Class that provides all the necessities
      * for building the query to retrieve and display the Sales data
-     * for all the Products in the Store.
+     * for all the Products in the Store. The total available quantity and the Top Supplier
+     * of the Products are read from the 'item_sales_summary' table maintained by triggers.
      * <p>
      * <pre>
      *     SELECT item_supplier_inventory.item_id, item_supplier_inventory.supplier_id, item.item_name, item.item_sku,
@@ -1120,13 +1294,13 @@ public final class QueryArgsUtility {
      *     supplier.supplier_name, supplier.supplier_code,
      *     item_supplier_info.unit_price,
      *     item_supplier_inventory.available_quantity AS supplier_available_quantity,
-     *     (SELECT sum(available_quantity) AS total_available_quantity
-     *     FROM item_supplier_inventory
-     *     WHERE item_supplier_inventory.item_id = item._id) AS total_available_quantity
+     *     item_sales_summary.total_available_quantity AS total_available_quantity
      *     FROM item JOIN item_category
      *     ON item.category_id = item_category._id
      *     LEFT JOIN item_image
      *     ON item_image.item_id = item._id
+     *     JOIN item_sales_summary
+     *     ON item_sales_summary.item_id = item._id
      *     JOIN item_supplier_info
      *     ON item_supplier_info.item_id = item._id
      *     JOIN item_supplier_inventory
@@ -1134,13 +1308,7 @@ public final class QueryArgsUtility {
      *     JOIN supplier
      *     ON supplier._id = item_supplier_inventory.supplier_id
      *     WHERE (item_image.is_default IS NULL OR item_image.is_default = 1)
-     *     AND item_supplier_inventory.supplier_id = (
-     *     SELECT supplier._id
-     *     FROM supplier JOIN item_supplier_inventory
-     *     ON item_supplier_inventory.supplier_id = supplier._id
-     *     WHERE item_supplier_inventory.item_id = item._id
-     *     ORDER BY item_supplier_inventory.available_quantity DESC
-     *     LIMIT 1)
+     *     AND item_supplier_inventory.supplier_id = item_sales_summary.top_supplier_id
      *     AND item_supplier_info.supplier_id = item_supplier_inventory.supplier_id;
      * </pre>
      */
@@ -1159,77 +1327,7 @@ public final class QueryArgsUtility {
         public static final int COLUMN_TOTAL_AVAIL_QUANTITY_INDEX = 10;
         //Column Name constants for the custom columns
         private static final String COLUMN_SUPPLIER_AVAIL_QUANTITY = "supplier_available_quantity";
-        private static final String COLUMN_TOTAL_AVAIL_QUANTITY = "total_available_quantity";
-
-        /**
-         * Method that prepares and returns the sub query for "total_available_quantity" column.
-         *
-         * @return Sub query for the "total_available_quantity" column.
-         */
-        private static String getTotalAvailQuantitySubQuery() {
-            //Initializing the QueryBuilder
-            SQLiteQueryBuilder queryBuilder = new SQLiteQueryBuilder();
-
-            //Constructing the Projection Map
-            Map<String, String> columnMap = new HashMap<>();
-            columnMap.put(COLUMN_TOTAL_AVAIL_QUANTITY, SUM + OPEN_BRACE + ProductSupplierInventory.COLUMN_ITEM_AVAIL_QUANTITY + CLOSE_BRACE + AS + COLUMN_TOTAL_AVAIL_QUANTITY);
-            queryBuilder.setProjectionMap(columnMap);
-
-            //Setting the Projection
-            String[] projection = new String[]{
-                    COLUMN_TOTAL_AVAIL_QUANTITY
-            };
-
-            //Constructing the relationship between Tables involved
-            String inTables = ProductSupplierInventory.TABLE_NAME;
-            queryBuilder.setTables(inTables);
-
-            //Constructing the WHERE Clause
-            String selection = ProductSupplierInventory.getQualifiedColumnName(ProductSupplierInventory.COLUMN_ITEM_ID)
-                    + EQUALS + Product.getQualifiedColumnName(Product._ID);
-
-            //Returning the Sub Query built
-            return queryBuilder.buildQuery(projection, selection, null, null, null, null);
-        }
-
-        /**
-         * Method that prepares and returns the sub query for retrieving the Supplier ID
-         * of the Top Supplier of an Item, which is used in the WHERE Clause of the main query.
-         *
-         * @return Sub query for retrieving the Supplier ID of the Top Supplier of an Item.
-         */
-        private static String getTopSupplierIdSubQuery() {
-            //Initializing the QueryBuilder
-            SQLiteQueryBuilder queryBuilder = new SQLiteQueryBuilder();
-
-            //Constructing the Projection Map
-            Map<String, String> columnMap = new HashMap<>();
-            columnMap.put(Supplier.getQualifiedColumnName(Supplier._ID), Supplier.getQualifiedColumnName(Supplier._ID));
-            queryBuilder.setProjectionMap(columnMap);
-
-            //Setting the Projection
-            String[] projection = new String[]{
-                    Supplier.getQualifiedColumnName(Supplier._ID)
-            };
-
-            //Constructing the relationship between Tables involved
-            String inTables = Supplier.TABLE_NAME + JOIN
-                    + ProductSupplierInventory.TABLE_NAME + ON
-                    + ProductSupplierInventory.getQualifiedColumnName(ProductSupplierInventory.COLUMN_SUPPLIER_ID)
-                    + EQUALS
-                    + Supplier.getQualifiedColumnName(Supplier._ID);
-            queryBuilder.setTables(inTables);
-
-            //Constructing the WHERE Clause
-            String selection = ProductSupplierInventory.getQualifiedColumnName(ProductSupplierInventory.COLUMN_ITEM_ID)
-                    + EQUALS + Product.getQualifiedColumnName(Product._ID);
-
-            //Returning the Sub Query built
-            return queryBuilder.buildQuery(projection, selection, null, null,
-                    ProductSupplierInventory.getQualifiedColumnName(ProductSupplierInventory.COLUMN_ITEM_AVAIL_QUANTITY) + DESC,
-                    "1"
-            );
-        }
+        private static final String COLUMN_TOTAL_AVAIL_QUANTITY = ProductSalesSummary.COLUMN_TOTAL_AVAIL_QUANTITY;
 
         /**
          * Method that builds the relationship tables involved in the join.
@@ -1244,6 +1342,9 @@ public final class QueryArgsUtility {
                     + LEFT_JOIN + ProductImage.TABLE_NAME + ON
                     + ProductImage.getQualifiedColumnName(ProductImage.COLUMN_ITEM_ID)
                     + EQUALS + Product.getQualifiedColumnName(Product._ID)
+                    + JOIN + ProductSalesSummary.TABLE_NAME + ON
+                    + ProductSalesSummary.getQualifiedColumnName(ProductSalesSummary.COLUMN_ITEM_ID)
+                    + EQUALS + Product.getQualifiedColumnName(Product._ID)
                     + JOIN + ProductSupplierInfo.TABLE_NAME + ON
                     + ProductSupplierInfo.getQualifiedColumnName(ProductSupplierInfo.COLUMN_ITEM_ID)
                     + EQUALS + Product.getQualifiedColumnName(Product._ID)
@@ -1276,7 +1377,7 @@ public final class QueryArgsUtility {
             columnMap.put(Supplier.getQualifiedColumnName(Supplier.COLUMN_SUPPLIER_CODE), Supplier.getQualifiedColumnName(Supplier.COLUMN_SUPPLIER_CODE));
             columnMap.put(ProductSupplierInfo.getQualifiedColumnName(ProductSupplierInfo.COLUMN_ITEM_UNIT_PRICE), ProductSupplierInfo.getQualifiedColumnName(ProductSupplierInfo.COLUMN_ITEM_UNIT_PRICE));
             columnMap.put(COLUMN_SUPPLIER_AVAIL_QUANTITY, ProductSupplierInventory.getQualifiedColumnName(ProductSupplierInventory.COLUMN_ITEM_AVAIL_QUANTITY) + AS + COLUMN_SUPPLIER_AVAIL_QUANTITY);
-            columnMap.put(COLUMN_TOTAL_AVAIL_QUANTITY, OPEN_BRACE + getTotalAvailQuantitySubQuery() + CLOSE_BRACE + AS + COLUMN_TOTAL_AVAIL_QUANTITY);
+            columnMap.put(COLUMN_TOTAL_AVAIL_QUANTITY, ProductSalesSummary.getQualifiedColumnName(ProductSalesSummary.COLUMN_TOTAL_AVAIL_QUANTITY) + AS + COLUMN_TOTAL_AVAIL_QUANTITY);
             queryBuilder.setProjectionMap(columnMap);
         }
 
@@ -1310,7 +1411,8 @@ public final class QueryArgsUtility {
         public static String getSelection() {
             return OPEN_BRACE + ProductImage.getQualifiedColumnName(ProductImage.COLUMN_ITEM_IMAGE_DEFAULT) + IS + NULL +
                     OR + ProductImage.getQualifiedColumnName(ProductImage.COLUMN_ITEM_IMAGE_DEFAULT) + EQUALS + PLACEHOLDER + CLOSE_BRACE +
-                    AND + ProductSupplierInventory.getQualifiedColumnName(ProductSupplierInventory.COLUMN_SUPPLIER_ID) + EQUALS + OPEN_BRACE + getTopSupplierIdSubQuery() + CLOSE_BRACE +
+                    AND + ProductSupplierInventory.getQualifiedColumnName(ProductSupplierInventory.COLUMN_SUPPLIER_ID) +
+                    EQUALS + ProductSalesSummary.getQualifiedColumnName(ProductSalesSummary.COLUMN_TOP_SUPPLIER_ID) +
                     AND + ProductSupplierInfo.getQualifiedColumnName(ProductSupplierInfo.COLUMN_SUPPLIER_ID) +
                     EQUALS + ProductSupplierInventory.getQualifiedColumnName(ProductSupplierInventory.COLUMN_SUPPLIER_ID);
         }
@@ -16,6 +16,7 @@
 
 package com.example.kaushiknsanji.storeapp.data.local.utils;
 
+import android.support.annotation.NonNull;
 import android.support.annotation.Nullable;
 import android.support.annotation.StringDef;
 import android.support.v4.util.Pair;
@@ -49,15 +50,34 @@ public final class SqliteUtility {
     public static final String NULL = "NULL";
     public static final String COUNT = "COUNT";
     public static final String SUM = "SUM";
+    public static final String IFNULL = "IFNULL";
     public static final String AS = " AS ";
     public static final String OPEN_BRACE = "(";
     public static final String CLOSE_BRACE = ")";
     public static final String SPACE = " ";
     public static final String COMMA = ",";
+    public static final String UPDATE = "UPDATE ";
+    public static final String SET = " SET ";
+    public static final String WHERE = " WHERE ";
+    public static final String SELECT = "SELECT ";
+    public static final String FROM = " FROM ";
+    public static final String UNION_ALL = " UNION ALL ";
+    public static final String ORDER_BY = " ORDER BY ";
+    public static final String MINUS = " - ";
+    public static final String GREATER_THAN = " > ";
+    public static final String GREATER_THAN_OR_EQUAL = " >= ";
+    public static final String MATCH = " MATCH ";
+    public static final String LIKE = " LIKE ";
+    public static final String ESCAPE = " ESCAPE ";
+    public static final String LIKE_ESCAPE_CHAR = "\\";
+    public static final String LIKE_WILDCARD = "%";
+    public static final String FTS_PREFIX_WILDCARD = "*";
 
     //Schema construction related constants
     public static final String CREATE_TABLE = "CREATE TABLE ";
     public static final String CREATE_INDEX = "CREATE INDEX ";
+    public static final String CREATE_VIRTUAL_TABLE = "CREATE VIRTUAL TABLE ";
+    public static final String USING_FTS4 = " USING fts4";
     public static final String INTEGER = "INTEGER";
     public static final String TEXT = "TEXT";
     public static final String REAL = "REAL";
@@ -203,6 +223,60 @@ public final class SqliteUtility {
         return null;
     }
 
+    /**
+     * Method that prepares the Full-Text Search MATCH expression for the search query passed,
+     * that matches the records containing all the words of the search query as prefixes of their words.
+     * Characters other than letters and digits are treated as word separators, similar to the
+     * default tokenizer of the Full-Text Search Table, so that they do not form any MATCH operators.
+     *
+     * @param searchQuery The Search Query entered by the User
+     * @return The MATCH expression with each word of the search query as a prefix term.
+     * Can be {@code null} when the search query passed does not have any words.
+     */
+    @Nullable
+    public static String makeFtsPrefixMatchQuery(@Nullable String searchQuery) {
+        if (TextUtils.isEmpty(searchQuery)) {
+            //Returning Null when the search query is null or empty
+            return null;
+        }
+
+        //Splitting the search query into words, at the characters other than letters and digits
+        String[] searchWords = searchQuery.trim().split("[^\\p{L}\\p{N}]+");
+
+        //Building the MATCH expression with each word as a prefix term
+        StringBuilder matchQueryBuilder = new StringBuilder();
+        for (String searchWord : searchWords) {
+            if (!TextUtils.isEmpty(searchWord)) {
+                //When the word is valid, append it as a prefix term
+                if (matchQueryBuilder.length() > 0) {
+                    //Terms separated by space are matched together
+                    matchQueryBuilder.append(SPACE);
+                }
+                matchQueryBuilder.append(searchWord).append(FTS_PREFIX_WILDCARD);
+            }
+        }
+
+        //Returning the MATCH expression built, or Null when there were no words
+        return matchQueryBuilder.length() > 0 ? matchQueryBuilder.toString() : null;
+    }
+
+    /**
+     * Method that prepares the LIKE pattern for the text passed, that matches the values starting
+     * with the text. The wildcard characters in the text are escaped with {@link #LIKE_ESCAPE_CHAR},
+     * hence the pattern should be used along with the {@link #ESCAPE} clause.
+     *
+     * @param text The Text to be matched as a prefix
+     * @return The LIKE pattern that matches the values starting with the {@code text}
+     */
+    @NonNull
+    public static String makeLikePrefixPattern(@NonNull String text) {
+        return text.trim()
+                .replace(LIKE_ESCAPE_CHAR, LIKE_ESCAPE_CHAR + LIKE_ESCAPE_CHAR)
+                .replace(LIKE_WILDCARD, LIKE_ESCAPE_CHAR + LIKE_WILDCARD)
+                .replace("_", LIKE_ESCAPE_CHAR + "_")
+                + LIKE_WILDCARD;
+    }
+
     //Defining the Annotation interface for valid Combine Logic for selection clauses
     //Enumerating the Annotation with valid Combine Logic for selection clauses
     @StringDef({AND, OR})
@@ -36,6 +36,7 @@ import com.example.kaushiknsanji.storeapp.ui.about.AboutActivity;
 import com.example.kaushiknsanji.storeapp.ui.inventory.SalesListFragment;
 import com.example.kaushiknsanji.storeapp.ui.products.ProductListFragment;
 import com.example.kaushiknsanji.storeapp.ui.suppliers.SupplierListFragment;
+import com.example.kaushiknsanji.storeapp.workers.OrphanedImageSweeper;
 
 /**
  * The Main Activity of the App that inflates the layout 'R.layout.activity_main'
@@ -77,6 +78,12 @@ public class MainActivity extends AppCompatActivity
         //Find and Initialize the FAB
         setupFab();
 
+        //Registering the Bitmap Cache to shrink under memory pressure
+        BitmapImageCache.registerMemoryCallbacks(this);
+
+        //Scheduling the periodic reclaim of the Image files no longer referred to by any Item
+        OrphanedImageSweeper.getInstance(this).schedulePeriodicSweep();
+
         //Find TabLayout
         mTabLayout = findViewById(R.id.tablayout_main);
         //Setup TabLayout with ViewPager
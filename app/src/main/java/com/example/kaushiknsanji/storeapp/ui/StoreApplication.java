@@ -18,18 +18,25 @@ package com.example.kaushiknsanji.storeapp.ui;
 
 import android.app.Application;
 import android.content.Context;
+import android.util.Log;
 
+import com.example.kaushiknsanji.storeapp.cache.BitmapImageCache;
+import com.example.kaushiknsanji.storeapp.data.StoreRepository;
 import com.example.kaushiknsanji.storeapp.utils.AppConstants;
+import com.example.kaushiknsanji.storeapp.utils.InjectorUtility;
 import com.facebook.stetho.Stetho;
 
 /**
  * Custom {@link Application} of the App that is used
- * for initializing Stetho in Debug mode.
+ * for initializing Stetho, and logging the statistics of the Caches on memory trim, in Debug mode.
  *
  * @author Kaushik N Sanji
  */
 public class StoreApplication extends Application {
 
+    //Constant used for logs
+    private static final String LOG_TAG = StoreApplication.class.getSimpleName();
+
     /**
      * Called when the application is starting, before any activity, service,
      * or receiver objects (excluding content providers) have been created.
@@ -49,6 +56,40 @@ public class StoreApplication extends Application {
         }
     }
 
+    /**
+     * Called when the operating system has determined that it is a good
+     * time for a process to trim unneeded memory from its process.
+     *
+     * @param level The context of the trim, giving a hint of the amount of
+     *              trimming the application may like to perform.
+     */
+    @Override
+    public void onTrimMemory(int level) {
+        super.onTrimMemory(level);
+
+        if (AppConstants.LOG_CACHE_STATS) {
+            //When Cache statistics Logging is enabled (Debug mode only), log the statistics of the Caches
+            logCacheStats(level);
+        }
+    }
+
+    /**
+     * Method that logs the statistics of the Caches, which shows how well these were serving
+     * the App up to the memory trim.
+     *
+     * @param level The trim memory level that triggered the log
+     */
+    private void logCacheStats(int level) {
+        Log.i(LOG_TAG, "logCacheStats: level " + level + ": Bitmap " + BitmapImageCache.getStats(this));
+
+        //Statistics of the Repository's Entity caches, which are null when the Entity cache is disabled
+        StoreRepository storeRepository = InjectorUtility.provideStoreRepository(this);
+        Log.i(LOG_TAG, "logCacheStats: level " + level
+                + ": Product " + storeRepository.getProductCacheStats()
+                + ", Supplier " + storeRepository.getSupplierCacheStats()
+                + ", ProductSales " + storeRepository.getProductSalesCacheStats());
+    }
+
     /**
      * Method that Initializes Stetho logging
      *
@@ -0,0 +1,176 @@
+/*
+ * Copyright 2018 Kaushik N. Sanji
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.example.kaushiknsanji.storeapp.ui.common;
+
+import android.support.annotation.IdRes;
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+import android.support.v7.widget.LinearLayoutManager;
+import android.support.v7.widget.RecyclerView;
+import android.view.View;
+
+import com.example.kaushiknsanji.storeapp.workers.ImageRequestEngine;
+
+/**
+ * RecyclerView {@link android.support.v7.widget.RecyclerView.OnScrollListener} class
+ * that prefetches the Images of the items about to be displayed in the direction of scroll,
+ * in the list managed by {@link LinearLayoutManager}. The Images are prefetched into the
+ * Memory Cache by the {@link ImageRequestEngine} at a low priority, and the pending prefetches
+ * are cancelled when the direction of scroll is reversed.
+ *
+ * @author Kaushik N Sanji
+ */
+public class ImagePrefetchScrollListener extends RecyclerView.OnScrollListener {
+    //Constant for the default number of items ahead of the visible items whose Images are prefetched
+    private static final int DEFAULT_PREFETCH_DISTANCE = 6;
+
+    //The LayoutManager of the List
+    private final LinearLayoutManager mLayoutManager;
+    //Provides the Image URLs of the items in the List
+    private final ImageUrlProvider mImageUrlProvider;
+    //The Id of the ImageView in the items, whose size is the size of the Images prefetched
+    @IdRes
+    private final int mImageViewId;
+    //The number of items ahead of the visible items whose Images are prefetched
+    private final int mPrefetchDistance;
+    //The direction of the last scroll: 1 for scrolling towards the end, -1 for scrolling towards the start
+    private int mLastScrollDirection;
+    //The position of the farthest item prefetched in the current direction of scroll
+    private int mLastPrefetchedPosition = RecyclerView.NO_POSITION;
+
+    /**
+     * Constructor of {@link ImagePrefetchScrollListener}
+     *
+     * @param layoutManager    The {@link LinearLayoutManager} of the List
+     * @param imageUrlProvider The {@link ImageUrlProvider} of the Image URLs of the items in the List
+     * @param imageViewId      The Id of the ImageView in the items, whose size is the size of the Images prefetched
+     */
+    public ImagePrefetchScrollListener(@NonNull LinearLayoutManager layoutManager,
+                                       @NonNull ImageUrlProvider imageUrlProvider,
+                                       @IdRes int imageViewId) {
+        this(layoutManager, imageUrlProvider, imageViewId, DEFAULT_PREFETCH_DISTANCE);
+    }
+
+    /**
+     * Constructor of {@link ImagePrefetchScrollListener}
+     *
+     * @param layoutManager    The {@link LinearLayoutManager} of the List
+     * @param imageUrlProvider The {@link ImageUrlProvider} of the Image URLs of the items in the List
+     * @param imageViewId      The Id of the ImageView in the items, whose size is the size of the Images prefetched
+     * @param prefetchDistance The number of items ahead of the visible items whose Images are prefetched
+     */
+    public ImagePrefetchScrollListener(@NonNull LinearLayoutManager layoutManager,
+                                       @NonNull ImageUrlProvider imageUrlProvider,
+                                       @IdRes int imageViewId, int prefetchDistance) {
+        mLayoutManager = layoutManager;
+        mImageUrlProvider = imageUrlProvider;
+        mImageViewId = imageViewId;
+        mPrefetchDistance = prefetchDistance;
+    }
+
+    /**
+     * Callback method to be invoked when RecyclerView's scroll state changes.
+     *
+     * @param recyclerView The RecyclerView whose scroll state has changed.
+     * @param newState     The updated scroll state. One of {@link RecyclerView#SCROLL_STATE_IDLE},
+     *                     {@link RecyclerView#SCROLL_STATE_DRAGGING} or {@link RecyclerView#SCROLL_STATE_SETTLING}.
+     */
+    @Override
+    public void onScrollStateChanged(RecyclerView recyclerView, int newState) {
+        if (newState == RecyclerView.SCROLL_STATE_IDLE) {
+            //Resetting the farthest item prefetched when the scroll stops, as the List may change
+            //before the next scroll. The Images already prefetched are skipped by the ImageRequestEngine.
+            mLastPrefetchedPosition = RecyclerView.NO_POSITION;
+        }
+    }
+
+    /**
+     * Callback method to be invoked when the RecyclerView has been scrolled. This will be
+     * called after the scroll has completed.
+     *
+     * @param recyclerView The RecyclerView which scrolled.
+     * @param dx           The amount of horizontal scroll.
+     * @param dy           The amount of vertical scroll.
+     */
+    @Override
+    public void onScrolled(RecyclerView recyclerView, int dx, int dy) {
+        //Reading the direction of scroll along the orientation of the List
+        int scrollDirection = Integer.signum(mLayoutManager.getOrientation() == LinearLayoutManager.VERTICAL ? dy : dx);
+        if (scrollDirection == 0) {
+            //Returning when there is no scroll
+            return;
+        }
+
+        ImageRequestEngine imageRequestEngine = ImageRequestEngine.getInstance(recyclerView.getContext());
+        if (scrollDirection != mLastScrollDirection) {
+            //When the direction of scroll is reversed, cancel the prefetches pending in the previous direction
+            imageRequestEngine.cancelPrefetches();
+            mLastScrollDirection = scrollDirection;
+            mLastPrefetchedPosition = RecyclerView.NO_POSITION;
+        }
+
+        //Reading the size of the ImageView from a visible item
+        View itemView = mLayoutManager.getChildAt(0);
+        View imageView = (itemView != null) ? itemView.findViewById(mImageViewId) : null;
+        if (imageView == null || imageView.getWidth() <= 0 || imageView.getHeight() <= 0) {
+            //Returning when the size is not known yet
+            return;
+        }
+
+        if (scrollDirection > 0) {
+            //When scrolling towards the end, prefetch the items after the last visible item
+            int lastVisiblePosition = mLayoutManager.findLastVisibleItemPosition();
+            if (lastVisiblePosition == RecyclerView.NO_POSITION) {
+                return;
+            }
+            int endPosition = Math.min(lastVisiblePosition + mPrefetchDistance, mLayoutManager.getItemCount() - 1);
+            int startPosition = Math.max(lastVisiblePosition + 1, mLastPrefetchedPosition + 1);
+            for (int position = startPosition; position <= endPosition; position++) {
+                imageRequestEngine.prefetch(mImageUrlProvider.getImageUrl(position), imageView.getWidth(), imageView.getHeight());
+            }
+            mLastPrefetchedPosition = Math.max(mLastPrefetchedPosition, endPosition);
+        } else {
+            //When scrolling towards the start, prefetch the items before the first visible item
+            int firstVisiblePosition = mLayoutManager.findFirstVisibleItemPosition();
+            if (firstVisiblePosition == RecyclerView.NO_POSITION) {
+                return;
+            }
+            int endPosition = Math.max(firstVisiblePosition - mPrefetchDistance, 0);
+            int startPosition = (mLastPrefetchedPosition == RecyclerView.NO_POSITION) ?
+                    firstVisiblePosition - 1 : Math.min(firstVisiblePosition - 1, mLastPrefetchedPosition - 1);
+            for (int position = startPosition; position >= endPosition; position--) {
+                imageRequestEngine.prefetch(mImageUrlProvider.getImageUrl(position), imageView.getWidth(), imageView.getHeight());
+            }
+            mLastPrefetchedPosition = (mLastPrefetchedPosition == RecyclerView.NO_POSITION) ?
+                    endPosition : Math.min(mLastPrefetchedPosition, endPosition);
+        }
+    }
+
+    /**
+     * Interface that provides the Image URLs of the items in the List, implemented by the Adapters of the Lists.
+     */
+    public interface ImageUrlProvider {
+        /**
+         * Method that returns the Image URL of the item at the {@code position}
+         *
+         * @param position The position of the item in the List
+         * @return String containing the Image URL of the item if any; otherwise {@code null}
+         */
+        @Nullable
+        String getImageUrl(int position);
+    }
+}
@@ -0,0 +1,400 @@
+/*
+ * Copyright 2018 Kaushik N. Sanji
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.example.kaushiknsanji.storeapp.ui.common;
+
+import android.database.Cursor;
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+import android.support.v4.app.LoaderManager;
+import android.support.v4.content.Loader;
+
+import com.example.kaushiknsanji.storeapp.data.DataRepository;
+import com.example.kaushiknsanji.storeapp.data.local.PagedCursorLoader;
+import com.example.kaushiknsanji.storeapp.utils.TaskHandle;
+import com.example.kaushiknsanji.storeapp.utils.TaskHandleGroup;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Class used by the Presenters of the Lists to hold the records displayed, and to append
+ * the further Keyset pages of records as the User scrolls towards the end of the List.
+ * Tracks the Key of the last record loaded, after which the next page is loaded, and
+ * whether there are further pages to be appended. When the List is loaded by a
+ * {@link PagedCursorLoader}, the Loader is extended after every page appended so that its reload
+ * refreshes all the pages displayed. The records loaded can be filtered with an {@link ItemFilter}
+ * before they are displayed.
+ *
+ * @param <T> The type of the records in the List
+ * @author Kaushik N Sanji
+ */
+public class KeysetPagingHelper<T> {
+
+    //The records displayed, loaded from the first page and appended with the further pages
+    private final ArrayList<T> mItems = new ArrayList<>();
+    //Handles of the pages being loaded, cancelled by the Presenter when its View is destroyed
+    @NonNull
+    private final TaskHandleGroup mTaskHandles;
+    //The number of records in a page
+    private final int mPageSize;
+    //Provides the Key of the records
+    @NonNull
+    private final KeyProvider<T> mKeyProvider;
+    //Loads a page of records after a Key
+    @NonNull
+    private final PageLoader<T> mPageLoader;
+    //The LoaderManager with the PagedCursorLoader of the List if any
+    @Nullable
+    private final LoaderManager mLoaderManager;
+    //The Id of the PagedCursorLoader of the List
+    private final int mLoaderId;
+    //Filters the records loaded, before they are displayed
+    @Nullable
+    private ItemFilter<T> mItemFilter;
+    //The Key of the last record loaded, after which the next page is to be loaded
+    @Nullable
+    private String mLastKey;
+    //The number of records loaded from the first record, including those filtered out
+    private int mLoadedCount;
+    //Boolean that indicates whether there are further pages to be appended
+    private boolean mHasMore;
+    //Boolean that indicates whether a page is being appended
+    private boolean mLoadingMore;
+
+    /**
+     * Constructor of {@link KeysetPagingHelper} for a List loaded without a {@link PagedCursorLoader}.
+     *
+     * @param taskHandles The {@link TaskHandleGroup} of the Presenter, to which the pages being loaded are added
+     * @param pageSize    The number of records in a page
+     * @param keyProvider The {@link KeyProvider} of the Key of the records
+     * @param pageLoader  The {@link PageLoader} that loads a page of records after a Key
+     */
+    public KeysetPagingHelper(@NonNull TaskHandleGroup taskHandles, int pageSize,
+                              @NonNull KeyProvider<T> keyProvider,
+                              @NonNull PageLoader<T> pageLoader) {
+        this(taskHandles, pageSize, keyProvider, pageLoader, null, 0);
+    }
+
+    /**
+     * Constructor of {@link KeysetPagingHelper} for a List loaded by a {@link PagedCursorLoader}.
+     *
+     * @param taskHandles   The {@link TaskHandleGroup} of the Presenter, to which the pages being loaded are added
+     * @param pageSize      The number of records in a page
+     * @param keyProvider   The {@link KeyProvider} of the Key of the records
+     * @param pageLoader    The {@link PageLoader} that loads a page of records after a Key
+     * @param loaderManager The {@link LoaderManager} with the {@link PagedCursorLoader} of the List.
+     *                      Can be {@code null} when the List is not loaded by a Loader.
+     * @param loaderId      The Id of the {@link PagedCursorLoader} of the List
+     */
+    public KeysetPagingHelper(@NonNull TaskHandleGroup taskHandles, int pageSize,
+                              @NonNull KeyProvider<T> keyProvider,
+                              @NonNull PageLoader<T> pageLoader,
+                              @Nullable LoaderManager loaderManager, int loaderId) {
+        mTaskHandles = taskHandles;
+        mPageSize = pageSize;
+        mKeyProvider = keyProvider;
+        mPageLoader = pageLoader;
+        mLoaderManager = loaderManager;
+        mLoaderId = loaderId;
+    }
+
+    /**
+     * Setter Method for the {@link ItemFilter} that filters the records loaded, before they are displayed.
+     *
+     * @param itemFilter The {@link ItemFilter} of the records loaded. Can be {@code null} to display all the records.
+     */
+    public void setItemFilter(@Nullable ItemFilter<T> itemFilter) {
+        mItemFilter = itemFilter;
+    }
+
+    /**
+     * Method that replaces the records displayed with the records in the {@link Cursor}
+     * loaded by the {@link PagedCursorLoader} of the List, which has all the pages displayed so far.
+     *
+     * @param data         The {@link Cursor} loaded by the {@link PagedCursorLoader} of the List
+     * @param cursorReader The {@link CursorReader} that reads a record from the {@link Cursor}
+     */
+    public void setPages(@NonNull Cursor data, @NonNull CursorReader<T> cursorReader) {
+        //Resetting the cursor position if pointing past the last row
+        if (data.isAfterLast()) {
+            data.moveToPosition(-1);
+        }
+        //Iterating over the Cursor data and building the list
+        ArrayList<T> records = new ArrayList<>(data.getCount());
+        while (data.moveToNext()) {
+            records.add(cursorReader.read(data));
+        }
+        //Replacing the records displayed
+        replaceItems(records);
+        //There are further pages when the Loader loaded as many records as requested
+        PagedCursorLoader pagedLoader = getPagedLoader();
+        mHasMore = pagedLoader != null && data.getCount() >= pagedLoader.getLoadSize();
+    }
+
+    /**
+     * Method that replaces the records displayed with the first page of records {@code firstPage},
+     * for a List not loaded by a {@link PagedCursorLoader}.
+     *
+     * @param firstPage The first page of records loaded
+     */
+    public void setFirstPage(@NonNull List<T> firstPage) {
+        //Replacing the records displayed
+        replaceItems(firstPage);
+        //There are further pages when the page loaded is a full page
+        mHasMore = firstPage.size() >= mPageSize;
+    }
+
+    /**
+     * Method that restores the records {@code items} displayed previously, for a List not
+     * loaded by a {@link PagedCursorLoader}. As it is not known whether all the pages were appended,
+     * the next page is loaded after the last record restored, when requested.
+     *
+     * @param items The records displayed previously
+     */
+    public void restoreItems(@NonNull List<T> items) {
+        //Replacing the records displayed
+        replaceItems(items);
+        //Assuming further pages when there are records restored
+        mHasMore = !items.isEmpty();
+    }
+
+    /**
+     * Method that clears the records displayed, when the List has no records or the Loader was reset.
+     */
+    public void clear() {
+        mItems.clear();
+        mLastKey = null;
+        mLoadedCount = 0;
+        mHasMore = false;
+    }
+
+    /**
+     * Method that returns whether there are further pages to be appended.
+     *
+     * @return {@code true} when there are further pages to be appended; {@code false} otherwise
+     */
+    public boolean hasMore() {
+        return mHasMore;
+    }
+
+    /**
+     * Method that returns a copy of the records displayed, to be submitted to the View.
+     *
+     * @return A copy of the List of records displayed
+     */
+    @NonNull
+    public ArrayList<T> getItems() {
+        return new ArrayList<>(mItems);
+    }
+
+    /**
+     * Method that loads and appends the next page of records after the last record displayed,
+     * unless a page is already being appended or there are no further pages.
+     *
+     * @param pageListener The {@link PageListener} notified with all the records, once the page is appended
+     *                     or when it is found that there are no further pages
+     */
+    public void loadMore(@NonNull final PageListener<T> pageListener) {
+        if (mLoadingMore || !mHasMore || mLastKey == null) {
+            //Returning when a page is already being appended or when there are no further pages
+            return;
+        }
+
+        //Marking that a page is being appended
+        mLoadingMore = true;
+
+        //Reading the Key of the last record loaded, after which the next page is to be loaded
+        final String afterKey = mLastKey;
+
+        //Loading the next page of records
+        mTaskHandles.add(mPageLoader.loadPage(afterKey, mPageSize, new DataRepository.GetQueryCallback<List<T>>() {
+            /**
+             * Method invoked when the results are obtained
+             * for the query executed.
+             *
+             * @param results The page of records retrieved for the query executed.
+             */
+            @Override
+            public void onResults(List<T> results) {
+                //Marking that the page is no longer being appended
+                mLoadingMore = false;
+
+                if (!afterKey.equals(mLastKey)) {
+                    //Ignoring the page when the List was reloaded meanwhile with a different last record
+                    return;
+                }
+
+                //Appending the page to the List
+                appendItems(results);
+                //There are further pages when the page retrieved is a full page
+                mHasMore = results.size() >= mPageSize;
+
+                //Extending the Loader to reload all the pages loaded, on any change in the content
+                PagedCursorLoader pagedLoader = getPagedLoader();
+                if (pagedLoader != null) {
+                    pagedLoader.setLoadSize(mLoadedCount);
+                }
+
+                //Notifying the listener with the appended data
+                pageListener.onPageAppended(getItems());
+            }
+
+            /**
+             * Method invoked when there are no results
+             * for the query executed.
+             */
+            @Override
+            public void onEmpty() {
+                //Marking that the page is no longer being appended
+                mLoadingMore = false;
+
+                if (afterKey.equals(mLastKey)) {
+                    //When the List was not reloaded meanwhile, there are no further pages
+                    mHasMore = false;
+                    //Notifying the listener with the records displayed
+                    pageListener.onPageAppended(getItems());
+                }
+            }
+        }));
+    }
+
+    /**
+     * Method that replaces the records displayed with the records loaded {@code records}.
+     *
+     * @param records The records loaded from the first record
+     */
+    private void replaceItems(@NonNull List<T> records) {
+        mItems.clear();
+        mLastKey = null;
+        mLoadedCount = 0;
+        appendItems(records);
+    }
+
+    /**
+     * Method that appends the records loaded {@code records} that pass the {@link ItemFilter} if any,
+     * to the records displayed, and updates the Key of the last record loaded.
+     *
+     * @param records The records loaded after the last record loaded previously
+     */
+    private void appendItems(@NonNull List<T> records) {
+        for (T record : records) {
+            if (mItemFilter == null || mItemFilter.accept(record)) {
+                //Appending only the records that pass the filter
+                mItems.add(record);
+            }
+        }
+        if (!records.isEmpty()) {
+            //Saving the Key of the last record loaded, including when it was filtered out
+            mLastKey = mKeyProvider.getKey(records.get(records.size() - 1));
+            mLoadedCount += records.size();
+        }
+    }
+
+    /**
+     * Method that returns the {@link PagedCursorLoader} registered for loading the List.
+     *
+     * @return The {@link PagedCursorLoader} of the List when registered; otherwise {@code null}
+     */
+    @Nullable
+    private PagedCursorLoader getPagedLoader() {
+        if (mLoaderManager == null) {
+            //Returning when the List is not loaded by a Loader
+            return null;
+        }
+        //Retrieving the Loader registered
+        Loader<?> loader = mLoaderManager.getLoader(mLoaderId);
+        //Returning the Loader only when it is a PagedCursorLoader
+        return (loader instanceof PagedCursorLoader) ? (PagedCursorLoader) loader : null;
+    }
+
+    /**
+     * Interface that provides the Key of a record, by which the records of the List are ordered.
+     *
+     * @param <T> The type of the records in the List
+     */
+    public interface KeyProvider<T> {
+        /**
+         * Method that returns the Key of the {@code item}
+         *
+         * @param item The record of the List
+         * @return The Key of the record
+         */
+        String getKey(T item);
+    }
+
+    /**
+     * Interface that loads a Keyset page of records, implemented by the page methods of the Repository.
+     *
+     * @param <T> The type of the records in the List
+     */
+    public interface PageLoader<T> {
+        /**
+         * Method that loads the page of records after the Key {@code afterKey}.
+         *
+         * @param afterKey      The Key of the last record displayed, after which the page is to be loaded
+         * @param limit         The maximum number of records in the page
+         * @param queryCallback The Callback to be implemented by the caller to receive the results.
+         * @return The {@link TaskHandle} of the load submitted
+         */
+        TaskHandle loadPage(@Nullable String afterKey, int limit, @NonNull DataRepository.GetQueryCallback<List<T>> queryCallback);
+    }
+
+    /**
+     * Interface that reads a record from the current row of a {@link Cursor}.
+     *
+     * @param <T> The type of the records in the List
+     */
+    public interface CursorReader<T> {
+        /**
+         * Method that reads and returns the record at the current row of the {@link Cursor}
+         *
+         * @param cursor The {@link Cursor} positioned at the row to be read
+         * @return The record read
+         */
+        T read(Cursor cursor);
+    }
+
+    /**
+     * Interface that filters the records loaded, before they are displayed.
+     *
+     * @param <T> The type of the records in the List
+     */
+    public interface ItemFilter<T> {
+        /**
+         * Method that returns whether the {@code item} loaded is to be displayed.
+         *
+         * @param item The record loaded
+         * @return {@code true} when the record is to be displayed; {@code false} otherwise
+         */
+        boolean accept(T item);
+    }
+
+    /**
+     * Listener notified when a page of records is appended to the List.
+     *
+     * @param <T> The type of the records in the List
+     */
+    public interface PageListener<T> {
+        /**
+         * Callback Method invoked when a page of records is appended to the List,
+         * or when it is found that there are no further pages to be appended.
+         *
+         * @param items A copy of all the records displayed, including the page appended
+         */
+        void onPageAppended(ArrayList<T> items);
+    }
+}
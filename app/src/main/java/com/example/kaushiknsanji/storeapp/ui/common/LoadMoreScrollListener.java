@@ -0,0 +1,97 @@
+/*
+ * Copyright 2018 Kaushik N. Sanji
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.example.kaushiknsanji.storeapp.ui.common;
+
+import android.support.annotation.NonNull;
+import android.support.v7.widget.LinearLayoutManager;
+import android.support.v7.widget.RecyclerView;
+
+/**
+ * RecyclerView {@link android.support.v7.widget.RecyclerView.OnScrollListener} class
+ * that requests the next page of the List ahead of the scroll position, when the User scrolls
+ * towards the end of the list managed by {@link LinearLayoutManager}.
+ *
+ * @author Kaushik N Sanji
+ */
+public class LoadMoreScrollListener extends RecyclerView.OnScrollListener {
+    //Constant for the default number of items from the end of the List, at which the next page is requested
+    private static final int DEFAULT_LOAD_MORE_DISTANCE = 20;
+
+    //The LayoutManager of the List
+    private final LinearLayoutManager mLayoutManager;
+    //Listener that loads the next page of the List
+    private final OnLoadMoreListener mOnLoadMoreListener;
+    //The number of items from the end of the List, at which the next page is requested
+    private final int mLoadMoreDistance;
+
+    /**
+     * Constructor of {@link LoadMoreScrollListener}
+     *
+     * @param layoutManager      The {@link LinearLayoutManager} of the List
+     * @param onLoadMoreListener The {@link OnLoadMoreListener} that loads the next page of the List
+     */
+    public LoadMoreScrollListener(@NonNull LinearLayoutManager layoutManager,
+                                  @NonNull OnLoadMoreListener onLoadMoreListener) {
+        this(layoutManager, onLoadMoreListener, DEFAULT_LOAD_MORE_DISTANCE);
+    }
+
+    /**
+     * Constructor of {@link LoadMoreScrollListener}
+     *
+     * @param layoutManager      The {@link LinearLayoutManager} of the List
+     * @param onLoadMoreListener The {@link OnLoadMoreListener} that loads the next page of the List
+     * @param loadMoreDistance   The number of items from the end of the List, at which the next page is requested
+     */
+    public LoadMoreScrollListener(@NonNull LinearLayoutManager layoutManager,
+                                  @NonNull OnLoadMoreListener onLoadMoreListener,
+                                  int loadMoreDistance) {
+        mLayoutManager = layoutManager;
+        mOnLoadMoreListener = onLoadMoreListener;
+        mLoadMoreDistance = loadMoreDistance;
+    }
+
+    /**
+     * Callback method to be invoked when the RecyclerView has been scrolled. This will be
+     * called after the scroll has completed.
+     *
+     * @param recyclerView The RecyclerView which scrolled.
+     * @param dx           The amount of horizontal scroll.
+     * @param dy           The amount of vertical scroll.
+     */
+    @Override
+    public void onScrolled(RecyclerView recyclerView, int dx, int dy) {
+        //Reading the amount of scroll along the orientation of the List
+        int scrollAmount = (mLayoutManager.getOrientation() == LinearLayoutManager.VERTICAL) ? dy : dx;
+        if (scrollAmount > 0 && mLayoutManager.findLastVisibleItemPosition()
+                >= mLayoutManager.getItemCount() - mLoadMoreDistance) {
+            //When scrolling towards the end to within the distance from the end of the List,
+            //request the next page
+            mOnLoadMoreListener.onLoadMore();
+        }
+    }
+
+    /**
+     * Listener that loads the next page of the List, implemented by the Views of the Lists.
+     */
+    public interface OnLoadMoreListener {
+        /**
+         * Callback Method invoked when the User scrolls close to the end of the List,
+         * to load and append the next page of the List.
+         */
+        void onLoadMore();
+    }
+}
@@ -130,6 +130,12 @@ public interface SalesListContract {
          */
         void triggerProductSalesLoad(boolean forceLoad);
 
+        /**
+         * Method invoked by the View when the User scrolls close to the end of the List of Products
+         * displayed, to load and append the next page of Products ahead of the scroll position.
+         */
+        void loadMoreProductSales();
+
         /**
          * Method invoked when there is a change in the data pointed to by the Products URI
          * {@link com.example.kaushiknsanji.storeapp.data.local.contracts.ProductContract.Product#CONTENT_URI}
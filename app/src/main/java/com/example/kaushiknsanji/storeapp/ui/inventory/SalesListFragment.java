@@ -29,7 +29,6 @@ import android.support.constraint.Group;
 import android.support.design.widget.Snackbar;
 import android.support.v4.app.ActivityOptionsCompat;
 import android.support.v4.app.Fragment;
-import android.support.v4.app.FragmentActivity;
 import android.support.v4.content.ContextCompat;
 import android.support.v4.content.res.ResourcesCompat;
 import android.support.v4.widget.SwipeRefreshLayout;
@@ -48,12 +47,14 @@ import android.widget.TextView;
 
 import com.example.kaushiknsanji.storeapp.R;
 import com.example.kaushiknsanji.storeapp.data.local.models.SalesLite;
+import com.example.kaushiknsanji.storeapp.ui.common.ImagePrefetchScrollListener;
 import com.example.kaushiknsanji.storeapp.ui.common.ListItemSpacingDecoration;
+import com.example.kaushiknsanji.storeapp.ui.common.LoadMoreScrollListener;
 import com.example.kaushiknsanji.storeapp.ui.inventory.config.SalesConfigActivity;
 import com.example.kaushiknsanji.storeapp.utils.ColorUtility;
 import com.example.kaushiknsanji.storeapp.utils.SnackbarUtility;
 import com.example.kaushiknsanji.storeapp.utils.TextAppearanceUtility;
-import com.example.kaushiknsanji.storeapp.workers.ImageDownloaderFragment;
+import com.example.kaushiknsanji.storeapp.workers.ImageRequestEngine;
 
 import java.util.ArrayList;
 import java.util.Currency;
@@ -209,6 +210,12 @@ public class SalesListFragment extends Fragment
         //Setting the Adapter on the RecyclerView
         mRecyclerViewContentList.setAdapter(mAdapter);
 
+        //Registering the Scroll Listener that loads the next page of Products ahead of the scroll position
+        mRecyclerViewContentList.addOnScrollListener(new LoadMoreScrollListener(linearLayoutManager, () -> mPresenter.loadMoreProductSales()));
+
+        //Registering the Scroll Listener that prefetches the Product Photos ahead of the scroll position
+        mRecyclerViewContentList.addOnScrollListener(new ImagePrefetchScrollListener(linearLayoutManager, mAdapter, R.id.image_product_item_photo));
+
         //Retrieving the Item spacing to use
         int itemSpacing = getResources().getDimensionPixelSize(R.dimen.sales_list_items_spacing);
 
@@ -452,7 +459,8 @@ public class SalesListFragment extends Fragment
     /**
      * {@link ListAdapter} class for RecyclerView to load the list of Products for Selling.
      */
-    private static class SalesListAdapter extends ListAdapter<SalesLite, SalesListAdapter.ViewHolder> {
+    private static class SalesListAdapter extends ListAdapter<SalesLite, SalesListAdapter.ViewHolder>
+            implements ImagePrefetchScrollListener.ImageUrlProvider {
 
         /**
          * {@link DiffUtil.ItemCallback} for calculating the difference between two {@link SalesLite} objects.
@@ -561,6 +569,32 @@ public class SalesListFragment extends Fragment
             holder.bind(position, salesLite);
         }
 
+        /**
+         * Called when a view created by this adapter has been recycled. This cancels the pending
+         * download of the Product Photo of the recycled item if any.
+         *
+         * @param holder The ViewHolder for the view being recycled
+         */
+        @Override
+        public void onViewRecycled(@NonNull ViewHolder holder) {
+            super.onViewRecycled(holder);
+            //Cancelling the pending download of the Product Photo
+            ImageRequestEngine.getInstance(holder.itemView.getContext()).cancelRequest(holder.mImageViewProductPhoto);
+        }
+
+        /**
+         * Method that returns the Image URL of the item at the {@code position}
+         *
+         * @param position The position of the item in the List
+         * @return String containing the Image URL of the item if any; otherwise {@code null}
+         */
+        @Nullable
+        @Override
+        public String getImageUrl(int position) {
+            //Returning the Default Image of the Product at the position if valid
+            return (position >= 0 && position < getItemCount()) ? getItem(position).getDefaultImageUri() : null;
+        }
+
         /**
          * ViewHolder class for caching View components of the template item view 'R.layout.item_sales_list'
          */
@@ -622,10 +656,9 @@ public class SalesListFragment extends Fragment
                 mTextViewProductSku.setText(salesLite.getProductSku());
                 //Set Barcode typeface for the SKU
                 mTextViewProductSku.setTypeface(mProductSkuTypeface);
-                //Download and Bind the Product Photo at the position
-                ImageDownloaderFragment.newInstance(
-                        ((FragmentActivity) mImageViewProductPhoto.getContext()).getSupportFragmentManager(), position)
-                        .executeAndUpdate(mImageViewProductPhoto, salesLite.getDefaultImageUri(), position);
+                //Download and Bind the Product Photo
+                ImageRequestEngine.getInstance(mImageViewProductPhoto.getContext())
+                        .executeAndUpdate(mImageViewProductPhoto, salesLite.getDefaultImageUri(), null, null);
                 //Bind the Product Category
                 mTextViewProductCategory.setText(salesLite.getCategoryName());
 
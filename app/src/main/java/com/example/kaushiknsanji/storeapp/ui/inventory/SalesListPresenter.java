@@ -42,9 +42,11 @@ import com.example.kaushiknsanji.storeapp.data.local.contracts.SalesContract;
 import com.example.kaushiknsanji.storeapp.data.local.contracts.StoreContract;
 import com.example.kaushiknsanji.storeapp.data.local.contracts.SupplierContract;
 import com.example.kaushiknsanji.storeapp.data.local.models.SalesLite;
+import com.example.kaushiknsanji.storeapp.ui.common.KeysetPagingHelper;
 import com.example.kaushiknsanji.storeapp.ui.inventory.config.SalesConfigActivity;
 import com.example.kaushiknsanji.storeapp.ui.products.config.ProductConfigActivity;
 import com.example.kaushiknsanji.storeapp.utils.AppConstants;
+import com.example.kaushiknsanji.storeapp.utils.TaskHandleGroup;
 
 import java.util.ArrayList;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -76,8 +78,13 @@ public class SalesListPresenter implements SalesListContract.Presenter,
     //Instance of the App Repository
     @NonNull
     private final StoreRepository mStoreRepository;
+
+    //Handles of the pending tasks submitted to the Repository, cancelled when the View is destroyed
+    private final TaskHandleGroup mTaskHandles = new TaskHandleGroup();
     //The Thread used by the Content Observer to observe and notify the changes
     private final HandlerThread mContentObserverHandlerThread;
+    //Holds the List of Products with Sales information displayed, and appends the further pages of the List
+    private final KeysetPagingHelper<SalesLite> mSalesPager;
     //Boolean to control multiple Content Observer notifications from being issued
     private final AtomicBoolean mDeliveredNotification = new AtomicBoolean(false);
     //The Content Observer to notify changes in the Product data
@@ -106,6 +113,10 @@ public class SalesListPresenter implements SalesListContract.Presenter,
         mStoreRepository = storeRepository;
         mSalesListView = salesListView;
 
+        //Initializing the helper that appends the further pages of the List of Products with Sales information
+        mSalesPager = new KeysetPagingHelper<>(mTaskHandles, LoaderProvider.LIST_PAGE_SIZE,
+                SalesLite::getProductSku, mStoreRepository::getProductSalesPage, mLoaderManager, AppConstants.SALES_LOADER);
+
         //Creating and starting the Content Observer Thread
         mContentObserverHandlerThread = new HandlerThread(CONTENT_OBSERVER_THREAD_NAME);
         mContentObserverHandlerThread.start();
@@ -317,18 +328,10 @@ public class SalesListPresenter implements SalesListContract.Presenter,
     public void onDataLoaded(Cursor data) {
         //Hide Empty View
         mSalesListView.hideEmptyView();
-        //Initializing the ArrayList to load the SalesLite data from the Cursor
-        ArrayList<SalesLite> salesList = new ArrayList<>();
-        //Resetting the cursor position if pointing past the last row
-        if (data.isAfterLast()) {
-            data.moveToPosition(-1);
-        }
-        //Iterating over the Cursor data and building the list
-        while (data.moveToNext()) {
-            salesList.add(SalesLite.from(data));
-        }
+        //Reloading the Products with Sales information from the Cursor, which has the records of the pages displayed so far
+        mSalesPager.setPages(data, SalesLite::from);
         //Updating the View with the new data
-        mSalesListView.loadSalesList(salesList);
+        mSalesListView.loadSalesList(mSalesPager.getItems());
         //Hide the Progress Indicator
         mSalesListView.hideProgressIndicator();
     }
@@ -340,6 +343,8 @@ public class SalesListPresenter implements SalesListContract.Presenter,
      */
     @Override
     public void onDataEmpty() {
+        //Clearing the List of Products with Sales information as there are no pages
+        mSalesPager.clear();
         //Hide the Progress Indicator
         mSalesListView.hideProgressIndicator();
         //Show empty view
@@ -365,12 +370,24 @@ public class SalesListPresenter implements SalesListContract.Presenter,
      */
     @Override
     public void onDataReset() {
+        //Clearing the List of Products with Sales information as there are no pages
+        mSalesPager.clear();
         //Updating the View with an empty list
         mSalesListView.loadSalesList(new ArrayList<>());
         //Show empty view
         mSalesListView.showEmptyView();
     }
 
+    /**
+     * Method invoked by the View when the User scrolls close to the end of the List of Products with Sales information
+     * displayed, to load and append the next page of Products with Sales information ahead of the scroll position.
+     */
+    @Override
+    public void loadMoreProductSales() {
+        //Appending the next page of the List with the Repository, and updating the View with the appended data
+        mSalesPager.loadMore(mSalesListView::loadSalesList);
+    }
+
     /**
      * Callback Method of {@link DataRepository.CursorDataLoaderCallback} invoked when
      * there is a change in the content loaded by the {@link android.support.v4.content.CursorLoader}
@@ -408,6 +425,8 @@ public class SalesListPresenter implements SalesListContract.Presenter,
      */
     @Override
     public void releaseResources() {
+        //Cancel the pending tasks submitted to the Repository
+        mTaskHandles.cancelAll();
         //Unregister any registered Content Observers
         unregisterContentObservers();
         //Stop the Content Observer Thread
@@ -431,7 +450,7 @@ public class SalesListPresenter implements SalesListContract.Presenter,
         resetObservers();
 
         //Executing Product Deletion with the Repository
-        mStoreRepository.deleteProductById(productId, new DataRepository.DataOperationsCallback() {
+        mTaskHandles.add(mStoreRepository.deleteProductById(productId, new DataRepository.DataOperationsCallback() {
             /**
              * Method invoked when the database operations like insert/update/delete
              * was successful.
@@ -462,7 +481,7 @@ public class SalesListPresenter implements SalesListContract.Presenter,
                 //Show the error message
                 mSalesListView.showError(messageId, args);
             }
-        });
+        }));
     }
 
     /**
@@ -483,7 +502,7 @@ public class SalesListPresenter implements SalesListContract.Presenter,
         resetObservers();
 
         //Updating the Quantity via the Repository
-        mStoreRepository.decreaseProductSupplierInventory(salesLite.getProductId(),
+        mTaskHandles.add(mStoreRepository.decreaseProductSupplierInventory(salesLite.getProductId(),
                 salesLite.getProductSku(), salesLite.getSupplierId(), salesLite.getTopSupplierCode(),
                 salesLite.getSupplierAvailableQuantity(), 1, new DataRepository.DataOperationsCallback() {
                     /**
@@ -516,7 +535,7 @@ public class SalesListPresenter implements SalesListContract.Presenter,
                         //Show the error message
                         mSalesListView.showError(messageId, args);
                     }
-                });
+                }));
     }
 
     /**
@@ -403,6 +403,11 @@ public interface SalesConfigContract {
          */
         void finishActivity();
 
+        /**
+         * Method invoked when the View is about to be destroyed.
+         * This method should release any critical resources held by the Presenter.
+         */
+        void releaseResources();
     }
 
 }
\ No newline at end of file
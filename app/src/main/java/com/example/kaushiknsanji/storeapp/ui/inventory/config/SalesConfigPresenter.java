@@ -35,6 +35,7 @@ import com.example.kaushiknsanji.storeapp.ui.inventory.procure.SalesProcurementA
 import com.example.kaushiknsanji.storeapp.ui.products.config.DefaultPhotoChangeListener;
 import com.example.kaushiknsanji.storeapp.ui.products.config.ProductConfigActivity;
 import com.example.kaushiknsanji.storeapp.ui.suppliers.config.SupplierConfigActivity;
+import com.example.kaushiknsanji.storeapp.utils.TaskHandleGroup;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -63,6 +64,9 @@ public class SalesConfigPresenter implements SalesConfigContract.Presenter {
     @NonNull
     private final StoreRepository mStoreRepository;
 
+    //Handles of the pending tasks submitted to the Repository, cancelled when the View is destroyed
+    private final TaskHandleGroup mTaskHandles = new TaskHandleGroup();
+
     //Navigator that receives callbacks when navigating away from the Current Activity
     private final SalesConfigNavigator mSalesConfigNavigator;
 
@@ -139,6 +143,16 @@ public class SalesConfigPresenter implements SalesConfigContract.Presenter {
 
     }
 
+    /**
+     * Method invoked when the View is about to be destroyed.
+     * This method should release any critical resources held by the Presenter.
+     */
+    @Override
+    public void releaseResources() {
+        //Cancel the pending tasks submitted to the Repository
+        mTaskHandles.cancelAll();
+    }
+
     /**
      * Method that updates the state of "Product details restored", and keeps it in sync with the View.
      *
@@ -196,7 +210,7 @@ public class SalesConfigPresenter implements SalesConfigContract.Presenter {
             mSalesConfigView.showProgressIndicator(R.string.product_config_status_loading_existing_product);
 
             //Retrieving the Product Details from the Repository
-            mStoreRepository.getProductDetailsById(mProductId, new DataRepository.GetQueryCallback<Product>() {
+            mTaskHandles.add(mStoreRepository.getProductDetailsById(mProductId, new DataRepository.GetQueryCallback<Product>() {
                 /**
                  * Method invoked when the results are obtained
                  * for the query executed.
@@ -256,7 +270,7 @@ public class SalesConfigPresenter implements SalesConfigContract.Presenter {
                 public void onEmpty() {
                     //No-op, not called for this implementation
                 }
-            });
+            }));
         }
     }
 
@@ -375,7 +389,7 @@ public class SalesConfigPresenter implements SalesConfigContract.Presenter {
             mSalesConfigView.showProgressIndicator(R.string.sales_config_status_loading_suppliers);
 
             //Retrieving the Suppliers with Sales information from the Repository
-            mStoreRepository.getProductSuppliersSalesInfo(mProductId, new DataRepository.GetQueryCallback<List<ProductSupplierSales>>() {
+            mTaskHandles.add(mStoreRepository.getProductSuppliersSalesInfo(mProductId, new DataRepository.GetQueryCallback<List<ProductSupplierSales>>() {
                 /**
                  * Method invoked when the results are obtained
                  * for the query executed.
@@ -406,7 +420,7 @@ public class SalesConfigPresenter implements SalesConfigContract.Presenter {
                     //Just hide progress indicator
                     mSalesConfigView.hideProgressIndicator();
                 }
-            });
+            }));
         }
     }
 
@@ -616,7 +630,7 @@ public class SalesConfigPresenter implements SalesConfigContract.Presenter {
         mSalesConfigView.showProgressIndicator(R.string.sales_config_status_saving);
 
         //Saving the Item's Inventory details via the Repository
-        mStoreRepository.saveUpdatedProductSalesInfo(mProductId, mProductSku,
+        mTaskHandles.add(mStoreRepository.saveUpdatedProductSalesInfo(mProductId, mProductSku,
                 mExistingProductSupplierSalesList,
                 updatedProductSupplierSalesList, new DataRepository.DataOperationsCallback() {
                     /**
@@ -649,7 +663,7 @@ public class SalesConfigPresenter implements SalesConfigContract.Presenter {
                         //Show message for Insert/Update Failure
                         mSalesConfigView.showError(messageId, args);
                     }
-                });
+                }));
     }
 
     /**
@@ -681,7 +695,7 @@ public class SalesConfigPresenter implements SalesConfigContract.Presenter {
         }
 
         //Executing Product Deletion via the Repository
-        mStoreRepository.deleteProductById(mProductId, new DataRepository.DataOperationsCallback() {
+        mTaskHandles.add(mStoreRepository.deleteProductById(mProductId, new DataRepository.DataOperationsCallback() {
             /**
              * Method invoked when the database operations like insert/update/delete
              * was successful.
@@ -718,7 +732,7 @@ public class SalesConfigPresenter implements SalesConfigContract.Presenter {
                 //Show the error message
                 mSalesConfigView.showError(messageId, args);
             }
-        });
+        }));
     }
 
     /**
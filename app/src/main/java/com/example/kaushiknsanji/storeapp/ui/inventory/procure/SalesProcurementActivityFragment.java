@@ -165,6 +165,18 @@ public class SalesProcurementActivityFragment extends Fragment implements SalesP
         mPresenter.start();
     }
 
+    /**
+     * Called when the fragment is no longer in use.  This is called
+     * after {@link #onStop()} and before {@link #onDetach()}.
+     */
+    @Override
+    public void onDestroy() {
+        super.onDestroy();
+
+        //Dispatching the event to the Presenter to invalidate any critical resources
+        mPresenter.releaseResources();
+    }
+
     /**
      * Called when the fragment's activity has been created and this
      * fragment's view hierarchy instantiated.  It can be used to do final
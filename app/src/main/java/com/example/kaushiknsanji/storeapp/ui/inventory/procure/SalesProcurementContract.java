@@ -188,6 +188,11 @@ public interface SalesProcurementContract {
          */
         void doFinish();
 
+        /**
+         * Method invoked when the View is about to be destroyed.
+         * This method should release any critical resources held by the Presenter.
+         */
+        void releaseResources();
     }
 
 }
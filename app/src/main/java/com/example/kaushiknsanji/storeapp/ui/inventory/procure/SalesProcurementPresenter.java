@@ -27,6 +27,7 @@ import com.example.kaushiknsanji.storeapp.data.local.models.ProductSupplierSales
 import com.example.kaushiknsanji.storeapp.data.local.models.SupplierContact;
 import com.example.kaushiknsanji.storeapp.ui.BaseView;
 import com.example.kaushiknsanji.storeapp.ui.products.config.DefaultPhotoChangeListener;
+import com.example.kaushiknsanji.storeapp.utils.TaskHandleGroup;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -50,6 +51,9 @@ public class SalesProcurementPresenter implements SalesProcurementContract.Prese
     @NonNull
     private final StoreRepository mStoreRepository;
 
+    //Handles of the pending tasks submitted to the Repository, cancelled when the View is destroyed
+    private final TaskHandleGroup mTaskHandles = new TaskHandleGroup();
+
     //Navigator that receives callbacks when navigating away from the Current Activity
     private final SalesProcurementNavigator mSalesProcurementNavigator;
 
@@ -128,6 +132,16 @@ public class SalesProcurementPresenter implements SalesProcurementContract.Prese
 
     }
 
+    /**
+     * Method invoked when the View is about to be destroyed.
+     * This method should release any critical resources held by the Presenter.
+     */
+    @Override
+    public void releaseResources() {
+        //Cancel the pending tasks submitted to the Repository
+        mTaskHandles.cancelAll();
+    }
+
     /**
      * Method that updates the state of "Supplier's Contacts restored", and keeps it in sync with the View.
      *
@@ -155,7 +169,7 @@ public class SalesProcurementPresenter implements SalesProcurementContract.Prese
             mSalesProcurementView.showProgressIndicator(R.string.sales_procurement_status_loading_contacts);
 
             //Retrieving the Supplier's Contacts from the Repository
-            mStoreRepository.getSupplierContactsById(mProductSupplierSales.getSupplierId(), new DataRepository.GetQueryCallback<List<SupplierContact>>() {
+            mTaskHandles.add(mStoreRepository.getSupplierContactsById(mProductSupplierSales.getSupplierId(), new DataRepository.GetQueryCallback<List<SupplierContact>>() {
                 /**
                  * Method invoked when the results are obtained
                  * for the query executed.
@@ -188,7 +202,7 @@ public class SalesProcurementPresenter implements SalesProcurementContract.Prese
                     //Hide progress indicator
                     mSalesProcurementView.hideProgressIndicator();
                 }
-            });
+            }));
         }
     }
 
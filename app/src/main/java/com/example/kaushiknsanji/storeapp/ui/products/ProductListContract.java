@@ -136,6 +136,12 @@ public interface ProductListContract {
          */
         void triggerProductsLoad(boolean forceLoad);
 
+        /**
+         * Method invoked by the View when the User scrolls close to the end of the List of Products
+         * displayed, to load and append the next page of Products ahead of the scroll position.
+         */
+        void loadMoreProducts();
+
         /**
          * Method invoked when the user clicks on the "Edit" button on the Item View or the Item View itself
          * to edit the Product details. This should
@@ -28,7 +28,6 @@ import android.support.constraint.Group;
 import android.support.design.widget.Snackbar;
 import android.support.v4.app.ActivityOptionsCompat;
 import android.support.v4.app.Fragment;
-import android.support.v4.app.FragmentActivity;
 import android.support.v4.content.res.ResourcesCompat;
 import android.support.v4.widget.SwipeRefreshLayout;
 import android.support.v7.content.res.AppCompatResources;
@@ -46,11 +45,13 @@ import android.widget.TextView;
 
 import com.example.kaushiknsanji.storeapp.R;
 import com.example.kaushiknsanji.storeapp.data.local.models.ProductLite;
+import com.example.kaushiknsanji.storeapp.ui.common.ImagePrefetchScrollListener;
 import com.example.kaushiknsanji.storeapp.ui.common.ListItemSpacingDecoration;
+import com.example.kaushiknsanji.storeapp.ui.common.LoadMoreScrollListener;
 import com.example.kaushiknsanji.storeapp.ui.products.config.ProductConfigActivity;
 import com.example.kaushiknsanji.storeapp.utils.ColorUtility;
 import com.example.kaushiknsanji.storeapp.utils.SnackbarUtility;
-import com.example.kaushiknsanji.storeapp.workers.ImageDownloaderFragment;
+import com.example.kaushiknsanji.storeapp.workers.ImageRequestEngine;
 
 import java.util.ArrayList;
 
@@ -222,6 +223,12 @@ public class ProductListFragment extends Fragment
         //Setting the Adapter for RecyclerView
         mRecyclerViewContentList.setAdapter(mAdapter);
 
+        //Registering the Scroll Listener that loads the next page of Products ahead of the scroll position
+        mRecyclerViewContentList.addOnScrollListener(new LoadMoreScrollListener(linearLayoutManager, () -> mPresenter.loadMoreProducts()));
+
+        //Registering the Scroll Listener that prefetches the Product Photos ahead of the scroll position
+        mRecyclerViewContentList.addOnScrollListener(new ImagePrefetchScrollListener(linearLayoutManager, mAdapter, R.id.image_product_item_photo));
+
         //Retrieving the Item spacing to use
         int itemSpacing = getResources().getDimensionPixelSize(R.dimen.product_list_items_spacing);
 
@@ -477,7 +484,8 @@ public class ProductListFragment extends Fragment
     /**
      * {@link ListAdapter} class for RecyclerView to load the list of Products to be displayed.
      */
-    private static class ProductListAdapter extends ListAdapter<ProductLite, ProductListAdapter.ViewHolder> {
+    private static class ProductListAdapter extends ListAdapter<ProductLite, ProductListAdapter.ViewHolder>
+            implements ImagePrefetchScrollListener.ImageUrlProvider {
 
         /**
          * {@link DiffUtil.ItemCallback} for calculating the difference between two {@link ProductLite} objects
@@ -584,6 +592,32 @@ public class ProductListFragment extends Fragment
             holder.bind(position, productLite);
         }
 
+        /**
+         * Called when a view created by this adapter has been recycled. This cancels the pending
+         * download of the Product Photo of the recycled item if any.
+         *
+         * @param holder The ViewHolder for the view being recycled
+         */
+        @Override
+        public void onViewRecycled(@NonNull ProductListAdapter.ViewHolder holder) {
+            super.onViewRecycled(holder);
+            //Cancelling the pending download of the Product Photo
+            ImageRequestEngine.getInstance(holder.itemView.getContext()).cancelRequest(holder.mImageViewProductPhoto);
+        }
+
+        /**
+         * Method that returns the Image URL of the item at the {@code position}
+         *
+         * @param position The position of the item in the List
+         * @return String containing the Image URL of the item if any; otherwise {@code null}
+         */
+        @Nullable
+        @Override
+        public String getImageUrl(int position) {
+            //Returning the Default Image of the Product at the position if valid
+            return (position >= 0 && position < getItemCount()) ? getItem(position).getDefaultImageUri() : null;
+        }
+
         /**
          * ViewHolder class for caching View components of the template item view 'R.layout.item_product_list'
          */
@@ -631,10 +665,9 @@ public class ProductListFragment extends Fragment
                 mTextViewProductSku.setText(productLite.getSku());
                 //Set Barcode typeface for the SKU
                 mTextViewProductSku.setTypeface(mProductSkuTypeface);
-                //Download and Bind the Product Photo at the position
-                ImageDownloaderFragment.newInstance(
-                        ((FragmentActivity) mImageViewProductPhoto.getContext()).getSupportFragmentManager(), position)
-                        .executeAndUpdate(mImageViewProductPhoto, productLite.getDefaultImageUri(), position);
+                //Download and Bind the Product Photo
+                ImageRequestEngine.getInstance(mImageViewProductPhoto.getContext())
+                        .executeAndUpdate(mImageViewProductPhoto, productLite.getDefaultImageUri(), null, null);
                 //Bind the Product Category
                 mTextViewProductCategory.setText(productLite.getCategory());
             }
@@ -40,8 +40,10 @@ import com.example.kaushiknsanji.storeapp.data.local.LoaderProvider;
 import com.example.kaushiknsanji.storeapp.data.local.contracts.ProductContract;
 import com.example.kaushiknsanji.storeapp.data.local.contracts.StoreContract;
 import com.example.kaushiknsanji.storeapp.data.local.models.ProductLite;
+import com.example.kaushiknsanji.storeapp.ui.common.KeysetPagingHelper;
 import com.example.kaushiknsanji.storeapp.ui.products.config.ProductConfigActivity;
 import com.example.kaushiknsanji.storeapp.utils.AppConstants;
+import com.example.kaushiknsanji.storeapp.utils.TaskHandleGroup;
 
 import java.util.ArrayList;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -73,8 +75,13 @@ public class ProductListPresenter
     //Instance of the App Repository
     @NonNull
     private final StoreRepository mStoreRepository;
+
+    //Handles of the pending tasks submitted to the Repository, cancelled when the View is destroyed
+    private final TaskHandleGroup mTaskHandles = new TaskHandleGroup();
     //The Thread used by the Content Observer to observe and notify the changes
     private final HandlerThread mContentObserverHandlerThread;
+    //Holds the List of Products displayed, and appends the further pages of the List
+    private final KeysetPagingHelper<ProductLite> mProductsPager;
     //The Content Observer to notify changes in the Product data
     private ProductContentObserver mProductContentObserver;
 
@@ -95,6 +102,10 @@ public class ProductListPresenter
         mStoreRepository = storeRepository;
         mProductListView = productListView;
 
+        //Initializing the helper that appends the further pages of the List of Products
+        mProductsPager = new KeysetPagingHelper<>(mTaskHandles, LoaderProvider.LIST_PAGE_SIZE,
+                ProductLite::getSku, mStoreRepository::getProductsPage, mLoaderManager, AppConstants.PRODUCTS_LOADER);
+
         //Creating and starting the Content Observer Thread
         mContentObserverHandlerThread = new HandlerThread(CONTENT_OBSERVER_THREAD_NAME);
         mContentObserverHandlerThread.start();
@@ -262,18 +273,10 @@ public class ProductListPresenter
     public void onDataLoaded(Cursor data) {
         //Hide Empty View
         mProductListView.hideEmptyView();
-        //Initializing the ArrayList to load the ProductLite data from the Cursor
-        ArrayList<ProductLite> productList = new ArrayList<>();
-        //Resetting the cursor position if pointing past the last row
-        if (data.isAfterLast()) {
-            data.moveToPosition(-1);
-        }
-        //Iterating over the Cursor data and building the list
-        while (data.moveToNext()) {
-            productList.add(ProductLite.from(data));
-        }
+        //Reloading the Products from the Cursor, which has the records of the pages displayed so far
+        mProductsPager.setPages(data, ProductLite::from);
         //Updating the View with the new data
-        mProductListView.loadProducts(productList);
+        mProductListView.loadProducts(mProductsPager.getItems());
         //Hide the Progress Indicator
         mProductListView.hideProgressIndicator();
     }
@@ -285,6 +288,8 @@ public class ProductListPresenter
      */
     @Override
     public void onDataEmpty() {
+        //Clearing the List of Products as there are no pages
+        mProductsPager.clear();
         //Hide the Progress Indicator
         mProductListView.hideProgressIndicator();
         //Show empty view
@@ -310,12 +315,24 @@ public class ProductListPresenter
      */
     @Override
     public void onDataReset() {
+        //Clearing the List of Products as there are no pages
+        mProductsPager.clear();
         //Updating the View with an empty list
         mProductListView.loadProducts(new ArrayList<>());
         //Show empty view
         mProductListView.showEmptyView();
     }
 
+    /**
+     * Method invoked by the View when the User scrolls close to the end of the List of Products
+     * displayed, to load and append the next page of Products ahead of the scroll position.
+     */
+    @Override
+    public void loadMoreProducts() {
+        //Appending the next page of the List with the Repository, and updating the View with the appended data
+        mProductsPager.loadMore(mProductListView::loadProducts);
+    }
+
     /**
      * Callback Method of {@link DataRepository.CursorDataLoaderCallback} invoked when
      * there is a change in the content loaded by the {@link android.support.v4.content.CursorLoader}
@@ -372,7 +389,7 @@ public class ProductListPresenter
         resetObservers();
 
         //Executing Product Deletion with the Repository
-        mStoreRepository.deleteProductById(product.getId(), new DataRepository.DataOperationsCallback() {
+        mTaskHandles.add(mStoreRepository.deleteProductById(product.getId(), new DataRepository.DataOperationsCallback() {
             /**
              * Method invoked when the database operations like insert/update/delete
              * was successful.
@@ -403,7 +420,7 @@ public class ProductListPresenter
                 //Show the error message
                 mProductListView.showError(messageId, args);
             }
-        });
+        }));
     }
 
     /**
@@ -460,6 +477,8 @@ public class ProductListPresenter
      */
     @Override
     public void releaseResources() {
+        //Cancel the pending tasks submitted to the Repository
+        mTaskHandles.cancelAll();
         //Unregister any registered Content Observer
         unregisterContentObserver();
         //Stop the Content Observer Thread
@@ -897,6 +897,18 @@ public class ProductConfigActivityFragment extends Fragment
         mPresenter.start();
     }
 
+    /**
+     * Called when the fragment is no longer in use.  This is called
+     * after {@link #onStop()} and before {@link #onDetach()}.
+     */
+    @Override
+    public void onDestroy() {
+        super.onDestroy();
+
+        //Dispatching the event to the Presenter to invalidate any critical resources
+        mPresenter.releaseResources();
+    }
+
     /**
      * Method that updates the categories list to the spinner for configuration
      *
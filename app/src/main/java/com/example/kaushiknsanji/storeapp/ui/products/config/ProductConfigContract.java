@@ -394,5 +394,11 @@ public interface ProductConfigContract {
          * Method that updates the Calling Activity that the operation was aborted.
          */
         void doCancel();
+
+        /**
+         * Method invoked when the View is about to be destroyed.
+         * This method should release any critical resources held by the Presenter.
+         */
+        void releaseResources();
     }
 }
@@ -31,6 +31,7 @@ import com.example.kaushiknsanji.storeapp.data.local.models.Product;
 import com.example.kaushiknsanji.storeapp.data.local.models.ProductAttribute;
 import com.example.kaushiknsanji.storeapp.data.local.models.ProductImage;
 import com.example.kaushiknsanji.storeapp.ui.products.image.ProductImageActivity;
+import com.example.kaushiknsanji.storeapp.utils.TaskHandleGroup;
 
 import java.util.ArrayList;
 import java.util.Iterator;
@@ -61,6 +62,9 @@ public class ProductConfigPresenter implements ProductConfigContract.Presenter {
     @NonNull
     private final StoreRepository mStoreRepository;
 
+    //Handles of the pending tasks submitted to the Repository, cancelled when the View is destroyed
+    private final TaskHandleGroup mTaskHandles = new TaskHandleGroup();
+
     //Navigator that receives callbacks when navigating away from the Current Activity
     private final ProductConfigNavigator mProductConfigNavigator;
 
@@ -143,6 +147,16 @@ public class ProductConfigPresenter implements ProductConfigContract.Presenter {
 
     }
 
+    /**
+     * Method invoked when the View is about to be destroyed.
+     * This method should release any critical resources held by the Presenter.
+     */
+    @Override
+    public void releaseResources() {
+        //Cancel the pending tasks submitted to the Repository
+        mTaskHandles.cancelAll();
+    }
+
     /**
      * Method that updates the state of "Existing Product details restored", and keeps it in sync with the View.
      *
@@ -200,7 +214,7 @@ public class ProductConfigPresenter implements ProductConfigContract.Presenter {
      * to update the Product Config Category Spinner
      */
     private void loadCategories() {
-        mStoreRepository.getAllCategories(new DataRepository.GetQueryCallback<List<String>>() {
+        mTaskHandles.add(mStoreRepository.getAllCategories(new DataRepository.GetQueryCallback<List<String>>() {
             /**
              * Method invoked when the results are obtained
              * for the query executed.
@@ -230,7 +244,7 @@ public class ProductConfigPresenter implements ProductConfigContract.Presenter {
                 //Passing an empty list to the view
                 mProductConfigView.updateCategories(categories);
             }
-        });
+        }));
     }
 
     /**
@@ -242,7 +256,7 @@ public class ProductConfigPresenter implements ProductConfigContract.Presenter {
         mProductConfigView.showProgressIndicator(R.string.product_config_status_loading_existing_product);
 
         //Retrieving the Existing Product Details from the Repository
-        mStoreRepository.getProductDetailsById(mProductId, new DataRepository.GetQueryCallback<Product>() {
+        mTaskHandles.add(mStoreRepository.getProductDetailsById(mProductId, new DataRepository.GetQueryCallback<Product>() {
             /**
              * Method invoked when the results are obtained
              * for the query executed.
@@ -322,7 +336,7 @@ public class ProductConfigPresenter implements ProductConfigContract.Presenter {
             public void onEmpty() {
                 //No-op, not called for this implementation
             }
-        });
+        }));
     }
 
     /**
@@ -596,7 +610,7 @@ public class ProductConfigPresenter implements ProductConfigContract.Presenter {
         }
 
         //Checking the uniqueness of the Product SKU with the Repository
-        mStoreRepository.getProductSkuUniqueness(productSku, new DataRepository.GetQueryCallback<Boolean>() {
+        mTaskHandles.add(mStoreRepository.getProductSkuUniqueness(productSku, new DataRepository.GetQueryCallback<Boolean>() {
             /**
              * Method invoked when the results are obtained
              * for the query executed.
@@ -619,7 +633,7 @@ public class ProductConfigPresenter implements ProductConfigContract.Presenter {
             public void onEmpty() {
                 //No-op, for this query (Never called)
             }
-        });
+        }));
     }
 
     /**
@@ -667,7 +681,7 @@ public class ProductConfigPresenter implements ProductConfigContract.Presenter {
      * @param newProduct      The New Updated Product details to be saved.
      */
     private void saveUpdatedProduct(Product existingProduct, Product newProduct) {
-        mStoreRepository.saveUpdatedProduct(existingProduct, newProduct,
+        mTaskHandles.add(mStoreRepository.saveUpdatedProduct(existingProduct, newProduct,
                 new DataRepository.DataOperationsCallback() {
                     /**
                      * Method invoked when the database operations like insert/update/delete
@@ -699,7 +713,7 @@ public class ProductConfigPresenter implements ProductConfigContract.Presenter {
                         //Show message for Update Failure
                         mProductConfigView.showError(messageId, args);
                     }
-                });
+                }));
     }
 
     /**
@@ -708,7 +722,7 @@ public class ProductConfigPresenter implements ProductConfigContract.Presenter {
      * @param newProduct The New Product details to be saved.
      */
     private void saveNewProduct(Product newProduct) {
-        mStoreRepository.saveNewProduct(newProduct, new DataRepository.DataOperationsCallback() {
+        mTaskHandles.add(mStoreRepository.saveNewProduct(newProduct, new DataRepository.DataOperationsCallback() {
             /**
              * Method invoked when the database operations like insert/update/delete
              * was successful.
@@ -739,7 +753,7 @@ public class ProductConfigPresenter implements ProductConfigContract.Presenter {
                 //Show message for Insert Failure
                 mProductConfigView.showError(messageId, args);
             }
-        });
+        }));
     }
 
     /**
@@ -807,7 +821,7 @@ public class ProductConfigPresenter implements ProductConfigContract.Presenter {
                 //This check avoids unnecessary updates when both are 0.
 
                 //Saving Product Images via the repository
-                mStoreRepository.saveProductImages(mExistingProduct, mProductImages, new DataRepository.DataOperationsCallback() {
+                mTaskHandles.add(mStoreRepository.saveProductImages(mExistingProduct, mProductImages, new DataRepository.DataOperationsCallback() {
                     /**
                      * Method invoked when the database operations like insert/update/delete
                      * was successful.
@@ -831,7 +845,7 @@ public class ProductConfigPresenter implements ProductConfigContract.Presenter {
                         //Show the Failure message
                         mProductConfigView.showError(messageId, args);
                     }
-                });
+                }));
             }
 
         }
@@ -917,7 +931,7 @@ public class ProductConfigPresenter implements ProductConfigContract.Presenter {
         }
 
         //Executing Product Deletion via the Repository
-        mStoreRepository.deleteProductById(mProductId, new DataRepository.DataOperationsCallback() {
+        mTaskHandles.add(mStoreRepository.deleteProductById(mProductId, new DataRepository.DataOperationsCallback() {
             /**
              * Method invoked when the database operations like insert/update/delete
              * was successful.
@@ -954,7 +968,7 @@ public class ProductConfigPresenter implements ProductConfigContract.Presenter {
                 //Show the error message
                 mProductConfigView.showError(messageId, args);
             }
-        });
+        }));
     }
 
     /**
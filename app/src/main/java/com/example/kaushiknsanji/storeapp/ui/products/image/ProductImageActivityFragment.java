@@ -35,7 +35,6 @@ import android.support.annotation.StringRes;
 import android.support.constraint.Group;
 import android.support.design.widget.Snackbar;
 import android.support.v4.app.Fragment;
-import android.support.v4.app.FragmentActivity;
 import android.support.v7.app.AlertDialog;
 import android.support.v7.recyclerview.extensions.ListAdapter;
 import android.support.v7.util.DiffUtil;
@@ -61,7 +60,7 @@ import com.example.kaushiknsanji.storeapp.utils.FileStorageUtility;
 import com.example.kaushiknsanji.storeapp.utils.ImageStorageUtility;
 import com.example.kaushiknsanji.storeapp.utils.OrientationUtility;
 import com.example.kaushiknsanji.storeapp.utils.SnackbarUtility;
-import com.example.kaushiknsanji.storeapp.workers.ImageDownloaderFragment;
+import com.example.kaushiknsanji.storeapp.workers.ImageRequestEngine;
 
 import java.io.File;
 import java.io.IOException;
@@ -795,8 +794,9 @@ public class ProductImageActivityFragment extends Fragment
             Context context = holder.itemView.getContext();
 
             //Load the Image for the item
-            ImageDownloaderFragment.newInstance(((FragmentActivity) context).getSupportFragmentManager(), position)
-                    .setOnSuccessListener(bitmap -> {
+            ImageRequestEngine.getInstance(context).executeAndUpdate(holder.mImageViewItemPhoto,
+                    itemProductImage.getImageUri(),
+                    bitmap -> {
                         //Checking if any selections were made to update the item state
                         if (mImageSelectionTrackerMap != null && mImageSelectionTrackerMap.size() > 0 && mGridMode.equals(ProductImageContract.MODE_SELECT)) {
                             //Lookup the tracker for the current item to update the state
@@ -809,10 +809,8 @@ public class ProductImageActivityFragment extends Fragment
                                 mActionsListener.showSelectedImage(bitmap, itemProductImage);
                             }
                         }
-                    })
-                    .executeAndUpdate(holder.mImageViewItemPhoto,
-                            itemProductImage.getImageUri(),
-                            position);
+                    },
+                    null);
 
 
             //Checking if any selections were made to update the item state
@@ -899,14 +897,13 @@ public class ProductImageActivityFragment extends Fragment
                                             mActionsListener.showSelectedImage(bitmapDrawable.getBitmap(), itemProductImage);
                                         } else {
                                             //When the ImageView of the adapter item does not have the bitmap yet, load the Image for the item
-                                            ImageDownloaderFragment.newInstance(((FragmentActivity) context).getSupportFragmentManager(), position)
-                                                    .setOnSuccessListener(bitmap -> {
+                                            ImageRequestEngine.getInstance(context).executeAndUpdate(imageViewItemPhoto,
+                                                    itemProductImage.getImageUri(),
+                                                    bitmap -> {
                                                         //Update the downloaded bitmap to ImageView 'R.id.image_product_selected_item_photo'
                                                         mActionsListener.showSelectedImage(bitmap, itemProductImage);
-                                                    })
-                                                    .executeAndUpdate(imageViewItemPhoto,
-                                                            itemProductImage.getImageUri(),
-                                                            position);
+                                                    },
+                                                    null);
                                         }
                                     }
                                 }
@@ -922,6 +919,19 @@ public class ProductImageActivityFragment extends Fragment
             }
         }
 
+        /**
+         * Called when a view created by this adapter has been recycled. This cancels the pending
+         * download of the Product Photo of the recycled item if any.
+         *
+         * @param holder The ViewHolder for the view being recycled
+         */
+        @Override
+        public void onViewRecycled(@NonNull ViewHolder holder) {
+            super.onViewRecycled(holder);
+            //Cancelling the pending download of the Product Photo
+            ImageRequestEngine.getInstance(holder.itemView.getContext()).cancelRequest(holder.mImageViewItemPhoto);
+        }
+
         /**
          * Method that retrieves the latest {@link ImageSelectionTracker} for the {@code imageSelectionTracker}
          * passed based on the value of {@link ImageSelectionTracker#mPosition}.
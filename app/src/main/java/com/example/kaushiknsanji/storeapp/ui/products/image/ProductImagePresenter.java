@@ -359,6 +359,25 @@ public class ProductImagePresenter implements ProductImageContract.Presenter {
                 //Get the String URI of the URI
                 String fileContentUriStr = results.toString();
 
+                //Reading the position of the same Image already in the list, which can be when
+                //the same Image is saved again as it is stored by its content hash
+                int existingImageIndex = -1;
+                for (int index = 0, noOfImages = mProductImages.size(); index < noOfImages; index++) {
+                    if (fileContentUriStr.equals(mProductImages.get(index).getImageUri())) {
+                        existingImageIndex = index;
+                        break;
+                    }
+                }
+                if (existingImageIndex > -1) {
+                    //Showing the existing Image as the selected Photo, instead of adding a duplicate
+                    mGridMode = ProductImageContract.MODE_SELECT;
+                    showProductImageAsSelected(existingImageIndex, mProductImages.get(existingImageIndex), mGridMode);
+
+                    //Hide the Progress indicator
+                    mProductImageView.hideProgressIndicator();
+                    return;
+                }
+
                 //Add the URI to the list
                 mProductImageUris.add(fileContentUriStr);
 
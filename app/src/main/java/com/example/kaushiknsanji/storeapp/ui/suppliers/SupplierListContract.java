@@ -148,6 +148,12 @@ public interface SupplierListContract {
          */
         void triggerSuppliersLoad(boolean forceLoad);
 
+        /**
+         * Method invoked by the View when the User scrolls close to the end of the List of Suppliers
+         * displayed, to load and append the next page of Suppliers ahead of the scroll position.
+         */
+        void loadMoreSuppliers();
+
         /**
          * Method invoked when the user clicks on "Edit" button or the Item View itself. This should
          * launch the {@link com.example.kaushiknsanji.storeapp.ui.suppliers.config.SupplierConfigActivity}
@@ -45,6 +45,7 @@ import android.widget.TextView;
 import com.example.kaushiknsanji.storeapp.R;
 import com.example.kaushiknsanji.storeapp.data.local.models.SupplierLite;
 import com.example.kaushiknsanji.storeapp.ui.common.ListItemSpacingDecoration;
+import com.example.kaushiknsanji.storeapp.ui.common.LoadMoreScrollListener;
 import com.example.kaushiknsanji.storeapp.ui.suppliers.config.SupplierConfigActivity;
 import com.example.kaushiknsanji.storeapp.utils.ColorUtility;
 import com.example.kaushiknsanji.storeapp.utils.IntentUtility;
@@ -219,6 +220,9 @@ public class SupplierListFragment extends Fragment
         //Setting the Adapter on the RecyclerView
         mRecyclerViewContentList.setAdapter(mAdapter);
 
+        //Registering the Scroll Listener that loads the next page of Suppliers ahead of the scroll position
+        mRecyclerViewContentList.addOnScrollListener(new LoadMoreScrollListener(linearLayoutManager, () -> mPresenter.loadMoreSuppliers()));
+
         //Retrieving the Item spacing to use
         int itemSpacing = getResources().getDimensionPixelSize(R.dimen.supplier_list_items_spacing);
 
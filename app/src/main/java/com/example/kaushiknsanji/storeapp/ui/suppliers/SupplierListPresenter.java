@@ -40,8 +40,10 @@ import com.example.kaushiknsanji.storeapp.data.local.contracts.SalesContract;
 import com.example.kaushiknsanji.storeapp.data.local.contracts.StoreContract;
 import com.example.kaushiknsanji.storeapp.data.local.contracts.SupplierContract;
 import com.example.kaushiknsanji.storeapp.data.local.models.SupplierLite;
+import com.example.kaushiknsanji.storeapp.ui.common.KeysetPagingHelper;
 import com.example.kaushiknsanji.storeapp.ui.suppliers.config.SupplierConfigActivity;
 import com.example.kaushiknsanji.storeapp.utils.AppConstants;
+import com.example.kaushiknsanji.storeapp.utils.TaskHandleGroup;
 
 import java.util.ArrayList;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -72,8 +74,13 @@ public class SupplierListPresenter implements SupplierListContract.Presenter,
     //Instance of the App Repository
     @NonNull
     private final StoreRepository mStoreRepository;
+
+    //Handles of the pending tasks submitted to the Repository, cancelled when the View is destroyed
+    private final TaskHandleGroup mTaskHandles = new TaskHandleGroup();
     //The Thread used by the Content Observer to observe and notify the changes
     private final HandlerThread mContentObserverHandlerThread;
+    //Holds the List of Suppliers displayed, and appends the further pages of the List
+    private final KeysetPagingHelper<SupplierLite> mSuppliersPager;
     //Boolean to control multiple Content Observer notifications from being issued
     private final AtomicBoolean mDeliveredNotification = new AtomicBoolean(false);
     //The Content Observer to notify changes in the Supplier data
@@ -98,6 +105,10 @@ public class SupplierListPresenter implements SupplierListContract.Presenter,
         mStoreRepository = storeRepository;
         mSupplierListView = supplierListView;
 
+        //Initializing the helper that appends the further pages of the List of Suppliers
+        mSuppliersPager = new KeysetPagingHelper<>(mTaskHandles, LoaderProvider.LIST_PAGE_SIZE,
+                SupplierLite::getCode, mStoreRepository::getSuppliersPage, mLoaderManager, AppConstants.SUPPLIERS_LOADER);
+
         //Creating and starting the Content Observer Thread
         mContentObserverHandlerThread = new HandlerThread(CONTENT_OBSERVER_THREAD_NAME);
         mContentObserverHandlerThread.start();
@@ -226,7 +237,7 @@ public class SupplierListPresenter implements SupplierListContract.Presenter,
         resetObservers();
 
         //Executing Supplier Deletion via the Repository
-        mStoreRepository.deleteSupplierById(supplier.getId(), new DataRepository.DataOperationsCallback() {
+        mTaskHandles.add(mStoreRepository.deleteSupplierById(supplier.getId(), new DataRepository.DataOperationsCallback() {
             /**
              * Method invoked when the database operations like insert/update/delete
              * was successful.
@@ -257,7 +268,7 @@ public class SupplierListPresenter implements SupplierListContract.Presenter,
                 //Show the error message
                 mSupplierListView.showError(messageId, args);
             }
-        });
+        }));
     }
 
     /**
@@ -314,6 +325,8 @@ public class SupplierListPresenter implements SupplierListContract.Presenter,
      */
     @Override
     public void releaseResources() {
+        //Cancel the pending tasks submitted to the Repository
+        mTaskHandles.cancelAll();
         //Unregister any registered Content Observers
         unregisterContentObservers();
         //Stop the Content Observer Thread
@@ -429,18 +442,10 @@ public class SupplierListPresenter implements SupplierListContract.Presenter,
     public void onDataLoaded(Cursor data) {
         //Hide Empty View
         mSupplierListView.hideEmptyView();
-        //Initializing the ArrayList to load the SupplierLite data from the Cursor
-        ArrayList<SupplierLite> supplierList = new ArrayList<>();
-        //Resetting the cursor position if pointing past the last row
-        if (data.isAfterLast()) {
-            data.moveToPosition(-1);
-        }
-        //Iterating over the Cursor data and building the list
-        while (data.moveToNext()) {
-            supplierList.add(SupplierLite.from(data));
-        }
+        //Reloading the Suppliers from the Cursor, which has the records of the pages displayed so far
+        mSuppliersPager.setPages(data, SupplierLite::from);
         //Updating the View with the new data
-        mSupplierListView.loadSuppliers(supplierList);
+        mSupplierListView.loadSuppliers(mSuppliersPager.getItems());
         //Hide the Progress Indicator
         mSupplierListView.hideProgressIndicator();
     }
@@ -452,6 +457,8 @@ public class SupplierListPresenter implements SupplierListContract.Presenter,
      */
     @Override
     public void onDataEmpty() {
+        //Clearing the List of Suppliers as there are no pages
+        mSuppliersPager.clear();
         //Hide the Progress Indicator
         mSupplierListView.hideProgressIndicator();
         //Show empty view
@@ -477,12 +484,24 @@ public class SupplierListPresenter implements SupplierListContract.Presenter,
      */
     @Override
     public void onDataReset() {
+        //Clearing the List of Suppliers as there are no pages
+        mSuppliersPager.clear();
         //Updating the View with an empty list
         mSupplierListView.loadSuppliers(new ArrayList<>());
         //Show empty view
         mSupplierListView.showEmptyView();
     }
 
+    /**
+     * Method invoked by the View when the User scrolls close to the end of the List of Suppliers
+     * displayed, to load and append the next page of Suppliers ahead of the scroll position.
+     */
+    @Override
+    public void loadMoreSuppliers() {
+        //Appending the next page of the List with the Repository, and updating the View with the appended data
+        mSuppliersPager.loadMore(mSupplierListView::loadSuppliers);
+    }
+
     /**
      * Callback Method of {@link DataRepository.CursorDataLoaderCallback} invoked when
      * there is a change in the content loaded by the {@link android.support.v4.content.CursorLoader}
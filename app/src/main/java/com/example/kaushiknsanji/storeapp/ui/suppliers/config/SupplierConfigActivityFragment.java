@@ -433,6 +433,18 @@ public class SupplierConfigActivityFragment extends Fragment
         mPresenter.start();
     }
 
+    /**
+     * Called when the fragment is no longer in use.  This is called
+     * after {@link #onStop()} and before {@link #onDetach()}.
+     */
+    @Override
+    public void onDestroy() {
+        super.onDestroy();
+
+        //Dispatching the event to the Presenter to invalidate any critical resources
+        mPresenter.releaseResources();
+    }
+
     /**
      * Initialize the contents of the Fragment host's standard options menu.  You
      * should place your menu items in to <var>menu</var>.
@@ -404,6 +404,12 @@ public interface SupplierConfigContract {
          * @param productLiteList ArrayList of Products {@link ProductLite} already picked for the Supplier to sell.
          */
         void pickProducts(ArrayList<ProductLite> productLiteList);
+
+        /**
+         * Method invoked when the View is about to be destroyed.
+         * This method should release any critical resources held by the Presenter.
+         */
+        void releaseResources();
     }
 
 }
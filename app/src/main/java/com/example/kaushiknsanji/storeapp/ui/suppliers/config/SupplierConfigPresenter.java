@@ -38,6 +38,7 @@ import com.example.kaushiknsanji.storeapp.ui.products.config.ProductConfigActivi
 import com.example.kaushiknsanji.storeapp.ui.products.config.ProductConfigContract;
 import com.example.kaushiknsanji.storeapp.ui.suppliers.product.SupplierProductPickerActivity;
 import com.example.kaushiknsanji.storeapp.utils.ContactUtility;
+import com.example.kaushiknsanji.storeapp.utils.TaskHandleGroup;
 
 import java.util.ArrayList;
 import java.util.Iterator;
@@ -68,6 +69,9 @@ public class SupplierConfigPresenter implements SupplierConfigContract.Presenter
     @NonNull
     private final StoreRepository mStoreRepository;
 
+    //Handles of the pending tasks submitted to the Repository, cancelled when the View is destroyed
+    private final TaskHandleGroup mTaskHandles = new TaskHandleGroup();
+
     //Navigator that receives callbacks when navigating away from the Current Activity
     private final SupplierConfigNavigator mSupplierConfigNavigator;
 
@@ -125,6 +129,16 @@ public class SupplierConfigPresenter implements SupplierConfigContract.Presenter
         loadExistingSupplier();
     }
 
+    /**
+     * Method invoked when the View is about to be destroyed.
+     * This method should release any critical resources held by the Presenter.
+     */
+    @Override
+    public void releaseResources() {
+        //Cancel the pending tasks submitted to the Repository
+        mTaskHandles.cancelAll();
+    }
+
     /**
      * Method that downloads the Existing Supplier details when this is an Edit request,
      * to update the view components with Supplier data.
@@ -137,7 +151,7 @@ public class SupplierConfigPresenter implements SupplierConfigContract.Presenter
             mSupplierConfigView.showProgressIndicator(R.string.supplier_config_status_loading_existing_supplier);
 
             //Retrieving the Existing Supplier details from the Repository
-            mStoreRepository.getSupplierDetailsById(mSupplierId, new DataRepository.GetQueryCallback<Supplier>() {
+            mTaskHandles.add(mStoreRepository.getSupplierDetailsById(mSupplierId, new DataRepository.GetQueryCallback<Supplier>() {
                 /**
                  * Method invoked when the results are obtained
                  * for the query executed.
@@ -210,7 +224,7 @@ public class SupplierConfigPresenter implements SupplierConfigContract.Presenter
                     //No-op, not called for this implementation
                 }
 
-            });
+            }));
         }
     }
 
@@ -315,7 +329,7 @@ public class SupplierConfigPresenter implements SupplierConfigContract.Presenter
                 }
 
                 //Retrieving the Product information for the Product Ids via the Repository
-                mStoreRepository.getShortProductInfoForProducts(productIds, new DataRepository.GetQueryCallback<List<ProductLite>>() {
+                mTaskHandles.add(mStoreRepository.getShortProductInfoForProducts(productIds, new DataRepository.GetQueryCallback<List<ProductLite>>() {
                     /**
                      * Method invoked when the results are obtained
                      * for the query executed.
@@ -342,7 +356,7 @@ public class SupplierConfigPresenter implements SupplierConfigContract.Presenter
                         //Updating to the View with an empty ProductLiteSparseArray
                         mSupplierConfigView.updateSupplierProducts(mProductSupplierInfoList, mProductLiteSparseArray);
                     }
-                });
+                }));
 
             } else {
                 //When we have the details of the Products
@@ -436,7 +450,7 @@ public class SupplierConfigPresenter implements SupplierConfigContract.Presenter
         }
 
         //Checking the Uniqueness of the Supplier Code with the Repository
-        mStoreRepository.getSupplierCodeUniqueness(supplierCode, new DataRepository.GetQueryCallback<Boolean>() {
+        mTaskHandles.add(mStoreRepository.getSupplierCodeUniqueness(supplierCode, new DataRepository.GetQueryCallback<Boolean>() {
             /**
              * Method invoked when the results are obtained
              * for the query executed.
@@ -459,7 +473,7 @@ public class SupplierConfigPresenter implements SupplierConfigContract.Presenter
             public void onEmpty() {
                 //No-op, for this query (Never called)
             }
-        });
+        }));
     }
 
     /**
@@ -507,7 +521,7 @@ public class SupplierConfigPresenter implements SupplierConfigContract.Presenter
                         productIds.add(String.valueOf(productId));
 
                         //Retrieving the Product information for the Product Ids via the Repository
-                        mStoreRepository.getShortProductInfoForProducts(productIds, new DataRepository.GetQueryCallback<List<ProductLite>>() {
+                        mTaskHandles.add(mStoreRepository.getShortProductInfoForProducts(productIds, new DataRepository.GetQueryCallback<List<ProductLite>>() {
                             /**
                              * Method invoked when the results are obtained
                              * for the query executed.
@@ -542,7 +556,7 @@ public class SupplierConfigPresenter implements SupplierConfigContract.Presenter
                             public void onEmpty() {
                                 //No-op, as this case will not occur
                             }
-                        });
+                        }));
                     }
 
                 } else if (resultCode == ProductConfigActivity.RESULT_DELETE_PRODUCT) {
@@ -828,7 +842,7 @@ public class SupplierConfigPresenter implements SupplierConfigContract.Presenter
      */
     private void saveNewSupplier(Supplier newSupplier) {
         //Saving Supplier data via the Repository
-        mStoreRepository.saveNewSupplier(newSupplier, new DataRepository.DataOperationsCallback() {
+        mTaskHandles.add(mStoreRepository.saveNewSupplier(newSupplier, new DataRepository.DataOperationsCallback() {
             /**
              * Method invoked when the database operations like insert/update/delete
              * was successful.
@@ -859,7 +873,7 @@ public class SupplierConfigPresenter implements SupplierConfigContract.Presenter
                 //Show message for Insert Failure
                 mSupplierConfigView.showError(messageId, args);
             }
-        });
+        }));
     }
 
     /**
@@ -871,7 +885,7 @@ public class SupplierConfigPresenter implements SupplierConfigContract.Presenter
      */
     private void saveUpdatedSupplier(Supplier existingSupplier, Supplier newSupplier) {
         //Updating Supplier data via the Repository
-        mStoreRepository.saveUpdatedSupplier(existingSupplier, newSupplier, new DataRepository.DataOperationsCallback() {
+        mTaskHandles.add(mStoreRepository.saveUpdatedSupplier(existingSupplier, newSupplier, new DataRepository.DataOperationsCallback() {
             /**
              * Method invoked when the database operations like insert/update/delete
              * was successful.
@@ -902,7 +916,7 @@ public class SupplierConfigPresenter implements SupplierConfigContract.Presenter
                 //Show message for Update Failure
                 mSupplierConfigView.showError(messageId, args);
             }
-        });
+        }));
     }
 
     /**
@@ -916,7 +930,7 @@ public class SupplierConfigPresenter implements SupplierConfigContract.Presenter
         mSupplierConfigView.showProgressIndicator(R.string.supplier_config_status_deleting);
 
         //Executing Supplier Deletion via the Repository
-        mStoreRepository.deleteSupplierById(mSupplierId, new DataRepository.DataOperationsCallback() {
+        mTaskHandles.add(mStoreRepository.deleteSupplierById(mSupplierId, new DataRepository.DataOperationsCallback() {
             /**
              * Method invoked when the database operations like insert/update/delete
              * was successful.
@@ -947,7 +961,7 @@ public class SupplierConfigPresenter implements SupplierConfigContract.Presenter
                 //Show the error message
                 mSupplierConfigView.showError(messageId, args);
             }
-        });
+        }));
     }
 
     /**
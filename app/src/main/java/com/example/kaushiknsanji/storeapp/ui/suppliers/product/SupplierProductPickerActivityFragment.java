@@ -39,19 +39,19 @@ import android.view.MenuItem;
 import android.view.View;
 import android.view.ViewGroup;
 import android.widget.Adapter;
-import android.widget.Filter;
-import android.widget.Filterable;
 import android.widget.ImageView;
 import android.widget.ListView;
 import android.widget.TextView;
 
 import com.example.kaushiknsanji.storeapp.R;
 import com.example.kaushiknsanji.storeapp.data.local.models.ProductLite;
+import com.example.kaushiknsanji.storeapp.ui.common.ImagePrefetchScrollListener;
 import com.example.kaushiknsanji.storeapp.ui.common.ListItemSpacingDecoration;
+import com.example.kaushiknsanji.storeapp.ui.common.LoadMoreScrollListener;
 import com.example.kaushiknsanji.storeapp.ui.common.ProgressDialogFragment;
 import com.example.kaushiknsanji.storeapp.utils.OrientationUtility;
 import com.example.kaushiknsanji.storeapp.utils.SnackbarUtility;
-import com.example.kaushiknsanji.storeapp.workers.ImageDownloaderFragment;
+import com.example.kaushiknsanji.storeapp.workers.ImageRequestEngine;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -311,6 +311,18 @@ public class SupplierProductPickerActivityFragment extends Fragment implements S
 
     }
 
+    /**
+     * Called when the fragment is no longer in use.  This is called
+     * after {@link #onStop()} and before {@link #onDetach()}.
+     */
+    @Override
+    public void onDestroy() {
+        super.onDestroy();
+
+        //Dispatching the event to the Presenter to invalidate any critical resources
+        mPresenter.releaseResources();
+    }
+
     /**
      * Method that registers the Presenter {@code presenter} with the View implementing
      * {@link com.example.kaushiknsanji.storeapp.ui.BaseView}
@@ -373,6 +385,12 @@ public class SupplierProductPickerActivityFragment extends Fragment implements S
         //Setting the Adapter on RecyclerView
         mRecyclerViewProducts.setAdapter(mProductListAdapter);
 
+        //Registering the Scroll Listener that loads the next page of Products ahead of the scroll position
+        mRecyclerViewProducts.addOnScrollListener(new LoadMoreScrollListener(linearLayoutManager, () -> mPresenter.loadMoreProducts()));
+
+        //Registering the Scroll Listener that prefetches the Product Photos ahead of the scroll position
+        mRecyclerViewProducts.addOnScrollListener(new ImagePrefetchScrollListener(linearLayoutManager, mProductListAdapter, R.id.image_product_item_photo));
+
         //Retrieving the Item spacing to use
         int itemSpacing = getResources().getDimensionPixelSize(R.dimen.supplier_product_list_items_spacing);
 
@@ -490,27 +508,26 @@ public class SupplierProductPickerActivityFragment extends Fragment implements S
     }
 
     /**
-     * Method invoked to filter the Product List shown by the Adapter, for the Product Name/SKU/Category
-     * passed in the Search Query {@code searchQueryStr}
+     * Method invoked to show the list of Products {@link ProductLite} matching the Search Query
+     * executed, in place of the list of remaining Products displayed by the Adapter.
      *
-     * @param searchQueryStr The Product Name/SKU/Category to filter in the Product List
-     * @param filterListener A listener notified upon completion of the operation
+     * @param searchResults List of Products {@link ProductLite} matching the Search Query,
+     *                      that can be picked.
      */
     @Override
-    public void filterAdapterData(String searchQueryStr, Filter.FilterListener filterListener) {
-        //Applying the filter on the Adapter to load results for "searchQueryStr"
-        mProductListAdapter.getFilter().filter(searchQueryStr, filterListener);
+    public void submitSearchResults(ArrayList<ProductLite> searchResults) {
+        //Submitting the search results to the Adapter
+        mProductListAdapter.submitSearchResults(searchResults);
     }
 
     /**
-     * Method invoked to clear the filter applied on the Adapter of the RecyclerView
-     *
-     * @param filterListener A listener notified upon completion of the operation
+     * Method invoked to clear the search results shown, and restore the list of remaining Products
+     * displayed by the Adapter.
      */
     @Override
-    public void clearAdapterFilter(Filter.FilterListener filterListener) {
-        //Clearing the filter applied on the Adapter
-        mProductListAdapter.getFilter().filter(null, filterListener);
+    public void clearSearchResults() {
+        //Clearing the search results shown by the Adapter
+        mProductListAdapter.clearSearchResults();
     }
 
     /**
@@ -537,10 +554,10 @@ public class SupplierProductPickerActivityFragment extends Fragment implements S
 
     /**
      * {@link ListAdapter} class for RecyclerView to load the list of Products to be displayed.
-     * Implements {@link Filterable} to provide filtering capability for the search query executed.
+     * Displays either the list of remaining Products or the search results for the search query executed.
      */
     private static class ProductListAdapter extends ListAdapter<ProductLite, ProductListAdapter.ViewHolder>
-            implements Filterable {
+            implements ImagePrefetchScrollListener.ImageUrlProvider {
 
         //Payload constants used to rebind the state of list items for the position stored here
         private static final String PAYLOAD_SELECTED_PRODUCT = "Payload.SelectedProductPosition";
@@ -602,6 +619,8 @@ public class SupplierProductPickerActivityFragment extends Fragment implements S
         private ArrayList<ProductLite> mRemainingProducts;
         //The List of Products selected by the Supplier for selling
         private ArrayList<ProductLite> mSelectedProducts;
+        //Boolean that indicates whether the search results are shown in place of the remaining Products
+        private boolean mShowingSearchResults;
 
         /**
          * Constructor of {@link ProductListAdapter}
@@ -731,103 +750,8 @@ public class SupplierProductPickerActivityFragment extends Fragment implements S
         }
 
         /**
-         * <p>Returns a filter that can be used to constrain data with a filtering
-         * pattern.</p>
-         * <p>
-         * <p>This method is usually implemented by {@link Adapter}
-         * classes.</p>
-         *
-         * @return a filter used to constrain data
-         */
-        @Override
-        public Filter getFilter() {
-            //Defining and Returning a New Custom Filter
-            return new Filter() {
-
-                /**
-                 * <p>Invoked in a worker thread to filter the data according to the
-                 * constraint. Subclasses must implement this method to perform the
-                 * filtering operation. Results computed by the filtering operation
-                 * must be returned as a {@link android.widget.Filter.FilterResults} that
-                 * will then be published in the UI thread through
-                 * {@link #publishResults(CharSequence,
-                 * android.widget.Filter.FilterResults)}.</p>
-                 *
-                 * <p><strong>Contract:</strong> When the constraint is null, the original
-                 * data must be restored.</p>
-                 *
-                 * @param constraint the constraint used to filter the data
-                 * @return the results of the filtering operation
-                 *
-                 * @see #filter(CharSequence, android.widget.Filter.FilterListener)
-                 * @see #publishResults(CharSequence, android.widget.Filter.FilterResults)
-                 * @see android.widget.Filter.FilterResults
-                 */
-                @Override
-                protected FilterResults performFiltering(CharSequence constraint) {
-                    //Holds the results of the Filtering operation
-                    FilterResults filterResults = new FilterResults();
-
-                    if (TextUtils.isEmpty(constraint)) {
-                        //When the constraint filter is absent, pass in the original unfiltered data
-                        filterResults.values = mRemainingProducts;
-                        filterResults.count = mRemainingProducts.size();
-                    } else {
-                        //When the constraint filter is present
-
-                        //Trimming the constraint passed
-                        constraint = constraint.toString().trim();
-
-                        //Initializing an ArrayList of Products to store the Products matching the constraint
-                        ArrayList<ProductLite> filteredProductList = new ArrayList<>();
-                        //Iterating over the original unfiltered data to build the filtered list
-                        for (ProductLite product : mRemainingProducts) {
-                            //Get the Product Name
-                            String productName = product.getName();
-                            //Get the Product SKU
-                            String productSku = product.getSku();
-                            //Get the Category
-                            String category = product.getCategory();
-
-                            if (productName.contains(constraint) || productSku.contains(constraint)
-                                    || category.contains(constraint)) {
-                                //When the constraint is present in the Name/SKU/Category,
-                                //add the Product to the filtered list
-                                filteredProductList.add(product);
-                            }
-                        }
-                        //Load the filtered list built
-                        filterResults.values = filteredProductList;
-                        filterResults.count = filteredProductList.size();
-                    }
-                    //Returning the results of the filtering operation
-                    return filterResults;
-                }
-
-                /**
-                 * <p>Invoked in the UI thread to publish the filtering results in the
-                 * user interface. Subclasses must implement this method to display the
-                 * results computed in {@link #performFiltering}.</p>
-                 *
-                 * @param constraint the constraint used to filter the data
-                 * @param results the results of the filtering operation
-                 *
-                 * @see #filter(CharSequence, android.widget.Filter.FilterListener)
-                 * @see #performFiltering(CharSequence)
-                 * @see android.widget.Filter.FilterResults
-                 */
-                @Override
-                protected void publishResults(CharSequence constraint, FilterResults results) {
-                    //Casting the results into a List of Products
-                    ArrayList<ProductLite> filteredProductList = (ArrayList<ProductLite>) results.values;
-                    //Submitting the list to be loaded
-                    submitList(filteredProductList);
-                }
-            };
-        }
-
-        /**
-         * Method that submits the data to the Adapter.
+         * Method that submits the data to the Adapter. While the search results are shown,
+         * the data is loaded only when the search results are cleared.
          *
          * @param remainingProducts The List of Products {@link ProductLite} to be displayed. This is the data of the Adapter.
          * @param selectedProducts  The List of Products {@link ProductLite} selected by the Supplier if any. Can be {@code null}.
@@ -846,7 +770,33 @@ public class SupplierProductPickerActivityFragment extends Fragment implements S
 
             //Load the list of products to be shown
             mRemainingProducts = remainingProducts;
-            //Submitting the list to be loaded
+            if (!mShowingSearchResults) {
+                //Submitting the list to be loaded, when the search results are not being shown.
+                //Otherwise, the list will be loaded when the search results are cleared.
+                submitList(mRemainingProducts);
+            }
+        }
+
+        /**
+         * Method that submits the search results to the Adapter, to be displayed in place of
+         * the list of remaining Products.
+         *
+         * @param searchResults The List of Products {@link ProductLite} matching the search query executed.
+         */
+        void submitSearchResults(ArrayList<ProductLite> searchResults) {
+            //Marking that the search results are being shown
+            mShowingSearchResults = true;
+            //Submitting the search results to be loaded
+            submitList(searchResults);
+        }
+
+        /**
+         * Method that clears the search results displayed, and restores the list of remaining Products.
+         */
+        void clearSearchResults() {
+            //Marking that the search results are no longer shown
+            mShowingSearchResults = false;
+            //Submitting the list of remaining products to be loaded
             submitList(mRemainingProducts);
         }
 
@@ -899,6 +849,32 @@ public class SupplierProductPickerActivityFragment extends Fragment implements S
             mActionsListener.onItemClicked(position);
         }
 
+        /**
+         * Method that returns the Image URL of the item at the {@code position}
+         *
+         * @param position The position of the item in the List
+         * @return String containing the Image URL of the item if any; otherwise {@code null}
+         */
+        @Nullable
+        @Override
+        public String getImageUrl(int position) {
+            //Returning the Default Image of the Product at the position if valid
+            return (position >= 0 && position < getItemCount()) ? getItem(position).getDefaultImageUri() : null;
+        }
+
+        /**
+         * Called when a view created by this adapter has been recycled. This cancels the pending
+         * download of the Product Photo of the recycled item if any.
+         *
+         * @param holder The ViewHolder for the view being recycled
+         */
+        @Override
+        public void onViewRecycled(@NonNull ViewHolder holder) {
+            super.onViewRecycled(holder);
+            //Cancelling the pending download of the Product Photo
+            ImageRequestEngine.getInstance(holder.itemView.getContext()).cancelRequest(holder.mImageViewProductPhoto);
+        }
+
         /**
          * ViewHolder class for caching View components of the template item view
          * 'R.layout.item_supplier_product_picker'
@@ -947,10 +923,9 @@ public class SupplierProductPickerActivityFragment extends Fragment implements S
                 mTextViewProductSku.setText(productLite.getSku());
                 //Set Barcode typeface for the SKU
                 mTextViewProductSku.setTypeface(mProductSkuTypeface);
-                //Download and Bind the Product Photo at the position
-                ImageDownloaderFragment.newInstance(
-                        ((FragmentActivity) mImageViewProductPhoto.getContext()).getSupportFragmentManager(), position)
-                        .executeAndUpdate(mImageViewProductPhoto, productLite.getDefaultImageUri(), position);
+                //Download and Bind the Product Photo
+                ImageRequestEngine.getInstance(mImageViewProductPhoto.getContext())
+                        .executeAndUpdate(mImageViewProductPhoto, productLite.getDefaultImageUri(), null, null);
                 //Bind the Product Category
                 mTextViewProductCategory.setText(productLite.getCategory());
             }
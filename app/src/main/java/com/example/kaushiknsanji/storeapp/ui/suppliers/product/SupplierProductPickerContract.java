@@ -19,7 +19,6 @@ package com.example.kaushiknsanji.storeapp.ui.suppliers.product;
 import android.support.annotation.NonNull;
 import android.support.annotation.Nullable;
 import android.support.annotation.StringRes;
-import android.widget.Filter;
 
 import com.example.kaushiknsanji.storeapp.data.local.models.ProductLite;
 import com.example.kaushiknsanji.storeapp.ui.BasePresenter;
@@ -89,20 +88,19 @@ public interface SupplierProductPickerContract {
                                  @Nullable ArrayList<ProductLite> selectedProducts);
 
         /**
-         * Method invoked to filter the Product List shown by the Adapter, for the Product Name/SKU/Category
-         * passed in the Search Query {@code searchQueryStr}
+         * Method invoked to show the list of Products {@link ProductLite} matching the Search Query
+         * executed, in place of the list of remaining Products displayed by the Adapter.
          *
-         * @param searchQueryStr The Product Name/SKU/Category to filter in the Product List
-         * @param filterListener A listener notified upon completion of the operation
+         * @param searchResults List of Products {@link ProductLite} matching the Search Query,
+         *                      that can be picked.
          */
-        void filterAdapterData(String searchQueryStr, Filter.FilterListener filterListener);
+        void submitSearchResults(ArrayList<ProductLite> searchResults);
 
         /**
-         * Method invoked to clear the filter applied on the Adapter of the RecyclerView
-         *
-         * @param filterListener A listener notified upon completion of the operation
+         * Method invoked to clear the search results shown, and restore the list of remaining Products
+         * displayed by the Adapter.
          */
-        void clearAdapterFilter(Filter.FilterListener filterListener);
+        void clearSearchResults();
 
         /**
          * Method invoked by the Presenter to display the Discard dialog,
@@ -117,18 +115,26 @@ public interface SupplierProductPickerContract {
     interface Presenter extends BasePresenter {
 
         /**
-         * Method that filters the Product List shown, for the Product Name/SKU/Category
-         * passed in the Search Query {@code searchQueryStr}
+         * Method that searches the Products by the Product Name/SKU/Category
+         * passed in the Search Query {@code searchQueryStr}, and shows the Products found
+         * in place of the Product List shown.
          *
-         * @param searchQueryStr The Product Name/SKU/Category to filter in the Product List
+         * @param searchQueryStr The Product Name/SKU/Category to search for
          */
         void filterResults(String searchQueryStr);
 
         /**
-         * Method that clears the filter applied on the Product List shown.
+         * Method that clears the search results shown, and restores the Product List.
          */
         void clearFilter();
 
+        /**
+         * Method invoked by the View when the User scrolls close to the end of the List of Products
+         * displayed, to load and append the next page of the Products to pick, or the next page of
+         * the search results when a search is in progress.
+         */
+        void loadMoreProducts();
+
         /**
          * Method that loads a list of Products {@link ProductLite} available in the database
          * and publishes the remaining products list to the View that can be picked
@@ -137,8 +143,8 @@ public interface SupplierProductPickerContract {
          * @param registeredProducts List of Products {@link ProductLite} already
          *                           picked by the Supplier for selling.
          * @param remainingProducts  List of remaining Products {@link ProductLite} that can
-         *                           be picked. When {@code null} products will be loaded from the
-         *                           database and the remaining list will be obtained accordingly.
+         *                           be picked. When {@code null} the first page of products will be loaded
+         *                           from the database and the remaining list will be obtained accordingly.
          * @param selectedProducts   List of Products {@link ProductLite} that were currently selected if any.
          */
         void loadProductsToPick(ArrayList<ProductLite> registeredProducts,
@@ -186,5 +192,11 @@ public interface SupplierProductPickerContract {
          * Method that updates the Calling Activity that the operation was aborted.
          */
         void doCancel();
+
+        /**
+         * Method invoked when the View is about to be destroyed.
+         * This method should release any critical resources held by the Presenter.
+         */
+        void releaseResources();
     }
 }
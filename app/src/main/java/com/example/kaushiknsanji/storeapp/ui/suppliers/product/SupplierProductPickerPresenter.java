@@ -22,8 +22,11 @@ import android.support.annotation.Nullable;
 import com.example.kaushiknsanji.storeapp.R;
 import com.example.kaushiknsanji.storeapp.data.DataRepository;
 import com.example.kaushiknsanji.storeapp.data.StoreRepository;
+import com.example.kaushiknsanji.storeapp.data.local.LoaderProvider;
 import com.example.kaushiknsanji.storeapp.data.local.models.ProductLite;
 import com.example.kaushiknsanji.storeapp.ui.BaseView;
+import com.example.kaushiknsanji.storeapp.ui.common.KeysetPagingHelper;
+import com.example.kaushiknsanji.storeapp.utils.TaskHandleGroup;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -33,7 +36,8 @@ import java.util.concurrent.atomic.AtomicBoolean;
  * The Presenter class that implements {@link SupplierProductPickerContract.Presenter} on the lines of
  * Model-View-Presenter architecture. This Presenter interfaces with the App repository {@link StoreRepository}
  * to load a list of Products available to be picked for the Supplier to sell, and updates the same to
- * the View {@link SupplierProductPickerActivityFragment} to load and display it.
+ * the View {@link SupplierProductPickerActivityFragment} to load and display it. The Products and
+ * the search results are loaded a page at a time, as the User scrolls towards the end of the List.
  *
  * @author Kaushik N Sanji
  */
@@ -42,10 +46,16 @@ public class SupplierProductPickerPresenter implements SupplierProductPickerCont
     //Constant used for Logs
     private static final String LOG_TAG = SupplierProductPickerPresenter.class.getSimpleName();
 
+    //The number of Products in a page of the List of Products and the search results
+    private static final int PAGE_SIZE = LoaderProvider.LIST_PAGE_SIZE;
+
     //Instance of the App Repository
     @NonNull
     private final StoreRepository mStoreRepository;
 
+    //Handles of the pending tasks submitted to the Repository, cancelled when the View is destroyed
+    private final TaskHandleGroup mTaskHandles = new TaskHandleGroup();
+
     //The View Interface of this Presenter
     @NonNull
     private final SupplierProductPickerContract.View mSupplierProductPickerView;
@@ -65,6 +75,29 @@ public class SupplierProductPickerPresenter implements SupplierProductPickerCont
     //Stores the number of products that were currently selected for the Supplier to sell
     private int mCountOfProductsSelected;
 
+    //Stores the List of Products already picked by the Supplier for selling,
+    //which are excluded from the search results
+    private ArrayList<ProductLite> mRegisteredProducts;
+
+    //Holds the List of remaining Products displayed, and appends the further pages of Products to pick
+    private final KeysetPagingHelper<ProductLite> mProductsPager;
+
+    //Stores the number of Search requests made, used for discarding the results of
+    //the previous Search requests that complete after the latest one
+    private int mSearchRequestCount;
+
+    //The Search Query of the search results shown if any; otherwise null
+    private String mSearchQueryStr;
+
+    //The number of search results requested, which grows by a page as the User scrolls the search results
+    private int mSearchResultsLimit;
+
+    //Boolean that indicates whether there are further pages of the search results
+    private boolean mHasMoreSearchResults;
+
+    //Boolean that indicates whether a Search request is in progress
+    private boolean mSearchInProgress;
+
     /**
      * Constructor of {@link SupplierProductPickerPresenter}
      *
@@ -88,6 +121,12 @@ public class SupplierProductPickerPresenter implements SupplierProductPickerCont
         mSupplierProductPickerMultiSelectListener = multiSelectListener;
         mSupplierProductPickerSearchActionsListener = searchActionsListener;
 
+        //Initializing the helper that appends the further pages of Products to pick,
+        //excluding the Products already picked by the Supplier
+        mProductsPager = new KeysetPagingHelper<>(mTaskHandles, PAGE_SIZE,
+                ProductLite::getSku, mStoreRepository::getProductsPage);
+        mProductsPager.setItemFilter(productLite -> mRegisteredProducts == null || !mRegisteredProducts.contains(productLite));
+
         //Registering the View with this Presenter
         mSupplierProductPickerView.setPresenter(this);
     }
@@ -102,37 +141,167 @@ public class SupplierProductPickerPresenter implements SupplierProductPickerCont
     }
 
     /**
-     * Method that filters the Product List shown, for the Product Name/SKU/Category
-     * passed in the Search Query {@code searchQueryStr}
+     * Method invoked when the View is about to be destroyed.
+     * This method should release any critical resources held by the Presenter.
+     */
+    @Override
+    public void releaseResources() {
+        //Cancel the pending tasks submitted to the Repository
+        mTaskHandles.cancelAll();
+    }
+
+    /**
+     * Method that searches the Products by the Product Name/SKU/Category
+     * passed in the Search Query {@code searchQueryStr}, and shows the Products found
+     * in place of the Product List shown.
      *
-     * @param searchQueryStr The Product Name/SKU/Category to filter in the Product List
+     * @param searchQueryStr The Product Name/SKU/Category to search for
      */
     @Override
     public void filterResults(String searchQueryStr) {
-        //Delegating to the Adapter to filter the Product List
-        mSupplierProductPickerView.filterAdapterData(searchQueryStr, (count) -> {
-            if (count > 0) {
-                //When we have the records, ensure the empty view is hidden
-                mSupplierProductPickerView.hideEmptyView();
-            } else {
-                //When we do not have the records for the search executed,
-                //show the empty view with an appropriate message.
-                mSupplierProductPickerView.showEmptyView(R.string.supplier_product_picker_empty_search_result, searchQueryStr);
-            }
-        });
+        //Saving the Search Query
+        mSearchQueryStr = searchQueryStr;
+
+        //Number of Products already picked, which are excluded from the search results
+        int countOfRegisteredProducts = mRegisteredProducts != null ? mRegisteredProducts.size() : 0;
+
+        //Requesting the first page of the search results, along with those to be excluded
+        mSearchResultsLimit = PAGE_SIZE + countOfRegisteredProducts;
+
+        //Searching the Products for the Search Query
+        executeSearch();
+    }
+
+    /**
+     * Method that searches the Products for the Search Query {@link #mSearchQueryStr}, upto
+     * the number of search results {@link #mSearchResultsLimit} requested, and shows the Products found.
+     * The search results are ordered by their relevance to the Search Query, hence all the pages
+     * of the search results are requested each time.
+     */
+    private void executeSearch() {
+        //Generating the Id of this Search request
+        final int searchRequestId = ++mSearchRequestCount;
+        //Reading the Search Query and the number of search results requested
+        final String searchQueryStr = mSearchQueryStr;
+        final int searchResultsLimit = mSearchResultsLimit;
+
+        //Marking that a Search request is in progress
+        mSearchInProgress = true;
+
+        //Searching the Products for the Search Query via the Repository
+        mTaskHandles.add(mStoreRepository.searchProducts(searchQueryStr, searchResultsLimit,
+                new DataRepository.GetQueryCallback<List<ProductLite>>() {
+                    /**
+                     * Method invoked when the results are obtained
+                     * for the query executed.
+                     *
+                     * @param products The List of Products {@link ProductLite} matching the Search Query.
+                     */
+                    @Override
+                    public void onResults(List<ProductLite> products) {
+                        if (searchRequestId != mSearchRequestCount) {
+                            //Ignoring the results when there is a later Search request or the Search was cleared
+                            return;
+                        }
+
+                        //Marking that the Search request is complete
+                        mSearchInProgress = false;
+                        //There are further pages when as many results were found as requested
+                        mHasMoreSearchResults = products.size() >= searchResultsLimit;
+
+                        //Load the Products found
+                        ArrayList<ProductLite> searchResults = new ArrayList<>(products);
+                        if (mRegisteredProducts != null) {
+                            //Remove those that are already in the registered list of Products
+                            searchResults.removeAll(mRegisteredProducts);
+                        }
+
+                        //Show the search results
+                        showSearchResults(searchQueryStr, searchResults);
+                    }
+
+                    /**
+                     * Method invoked when there are no results
+                     * for the query executed.
+                     */
+                    @Override
+                    public void onEmpty() {
+                        if (searchRequestId != mSearchRequestCount) {
+                            //Ignoring the results when there is a later Search request or the Search was cleared
+                            return;
+                        }
+
+                        //Marking that the Search request is complete, with no further pages
+                        mSearchInProgress = false;
+                        mHasMoreSearchResults = false;
+
+                        //Show the empty search results
+                        showSearchResults(searchQueryStr, new ArrayList<>());
+                    }
+                }));
+    }
+
+    /**
+     * Method that shows the Products found {@code searchResults} for the Search Query
+     * {@code searchQueryStr}, or the empty view when none were found.
+     *
+     * @param searchQueryStr The Product Name/SKU/Category searched for
+     * @param searchResults  The List of Products {@link ProductLite} found, that can be picked.
+     */
+    private void showSearchResults(String searchQueryStr, ArrayList<ProductLite> searchResults) {
+        //Submitting the search results to the View
+        mSupplierProductPickerView.submitSearchResults(searchResults);
+
+        if (searchResults.size() > 0) {
+            //When we have the records, ensure the empty view is hidden
+            mSupplierProductPickerView.hideEmptyView();
+        } else {
+            //When we do not have the records for the search executed,
+            //show the empty view with an appropriate message.
+            mSupplierProductPickerView.showEmptyView(R.string.supplier_product_picker_empty_search_result, searchQueryStr);
+        }
     }
 
     /**
-     * Method that clears the filter applied on the Product List shown.
+     * Method that clears the search results shown, and restores the Product List.
      */
     @Override
     public void clearFilter() {
-        mSupplierProductPickerView.clearAdapterFilter((count) -> {
-            if (count > 0) {
-                //When we have the records, ensure the empty view is hidden
-                mSupplierProductPickerView.hideEmptyView();
+        //Invalidating the Search requests in progress
+        mSearchRequestCount++;
+        mSearchInProgress = false;
+        mSearchQueryStr = null;
+
+        //Restoring the Product List shown
+        mSupplierProductPickerView.clearSearchResults();
+
+        //Search is enabled only when there are Products to pick,
+        //hence ensure the empty view is hidden
+        mSupplierProductPickerView.hideEmptyView();
+    }
+
+    /**
+     * Method invoked by the View when the User scrolls close to the end of the List of Products
+     * displayed, to load and append the next page of the Products to pick, or the next page of
+     * the search results when a search is in progress.
+     */
+    @Override
+    public void loadMoreProducts() {
+        if (mSearchQueryStr != null) {
+            //When the search results are shown
+
+            if (mSearchInProgress || !mHasMoreSearchResults) {
+                //Returning when a Search request is in progress or when there are no further pages
+                return;
             }
-        });
+
+            //Requesting the next page of the search results
+            mSearchResultsLimit += PAGE_SIZE;
+            executeSearch();
+        } else {
+            //When the remaining Products are shown, append the next page of Products to pick
+            mProductsPager.loadMore(this::onProductsToPickLoaded);
+        }
     }
 
     /**
@@ -143,8 +312,8 @@ public class SupplierProductPickerPresenter implements SupplierProductPickerCont
      * @param registeredProducts List of Products {@link ProductLite} already
      *                           picked by the Supplier for selling.
      * @param remainingProducts  List of remaining Products {@link ProductLite} that can
-     *                           be picked. When {@code null} products will be loaded from the
-     *                           database and the remaining list will be obtained accordingly.
+     *                           be picked. When {@code null} the first page of products will be loaded
+     *                           from the database and the remaining list will be obtained accordingly.
      * @param selectedProducts   List of Products {@link ProductLite} that were currently selected if any.
      */
     @Override
@@ -152,12 +321,18 @@ public class SupplierProductPickerPresenter implements SupplierProductPickerCont
                                    @Nullable ArrayList<ProductLite> remainingProducts,
                                    @Nullable ArrayList<ProductLite> selectedProducts) {
 
+        //Saving the registered list of Products, to exclude them from the search results
+        mRegisteredProducts = registeredProducts;
+
         if (mIsLoadProductsCalled.compareAndSet(false, true)) {
             //Triggering only once
 
             if (remainingProducts != null) {
                 //When we have the remaining products list
 
+                //Restoring the remaining products, to append the further pages after them
+                mProductsPager.restoreItems(remainingProducts);
+
                 //check remaining products list size and then submit
                 if (remainingProducts.size() > 0) {
                     //When we previously had determined some products available to pick
@@ -186,41 +361,20 @@ public class SupplierProductPickerPresenter implements SupplierProductPickerCont
                 //Display progress indicator
                 mSupplierProductPickerView.showProgressIndicator(R.string.supplier_product_picker_status_loading_products);
 
-                //Retrieving the entire list of Products (along with their details) configured via the Repository
-                mStoreRepository.getShortProductInfoForProducts(null, new DataRepository.GetQueryCallback<List<ProductLite>>() {
+                //Retrieving the first page of Products configured via the Repository
+                mTaskHandles.add(mStoreRepository.getProductsPage(null, PAGE_SIZE, new DataRepository.GetQueryCallback<List<ProductLite>>() {
                     /**
                      * Method invoked when the results are obtained
                      * for the query executed.
                      *
-                     * @param products The Entire List of Products {@link ProductLite} data configured in the database.
+                     * @param products The first page of Products {@link ProductLite} configured in the database.
                      */
                     @Override
                     public void onResults(List<ProductLite> products) {
-                        //Load the Products list
-                        ArrayList<ProductLite> allProducts = new ArrayList<>(products);
-                        //Remove those that are already in the registered list of Products,
-                        //to get the remaining list of products available to pick
-                        allProducts.removeAll(registeredProducts);
-
-                        //check remaining products size and then submit
-                        if (allProducts.size() > 0) {
-                            //When we have found some products available to pick
-
-                            //Hide the Empty View and submit the data to the Adapter of the RecyclerView
-                            mSupplierProductPickerView.hideEmptyView();
-                            mSupplierProductPickerView.submitDataToAdapter(allProducts, null);
-                        } else {
-                            //When all products are already picked/registered for sell
-
-                            //Show the Empty View with the appropriate reason
-                            mSupplierProductPickerView.showEmptyView(R.string.supplier_product_picker_list_empty_all_picked);
-
-                            //Delegate to the listener to disable the Search
-                            mSupplierProductPickerSearchActionsListener.disableSearch();
-                        }
-
-                        //Hide progress indicator
-                        mSupplierProductPickerView.hideProgressIndicator();
+                        //Load the first page, excluding the Products already registered
+                        mProductsPager.setFirstPage(products);
+                        //Show the remaining list of products available to pick
+                        onProductsToPickLoaded(mProductsPager.getItems());
                     }
 
                     /**
@@ -235,12 +389,49 @@ public class SupplierProductPickerPresenter implements SupplierProductPickerCont
                         //Show the Empty View with a message to indicate the user to configure the Products first
                         mSupplierProductPickerView.showEmptyView(R.string.supplier_product_picker_list_empty_no_product);
                     }
-                });
+                }));
             }
         }
 
     }
 
+    /**
+     * Method invoked when a page of Products is loaded, to show the remaining list of Products
+     * {@code remainingProducts} available to pick. When all the Products loaded so far are
+     * already registered, the next page is loaded until some Products are found or there are no further pages.
+     *
+     * @param remainingProducts List of remaining Products {@link ProductLite} loaded so far, that can be picked.
+     */
+    private void onProductsToPickLoaded(ArrayList<ProductLite> remainingProducts) {
+        if (remainingProducts.size() > 0) {
+            //When we have found some products available to pick
+
+            if (mSearchQueryStr == null) {
+                //Hide the Empty View when the search results are not shown
+                mSupplierProductPickerView.hideEmptyView();
+            }
+            //Submit the data to the Adapter of the RecyclerView
+            mSupplierProductPickerView.submitDataToAdapter(remainingProducts, null);
+
+            //Hide progress indicator
+            mSupplierProductPickerView.hideProgressIndicator();
+        } else if (mProductsPager.hasMore()) {
+            //When all products loaded so far are already picked, load the next page
+            mProductsPager.loadMore(this::onProductsToPickLoaded);
+        } else {
+            //When all products are already picked/registered for sell
+
+            //Hide progress indicator
+            mSupplierProductPickerView.hideProgressIndicator();
+
+            //Show the Empty View with the appropriate reason
+            mSupplierProductPickerView.showEmptyView(R.string.supplier_product_picker_list_empty_all_picked);
+
+            //Delegate to the listener to disable the Search
+            mSupplierProductPickerSearchActionsListener.disableSearch();
+        }
+    }
+
     /**
      * Method that displays the number of Products {@code countOfProductsSelected} selected
      * for the Supplier to sell.
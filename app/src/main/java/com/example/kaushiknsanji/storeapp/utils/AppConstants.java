@@ -42,6 +42,27 @@ public final class AppConstants {
     //Constant for Logging Stetho
     public static final boolean LOG_STETHO = BuildConfig.LOG_STETHO;
 
+    //Constant for Logging the statistics of the Caches on memory trim
+    public static final boolean LOG_CACHE_STATS = BuildConfig.LOG_CACHE_STATS;
+
+    //Constant for enabling the Write-Ahead Logging of the database
+    public static final boolean ENABLE_DB_WAL = BuildConfig.ENABLE_DB_WAL;
+
+    //Constant for the number of threads reading the database concurrently
+    public static final int DB_READ_POOL_SIZE = BuildConfig.DB_READ_POOL_SIZE;
+
+    //Constant for the number of threads for the Image/File I/O
+    public static final int FILE_IO_POOL_SIZE = BuildConfig.FILE_IO_POOL_SIZE;
+
+    //Constant for enabling the Repository's cache of Products, Suppliers and their Sales info
+    public static final boolean ENABLE_ENTITY_CACHE = BuildConfig.ENABLE_ENTITY_CACHE;
+
+    //Constant for the number of Entities of each type held in the Repository's cache
+    public static final int ENTITY_CACHE_SIZE = BuildConfig.ENTITY_CACHE_SIZE;
+
+    //Constant for the size in bytes of the memory-mapped arena of the encoded Thumbnails
+    public static final int THUMBNAIL_ARENA_SIZE = BuildConfig.THUMBNAIL_ARENA_SIZE;
+
     //Constant used for the CursorLoader to load the list of Products from the database
     public static final int PRODUCTS_LOADER = 1;
 
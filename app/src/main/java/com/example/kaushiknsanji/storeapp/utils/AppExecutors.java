@@ -18,10 +18,23 @@ package com.example.kaushiknsanji.storeapp.utils;
 
 import android.os.Handler;
 import android.os.Looper;
+import android.os.Process;
+import android.support.annotation.IntDef;
 import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
 
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executor;
 import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Global executor pools for whole application.
@@ -29,35 +42,76 @@ import java.util.concurrent.Executors;
  * Grouping tasks like this avoids the effect of task starvation
  * (Example: Disk reads do not need to wait behind webservice requests)
  * </p>
+ * <p>
+ * Database reads run concurrently on a pool of threads, while database writes are
+ * serialized on a single thread to preserve their order. Image and File I/O run on their
+ * own bounded pool, so that a slow Image save does not hold up the database operations.
+ * </p>
+ * <p>
+ * Database reads are queued by their priority, so that the reads blocking the UI are picked
+ * ahead of the reads for the background work. Reads of the same priority run in the order submitted.
+ * </p>
  *
  * @author Kaushik N Sanji
  */
 public final class AppExecutors {
 
+    //Constants of the priorities of the Database reads, in the order of their execution
+    public static final int PRIORITY_USER_BLOCKING = 0;
+    public static final int PRIORITY_DEFAULT = 1;
+    //Reserved for the maintenance reads and prefetches that nothing on screen is waiting on
+    public static final int PRIORITY_BACKGROUND = 2;
+
     //Singleton instance
     private static volatile AppExecutors INSTANCE;
 
+    //Pool of the Database reads, queued by their priority
+    private final ThreadPoolExecutor dbReadPool;
+    //Sequence number of the Database reads submitted, to run the reads of the same priority in order
+    private final AtomicLong dbReadSequence = new AtomicLong();
+
     //Executors for various needs
-    private final Executor diskIO;
+    private final Executor dbRead;
+    private final Executor dbWrite;
+    private final Executor fileIO;
     private final Executor mainThread;
 
     /**
      * Private Constructor to avoid direct instantiation of {@link AppExecutors}
      *
-     * @param diskIO     Executor for database/disk operations
+     * @param dbReadPool Thread Pool for database read operations, queued by their priority
+     * @param dbWrite    Executor for database write operations
+     * @param fileIO     Executor for Image/File operations
      * @param mainThread Executor for running task on UI Thread
      */
-    private AppExecutors(Executor diskIO, Executor mainThread) {
-        this.diskIO = diskIO;
+    private AppExecutors(ThreadPoolExecutor dbReadPool, Executor dbWrite, Executor fileIO, Executor mainThread) {
+        this.dbReadPool = dbReadPool;
+        //Database reads submitted without a priority run at the default priority
+        this.dbRead = command -> executeDbRead(PRIORITY_DEFAULT, null, command);
+        this.dbWrite = dbWrite;
+        this.fileIO = fileIO;
         this.mainThread = mainThread;
     }
 
     /**
-     * Singleton Constructor for {@link AppExecutors}
+     * Singleton Constructor for {@link AppExecutors}, with the pool sizes
+     * {@link AppConstants#DB_READ_POOL_SIZE} and {@link AppConstants#FILE_IO_POOL_SIZE}
      *
      * @return New or existing Instance of {@link AppExecutors}
      */
     public static AppExecutors getInstance() {
+        return getInstance(AppConstants.DB_READ_POOL_SIZE, AppConstants.FILE_IO_POOL_SIZE);
+    }
+
+    /**
+     * Singleton Constructor for {@link AppExecutors}. The pool sizes are applied only
+     * when the instance is created.
+     *
+     * @param dbReadPoolSize The number of threads reading the database concurrently
+     * @param fileIOPoolSize The number of threads for the Image/File operations
+     * @return New or existing Instance of {@link AppExecutors}
+     */
+    public static AppExecutors getInstance(int dbReadPoolSize, int fileIOPoolSize) {
         if (INSTANCE == null) {
             //When instance is not available
             synchronized (AppExecutors.class) {
@@ -65,8 +119,16 @@ public final class AppExecutors {
                 if (INSTANCE == null) {
                     //When there is no instance, create a new one
                     INSTANCE = new AppExecutors(
-                            //Single Thread Executor for Database/Disk operations
-                            Executors.newSingleThreadExecutor(),
+                            //Fixed Thread Pool for Database reads, queued by their priority
+                            new ThreadPoolExecutor(Math.max(1, dbReadPoolSize), Math.max(1, dbReadPoolSize),
+                                    0L, TimeUnit.MILLISECONDS,
+                                    new PriorityBlockingQueue<>(),
+                                    new NamedThreadFactory("StoreDbReadThread-")),
+                            //Single Thread Executor for Database writes
+                            Executors.newSingleThreadExecutor(new NamedThreadFactory("StoreDbWriteThread-")),
+                            //Fixed Thread Pool Executor for Image/File operations
+                            Executors.newFixedThreadPool(Math.max(1, fileIOPoolSize),
+                                    new NamedThreadFactory("StoreFileIOThread-")),
                             //MainThreadExecutor for UI Thread
                             new MainThreadExecutor()
                     );
@@ -78,12 +140,71 @@ public final class AppExecutors {
     }
 
     /**
-     * Method that returns the Executor for Database/Disk operations
+     * Method that returns the Executor for Database read operations, which
+     * run concurrently with each other at the {@link #PRIORITY_DEFAULT}
      *
-     * @return Executor for Database/Disk operations
+     * @return Executor for Database read operations
      */
-    public Executor getDiskIO() {
-        return diskIO;
+    public Executor getDbRead() {
+        return dbRead;
+    }
+
+    /**
+     * Method that executes the Database read operation {@code command} at the {@code priority}
+     * on the pool of Database read threads, and binds it to the {@code taskHandle} if any, so that
+     * it can be cancelled by the caller before it starts.
+     *
+     * @param priority   The {@link TaskPriority} of the Database read
+     * @param taskHandle The {@link TaskHandle} to bind the Database read to, if any
+     * @param command    The Database read operation to execute
+     */
+    public void executeDbRead(@TaskPriority int priority, @Nullable TaskHandle taskHandle, @NonNull Runnable command) {
+        //Wrapping the read in a task ordered by its priority
+        PrioritizedTask task = new PrioritizedTask(command, priority, dbReadSequence.getAndIncrement());
+        if (taskHandle != null) {
+            //Binding the task to the handle for cancellation
+            taskHandle.setFuture(task);
+        }
+        //Queueing the task
+        dbReadPool.execute(task);
+    }
+
+    /**
+     * Method that returns the Executor for Database write operations, which
+     * run one after the other in the order submitted
+     *
+     * @return Executor for Database write operations
+     */
+    public Executor getDbWrite() {
+        return dbWrite;
+    }
+
+    /**
+     * Method that executes the Database write operation {@code command} in the order submitted,
+     * and binds it to the {@code taskHandle} if any. The write is never cancelled once submitted, the handle
+     * only reports its completion.
+     *
+     * @param taskHandle The {@link TaskHandle} to bind the Database write to, if any
+     * @param command    The Database write operation to execute
+     */
+    public void executeDbWrite(@Nullable TaskHandle taskHandle, @NonNull Runnable command) {
+        //Wrapping the write in a task to track its completion
+        TrackedTask task = new TrackedTask(command);
+        if (taskHandle != null) {
+            //Binding the task to the handle
+            taskHandle.setFuture(task);
+        }
+        //Queueing the task
+        dbWrite.execute(task);
+    }
+
+    /**
+     * Method that returns the Executor for Image/File operations
+     *
+     * @return Executor for Image/File operations
+     */
+    public Executor getFileIO() {
+        return fileIO;
     }
 
     /**
@@ -95,6 +216,122 @@ public final class AppExecutors {
         return mainThread;
     }
 
+    /**
+     * Defines the priorities of the Database reads
+     */
+    @Retention(RetentionPolicy.SOURCE)
+    @IntDef({PRIORITY_USER_BLOCKING, PRIORITY_DEFAULT, PRIORITY_BACKGROUND})
+    public @interface TaskPriority {
+    }
+
+    /**
+     * {@link FutureTask} of a Database operation that does not hide the failure of the operation
+     */
+    private static class TrackedTask extends FutureTask<Void> {
+
+        /**
+         * Constructor of {@link TrackedTask}
+         *
+         * @param command The Database operation to execute
+         */
+        TrackedTask(Runnable command) {
+            super(command, null);
+        }
+
+        /**
+         * Invoked when the task completes or is cancelled. Rethrows the failure of the task
+         * to the uncaught exception handler of the thread, as the {@link FutureTask} would otherwise hide it.
+         */
+        @Override
+        protected void done() {
+            if (!isCancelled()) {
+                try {
+                    get();
+                } catch (InterruptedException e) {
+                    //Restoring the interrupt status
+                    Thread.currentThread().interrupt();
+                } catch (ExecutionException e) {
+                    throw new RuntimeException(e.getCause());
+                }
+            }
+        }
+    }
+
+    /**
+     * {@link FutureTask} of a Database read that is ordered by its priority, and then by
+     * the order in which it was submitted
+     */
+    private static class PrioritizedTask extends TrackedTask implements Comparable<PrioritizedTask> {
+        //The priority of the task
+        private final int priority;
+        //The sequence number of the task
+        private final long sequence;
+
+        /**
+         * Constructor of {@link PrioritizedTask}
+         *
+         * @param command  The Database read operation to execute
+         * @param priority The {@link TaskPriority} of the task
+         * @param sequence The sequence number of the task
+         */
+        PrioritizedTask(Runnable command, int priority, long sequence) {
+            super(command);
+            this.priority = priority;
+            this.sequence = sequence;
+        }
+
+        /**
+         * Compares this task with the {@code other} task for order, by their priority first
+         * and then by their sequence number.
+         *
+         * @param other The other {@link PrioritizedTask} to be compared
+         * @return A negative integer, zero, or a positive integer as this task is to run
+         * before, along with, or after the {@code other} task
+         */
+        @Override
+        public int compareTo(@NonNull PrioritizedTask other) {
+            if (priority != other.priority) {
+                return priority < other.priority ? -1 : 1;
+            }
+            return sequence < other.sequence ? -1 : (sequence == other.sequence ? 0 : 1);
+        }
+    }
+
+    /**
+     * {@link ThreadFactory} implementation that names the threads created with a prefix
+     * and a sequence number, and runs them at the background priority
+     */
+    private static class NamedThreadFactory implements ThreadFactory {
+        //The number of threads created, used for naming the threads
+        private final AtomicInteger threadCount = new AtomicInteger(1);
+        //The Name prefix of the threads
+        private final String threadNamePrefix;
+
+        /**
+         * Constructor of {@link NamedThreadFactory}
+         *
+         * @param threadNamePrefix The Name prefix of the threads
+         */
+        NamedThreadFactory(String threadNamePrefix) {
+            this.threadNamePrefix = threadNamePrefix;
+        }
+
+        /**
+         * Constructs a new {@code Thread}.
+         *
+         * @param runnable a runnable to be executed by new thread instance
+         * @return constructed thread
+         */
+        @Override
+        public Thread newThread(@NonNull Runnable runnable) {
+            return new Thread(() -> {
+                //Running at the background priority, below the UI Thread
+                Process.setThreadPriority(Process.THREAD_PRIORITY_BACKGROUND);
+                runnable.run();
+            }, threadNamePrefix + threadCount.getAndIncrement());
+        }
+    }
+
     /**
      * Executor implementation for executing tasks on Main Thread
      * using a Handler attached to the Main Looper
@@ -21,21 +21,33 @@ import android.content.Context;
 import android.content.Intent;
 import android.graphics.Bitmap;
 import android.graphics.BitmapFactory;
+import android.graphics.BitmapRegionDecoder;
+import android.graphics.Canvas;
 import android.graphics.Matrix;
+import android.graphics.Rect;
 import android.net.Uri;
+import android.os.Build;
 import android.os.Environment;
 import android.support.annotation.NonNull;
 import android.support.annotation.Nullable;
 import android.support.media.ExifInterface;
 import android.support.v4.content.ContextCompat;
 
+import com.example.kaushiknsanji.storeapp.cache.BitmapImageCache;
+import com.example.kaushiknsanji.storeapp.cache.BitmapPool;
+
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.text.SimpleDateFormat;
 import java.util.Date;
 import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 /**
  * Utility class that manages the stuff related to images and its storage.
@@ -60,6 +72,22 @@ public final class ImageStorageUtility {
     //Filename Suffix constant which is a timestamp to make the filename unique
     private static final String FILE_TIMESTAMP_PATTERN = "yyyyMMdd_HHmmss";
 
+    //The step in pixels by which the target dimensions of the decoded Images are bucketed
+    private static final int SIZE_BUCKET_STEP_PX = 64;
+
+    //The default JPEG quality of the Images saved
+    private static final int DEFAULT_SAVE_QUALITY = 90;
+
+    //The size in pixels of the tiles in which the Images are decoded for rotation when saved
+    private static final int SAVE_TILE_SIZE_PX = 512;
+
+    //The Digest algorithm used for hashing the content of the Images saved
+    private static final String CONTENT_HASH_ALGORITHM = "SHA-1";
+
+    //Pattern of the filename of the Images saved by their content hash
+    private static final Pattern CONTENT_HASH_FILE_NAME_PATTERN
+            = Pattern.compile(FILE_NAME_PREFIX + "([0-9a-f]{40})" + Pattern.quote(JPEG_FILE_EXT));
+
     /**
      * Private Constructor to avoid direct instantiation of {@link ImageStorageUtility}
      */
@@ -142,6 +170,28 @@ public final class ImageStorageUtility {
         return decodedBitmap;
     }
 
+    /**
+     * Method that returns the target width of the Optimized {@link Bitmap}, which is
+     * 50 percent of the device Window width.
+     *
+     * @param context {@link Context} to get the Window dimensions.
+     * @return The target width of the Optimized {@link Bitmap} in pixels
+     */
+    public static int getOptimizedTargetWidth(Context context) {
+        return (int) (WindowDimensionsUtility.getDisplayWindowWidth(context) * 0.5);
+    }
+
+    /**
+     * Method that returns the target height of the Optimized {@link Bitmap}, which is
+     * 50 percent of the device Window height.
+     *
+     * @param context {@link Context} to get the Window dimensions.
+     * @return The target height of the Optimized {@link Bitmap} in pixels
+     */
+    public static int getOptimizedTargetHeight(Context context) {
+        return (int) (WindowDimensionsUtility.getDisplayWindowHeight(context) * 0.5);
+    }
+
     /**
      * Method that decodes and returns an Optimized {@link Bitmap} from the file pointed to by
      * the Content URI {@code fileContentUri}.
@@ -153,13 +203,30 @@ public final class ImageStorageUtility {
      */
     @Nullable
     public static Bitmap getOptimizedBitmapFromContentUri(Context context, Uri fileContentUri) throws IOException {
+        //Decoding with the device target dimensions (Normalizing to 50 percent of the value)
+        return getOptimizedBitmapFromContentUri(context, fileContentUri,
+                getOptimizedTargetWidth(context), getOptimizedTargetHeight(context));
+    }
+
+    /**
+     * Method that decodes and returns an Optimized {@link Bitmap} from the file pointed to by
+     * the Content URI {@code fileContentUri}, scaled down for the target dimensions. The Image
+     * is decoded with a power of two sampling, and then scaled down exactly to just cover
+     * the target dimensions.
+     *
+     * @param context        {@link Context} to get the {@link ContentResolver}.
+     * @param fileContentUri The Content URI of the Image File to be decoded
+     * @param targetW        The target width in pixels
+     * @param targetH        The target height in pixels
+     * @return An Optimized {@link Bitmap} decoded from the Image file {@code fileContentUri}
+     * @throws IOException when opening and closing the stream to the Image file.
+     */
+    @Nullable
+    public static Bitmap getOptimizedBitmapFromContentUri(Context context, Uri fileContentUri,
+                                                          int targetW, int targetH) throws IOException {
         //Retrieving the ContentResolver instance
         ContentResolver contentResolver = context.getContentResolver();
 
-        //Get the device target dimensions (Normalizing to 50 percent of the value)
-        int targetW = (int) (WindowDimensionsUtility.getDisplayWindowWidth(context) * 0.5);
-        int targetH = (int) (WindowDimensionsUtility.getDisplayWindowHeight(context) * 0.5);
-
         //Creating an Instance of BitmapFactory Options to decode the dimensions of the original
         //Bitmap from the File Content URI
         BitmapFactory.Options bitmapOptions = new BitmapFactory.Options();
@@ -175,31 +242,169 @@ public final class ImageStorageUtility {
         int photoW = bitmapOptions.outWidth;
         int photoH = bitmapOptions.outHeight;
 
-        //Calculating the amount to scale down the image
-        int scaleFactor = Math.min(photoW / targetW, photoH / targetH);
+        if (photoW <= 0 || photoH <= 0) {
+            //Returning NULL when the dimensions could not be decoded, as the file is not a valid Image
+            return null;
+        }
 
-        //Decode the image using the scaling factor determined
+        //Decode the image using the power of two sampling determined for the target dimensions
         bitmapOptions.inJustDecodeBounds = false; //Decoding the Image
-        bitmapOptions.inSampleSize = scaleFactor;
+        bitmapOptions.inSampleSize = calculateInSampleSize(photoW, photoH, targetW, targetH);
+        //Decoding into a mutable Bitmap, so that it can be pooled for reuse later
+        bitmapOptions.inMutable = true;
+        //Reusing a pooled Bitmap for the sampled dimensions if any, rounding up the dimensions
+        //as the sampling of some formats rounds up
+        bitmapOptions.inBitmap = BitmapPool.getReusableBitmap(
+                (photoW + bitmapOptions.inSampleSize - 1) / bitmapOptions.inSampleSize,
+                (photoH + bitmapOptions.inSampleSize - 1) / bitmapOptions.inSampleSize,
+                bitmapOptions.inPreferredConfig,
+                bitmapOptions.inSampleSize
+        );
 
         //Stores the optimized decoded Bitmap
-        Bitmap optimizedBitmap = null;
+        Bitmap optimizedBitmap;
+        try {
+            //Decoding into Bitmap with the scaled down dimensions
+            optimizedBitmap = decodeBitmapFromContentUri(contentResolver, fileContentUri, bitmapOptions);
+        } catch (IllegalArgumentException e) {
+            if (bitmapOptions.inBitmap == null) {
+                //Propagating the failure when no pooled Bitmap was used
+                throw e;
+            }
+            //When the pooled Bitmap could not be decoded into, discard it
+            //and decode into a new Bitmap
+            bitmapOptions.inBitmap.recycle();
+            bitmapOptions.inBitmap = null;
+            optimizedBitmap = decodeBitmapFromContentUri(contentResolver, fileContentUri, bitmapOptions);
+        }
 
+        //Returning the optimized decoded Bitmap of the Image, scaled down exactly for the target dimensions
+        return (optimizedBitmap != null) ? scaleDownToCover(optimizedBitmap, targetW, targetH) : null;
+    }
+
+    /**
+     * Method that decodes the Image file pointed to by the Content URI {@code fileContentUri}
+     * with the {@code bitmapOptions} passed.
+     *
+     * @param contentResolver The {@link ContentResolver} to open the stream to the Image file
+     * @param fileContentUri  The Content URI of the Image File to be decoded
+     * @param bitmapOptions   The {@link BitmapFactory.Options} to decode with
+     * @return The {@link Bitmap} decoded; or {@code null} when the Image could not be decoded
+     * @throws IOException when opening and closing the stream to the Image file.
+     */
+    @Nullable
+    private static Bitmap decodeBitmapFromContentUri(ContentResolver contentResolver, Uri fileContentUri,
+                                                     BitmapFactory.Options bitmapOptions) throws IOException {
         //Retrieving the Stream to the file's Content URI
-        InputStream decodeBitmapInputStream = contentResolver.openInputStream(fileContentUri);
-        if (decodeBitmapInputStream != null) {
-            //When the stream is opened
-            try {
-                //Decoding into Bitmap with the scaled down dimensions
-                optimizedBitmap = BitmapFactory.decodeStream(decodeBitmapInputStream, null, bitmapOptions);
-            } finally {
-                //Closing the stream when done
-                decodeBitmapInputStream.close();
+        try (InputStream decodeBitmapInputStream = contentResolver.openInputStream(fileContentUri)) {
+            if (decodeBitmapInputStream == null) {
+                //Returning NULL when the stream could not be opened
+                return null;
             }
+            //Decoding the Bitmap from the stream
+            return BitmapFactory.decodeStream(decodeBitmapInputStream, null, bitmapOptions);
+        }
+    }
+
+    /**
+     * Method that calculates the largest power of two sampling that decodes the Image with
+     * both of its dimensions still at least as large as the target dimensions.
+     *
+     * @param photoW  The width of the original Image in pixels
+     * @param photoH  The height of the original Image in pixels
+     * @param targetW The target width in pixels
+     * @param targetH The target height in pixels
+     * @return The power of two value for {@link BitmapFactory.Options#inSampleSize}, which is 1 or more
+     */
+    private static int calculateInSampleSize(int photoW, int photoH, int targetW, int targetH) {
+        //Stores the sampling, which is 1 for no sampling
+        int inSampleSize = 1;
+        if (targetW <= 0 || targetH <= 0) {
+            //Returning no sampling when the target dimensions are not known
+            return inSampleSize;
+        }
+        //Doubling the sampling while the next sampling still covers the target dimensions
+        while ((photoW / (inSampleSize * 2)) >= targetW && (photoH / (inSampleSize * 2)) >= targetH) {
+            inSampleSize *= 2;
+        }
+        //Returning the sampling calculated
+        return inSampleSize;
+    }
+
+    /**
+     * Method that scales down the {@code bitmap} exactly such that it just covers the target dimensions,
+     * preserving its aspect ratio. This removes the excess left over by the power of two sampling.
+     * When scaled down, the {@code bitmap} is released to the {@link BitmapPool} and should no longer be used.
+     *
+     * @param bitmap  The {@link Bitmap} to be scaled down
+     * @param targetW The target width in pixels
+     * @param targetH The target height in pixels
+     * @return A new scaled down Bitmap when the {@code bitmap} is larger than required to cover
+     * the target dimensions; otherwise the {@code bitmap} itself
+     */
+    public static Bitmap scaleDownToCover(Bitmap bitmap, int targetW, int targetH) {
+        if (targetW <= 0 || targetH <= 0) {
+            //Returning the Bitmap AS-IS when the target dimensions are not known
+            return bitmap;
+        }
+
+        //Calculating the scale required to cover the target dimensions
+        float scale = Math.max((float) targetW / bitmap.getWidth(), (float) targetH / bitmap.getHeight());
+        if (scale >= 1f) {
+            //Returning the Bitmap AS-IS when it is not larger than required
+            return bitmap;
         }
 
-        //Returning the optimized decoded Bitmap of the Image
-        return optimizedBitmap;
+        //Creating the exactly scaled down Bitmap
+        Bitmap scaledBitmap = Bitmap.createScaledBitmap(bitmap,
+                Math.max(1, Math.round(bitmap.getWidth() * scale)),
+                Math.max(1, Math.round(bitmap.getHeight() * scale)),
+                true);
+        if (scaledBitmap != bitmap) {
+            //Pooling the intermediate sampled bitmap for reuse by the later decodes
+            BitmapPool.addReusableBitmap(bitmap);
+        }
+        //Returning the scaled down Bitmap
+        return scaledBitmap;
+    }
+
+    /**
+     * Method that returns the target width of the default Thumbnail of the Images, which is the
+     * size bucket of the target width of the Optimized {@link Bitmap}.
+     *
+     * @param context {@link Context} to get the Window dimensions.
+     * @return The target width of the default Thumbnail in pixels
+     */
+    public static int getThumbnailTargetWidth(Context context) {
+        return getSizeBucket(getOptimizedTargetWidth(context));
+    }
+
+    /**
+     * Method that returns the target height of the default Thumbnail of the Images, which is the
+     * size bucket of the target height of the Optimized {@link Bitmap}.
+     *
+     * @param context {@link Context} to get the Window dimensions.
+     * @return The target height of the default Thumbnail in pixels
+     */
+    public static int getThumbnailTargetHeight(Context context) {
+        return getSizeBucket(getOptimizedTargetHeight(context));
+    }
+
+    /**
+     * Method that rounds up the dimension {@code sizePx} to its size bucket, which is the
+     * next multiple of {@link #SIZE_BUCKET_STEP_PX}. Decoding and caching the Images for the size buckets
+     * instead of the exact sizes lets the Views of nearly the same size share the same Bitmap.
+     *
+     * @param sizePx The dimension in pixels
+     * @return The size bucket of the dimension in pixels
+     */
+    public static int getSizeBucket(int sizePx) {
+        if (sizePx <= 0) {
+            //Returning the smallest bucket for an unknown size
+            return SIZE_BUCKET_STEP_PX;
+        }
+        //Rounding up to the next multiple of the bucket step
+        return ((sizePx + SIZE_BUCKET_STEP_PX - 1) / SIZE_BUCKET_STEP_PX) * SIZE_BUCKET_STEP_PX;
     }
 
     /**
@@ -215,7 +420,8 @@ public final class ImageStorageUtility {
 
     /**
      * Method that saves the Image captured in the temporary Image file pointed to by the Content URI {@code fileContentUri}
-     * to a permanent file stored in the App's External Files directory determined.
+     * to a permanent file stored in the App's External Files directory determined, with the
+     * default JPEG quality {@link #DEFAULT_SAVE_QUALITY}.
      *
      * @param context        A {@link Context} to create the Output Image File, read the input
      *                       temporary Image and for preparing the Content URI of the output Image File.
@@ -225,11 +431,30 @@ public final class ImageStorageUtility {
      */
     @Nullable
     public static Uri saveImage(Context context, Uri fileContentUri) throws IOException {
+        return saveImage(context, fileContentUri, DEFAULT_SAVE_QUALITY);
+    }
+
+    /**
+     * Method that saves the Image captured in the temporary Image file pointed to by the Content URI {@code fileContentUri}
+     * to a permanent file stored in the App's External Files directory determined. The Image is
+     * decoded only once, into its orientation-corrected form, and the Thumbnail of the saved Image
+     * is written to the Disk Cache from the same decoded Image. The file is named by the SHA-1 hash
+     * of its content, so that saving the same Image again reuses the file saved previously.
+     *
+     * @param context        A {@link Context} to create the Output Image File, read the input
+     *                       temporary Image and for preparing the Content URI of the output Image File.
+     * @param fileContentUri Content URI of the Temporary Image File.
+     * @param quality        The JPEG quality (0-100) to save the Image with
+     * @return Content URI of the Image File if written successfully else {@code NULL}
+     * @throws IOException when opening and closing the stream to the temporary Image file.
+     */
+    @Nullable
+    public static Uri saveImage(Context context, Uri fileContentUri, int quality) throws IOException {
         //Creating the Output Image File
         File outputImageFile = createImageFile(context);
 
-        //Rotating the Image based on the EXIF information captured in the temporary Image File
-        Bitmap bitmap = rotateImageBasedOnExif(context, fileContentUri);
+        //Decoding the Image in its orientation based on the EXIF information captured in the temporary Image File
+        Bitmap bitmap = decodeImageBasedOnExif(context, fileContentUri);
 
         //When we have the bitmap
         if (bitmap != null) {
@@ -237,14 +462,17 @@ public final class ImageStorageUtility {
 
             //Stores the success of the write operation
             boolean writeSuccess;
+            //Stores the Digest of the content written
+            MessageDigest messageDigest = getContentDigest();
 
             //For writing the decoded Image to a File
             try (FileOutputStream fileOutputStream = new FileOutputStream(outputImageFile)) {
-                //Opening the Output Stream to the Output Image File
-                //Writing the Image to the file with 100% quality
-                bitmap.compress(Bitmap.CompressFormat.JPEG, 100, fileOutputStream);
-                //Marking the operation as successful
-                writeSuccess = true;
+                //Opening the Output Stream to the Output Image File, hashing the content
+                //while it is being written when the Digest is available
+                //Writing the Image to the file with the quality requested
+                writeSuccess = bitmap.compress(Bitmap.CompressFormat.JPEG,
+                        Math.max(0, Math.min(quality, 100)),
+                        messageDigest != null ? new DigestOutputStream(fileOutputStream, messageDigest) : fileOutputStream);
             } catch (Exception e) {
                 //Marking the operation as failure on Exception
                 writeSuccess = false;
@@ -252,14 +480,55 @@ public final class ImageStorageUtility {
 
             //When the Bitmap was written successfully to a File
             if (writeSuccess) {
-                //Add the image to the system gallery
-                addPhotoToGallery(context, outputImageFile);
+                //Stores whether the same Image was already saved previously
+                boolean duplicateImage = false;
+
+                if (messageDigest != null) {
+                    //Naming the Output Image File by the hash of its content, so that
+                    //the same Image saved again shares the same file
+                    File hashedImageFile = new File(outputImageFile.getParentFile(),
+                            FILE_NAME_PREFIX + toHexString(messageDigest.digest()) + JPEG_FILE_EXT);
+                    if (hashedImageFile.exists()) {
+                        //When the same Image was already saved, discard the Output Image File
+                        //written and reuse the file saved previously
+                        duplicateImage = outputImageFile.delete() || !outputImageFile.exists();
+                        if (duplicateImage) {
+                            outputImageFile = hashedImageFile;
+                            //Refreshing the modified time of the file reused, to keep it from being
+                            //reclaimed as orphaned before it is committed to an Item
+                            //noinspection ResultOfMethodCallIgnored
+                            outputImageFile.setLastModified(System.currentTimeMillis());
+                        }
+                    } else if (outputImageFile.renameTo(hashedImageFile)) {
+                        //When the Output Image File is renamed to its content hash
+                        outputImageFile = hashedImageFile;
+                    }
+                }
+
+                //Retrieving the Uri of the Saved image
+                Uri savedImageUri = getContentUriForImageFile(context, outputImageFile);
+
+                if (duplicateImage) {
+                    //Releasing the decoded Image as the Image file saved previously,
+                    //is already cached and added to the gallery
+                    BitmapPool.addReusableBitmap(bitmap);
+                } else {
+                    //Writing the Thumbnail of the Saved image to the Disk Cache, from the decoded Image.
+                    //The full size decoded Image is released by the scaling.
+                    int thumbnailW = getThumbnailTargetWidth(context);
+                    int thumbnailH = getThumbnailTargetHeight(context);
+                    BitmapImageCache.addBitmapToDiskCache(context, savedImageUri.toString(), thumbnailW, thumbnailH,
+                            scaleDownToCover(bitmap, thumbnailW, thumbnailH));
+
+                    //Add the image to the system gallery
+                    addPhotoToGallery(context, outputImageFile);
+                }
 
                 //Delete temporary image file
                 deleteImageFile(fileContentUri, context.getContentResolver());
 
                 //Returning the Uri of the Saved image
-                return getContentUriForImageFile(context, outputImageFile);
+                return savedImageUri;
             }
         }
 
@@ -268,8 +537,60 @@ public final class ImageStorageUtility {
     }
 
     /**
-     * Method that returns the rotated/orientation-corrected version of the Bitmap Image pointed to by the Content URI
-     * of the Image file {@code fileContentUri} based on its ExifInterface data.
+     * Method that returns the {@link MessageDigest} for hashing the content of the Images saved.
+     *
+     * @return The {@link MessageDigest} of {@link #CONTENT_HASH_ALGORITHM}; or {@code null} when
+     * the algorithm is not available, in which case the Images are saved without their content hash.
+     */
+    @Nullable
+    private static MessageDigest getContentDigest() {
+        try {
+            return MessageDigest.getInstance(CONTENT_HASH_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Method that converts the {@code bytes} to its lowercase Hexadecimal String.
+     *
+     * @param bytes The bytes to be converted
+     * @return The Hexadecimal String of the {@code bytes}
+     */
+    private static String toHexString(byte[] bytes) {
+        StringBuilder hexBuilder = new StringBuilder(bytes.length * 2);
+        for (byte value : bytes) {
+            hexBuilder.append(Character.forDigit((value >> 4) & 0xF, 16))
+                    .append(Character.forDigit(value & 0xF, 16));
+        }
+        return hexBuilder.toString();
+    }
+
+    /**
+     * Method that returns the hash of the content of the Image file pointed to by the
+     * Content URI {@code fileContentUri}, when the Image file was saved by its content hash.
+     *
+     * @param fileContentUri Content URI of the Image file saved
+     * @return String containing the hash of the content in Hexadecimal; or {@code null} when the
+     * Image file was not saved by its content hash.
+     */
+    @Nullable
+    public static String getContentHashFromImageUri(@Nullable Uri fileContentUri) {
+        if (fileContentUri == null || fileContentUri.getLastPathSegment() == null) {
+            //Returning NULL when there is no file name
+            return null;
+        }
+
+        //Reading the hash from the file name
+        Matcher matcher = CONTENT_HASH_FILE_NAME_PATTERN.matcher(fileContentUri.getLastPathSegment());
+        return matcher.matches() ? matcher.group(1) : null;
+    }
+
+    /**
+     * Method that decodes and returns the rotated/orientation-corrected version of the Bitmap Image
+     * pointed to by the Content URI of the Image file {@code fileContentUri} based on its ExifInterface data.
+     * The rotated Image is decoded in tiles directly into its rotated Bitmap, without decoding
+     * a full size copy of the Image that is not rotated.
      *
      * @param context        A {@link Context} to get the {@link ContentResolver} instance.
      * @param fileContentUri Content URI of the Input Image file.
@@ -277,55 +598,160 @@ public final class ImageStorageUtility {
      * @throws IOException when opening and closing the stream to the input Image file.
      */
     @Nullable
-    private static Bitmap rotateImageBasedOnExif(Context context, Uri fileContentUri) throws IOException {
+    private static Bitmap decodeImageBasedOnExif(Context context, Uri fileContentUri) throws IOException {
         //Retrieving the ContentResolver instance
         ContentResolver contentResolver = context.getContentResolver();
-        //Decoding the Bitmap from the Temporary Image File URI
+
+        //Reading the rotation of the Image from its EXIF information
+        int degrees = getRotationDegreesFromExif(contentResolver, fileContentUri);
+        if (degrees == 0) {
+            //For no rotation, returning the Bitmap of Temporary Image AS-IS
+            return getBitmapFromContentUri(fileContentUri, contentResolver);
+        }
+
+        //Decoding the rotated Image in tiles
+        Bitmap rotatedBitmap = decodeRotatedImageInTiles(contentResolver, fileContentUri, degrees);
+        if (rotatedBitmap != null) {
+            return rotatedBitmap;
+        }
+
+        //When the Image could not be decoded in tiles, decode the whole Image and rotate it
         Bitmap bitmap = getBitmapFromContentUri(fileContentUri, contentResolver);
+        return (bitmap != null) ? rotateImage(bitmap, degrees) : null;
+    }
+
+    /**
+     * Method that reads the clockwise rotation to be applied to the Image pointed to by the Content URI
+     * of the Image file {@code fileContentUri} based on its ExifInterface data.
+     *
+     * @param contentResolver The {@link ContentResolver} instance to open a stream to the Image file.
+     * @param fileContentUri  Content URI of the Input Image file.
+     * @return The degrees of clockwise rotation, which is one of 0, 90, 180 or 270
+     * @throws IOException when opening and closing the stream to the input Image file.
+     */
+    private static int getRotationDegreesFromExif(ContentResolver contentResolver, Uri fileContentUri) throws IOException {
+        //Opening the Stream to the Temporary Image File URI
+        try (InputStream uriInputStream = contentResolver.openInputStream(fileContentUri)) {
+            if (uriInputStream == null) {
+                //Returning no rotation when the stream could not be opened
+                return 0;
+            }
+
+            //Retrieve the ExifInterface of the Image
+            ExifInterface exifInterface = new ExifInterface(uriInputStream);
+            //Get the Orientation from the ExifInterface data
+            int orientation = exifInterface.getAttributeInt(ExifInterface.TAG_ORIENTATION, ExifInterface.ORIENTATION_NORMAL);
+
+            //Returning the rotation degree based on the Orientation determined
+            switch (orientation) {
+                case ExifInterface.ORIENTATION_ROTATE_90:
+                    //For 90 degree clockwise rotated Image
+                    return 90;
+                case ExifInterface.ORIENTATION_ROTATE_180:
+                    //For 180 degree clockwise rotated Image
+                    return 180;
+                case ExifInterface.ORIENTATION_ROTATE_270:
+                    //For 270 degree clockwise rotated Image
+                    return 270;
+                default:
+                    //For no rotation
+                    return 0;
+            }
+        }
+    }
 
-        //Returning NULL when the decoded Bitmap is NULL
-        if (bitmap == null) {
+    /**
+     * Method that decodes the Image pointed to by the Content URI of the Image file {@code fileContentUri}
+     * in tiles of {@link #SAVE_TILE_SIZE_PX}, and draws each tile rotated by the {@code degrees}
+     * into the Bitmap of the rotated Image. This requires only one full size Bitmap, unlike
+     * rotating a full size decoded Image.
+     *
+     * @param contentResolver The {@link ContentResolver} instance to open a stream to the Image file.
+     * @param fileContentUri  Content URI of the Input Image file.
+     * @param degrees         The degrees of clockwise rotation, which is one of 90, 180 or 270
+     * @return New Bitmap of the rotated Image; or {@code null} when the Image could not be decoded in tiles
+     * @throws IOException when opening and closing the stream to the input Image file.
+     */
+    @Nullable
+    private static Bitmap decodeRotatedImageInTiles(ContentResolver contentResolver, Uri fileContentUri, int degrees) throws IOException {
+        //Opening the Region Decoder on the Temporary Image File URI
+        BitmapRegionDecoder regionDecoder;
+        try (InputStream uriInputStream = contentResolver.openInputStream(fileContentUri)) {
+            if (uriInputStream == null) {
+                //Returning NULL when the stream could not be opened
+                return null;
+            }
+            regionDecoder = BitmapRegionDecoder.newInstance(uriInputStream, false);
+        } catch (IOException e) {
+            //Returning NULL when the format is not supported by the Region Decoder
             return null;
         }
 
-        //Opening the Stream to the Temporary Image File URI
-        InputStream uriInputStream = contentResolver.openInputStream(fileContentUri);
-        if (uriInputStream != null) {
-            //When the stream is opened
-            try {
-                //Retrieve the ExifInterface of the Image
-                ExifInterface exifInterface = new ExifInterface(uriInputStream);
-                //Get the Orientation from the ExifInterface data
-                int orientation = exifInterface.getAttributeInt(ExifInterface.TAG_ORIENTATION, ExifInterface.ORIENTATION_NORMAL);
-
-                //Returning the rotated Image based on the Orientation degree determined
-                switch (orientation) {
-                    case ExifInterface.ORIENTATION_ROTATE_90:
-                        //For 90 degree clockwise rotated Image
-
-                        //Returning 90 degree clockwise rotated Image
-                        return rotateImage(bitmap, 90);
-                    case ExifInterface.ORIENTATION_ROTATE_180:
-                        //For 180 degree clockwise rotated Image
-
-                        //Returning 180 degree clockwise rotated Image
-                        return rotateImage(bitmap, 180);
-                    case ExifInterface.ORIENTATION_ROTATE_270:
-                        //For 270 degree clockwise rotated Image
-
-                        //Returning 270 degree clockwise rotated Image
-                        return rotateImage(bitmap, 270);
-                    default:
-                        //For no rotation, returning the temporary bitmap image AS-IS
-                        return bitmap;
+        try {
+            //Reading the dimensions of the Image
+            int photoW = regionDecoder.getWidth();
+            int photoH = regionDecoder.getHeight();
+
+            //Creating the Bitmap of the rotated Image, whose dimensions are swapped for the quarter rotations
+            boolean isQuarterRotation = (degrees % 180) != 0;
+            Bitmap rotatedBitmap = Bitmap.createBitmap(
+                    isQuarterRotation ? photoH : photoW,
+                    isQuarterRotation ? photoW : photoH,
+                    Bitmap.Config.ARGB_8888
+            );
+
+            //Rotating the Canvas of the rotated Image about the origin, and moving the rotated Image
+            //back into the bounds of the Canvas
+            Canvas canvas = new Canvas(rotatedBitmap);
+            Matrix matrix = new Matrix();
+            matrix.setRotate(degrees);
+            switch (degrees) {
+                case 90:
+                    matrix.postTranslate(photoH, 0);
+                    break;
+                case 180:
+                    matrix.postTranslate(photoW, photoH);
+                    break;
+                default:
+                    matrix.postTranslate(0, photoW);
+            }
+            canvas.concat(matrix);
+
+            //Decoding the Image tile by tile and drawing each tile at its position
+            BitmapFactory.Options tileOptions = new BitmapFactory.Options();
+            Rect tileRect = new Rect();
+            Rect tileSrcRect = new Rect();
+            Bitmap tileBitmap = null;
+            for (int top = 0; top < photoH; top += SAVE_TILE_SIZE_PX) {
+                for (int left = 0; left < photoW; left += SAVE_TILE_SIZE_PX) {
+                    tileRect.set(left, top, Math.min(left + SAVE_TILE_SIZE_PX, photoW), Math.min(top + SAVE_TILE_SIZE_PX, photoH));
+                    if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.JELLY_BEAN) {
+                        //Reusing the Bitmap of the previous tile where supported
+                        tileOptions.inBitmap = tileBitmap;
+                    }
+                    tileBitmap = regionDecoder.decodeRegion(tileRect, tileOptions);
+                    if (tileBitmap == null) {
+                        //Returning NULL when a tile could not be decoded
+                        rotatedBitmap.recycle();
+                        return null;
+                    }
+                    //Drawing only the decoded region of the tile, as the reused Bitmap may be larger
+                    tileSrcRect.set(0, 0, tileRect.width(), tileRect.height());
+                    canvas.drawBitmap(tileBitmap, tileSrcRect, tileRect, null);
                 }
-            } finally {
-                //Closing the stream when done
-                uriInputStream.close();
             }
+
+            if (tileBitmap != null) {
+                //Purging the tile bitmap
+                tileBitmap.recycle();
+            }
+
+            //Returning the rotated Image
+            return rotatedBitmap;
+        } finally {
+            //Releasing the Region Decoder
+            regionDecoder.recycle();
         }
-        //On all else, returning the Bitmap of Temporary Image
-        return bitmap;
     }
 
     /**
@@ -67,7 +67,8 @@ public final class InjectorUtility {
      * @return Instance of {@link StoreRepository}
      */
     public static StoreRepository provideStoreRepository(Context context) {
-        return StoreRepository.getInstance(provideLocalRepository(context), provideFileRepository(context));
+        return StoreRepository.getInstance(provideLocalRepository(context), provideFileRepository(context),
+                AppExecutors.getInstance());
     }
 
 }
@@ -0,0 +1,133 @@
+/*
+ * Copyright 2018 Kaushik N. Sanji
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.example.kaushiknsanji.storeapp.utils;
+
+import android.support.annotation.NonNull;
+
+import java.util.concurrent.Future;
+
+/**
+ * Handle to a task submitted to the {@link AppExecutors}, returned to the callers so that
+ * they can cancel the task when its result is no longer required, like when the user
+ * navigates away from the screen that requested it.
+ * <p>
+ * Cancelling a handle always stops the delivery of the result to the callback of the task.
+ * A task that is cancellable is also removed from its queue when it has not started yet. Database writes
+ * are never cancellable, as they need to complete once submitted.
+ * </p>
+ *
+ * @author Kaushik N Sanji
+ */
+public class TaskHandle {
+
+    //Indicates whether the work of the task can be cancelled, apart from its result
+    private final boolean cancellable;
+    //Indicates whether the task was cancelled
+    private volatile boolean cancelled;
+    //The Future of the task once submitted
+    private volatile Future<?> future;
+
+    /**
+     * Private Constructor of {@link TaskHandle}
+     *
+     * @param cancellable Boolean that indicates whether the work of the task can be cancelled
+     */
+    private TaskHandle(boolean cancellable) {
+        this.cancellable = cancellable;
+    }
+
+    /**
+     * Method that creates a handle for a task whose work can be cancelled, like a Database read.
+     *
+     * @return New instance of {@link TaskHandle}
+     */
+    @NonNull
+    public static TaskHandle newCancellable() {
+        return new TaskHandle(true);
+    }
+
+    /**
+     * Method that creates a handle for a task whose work needs to complete once submitted,
+     * like a Database write. Only the delivery of its result can be cancelled.
+     *
+     * @return New instance of {@link TaskHandle}
+     */
+    @NonNull
+    public static TaskHandle newNonCancellable() {
+        return new TaskHandle(false);
+    }
+
+    /**
+     * Method that creates a handle for the {@code future} of a task already submitted,
+     * which cancels the {@code future} when cancelled.
+     *
+     * @param future The {@link Future} of the task submitted
+     * @return New instance of {@link TaskHandle}
+     */
+    @NonNull
+    public static TaskHandle forFuture(@NonNull Future<?> future) {
+        TaskHandle taskHandle = new TaskHandle(true);
+        taskHandle.setFuture(future);
+        return taskHandle;
+    }
+
+    /**
+     * Method that binds the Future of the task submitted, to this handle.
+     *
+     * @param future The {@link Future} of the task submitted
+     */
+    void setFuture(@NonNull Future<?> future) {
+        this.future = future;
+        if (cancelled && cancellable) {
+            //Cancelling the task when the handle was cancelled before the task was submitted
+            future.cancel(false);
+        }
+    }
+
+    /**
+     * Method that cancels the task. The task is removed from its queue if it is cancellable and
+     * has not started yet, and its result is no longer delivered. A task already running is
+     * not interrupted, as the database operations do not respond to interrupts.
+     */
+    public void cancel() {
+        cancelled = true;
+        Future<?> future = this.future;
+        if (cancellable && future != null) {
+            future.cancel(false);
+        }
+    }
+
+    /**
+     * Method that returns whether the task was cancelled.
+     *
+     * @return <b>TRUE</b> when the task was cancelled; <b>FALSE</b> otherwise
+     */
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    /**
+     * Method that returns whether the task has completed or was cancelled.
+     *
+     * @return <b>TRUE</b> when the task is no longer pending; <b>FALSE</b> otherwise
+     */
+    public boolean isDone() {
+        Future<?> future = this.future;
+        return cancelled || (future != null && future.isDone());
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright 2018 Kaushik N. Sanji
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.example.kaushiknsanji.storeapp.utils;
+
+import android.support.annotation.Nullable;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Class that holds the {@link TaskHandle}s of the tasks submitted by a Presenter, so that
+ * all its pending tasks can be cancelled together when its View is destroyed.
+ *
+ * @author Kaushik N Sanji
+ */
+public class TaskHandleGroup {
+
+    //The handles of the tasks that may still be pending
+    private final List<TaskHandle> mTaskHandles = new ArrayList<>();
+
+    /**
+     * Method that adds the {@code taskHandle} to the group, and removes the handles of
+     * the tasks no longer pending.
+     *
+     * @param taskHandle The {@link TaskHandle} of the task submitted
+     * @return The {@code taskHandle} added
+     */
+    public synchronized TaskHandle add(@Nullable TaskHandle taskHandle) {
+        //Removing the handles of the tasks completed or cancelled
+        Iterator<TaskHandle> taskHandleIterator = mTaskHandles.iterator();
+        while (taskHandleIterator.hasNext()) {
+            if (taskHandleIterator.next().isDone()) {
+                taskHandleIterator.remove();
+            }
+        }
+
+        if (taskHandle != null) {
+            //Adding the handle of the task submitted
+            mTaskHandles.add(taskHandle);
+        }
+
+        //Returning the handle added
+        return taskHandle;
+    }
+
+    /**
+     * Method that cancels all the pending tasks in the group.
+     */
+    public synchronized void cancelAll() {
+        for (TaskHandle taskHandle : mTaskHandles) {
+            taskHandle.cancel();
+        }
+        mTaskHandles.clear();
+    }
+}
@@ -0,0 +1,720 @@
+/*
+ * Copyright 2018 Kaushik N. Sanji
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.example.kaushiknsanji.storeapp.workers;
+
+import android.content.Context;
+import android.graphics.Bitmap;
+import android.net.Uri;
+import android.os.Handler;
+import android.os.Looper;
+import android.os.Process;
+import android.support.annotation.MainThread;
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+import android.support.annotation.WorkerThread;
+import android.text.TextUtils;
+import android.util.Log;
+import android.view.ViewTreeObserver;
+import android.widget.ImageView;
+
+import com.example.kaushiknsanji.storeapp.R;
+import com.example.kaushiknsanji.storeapp.cache.BitmapImageCache;
+import com.example.kaushiknsanji.storeapp.utils.ImageStorageUtility;
+
+import java.io.IOException;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.WeakHashMap;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Engine that downloads the Images for the file Content URIs pointing to the Images stored in the
+ * external storage, and updates them to the target ImageViews.
+ * <p>
+ * <p>Images are looked up in the {@link BitmapImageCache} first, and decoded on a bounded pool of
+ * background threads only when not present.</p>
+ * <p>Images are decoded for the size of the target ImageView, rounded up to its size bucket,
+ * and are cached per Image URL and size bucket.</p>
+ * <p>Requests for the same Image URL and size bucket are coalesced, such that the Image is decoded once for
+ * all the ImageViews requesting it.</p>
+ * <p>A new request for an ImageView cancels its previous request, and the request of an ImageView
+ * can be cancelled with {@link #cancelRequest(ImageView)} when its ViewHolder is recycled.
+ * A decode is cancelled when all of its requests are cancelled.</p>
+ * <p>Images about to be displayed can be prefetched into the Memory Cache on a low priority thread
+ * with {@link #prefetch(String, int, int)}, and the pending prefetches can be cancelled with
+ * {@link #cancelPrefetches()}. A request for an Image being prefetched shares the decode of the prefetch.</p>
+ * <p>
+ * <p>All public methods are to be called from the Main Thread.</p>
+ *
+ * @author Kaushik N Sanji
+ */
+public final class ImageRequestEngine {
+
+    //Constant used for logs
+    private static final String LOG_TAG = ImageRequestEngine.class.getSimpleName();
+    //The Name prefix of the decode threads
+    private static final String DECODE_THREAD_NAME_PREFIX = "ImageDecodeThread-";
+    //The Name prefix of the prefetch threads
+    private static final String PREFETCH_THREAD_NAME_PREFIX = "ImagePrefetchThread-";
+    //The number of decode threads, bounded to leave a core for the Main Thread
+    private static final int DECODE_POOL_SIZE = Math.max(2, Math.min(Runtime.getRuntime().availableProcessors() - 1, 4));
+    //The time in seconds for which the idle decode threads are kept alive
+    private static final long DECODE_THREAD_KEEP_ALIVE_SECONDS = 30L;
+
+    //For the Singleton instance of this
+    private static volatile ImageRequestEngine INSTANCE;
+
+    //The Application Context used for decoding
+    private final Context mAppContext;
+    //The bounded pool of decode threads
+    private final ThreadPoolExecutor mDecodeExecutor;
+    //The single low priority thread that prefetches the Images ahead of display
+    private final ThreadPoolExecutor mPrefetchExecutor;
+    //Main Thread Handler to deliver the results
+    private final Handler mMainThreadHandler = new Handler(Looper.getMainLooper());
+    //The decodes and prefetches in progress, keyed by their Image URL and size bucket (accessed only on the Main Thread)
+    private final HashMap<String, DecodeJob> mDecodeJobs = new HashMap<>();
+    //The current request of each target ImageView (accessed only on the Main Thread)
+    private final WeakHashMap<ImageView, ImageRequest> mTargetRequests = new WeakHashMap<>();
+
+    /**
+     * Private Constructor of {@link ImageRequestEngine}
+     *
+     * @param context A {@link Context} to derive the Application Context used for decoding
+     */
+    private ImageRequestEngine(@NonNull Context context) {
+        mAppContext = context.getApplicationContext();
+
+        //Initializing the decode thread pool
+        mDecodeExecutor = new ThreadPoolExecutor(
+                DECODE_POOL_SIZE,
+                DECODE_POOL_SIZE,
+                DECODE_THREAD_KEEP_ALIVE_SECONDS,
+                TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(),
+                new DecodeThreadFactory(DECODE_THREAD_NAME_PREFIX, Process.THREAD_PRIORITY_BACKGROUND)
+        );
+        //Allowing the idle threads to die when there are no decodes
+        mDecodeExecutor.allowCoreThreadTimeOut(true);
+
+        //Initializing the prefetch thread, at a priority lower than the decode threads
+        mPrefetchExecutor = new ThreadPoolExecutor(
+                1,
+                1,
+                DECODE_THREAD_KEEP_ALIVE_SECONDS,
+                TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(),
+                new DecodeThreadFactory(PREFETCH_THREAD_NAME_PREFIX, Process.THREAD_PRIORITY_LOWEST)
+        );
+        //Allowing the idle thread to die when there are no prefetches
+        mPrefetchExecutor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * Singleton Constructor of {@link ImageRequestEngine}
+     *
+     * @param context A {@link Context} to derive the Application Context used for decoding
+     * @return Instance of {@link ImageRequestEngine}
+     */
+    public static ImageRequestEngine getInstance(@NonNull Context context) {
+        if (INSTANCE == null) {
+            synchronized (ImageRequestEngine.class) {
+                if (INSTANCE == null) {
+                    //Creating the instance when not available
+                    INSTANCE = new ImageRequestEngine(context);
+                }
+            }
+        }
+        //Using the previously created instance
+        return INSTANCE;
+    }
+
+    /**
+     * Method that loads the Image from Memory Cache or downloads the Image from the URL passed
+     * if necessary, and updates it to the ImageView {@code imageView}. Any previous request of the
+     * {@code imageView} is cancelled. The Image is decoded for the size of the {@code imageView},
+     * hence the request waits for the {@code imageView} to be laid out when not yet measured.
+     *
+     * @param imageView         The ImageView Component to which the Image needs to be updated
+     * @param imageURLStr       String containing the Image URL whose Image needs to be downloaded.
+     * @param onSuccessListener Optional {@link ImageDownloaderFragment.OnSuccessListener} to receive the success event
+     * @param onFailureListener Optional {@link ImageDownloaderFragment.OnFailureListener} to receive the failure event
+     */
+    @MainThread
+    public void executeAndUpdate(@NonNull ImageView imageView, @Nullable String imageURLStr,
+                                 @Nullable ImageDownloaderFragment.OnSuccessListener onSuccessListener,
+                                 @Nullable ImageDownloaderFragment.OnFailureListener onFailureListener) {
+        //Cancelling the previous request of the ImageView if any
+        cancelRequest(imageView);
+
+        if (TextUtils.isEmpty(imageURLStr)) {
+            //When there is no Image URL, deliver the failure immediately
+            deliverFailure(imageView, onFailureListener);
+            return;
+        }
+
+        //Registering the request of the ImageView
+        ImageRequest imageRequest = new ImageRequest(imageView, imageURLStr, onSuccessListener, onFailureListener);
+        mTargetRequests.put(imageView, imageRequest);
+
+        if (imageView.getWidth() > 0 && imageView.getHeight() > 0) {
+            //When the ImageView is already laid out, start the request for its size
+            startRequest(imageView, imageRequest);
+        } else {
+            //When the ImageView is not yet laid out, reset the ImageView to the default Thumbnail Image
+            //for lazy loading and wait for its layout to start the request
+            imageView.setImageResource(R.drawable.ic_all_product_default);
+            imageRequest.mPreDrawListener = new ViewTreeObserver.OnPreDrawListener() {
+                /**
+                 * Callback method to be invoked when the view tree is about to be drawn. At this point, all
+                 * views in the tree have been measured and given a frame.
+                 *
+                 * @return Return true to proceed with the current drawing pass, or false to cancel.
+                 */
+                @Override
+                public boolean onPreDraw() {
+                    //Removing the listener as the ImageView is now laid out
+                    imageRequest.removePreDrawListener(imageView);
+                    if (mTargetRequests.get(imageView) == imageRequest) {
+                        //Starting the request when it is still the current request of the ImageView
+                        startRequest(imageView, imageRequest);
+                    }
+                    //Proceeding with the drawing pass
+                    return true;
+                }
+            };
+            imageView.getViewTreeObserver().addOnPreDrawListener(imageRequest.mPreDrawListener);
+        }
+    }
+
+    /**
+     * Method that starts the request {@code imageRequest} of the ImageView {@code imageView} for the
+     * size bucket of its dimensions, from the Memory Cache when present, or with a decode otherwise.
+     *
+     * @param imageView    The ImageView Component to which the Image needs to be updated
+     * @param imageRequest The {@link ImageRequest} of the {@code imageView}
+     */
+    @MainThread
+    private void startRequest(@NonNull ImageView imageView, @NonNull ImageRequest imageRequest) {
+        //Reading the size bucket of the ImageView, which is the target dimensions of the decode
+        imageRequest.setTargetSize(
+                ImageStorageUtility.getSizeBucket(getTargetDimension(imageView.getWidth(), ImageStorageUtility.getOptimizedTargetWidth(mAppContext))),
+                ImageStorageUtility.getSizeBucket(getTargetDimension(imageView.getHeight(), ImageStorageUtility.getOptimizedTargetHeight(mAppContext)))
+        );
+
+        //Looking up for the Image in Memory Cache for the given URL and size bucket
+        Bitmap cachedBitmap = BitmapImageCache.getBitmapFromCache(imageRequest.mCacheKeyStr);
+        if (cachedBitmap != null) {
+            //When Bitmap image was present in Memory Cache, deliver the Bitmap immediately
+            mTargetRequests.remove(imageView);
+            deliverSuccess(imageView, cachedBitmap, imageRequest.mOnSuccessListener);
+            return;
+        }
+
+        //Resetting the ImageView to the default Thumbnail Image for lazy loading
+        imageView.setImageResource(R.drawable.ic_all_product_default);
+
+        //Retrieving the decode in progress for the Image URL and size bucket if any
+        DecodeJob decodeJob = mDecodeJobs.get(imageRequest.mCacheKeyStr);
+        if (decodeJob == null) {
+            //When there is no decode in progress, start a new decode
+            decodeJob = new DecodeJob(imageRequest.mCacheKeyStr, imageRequest.mImageURLStr,
+                    imageRequest.mTargetW, imageRequest.mTargetH);
+            submitDecode(decodeJob, mDecodeExecutor);
+            mDecodeJobs.put(imageRequest.mCacheKeyStr, decodeJob);
+        } else if (decodeJob.mPrefetch) {
+            //When the Image is being prefetched, the prefetch is now decoded for display
+            decodeJob.mPrefetch = false;
+            if (!decodeJob.mStarted.get()) {
+                //When the prefetch is not yet started, move it from the low priority prefetch queue
+                //to the decode threads. The prefetch queued is then skipped, as only the first
+                //of the two tasks to start does the decode.
+                decodeJob.mFuture.cancel(false);
+                mPrefetchExecutor.purge();
+                submitDecode(decodeJob, mDecodeExecutor);
+            }
+            //When the prefetch is already running, its decode is shared with the request
+        }
+
+        //Coalescing the request with the decode of the Image URL and size bucket
+        decodeJob.mImageRequests.add(imageRequest);
+    }
+
+    /**
+     * Method that prefetches the Image of the URL passed into the Memory Cache at a low priority,
+     * for an ImageView of the given dimensions that is about to be displayed. Nothing is done
+     * when the Image is already cached or being decoded.
+     *
+     * @param imageURLStr String containing the Image URL whose Image needs to be prefetched.
+     * @param viewWidth   The width of the ImageView in pixels
+     * @param viewHeight  The height of the ImageView in pixels
+     */
+    @MainThread
+    public void prefetch(@Nullable String imageURLStr, int viewWidth, int viewHeight) {
+        if (TextUtils.isEmpty(imageURLStr) || viewWidth <= 0 || viewHeight <= 0) {
+            //Returning when there is no Image URL or the size is not known
+            return;
+        }
+
+        //Reading the size bucket of the ImageView and the Key of the Image
+        int targetW = ImageStorageUtility.getSizeBucket(viewWidth);
+        int targetH = ImageStorageUtility.getSizeBucket(viewHeight);
+        String cacheKeyStr = BitmapImageCache.buildCacheKey(imageURLStr, targetW, targetH);
+
+        if (mDecodeJobs.containsKey(cacheKeyStr) || BitmapImageCache.getBitmapFromCache(cacheKeyStr) != null) {
+            //Returning when the Image is already being prefetched, decoded or cached
+            return;
+        }
+
+        //Starting the prefetch as a decode with no requests waiting on it, so that a later request
+        //for the Image shares the decode of the prefetch
+        DecodeJob prefetchJob = new DecodeJob(cacheKeyStr, imageURLStr, targetW, targetH);
+        prefetchJob.mPrefetch = true;
+        submitDecode(prefetchJob, mPrefetchExecutor);
+        mDecodeJobs.put(cacheKeyStr, prefetchJob);
+    }
+
+    /**
+     * Method that cancels all the prefetches not yet started, which are not requested for display.
+     * Prefetches already running are not interrupted, and their results are still cached.
+     */
+    @MainThread
+    public void cancelPrefetches() {
+        Iterator<DecodeJob> decodeJobIterator = mDecodeJobs.values().iterator();
+        while (decodeJobIterator.hasNext()) {
+            DecodeJob decodeJob = decodeJobIterator.next();
+            if (decodeJob.mPrefetch && !decodeJob.mStarted.get()) {
+                //Cancelling the prefetch not yet started. A prefetch already running is retained,
+                //so that a later request for its Image can share its decode
+                decodeJob.mFuture.cancel(false);
+                decodeJobIterator.remove();
+            }
+        }
+        //Purging the cancelled prefetches from the queue
+        mPrefetchExecutor.purge();
+    }
+
+    /**
+     * Method that submits the decode {@code decodeJob} to the {@code executor}, which delivers
+     * its result to {@link #onDecodeFinished(DecodeJob, Bitmap)} on the Main Thread.
+     * The result is always delivered once the decode is started, with {@code null} when the
+     * decode fails with any error, so that the requests waiting on it are never left pending.
+     *
+     * @param decodeJob The {@link DecodeJob} to be submitted
+     * @param executor  The {@link ThreadPoolExecutor} to decode on
+     */
+    @MainThread
+    private void submitDecode(@NonNull DecodeJob decodeJob, @NonNull ThreadPoolExecutor executor) {
+        decodeJob.mFuture = executor.submit(() -> {
+            if (!decodeJob.mStarted.compareAndSet(false, true)) {
+                //Returning when the decode was already started by another task
+                return;
+            }
+
+            //Decoding the Bitmap on the current thread
+            Bitmap decodedBitmap = null;
+            try {
+                decodedBitmap = decodeBitmap(decodeJob.mImageURLStr, decodeJob.mCacheKeyStr,
+                        decodeJob.mTargetW, decodeJob.mTargetH);
+            } catch (Throwable t) {
+                //Catching all errors, such as a revoked URI permission or running out of memory,
+                //as these would otherwise be swallowed by the Future
+                Log.e(LOG_TAG, "submitDecode: Failed while decoding the bitmap for the URI " + decodeJob.mImageURLStr, t);
+            } finally {
+                //Delivering the result on the Main Thread
+                Bitmap result = decodedBitmap;
+                mMainThreadHandler.post(() -> onDecodeFinished(decodeJob, result));
+            }
+        });
+    }
+
+    /**
+     * Method that returns the dimension of the ImageView to decode for, falling back to the
+     * {@code defaultDimension} when the ImageView has no size.
+     *
+     * @param viewDimension    The dimension of the ImageView in pixels
+     * @param defaultDimension The default dimension in pixels
+     * @return The dimension to decode for, in pixels
+     */
+    private static int getTargetDimension(int viewDimension, int defaultDimension) {
+        return viewDimension > 0 ? viewDimension : defaultDimension;
+    }
+
+    /**
+     * Method that cancels the pending request of the ImageView {@code imageView} if any.
+     * The decode of its Image is also cancelled when there are no other requests waiting on it.
+     * To be called when the ViewHolder of the {@code imageView} is recycled.
+     *
+     * @param imageView The ImageView Component whose request is to be cancelled
+     */
+    @MainThread
+    public void cancelRequest(@NonNull ImageView imageView) {
+        //Removing the request of the ImageView
+        ImageRequest imageRequest = mTargetRequests.remove(imageView);
+        if (imageRequest == null) {
+            //Returning when there is no pending request
+            return;
+        }
+
+        //Removing the layout listener if the request is still waiting for the layout
+        imageRequest.removePreDrawListener(imageView);
+
+        if (imageRequest.mCacheKeyStr == null) {
+            //Returning when the request was not started
+            return;
+        }
+
+        //Retrieving the decode of the request's Image
+        DecodeJob decodeJob = mDecodeJobs.get(imageRequest.mCacheKeyStr);
+        if (decodeJob != null) {
+            //Removing the request from the decode
+            decodeJob.mImageRequests.remove(imageRequest);
+            if (decodeJob.mImageRequests.isEmpty()) {
+                //When there are no other requests, cancel the decode if not yet started.
+                //A decode already running is not interrupted, and its result is still cached.
+                decodeJob.mFuture.cancel(false);
+                mDecodeJobs.remove(imageRequest.mCacheKeyStr);
+                //Purging the cancelled decode from the queue
+                mDecodeExecutor.purge();
+            }
+        }
+    }
+
+    /**
+     * Method invoked on the Main Thread when the decode {@code decodeJob} has finished,
+     * to deliver the result to all the requests waiting on the decode.
+     *
+     * @param decodeJob     The {@link DecodeJob} that has finished
+     * @param decodedBitmap The Bitmap decoded, or {@code null} on failure
+     */
+    @MainThread
+    private void onDecodeFinished(DecodeJob decodeJob, @Nullable Bitmap decodedBitmap) {
+        if (mDecodeJobs.get(decodeJob.mCacheKeyStr) != decodeJob) {
+            //Ignoring the result when the decode was cancelled
+            return;
+        }
+        //Removing the finished decode
+        mDecodeJobs.remove(decodeJob.mCacheKeyStr);
+
+        //Delivering to each of the requests
+        for (ImageRequest imageRequest : decodeJob.mImageRequests) {
+            ImageView imageView = imageRequest.mImageViewWeakReference.get();
+            if (imageView == null || mTargetRequests.get(imageView) != imageRequest) {
+                //Skipping when the ImageView is gone or it has moved to a different request
+                continue;
+            }
+            //Removing the completed request of the ImageView
+            mTargetRequests.remove(imageView);
+
+            if (decodedBitmap != null) {
+                //When the bitmap was downloaded successfully
+                deliverSuccess(imageView, decodedBitmap, imageRequest.mOnSuccessListener);
+            } else {
+                //When the bitmap failed to download
+                deliverFailure(imageView, imageRequest.mOnFailureListener);
+            }
+        }
+    }
+
+    /**
+     * Method that sets the downloaded Image {@code bitmapImage} to the ImageView
+     * and triggers the Success event if {@link ImageDownloaderFragment.OnSuccessListener} is passed.
+     *
+     * @param imageView         The ImageView Component to which the Image needs to be updated
+     * @param bitmapImage       The {@link Bitmap} of the Image downloaded
+     * @param onSuccessListener Optional {@link ImageDownloaderFragment.OnSuccessListener} to receive the success event
+     */
+    private void deliverSuccess(ImageView imageView, Bitmap bitmapImage,
+                                @Nullable ImageDownloaderFragment.OnSuccessListener onSuccessListener) {
+        //Updating the ImageView when the Bitmap is downloaded successfully
+        imageView.setImageBitmap(bitmapImage);
+        //When the OnSuccessListener is passed, dispatch the success event
+        if (onSuccessListener != null) {
+            onSuccessListener.onSuccess(bitmapImage);
+        }
+    }
+
+    /**
+     * Method that sets the default image 'R.drawable.ic_all_product_default' to the ImageView
+     * and triggers the Failure event if {@link ImageDownloaderFragment.OnFailureListener} is passed.
+     *
+     * @param imageView         The ImageView Component to which the Image needs to be updated
+     * @param onFailureListener Optional {@link ImageDownloaderFragment.OnFailureListener} to receive the failure event
+     */
+    private void deliverFailure(ImageView imageView,
+                                @Nullable ImageDownloaderFragment.OnFailureListener onFailureListener) {
+        //Resetting the ImageView to the default Thumbnail Image when the Bitmap failed to download
+        imageView.setImageResource(R.drawable.ic_all_product_default);
+        //When the OnFailureListener is passed, dispatch the failure event
+        if (onFailureListener != null) {
+            onFailureListener.onFailure();
+        }
+    }
+
+    /**
+     * Method that decodes the Bitmap for the Image URL and the target size bucket, looking up the
+     * Memory and Disk Caches first, and adds the decoded Bitmap to the Caches.
+     *
+     * @param imageURLStr String containing the Image URL whose Image needs to be downloaded.
+     * @param cacheKeyStr String containing the Key of the Image in the Memory Cache
+     * @param targetW     The target width bucket in pixels
+     * @param targetH     The target height bucket in pixels
+     * @return The Bitmap downloaded from the URL, or {@code null} on failure
+     */
+    @WorkerThread
+    @Nullable
+    private Bitmap decodeBitmap(String imageURLStr, String cacheKeyStr, int targetW, int targetH) {
+        try {
+            //Looking up for the Image in Memory Cache, as a previous decode may have cached it
+            Bitmap cachedBitmap = BitmapImageCache.getBitmapFromCache(cacheKeyStr);
+            if (cachedBitmap != null) {
+                //When Bitmap image was present in Memory Cache, return the Bitmap retrieved
+                return cachedBitmap;
+            }
+
+            //Looking up for the Thumbnail in Disk Cache for the given URL and target dimensions
+            long decodeStartNanos = System.nanoTime();
+            Bitmap diskCachedBitmap = BitmapImageCache.getBitmapFromDiskCache(mAppContext, imageURLStr, targetW, targetH);
+            if (diskCachedBitmap != null) {
+                //When the Thumbnail was present in Disk Cache
+
+                //Recording the time taken to decode from the Disk Cache
+                BitmapImageCache.recordDecode(BitmapImageCache.DECODE_SOURCE_DISK_CACHE, System.nanoTime() - decodeStartNanos);
+
+                //Uploading the Bitmap to GPU for caching in background thread (for faster loads)
+                diskCachedBitmap.prepareToDraw();
+
+                //Promoting the Thumbnail to the Memory Cache
+                BitmapImageCache.addBitmapToCache(cacheKeyStr, diskCachedBitmap);
+
+                return diskCachedBitmap; //Returning the Thumbnail retrieved
+            }
+
+            //When the Thumbnail was NOT present in Disk Cache, scale down the default Thumbnail of the Image
+            //if present, which is written when the Image is saved
+            decodeStartNanos = System.nanoTime();
+            Bitmap downloadedBitmap = decodeFromDefaultThumbnail(imageURLStr, targetW, targetH);
+            if (downloadedBitmap != null) {
+                //Recording the time taken to decode from the default Thumbnail
+                BitmapImageCache.recordDecode(BitmapImageCache.DECODE_SOURCE_DEFAULT_THUMBNAIL, System.nanoTime() - decodeStartNanos);
+            } else {
+                //When there is no default Thumbnail, download the Bitmap for the Image Content URI
+                decodeStartNanos = System.nanoTime();
+                downloadedBitmap = ImageStorageUtility.getOptimizedBitmapFromContentUri(mAppContext, Uri.parse(imageURLStr), targetW, targetH);
+                if (downloadedBitmap != null) {
+                    //Recording the time taken to decode from the Image Content URI
+                    BitmapImageCache.recordDecode(BitmapImageCache.DECODE_SOURCE_CONTENT_URI, System.nanoTime() - decodeStartNanos);
+                }
+            }
+            if (downloadedBitmap != null) {
+                //On Successful download
+
+                //Uploading the Bitmap to GPU for caching in background thread (for faster loads)
+                downloadedBitmap.prepareToDraw();
+
+                //Adding the downloaded Bitmap to cache
+                BitmapImageCache.addBitmapToCache(cacheKeyStr, downloadedBitmap);
+
+                //Adding the Thumbnail of the downloaded Bitmap to Disk Cache for the later cold starts
+                BitmapImageCache.addBitmapToDiskCache(mAppContext, imageURLStr, targetW, targetH, downloadedBitmap);
+
+                return downloadedBitmap; //Returning the Bitmap downloaded
+            }
+        } catch (IOException e) {
+            Log.e(LOG_TAG, "decodeBitmap: Failed while downloading the bitmap for the URI " + imageURLStr, e);
+        }
+        //For all else, returning null
+        return null;
+    }
+
+    /**
+     * Method that scales down the default Thumbnail of the Image URL in the Disk Cache, for the
+     * target dimensions that are within the dimensions of the default Thumbnail.
+     *
+     * @param imageURLStr String containing the Image URL whose Thumbnail needs to be scaled down.
+     * @param targetW     The target width bucket in pixels
+     * @param targetH     The target height bucket in pixels
+     * @return The Bitmap scaled down from the default Thumbnail, or {@code null} when the default
+     * Thumbnail is not present or cannot cover the target dimensions
+     */
+    @WorkerThread
+    @Nullable
+    private Bitmap decodeFromDefaultThumbnail(String imageURLStr, int targetW, int targetH) {
+        //Reading the dimensions of the default Thumbnail
+        int thumbnailW = ImageStorageUtility.getThumbnailTargetWidth(mAppContext);
+        int thumbnailH = ImageStorageUtility.getThumbnailTargetHeight(mAppContext);
+        if ((targetW == thumbnailW && targetH == thumbnailH) || targetW > thumbnailW || targetH > thumbnailH) {
+            //Returning NULL when the default Thumbnail was already looked up, or it is too small
+            return null;
+        }
+
+        //Looking up for the default Thumbnail in Disk Cache
+        Bitmap thumbnailBitmap = BitmapImageCache.getBitmapFromDiskCache(mAppContext, imageURLStr, thumbnailW, thumbnailH);
+        //Returning the default Thumbnail scaled down for the target dimensions if present
+        return (thumbnailBitmap != null) ? ImageStorageUtility.scaleDownToCover(thumbnailBitmap, targetW, targetH) : null;
+    }
+
+    /**
+     * Class that holds the request of a target ImageView for an Image URL.
+     */
+    private static class ImageRequest {
+        //Weak reference to the target ImageView, to not leak the View while the decode is pending
+        final WeakReference<ImageView> mImageViewWeakReference;
+        //The Image URL requested
+        final String mImageURLStr;
+        //Optional listeners of the request
+        final ImageDownloaderFragment.OnSuccessListener mOnSuccessListener;
+        final ImageDownloaderFragment.OnFailureListener mOnFailureListener;
+        //The target size bucket of the request, set when the request is started
+        int mTargetW;
+        int mTargetH;
+        //The Key of the Image in the Memory Cache, set when the request is started
+        String mCacheKeyStr;
+        //The listener waiting for the layout of the ImageView, when its size is not yet known
+        ViewTreeObserver.OnPreDrawListener mPreDrawListener;
+
+        /**
+         * Constructor of {@link ImageRequest}
+         *
+         * @param imageView         The target ImageView Component
+         * @param imageURLStr       String containing the Image URL requested
+         * @param onSuccessListener Optional {@link ImageDownloaderFragment.OnSuccessListener}
+         * @param onFailureListener Optional {@link ImageDownloaderFragment.OnFailureListener}
+         */
+        ImageRequest(ImageView imageView, String imageURLStr,
+                     @Nullable ImageDownloaderFragment.OnSuccessListener onSuccessListener,
+                     @Nullable ImageDownloaderFragment.OnFailureListener onFailureListener) {
+            mImageViewWeakReference = new WeakReference<>(imageView);
+            mImageURLStr = imageURLStr;
+            mOnSuccessListener = onSuccessListener;
+            mOnFailureListener = onFailureListener;
+        }
+
+        /**
+         * Method that sets the target size bucket of the request, and the Key of its Image
+         * in the Memory Cache.
+         *
+         * @param targetW The target width bucket in pixels
+         * @param targetH The target height bucket in pixels
+         */
+        void setTargetSize(int targetW, int targetH) {
+            mTargetW = targetW;
+            mTargetH = targetH;
+            mCacheKeyStr = BitmapImageCache.buildCacheKey(mImageURLStr, targetW, targetH);
+        }
+
+        /**
+         * Method that removes the listener waiting for the layout of the ImageView if any.
+         *
+         * @param imageView The target ImageView Component
+         */
+        void removePreDrawListener(ImageView imageView) {
+            if (mPreDrawListener != null) {
+                ViewTreeObserver viewTreeObserver = imageView.getViewTreeObserver();
+                if (viewTreeObserver.isAlive()) {
+                    viewTreeObserver.removeOnPreDrawListener(mPreDrawListener);
+                }
+                mPreDrawListener = null;
+            }
+        }
+    }
+
+    /**
+     * Class that holds a decode of an Image URL for a size bucket, with the requests waiting on it.
+     * A prefetch is a decode with no requests waiting on it, until the Image is requested for display.
+     */
+    private static class DecodeJob {
+        //The Key of the Image being decoded, in the Memory Cache
+        final String mCacheKeyStr;
+        //The Image URL being decoded
+        final String mImageURLStr;
+        //The target size bucket of the decode
+        final int mTargetW;
+        final int mTargetH;
+        //The requests waiting on this decode
+        final List<ImageRequest> mImageRequests = new ArrayList<>();
+        //Set when the decode is started, to run the decode only once when it is submitted again
+        final AtomicBoolean mStarted = new AtomicBoolean(false);
+        //The Future of the decode task last submitted
+        Future<?> mFuture;
+        //Whether the decode is a prefetch not yet requested for display (accessed only on the Main Thread)
+        boolean mPrefetch;
+
+        /**
+         * Constructor of {@link DecodeJob}
+         *
+         * @param cacheKeyStr String containing the Key of the Image being decoded, in the Memory Cache
+         * @param imageURLStr String containing the Image URL being decoded
+         * @param targetW     The target width bucket in pixels
+         * @param targetH     The target height bucket in pixels
+         */
+        DecodeJob(String cacheKeyStr, String imageURLStr, int targetW, int targetH) {
+            mCacheKeyStr = cacheKeyStr;
+            mImageURLStr = imageURLStr;
+            mTargetW = targetW;
+            mTargetH = targetH;
+        }
+    }
+
+    /**
+     * {@link ThreadFactory} that creates named decode threads of a priority lower than the Main Thread,
+     * so that decodes do not compete with the Main Thread.
+     */
+    private static class DecodeThreadFactory implements ThreadFactory {
+        //The number of threads created, used for naming the threads
+        private final AtomicInteger mThreadCount = new AtomicInteger(1);
+        //The Name prefix of the threads
+        private final String mThreadNamePrefix;
+        //The Linux priority of the threads
+        private final int mThreadPriority;
+
+        /**
+         * Constructor of {@link DecodeThreadFactory}
+         *
+         * @param threadNamePrefix The Name prefix of the threads
+         * @param threadPriority   The Linux priority of the threads, one of the {@link Process} priorities
+         */
+        DecodeThreadFactory(String threadNamePrefix, int threadPriority) {
+            mThreadNamePrefix = threadNamePrefix;
+            mThreadPriority = threadPriority;
+        }
+
+        /**
+         * Constructs a new {@code Thread}.
+         *
+         * @param runnable a runnable to be executed by new thread instance
+         * @return constructed thread
+         */
+        @Override
+        public Thread newThread(@NonNull Runnable runnable) {
+            return new Thread(() -> {
+                //Lowering the priority of the thread
+                Process.setThreadPriority(mThreadPriority);
+                runnable.run();
+            }, mThreadNamePrefix + mThreadCount.getAndIncrement());
+        }
+    }
+}
@@ -0,0 +1,376 @@
+/*
+ * Copyright 2018 Kaushik N. Sanji
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.example.kaushiknsanji.storeapp.workers;
+
+import android.content.ContentResolver;
+import android.content.Context;
+import android.database.Cursor;
+import android.net.Uri;
+import android.os.Environment;
+import android.os.Process;
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+import android.support.v4.content.ContextCompat;
+import android.support.v4.os.EnvironmentCompat;
+import android.text.TextUtils;
+import android.util.Log;
+
+import com.example.kaushiknsanji.storeapp.data.DataFuture;
+import com.example.kaushiknsanji.storeapp.data.local.contracts.ProductContract;
+import com.example.kaushiknsanji.storeapp.utils.AppExecutors;
+import com.example.kaushiknsanji.storeapp.utils.FileStorageUtility;
+import com.example.kaushiknsanji.storeapp.utils.ImageStorageUtility;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.example.kaushiknsanji.storeapp.data.local.utils.SqliteUtility.AND;
+import static com.example.kaushiknsanji.storeapp.data.local.utils.SqliteUtility.CLOSE_BRACE;
+import static com.example.kaushiknsanji.storeapp.data.local.utils.SqliteUtility.COMMA;
+import static com.example.kaushiknsanji.storeapp.data.local.utils.SqliteUtility.EQUALS;
+import static com.example.kaushiknsanji.storeapp.data.local.utils.SqliteUtility.GREATER_THAN;
+import static com.example.kaushiknsanji.storeapp.data.local.utils.SqliteUtility.OPEN_BRACE;
+import static com.example.kaushiknsanji.storeapp.data.local.utils.SqliteUtility.PLACEHOLDER;
+
+/**
+ * Worker class that periodically reclaims the storage of the Image files no longer referred to
+ * by any Item, at a low priority. These are the Images of the cancelled edits and the deleted Items,
+ * whose files are not deleted along with their records, and the temporary Images left behind by
+ * the captures that were not saved.
+ * <p>
+ * <p>The Image files in the App's Pictures directories are reconciled against the Image files
+ * referred to by the Items in the 'item_image' table, as tracked by the 'item_image_file' table.
+ * Only the files untouched for {@link #GRACE_PERIOD_MILLIS} are reclaimed, so that the Images
+ * saved for an edit in progress are retained.</p>
+ *
+ * @author Kaushik N Sanji
+ */
+public class OrphanedImageSweeper {
+
+    //Constant used for logs
+    private static final String LOG_TAG = OrphanedImageSweeper.class.getSimpleName();
+
+    //Constant for the delay before the first sweep after the App starts
+    private static final long INITIAL_DELAY_MILLIS = TimeUnit.MINUTES.toMillis(1);
+    //Constant for the interval between the periodic sweeps
+    private static final long SWEEP_INTERVAL_MILLIS = TimeUnit.HOURS.toMillis(6);
+    //Constant for the time since the last modification of a file, before it can be reclaimed
+    private static final long GRACE_PERIOD_MILLIS = TimeUnit.HOURS.toMillis(24);
+    //Constant for the number of files deleted in a batch
+    private static final int DELETE_BATCH_SIZE = 32;
+
+    //Filename Prefix constants of the permanent and temporary Images
+    private static final String FILE_NAME_PREFIX = "IMG_";
+    private static final String TEMP_FILE_NAME_PREFIX = "TMP_";
+    //JPEG File extension constant
+    private static final String JPEG_FILE_EXT = ".jpg";
+
+    //For the Singleton instance of this
+    private static volatile OrphanedImageSweeper INSTANCE;
+
+    //The Application Context used for reading the App's directories
+    private final Context mAppContext;
+    //The ContentResolver instance to read and update the references to the Image files
+    private final ContentResolver mContentResolver;
+    //Single Thread Executor of the sweeps, at the lowest priority
+    private final ScheduledExecutorService mSweepExecutor;
+    //The bytes reclaimed by the last sweep, and by all the sweeps since the App started
+    private final AtomicLong mLastReclaimedBytes = new AtomicLong();
+    private final AtomicLong mTotalReclaimedBytes = new AtomicLong();
+    //The scheduled periodic sweep if any
+    private ScheduledFuture<?> mPeriodicSweep;
+
+    /**
+     * Private Constructor of {@link OrphanedImageSweeper}
+     *
+     * @param context A {@link Context} to derive the Application Context
+     */
+    private OrphanedImageSweeper(@NonNull Context context) {
+        mAppContext = context.getApplicationContext();
+        mContentResolver = mAppContext.getContentResolver();
+        mSweepExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(() -> {
+                //Lowering the priority of the thread, so that the sweeps do not compete with the UI
+                Process.setThreadPriority(Process.THREAD_PRIORITY_LOWEST);
+                runnable.run();
+            }, "OrphanedImageSweeperThread");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Singleton Constructor of {@link OrphanedImageSweeper}
+     *
+     * @param context A {@link Context} to derive the Application Context
+     * @return Instance of {@link OrphanedImageSweeper}
+     */
+    public static OrphanedImageSweeper getInstance(@NonNull Context context) {
+        if (INSTANCE == null) {
+            synchronized (OrphanedImageSweeper.class) {
+                if (INSTANCE == null) {
+                    //Creating the instance when not available
+                    INSTANCE = new OrphanedImageSweeper(context);
+                }
+            }
+        }
+        //Using the previously created instance
+        return INSTANCE;
+    }
+
+    /**
+     * Method that schedules the periodic sweeps, if not already scheduled. The first sweep
+     * starts after {@link #INITIAL_DELAY_MILLIS}, to stay out of the way of the App startup.
+     */
+    public synchronized void schedulePeriodicSweep() {
+        if (mPeriodicSweep != null && !mPeriodicSweep.isDone()) {
+            //Returning when the sweeps are already scheduled
+            return;
+        }
+
+        mPeriodicSweep = mSweepExecutor.scheduleWithFixedDelay(this::sweep,
+                INITIAL_DELAY_MILLIS, SWEEP_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Method that cancels the periodic sweeps scheduled. A sweep in progress is stopped at the
+     * end of its current batch.
+     */
+    public synchronized void cancelPeriodicSweep() {
+        if (mPeriodicSweep != null) {
+            mPeriodicSweep.cancel(true);
+            mPeriodicSweep = null;
+        }
+    }
+
+    /**
+     * Method that returns the number of bytes reclaimed by the last sweep.
+     *
+     * @return The number of bytes reclaimed by the last sweep
+     */
+    public long getLastReclaimedBytes() {
+        return mLastReclaimedBytes.get();
+    }
+
+    /**
+     * Method that returns the number of bytes reclaimed by all the sweeps since the App started.
+     *
+     * @return The total number of bytes reclaimed
+     */
+    public long getTotalReclaimedBytes() {
+        return mTotalReclaimedBytes.get();
+    }
+
+    /**
+     * Method that sweeps the App's Pictures and Cache directories for the Image files no longer
+     * referred to, and deletes them in batches. Executed on the sweep thread.
+     */
+    private void sweep() {
+        if (!FileStorageUtility.isExternalStorageMounted()) {
+            //Skipping the sweep when the external storage is not available
+            return;
+        }
+
+        //Stores the number of bytes reclaimed in this sweep
+        long reclaimedBytes = 0;
+        try {
+            //Reading the Image files still referred to by the Items
+            Set<String> referencedUris = getReferencedImageUris();
+
+            //Collecting the files to be reclaimed
+            List<File> orphanedFiles = new ArrayList<>();
+            long modifiedBefore = System.currentTimeMillis() - GRACE_PERIOD_MILLIS;
+            //Permanent Images in the Pictures directories not referred to by any Item
+            collectOrphanedFiles(ContextCompat.getExternalFilesDirs(mAppContext, Environment.DIRECTORY_PICTURES),
+                    FILE_NAME_PREFIX, referencedUris, modifiedBefore, orphanedFiles);
+            //Temporary Images in the Cache directories left behind by the captures
+            collectOrphanedFiles(ContextCompat.getExternalCacheDirs(mAppContext),
+                    TEMP_FILE_NAME_PREFIX, Collections.emptySet(), modifiedBefore, orphanedFiles);
+
+            //Deleting the files in batches
+            for (int batchStart = 0, noOfFiles = orphanedFiles.size(); batchStart < noOfFiles; batchStart += DELETE_BATCH_SIZE) {
+                if (Thread.currentThread().isInterrupted()) {
+                    //Stopping when the sweep is cancelled
+                    break;
+                }
+                reclaimedBytes += deleteBatch(orphanedFiles.subList(batchStart, Math.min(batchStart + DELETE_BATCH_SIZE, noOfFiles)));
+            }
+        } catch (Exception e) {
+            //Logging the failure, without stopping the periodic sweeps
+            Log.e(LOG_TAG, "sweep: Failed to complete the sweep", e);
+        }
+
+        //Reporting the bytes reclaimed
+        mLastReclaimedBytes.set(reclaimedBytes);
+        mTotalReclaimedBytes.addAndGet(reclaimedBytes);
+        Log.i(LOG_TAG, "sweep: Reclaimed " + reclaimedBytes + " bytes of orphaned images");
+    }
+
+    /**
+     * Method that returns the set of String URIs of the Image files referred to by the Items.
+     * The references are read on the Database read threads at {@link AppExecutors#PRIORITY_BACKGROUND},
+     * so that the sweep does not hold up the reads of the screens being displayed.
+     *
+     * @return Set of String URIs (Content URIs) of the Image files referred to by the Items
+     * @throws InterruptedException when the sweep is cancelled while waiting for the references
+     * @throws ExecutionException   when the references could not be read
+     */
+    @NonNull
+    private Set<String> getReferencedImageUris() throws InterruptedException, ExecutionException {
+        DataFuture<Set<String>> referencedUrisFuture = DataFuture.submit(AppExecutors.getInstance(),
+                AppExecutors.PRIORITY_BACKGROUND, this::queryReferencedImageUris);
+        try {
+            return referencedUrisFuture.get();
+        } catch (InterruptedException e) {
+            //Cancelling the read when the sweep is cancelled
+            referencedUrisFuture.cancel(true);
+            throw e;
+        }
+    }
+
+    /**
+     * Method that queries the String URIs of the Image files referred to by the Items.
+     * Executed on a Database read thread.
+     *
+     * @return Set of String URIs (Content URIs) of the Image files referred to by the Items
+     */
+    @NonNull
+    private Set<String> queryReferencedImageUris() {
+        Set<String> referencedUris = new HashSet<>();
+        try (Cursor cursor = mContentResolver.query(
+                ProductContract.ProductImageFile.CONTENT_URI,
+                new String[]{ProductContract.ProductImageFile.COLUMN_ITEM_IMAGE_URI},
+                ProductContract.ProductImageFile.COLUMN_REF_COUNT + GREATER_THAN + "0",
+                null,
+                null
+        )) {
+            if (cursor == null) {
+                //Failing the sweep when the references cannot be read, to avoid deleting the Images in use
+                throw new IllegalStateException("Unable to read the image file references");
+            }
+            while (cursor.moveToNext()) {
+                referencedUris.add(cursor.getString(0));
+            }
+        }
+        //Returning the URIs read
+        return referencedUris;
+    }
+
+    /**
+     * Method that collects the Image files in the {@code storageDirs} with the name prefixed by {@code fileNamePrefix},
+     * not referred to by {@code referencedUris} and last modified before {@code modifiedBefore}.
+     *
+     * @param storageDirs    The directories to look for the Image files
+     * @param fileNamePrefix The Filename Prefix of the Image files to look for
+     * @param referencedUris The String URIs of the Image files still referred to, which are to be retained
+     * @param modifiedBefore The time in millis before which the Image files to be collected were last modified
+     * @param orphanedFiles  The list to add the Image files collected
+     */
+    private void collectOrphanedFiles(File[] storageDirs, String fileNamePrefix, Set<String> referencedUris,
+                                      long modifiedBefore, List<File> orphanedFiles) {
+        for (File storageDir : storageDirs) {
+            if (storageDir == null || !Environment.MEDIA_MOUNTED.equals(EnvironmentCompat.getStorageState(storageDir))) {
+                //Skipping the directories not available
+                continue;
+            }
+
+            File[] imageFiles = storageDir.listFiles((dir, name) -> name.startsWith(fileNamePrefix) && name.endsWith(JPEG_FILE_EXT));
+            if (imageFiles == null) {
+                continue;
+            }
+
+            for (File imageFile : imageFiles) {
+                if (imageFile.lastModified() >= modifiedBefore) {
+                    //Retaining the recent files, which may still be committed to an Item
+                    continue;
+                }
+                String imageUriStr = getImageUriString(imageFile);
+                if (imageUriStr != null && !referencedUris.contains(imageUriStr)) {
+                    //Collecting the file when it is not referred to
+                    orphanedFiles.add(imageFile);
+                }
+            }
+        }
+    }
+
+    /**
+     * Method that returns the String URI (Content URI) of the Image File {@code imageFile},
+     * as stored in the 'item_image' table.
+     *
+     * @param imageFile The Image {@link File} instance
+     * @return The String URI of the {@code imageFile}; or {@code null} when the file is not shared by the FileProvider
+     */
+    @Nullable
+    private String getImageUriString(File imageFile) {
+        try {
+            Uri imageUri = ImageStorageUtility.getContentUriForImageFile(mAppContext, imageFile);
+            return (imageUri != null) ? imageUri.toString() : null;
+        } catch (IllegalArgumentException e) {
+            //Returning NULL when the file is not under the paths shared by the FileProvider
+            return null;
+        }
+    }
+
+    /**
+     * Method that deletes the batch of Image files {@code imageFiles}, and removes the deleted
+     * Image files from the 'item_image_file' table.
+     *
+     * @param imageFiles The batch of Image files to be deleted
+     * @return The number of bytes reclaimed by deleting the batch
+     */
+    private long deleteBatch(List<File> imageFiles) {
+        //Stores the number of bytes reclaimed
+        long reclaimedBytes = 0;
+        //Stores the String URIs of the files deleted
+        List<String> deletedUris = new ArrayList<>(imageFiles.size());
+
+        for (File imageFile : imageFiles) {
+            long fileLength = imageFile.length();
+            if (imageFile.delete()) {
+                reclaimedBytes += fileLength;
+                String imageUriStr = getImageUriString(imageFile);
+                if (imageUriStr != null) {
+                    deletedUris.add(imageUriStr);
+                }
+            }
+        }
+
+        if (!deletedUris.isEmpty()) {
+            //Removing the unreferenced records of the Image files deleted
+            mContentResolver.delete(
+                    ProductContract.ProductImageFile.CONTENT_URI,
+                    ProductContract.ProductImageFile.COLUMN_REF_COUNT + EQUALS + "0" + AND
+                            + ProductContract.ProductImageFile.COLUMN_ITEM_IMAGE_URI + " IN "
+                            + OPEN_BRACE + TextUtils.join(COMMA, Collections.nCopies(deletedUris.size(), PLACEHOLDER)) + CLOSE_BRACE,
+                    deletedUris.toArray(new String[deletedUris.size()])
+            );
+        }
+
+        //Returning the bytes reclaimed
+        return reclaimedBytes;
+    }
+}